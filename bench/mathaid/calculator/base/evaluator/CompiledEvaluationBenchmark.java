@@ -0,0 +1,107 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator;
+
+import mathaid.calculator.base.evaluator.parser.ParserPool;
+import mathaid.calculator.base.evaluator.parser.ScientificLexer;
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
+import mathaid.calculator.base.evaluator.parser.expression.scientific.ExpressionCompiler;
+import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
+import mathaid.calculator.base.typeset.SegmentBuilder;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 14:21:40 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: CompiledEvaluationBenchmark.java ------------------------------------------------------
+ * Class name: CompiledEvaluationBenchmark ------------------------------------------------
+ */
+/**
+ * Compares the evaluation of parsed scientific expressions with and without the {@link ExpressionCompiler}.
+ * <p>
+ * Both paths run the part of {@link ScientificCalculator#evaluate(String)} that follows the CAS: the CAS output is parsed,
+ * evaluated and formatted. The interpreted path evaluates the tree of string {@code Name} leaves as the calculator did before
+ * trees were compiled, and the compiled path compiles the tree into {@code DecimalValue} leaves first. The CAS call itself is
+ * the same for both paths and is left out so that the difference is not hidden by it.
+ * <p>
+ * The repository has no build manifest, so this is a plain program rather than a JMH benchmark. It runs a warm-up and then a
+ * number of timed rounds of each path and prints the mean time per expression. Run it with the optional arguments
+ * {@code [rounds] [iterations]}.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class CompiledEvaluationBenchmark {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:23:05 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the number of timed rounds and the number of iterations in each round, both of which are optional.
+	 */
+	public static void main(String[] args) {
+		final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+		final int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+		final Scientific params = new Scientific();
+		final ScientificLexer lexer = new ScientificLexer();
+		final ParserPool<EvaluatableExpression<Params>, Params, ScientificLexer> parsers = new ParserPool<>(
+				() -> new ScientificLexer("", lexer.getSyntax()));
+
+		for (int i = 0; i < rounds; i++) {
+			run(false, iterations, params, parsers);
+			run(true, iterations, params, parsers);
+		}
+		for (int i = 0; i < rounds; i++) {
+			final double interpreted = run(false, iterations, params, parsers);
+			final double compiled = run(true, iterations, params, parsers);
+			System.out.printf("round %2d: interpreted %10.1f ns/expr, compiled %10.1f ns/expr, speed-up %.2fx%n", i, interpreted,
+					compiled, interpreted / compiled);
+		}
+		System.out.println(sink);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:26:18 ---------------------------------------------------
+	 */
+	/**
+	 * Parses, optionally compiles, evaluates and formats every one of the {@link #EXPRESSIONS} the given number of times.
+	 *
+	 * @param compile    {@code true} if the parsed tree is to be compiled before it is evaluated.
+	 * @param iterations the number of times each expression is evaluated.
+	 * @param params     the options of the evaluation.
+	 * @param parsers    the parsers, which are the same as those of a {@code ScientificCalculator}.
+	 * @return the mean time per expression in nanoseconds.
+	 */
+	private static double run(boolean compile, int iterations, Params params,
+			ParserPool<EvaluatableExpression<Params>, Params, ScientificLexer> parsers) {
+		final long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+			for (String s : EXPRESSIONS) {
+				EvaluatableExpression<Params> f = parsers.parse(s, params);
+				if (compile)
+					f = ExpressionCompiler.compile(f);
+				f = f.evaluate();
+				final SegmentBuilder sb = new SegmentBuilder();
+				f.format(sb);
+				sink += sb.toSegment().hashCode();
+			}
+		return (System.nanoTime() - start) / (double) (iterations * EXPRESSIONS.length);
+	}
+
+	/**
+	 * Expressions in the form that the CAS returns them.
+	 */
+	private static final String[] EXPRESSIONS = { "1.25+2.5*3.75-0.125", "12.5/3.0+0.75*(4.5-1.25)",
+			"3.75*2.5/1.25-0.5*0.25", "5!+3.5*3.5*3.5-1.0625", "Sqrt[2.0]+Sqrt[7.5]*0.001",
+			"0.1+0.2+0.3+0.4+0.5+0.6+0.7+0.8+0.9" };
+	/**
+	 * Accumulates the results so that the evaluations are not optimised away.
+	 */
+	private static long sink;
+}
@@ -0,0 +1,122 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
+import mathaid.calculator.base.typeset.LinkedSegment;
+
+/*
+ * Date: 18 Oct 2026 -----------------------------------------------------------
+ * Time created: 02:14:20 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: DetailsAllocationBenchmark.java ------------------------------------------------------
+ * Class name: DetailsAllocationBenchmark ------------------------------------------------
+ */
+/**
+ * Measures the bytes allocated and the time taken to compute the fractional details of a result, with and without a shared
+ * {@link DetailsContext}.
+ * <p>
+ * Every detail of {@link FractionalDetails} that {@link SDetails} shows for a rational result is computed once per result,
+ * except the prime factors, which are left out because their cost does not depend on how the result is parsed. The per-detail
+ * path gives each detail a new {@code DetailsContext}, so that the result string is parsed into a {@code BigFraction} and the
+ * {@code MathContext} and {@code DigitPunc} are built again for every detail, as they were before the context was shared. The
+ * shared path gives every detail the same {@code DetailsContext}, as {@code SDetails} and {@code ScientificCalculator} do.
+ * <p>
+ * The bytes are read from the thread's allocation counter (a HotSpot extension of {@code ThreadMXBean}) and divided by the
+ * number of results.
+ * <p>
+ * The repository has no build manifest, so this is a plain program rather than a JMH benchmark. Run it with the optional
+ * argument {@code [results]}.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class DetailsAllocationBenchmark {
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 02:16:02 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the number of timed results of each input, which is optional.
+	 */
+	public static void main(String[] args) {
+		final int results = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+		final Params params = new Scientific();
+		final List<Function<DetailsContext, LinkedSegment>> details = new ArrayList<>(Arrays.asList(
+				FractionalDetails::toLowestTerm, FractionalDetails::toMixedFraction, FractionalDetails::getContinuedFraction,
+				FractionalDetails::getEgyptianFraction, FractionalDetails::getPeriod, FractionalDetails::getPercentage,
+				FractionalDetails::getQuotient, FractionalDetails::getRemainder, FractionalDetails::getFractionAsDecimal,
+				FractionalDetails::inEngineering, FractionalDetails::inEngineeringSuffix, FractionalDetails::inScientific,
+				FractionalDetails::inFixed));
+
+		System.out.printf("%-24s %-10s %14s %12s%n", "result", "context", "bytes/result", "ms/result");
+		for (String input : INPUTS)
+			for (boolean shared : new boolean[] { false, true }) {
+				for (int i = 0; i < 200; i++)
+					sink += run(input, params, details, shared);
+				final long bytes = allocated(), start = System.nanoTime();
+				for (int i = 0; i < results; i++)
+					sink += run(input, params, details, shared);
+				final long perResult = (allocated() - bytes) / results;
+				final double ms = (System.nanoTime() - start) / 1e6 / results;
+				System.out.printf("%-24s %-10s %14d %12.3f%n", input, shared ? "shared" : "per-detail", perResult, ms);
+			}
+	}
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 02:19:37 ---------------------------------------------------
+	 */
+	/**
+	 * Computes every detail of the given result once.
+	 *
+	 * @param input   the result in SYMJA syntax.
+	 * @param params  the options of the details.
+	 * @param details the details to be computed.
+	 * @param shared  {@code true} if every detail is given the same context, {@code false} if each is given a new one.
+	 * @return the number of details computed, which is added to {@link #sink} so that the work is not removed as dead code.
+	 */
+	private static int run(String input, Params params, List<Function<DetailsContext, LinkedSegment>> details,
+			boolean shared) {
+		final DetailsContext c = shared ? new DetailsContext(input, params) : null;
+		int n = 0;
+		for (Function<DetailsContext, LinkedSegment> d : details)
+			if (d.apply(shared ? c : new DetailsContext(input, params)) != null)
+				n++;
+		return n;
+	}
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 02:21:10 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of bytes allocated by the current thread so far.
+	 *
+	 * @return the allocated bytes.
+	 */
+	private static long allocated() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * The results whose details are computed, in the form given by the CAS.
+	 */
+	private static final String[] INPUTS = { "Rational[23719,9990]", "Rational[-22,7]", "Rational[1,7]",
+			"Rational[123456789,1000]" };
+	/**
+	 * The sum of the values returned by {@link #run(String, Params, List, boolean)}.
+	 */
+	private static int sink;
+}
@@ -0,0 +1,137 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator.parser;
+
+import java.util.Random;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 21:40:18 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator.parser ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: LexerThroughputBenchmark.java ------------------------------------------------------
+ * Class name: LexerThroughputBenchmark ------------------------------------------------
+ */
+/**
+ * Measures the throughput of the {@link ScientificLexer} on a long string in the form that Symja returns its results.
+ * <p>
+ * The string is a {@code List} of random nested {@code Plus}, {@code Times}, {@code Power}, {@code Sin}, {@code Sqrt} and
+ * {@code List} calls whose leaves are integers, decimals with negative exponents, variables and constants. It is generated from
+ * a fixed seed so that every run lexes the same string. The string is lexed to the end in each round, once reading only the
+ * type of each token and once also copying out it's name (as a parser does), and the best round of each is printed in
+ * megabytes (million characters) per second.
+ * <p>
+ * The repository has no build manifest, so this is a plain program rather than a JMH benchmark. Run it with the optional
+ * arguments {@code [rounds] [characters]}.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class LexerThroughputBenchmark {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:42:05 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the number of timed rounds and the length of the string, both of which are optional.
+	 */
+	public static void main(String[] args) {
+		final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+		final int length = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+		final Random rand = new Random(SEED);
+		final StringBuilder sb = new StringBuilder("List[");
+		while (sb.length() < length)
+			sb.append(symja(rand, 8)).append(',');
+		final String src = sb.append("0]").toString();
+
+		final ScientificLexer lexer = new ScientificLexer();
+		long types = Long.MAX_VALUE, names = Long.MAX_VALUE;
+		int tokens = 0;
+		for (int i = 0; i < rounds; i++) {
+			types = Math.min(types, lex(lexer, src, false));
+			names = Math.min(names, lex(lexer, src, true));
+		}
+		lexer.setSource(src);
+		for (Token<String> t = lexer.next(); t.getType() != EOF; t = lexer.next())
+			tokens++;
+		System.out.printf("%,d characters, %,d tokens%n", src.length(), tokens);
+		System.out.printf("types only:   %8.2f ms, %6.1f MB/s%n", types / 1e6, src.length() / (types / 1e3));
+		System.out.printf("names copied: %8.2f ms, %6.1f MB/s%n", names / 1e6, src.length() / (names / 1e3));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:44:30 ---------------------------------------------------
+	 */
+	/**
+	 * Lexes the whole of the given string.
+	 *
+	 * @param lexer the lexer.
+	 * @param src   the string.
+	 * @param names {@code true} if the name of each token is to be read.
+	 * @return the time taken in nanoseconds.
+	 */
+	private static long lex(ScientificLexer lexer, String src, boolean names) {
+		final long start = System.nanoTime();
+		lexer.setSource(src);
+		for (Token<String> t = lexer.next(); t.getType() != EOF; t = lexer.next())
+			sink += names ? t.getName().length() : 1;
+		return System.nanoTime() - start;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:46:12 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a random expression in Symja's full form.
+	 *
+	 * @param rand  the source of randomness.
+	 * @param depth the greatest depth of nested calls.
+	 * @return the expression.
+	 */
+	private static String symja(Random rand, int depth) {
+		if (depth == 0 || rand.nextInt(4) == 0)
+			switch (rand.nextInt(4)) {
+			case 0:
+				return Integer.toString(rand.nextInt(100_000));
+			case 1:
+				return rand.nextInt(1_000) + "." + rand.nextInt(100_000) + "e-" + rand.nextInt(30);
+			case 2:
+				return "x";
+			default:
+				return "Pi";
+			}
+		final StringBuilder sb = new StringBuilder(HEADS[rand.nextInt(HEADS.length)]).append('[');
+		final int n = 1 + rand.nextInt(4);
+		for (int i = 0; i < n; i++) {
+			if (i > 0)
+				sb.append(',');
+			if (rand.nextInt(5) == 0)
+				sb.append('-');
+			sb.append(symja(rand, depth - 1));
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * The type of the token returned at the end of the source.
+	 */
+	private static final Type<String> EOF = CommonSyntax.BASIC_TYPES.get(CommonSyntax.EOF);
+	/**
+	 * The heads of the generated calls.
+	 */
+	private static final String[] HEADS = { "Plus", "Times", "Power", "Sin", "Sqrt", "List" };
+	/**
+	 * The seed of the string.
+	 */
+	private static final long SEED = 42L;
+	/**
+	 * Accumulates the token names so that the lexing is not optimised away.
+	 */
+	private static long sink;
+}
@@ -0,0 +1,115 @@
+/**
+ *
+ */
+package mathaid.calculator.base.typeset;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 21:05:12 ---------------------------------------------------
+ * Package: mathaid.calculator.base.typeset ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: DigitSegmentBenchmark.java ------------------------------------------------------
+ * Class name: DigitSegmentBenchmark ------------------------------------------------
+ */
+/**
+ * Measures the time taken by {@link Digits#toSegment(BigInteger, int, DigitPunc)} to build the number tree of an integer of
+ * 10 to 1,000,000 digits.
+ * <p>
+ * The integers are made of random digits from a fixed seed and are created before the timing starts, so only the conversion to
+ * a string and the building of the tree are measured. Every tree is also written out once with
+ * {@link Segment#toString(Appendable, Log, java.util.List)} and it's length checked, so that a tree that is built quickly but
+ * wrongly is noticed. A build that overflows the stack is reported as such instead of a time.
+ * <p>
+ * The repository has no build manifest, so this is a plain program rather than a JMH benchmark. Run it with the optional
+ * arguments {@code [rounds] [digits...]}.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class DigitSegmentBenchmark {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:06:40 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the number of timed rounds of each size followed by the sizes in digits, all of which are optional.
+	 */
+	public static void main(String[] args) {
+		final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 7;
+		int[] digits = DIGITS;
+		if (args.length > 1) {
+			digits = new int[args.length - 1];
+			for (int i = 1; i < args.length; i++)
+				digits[i - 1] = Integer.parseInt(args[i]);
+		}
+		final DigitPunc dp = new DigitPunc();
+		final Random rand = new Random(SEED);
+
+		/* warm up on small values */
+		for (int i = 0; i < 20_000; i++)
+			sink += Digits.toSegment(number(1 + rand.nextInt(64), rand), 10, dp).length();
+		System.out.printf("%10s %16s%n", "digits", "build (ms)");
+		for (int d : digits) {
+			final BigInteger n = number(d, rand);
+			final double[] times = new double[rounds];
+			String result = null;
+			try {
+				LinkedSegment s = null;
+				for (int i = 0; i < rounds; i++) {
+					final long start = System.nanoTime();
+					s = Digits.toSegment(n, 10, dp);
+					times[i] = (System.nanoTime() - start) / 1e6;
+				}
+				final StringBuilder sb = new StringBuilder(d);
+				s.toString(sb, null, new ArrayList<>(Arrays.asList(-1)));
+				if (sb.length() != d)
+					throw new AssertionError(d + " digits rendered as " + sb.length());
+				Arrays.sort(times);
+				result = String.format("%16.3f", times[rounds / 2]);
+			} catch (StackOverflowError e) {
+				result = String.format("%16s", "StackOverflow");
+			}
+			System.out.printf("%10d %s%n", d, result);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:09:03 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a positive integer of exactly the given number of random digits.
+	 *
+	 * @param digits the number of decimal digits.
+	 * @param rand   the source of randomness.
+	 * @return the integer.
+	 */
+	private static BigInteger number(int digits, Random rand) {
+		final char[] c = new char[digits];
+		c[0] = (char) ('1' + rand.nextInt(9));
+		for (int i = 1; i < digits; i++)
+			c[i] = (char) ('0' + rand.nextInt(10));
+		return new BigInteger(new String(c));
+	}
+
+	/**
+	 * The default sizes in digits.
+	 */
+	private static final int[] DIGITS = { 10, 100, 1_000, 10_000, 100_000, 1_000_000 };
+	/**
+	 * The seed of the integers.
+	 */
+	private static final long SEED = 0xd161L;
+	/**
+	 * Accumulates the results so that the builds are not optimised away.
+	 */
+	private static long sink;
+}
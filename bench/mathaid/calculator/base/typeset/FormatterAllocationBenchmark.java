@@ -0,0 +1,132 @@
+/**
+ *
+ */
+package mathaid.calculator.base.typeset;
+
+import static mathaid.calculator.base.typeset.Segment.Type.VAR_FREE;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 21:22:35 ---------------------------------------------------
+ * Package: mathaid.calculator.base.typeset ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: FormatterAllocationBenchmark.java ------------------------------------------------------
+ * Class name: FormatterAllocationBenchmark ------------------------------------------------
+ */
+/**
+ * Measures the bytes allocated and the time taken to format large trees with several {@link Formatter}s.
+ * <p>
+ * Two trees of {@value #NODES} nodes are formatted: a number built by {@link Digits#toSegment(BigInteger, int, DigitPunc)} and
+ * a chain of plain {@code BasicSegment}s. Each is formatted into a reused {@code StringBuilder} by:
+ * <ul>
+ * <li>a {@code BasicFormatter}, which runs every marker,</li>
+ * <li>an empty formatter with only the caret and error markers, which leaves unfocused nodes unmarked, and</li>
+ * <li>{@link Formatter#empty()}.</li>
+ * </ul>
+ * The bytes are read from the thread's allocation counter (a HotSpot extension of {@code ThreadMXBean}) and divided by the
+ * number of nodes, so the output buffer, which is reused, does not count.
+ * <p>
+ * The repository has no build manifest, so this is a plain program rather than a JMH benchmark. Run it with the optional
+ * argument {@code [renders]}.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class FormatterAllocationBenchmark {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:24:10 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the number of timed renders of each tree, which is optional.
+	 */
+	public static void main(String[] args) {
+		final int renders = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+		final Random rand = new Random(SEED);
+		final char[] digits = new char[NODES];
+		digits[0] = (char) ('1' + rand.nextInt(9));
+		for (int i = 1; i < NODES; i++)
+			digits[i] = (char) ('0' + rand.nextInt(10));
+		final LinkedSegment number = Digits.toSegment(new BigInteger(new String(digits)), 10, new DigitPunc());
+		LinkedSegment chain = null;
+		for (int i = 0; i < NODES; i++)
+			chain = new BasicSegment("x", "x", VAR_FREE, false, false, chain);
+
+		final Map<String, Supplier<Formatter>> formatters = new LinkedHashMap<>();
+		formatters.put("BasicFormatter", BasicFormatter::new);
+		formatters.put("empty+caret+error", () -> {
+			final Formatter f = Formatter.empty();
+			f.addMarker(Formatter.CARET, new ForwardRunningMarker());
+			f.addMarker(Formatter.ERROR, new ErrorMarker());
+			return f;
+		});
+		formatters.put("Formatter.empty", Formatter::empty);
+		final Map<String, LinkedSegment> trees = new LinkedHashMap<>();
+		trees.put(NODES + "-digit number", number);
+		trees.put(NODES + "-node chain", chain);
+
+		System.out.printf("%-18s %-18s %12s %12s%n", "formatter", "tree", "bytes/node", "ms/render");
+		final StringBuilder sb = new StringBuilder(1 << 22);
+		for (Map.Entry<String, Supplier<Formatter>> f : formatters.entrySet())
+			for (Map.Entry<String, LinkedSegment> t : trees.entrySet()) {
+				for (int i = 0; i < 30; i++)
+					render(t.getValue(), f.getValue(), sb);
+				final long bytes = allocated(), start = System.nanoTime();
+				for (int i = 0; i < renders; i++)
+					render(t.getValue(), f.getValue(), sb);
+				final long perNode = (allocated() - bytes) / renders / NODES;
+				final double ms = (System.nanoTime() - start) / 1e6 / renders;
+				System.out.printf("%-18s %-18s %12d %12.2f%n", f.getKey(), t.getKey(), perNode, ms);
+			}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:27:45 ---------------------------------------------------
+	 */
+	/**
+	 * Formats the given tree with a new formatter into the given buffer, which is cleared first.
+	 *
+	 * @param s  the tree.
+	 * @param f  the supplier of the formatter.
+	 * @param sb the buffer.
+	 */
+	private static void render(LinkedSegment s, Supplier<Formatter> f, StringBuilder sb) {
+		sb.setLength(0);
+		s.format(sb, f.get(), new ArrayList<>(Arrays.asList(-1)));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:28:30 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of bytes allocated by the current thread so far.
+	 *
+	 * @return the allocated bytes.
+	 */
+	private static long allocated() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * The number of nodes in each tree.
+	 */
+	private static final int NODES = 10_000;
+	/**
+	 * The seed of the digits.
+	 */
+	private static final long SEED = 3L;
+}
@@ -0,0 +1,226 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 19:12:30 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: FactorizationBenchmark.java ------------------------------------------------------
+ * Class name: FactorizationBenchmark ------------------------------------------------
+ */
+/**
+ * Compares the {@link FactorEngine} with the factorisation that {@link BigFraction#factorize()} used before it, which is
+ * {@code Factors.factors(n, 5)}.
+ * <p>
+ * The inputs are semiprimes whose two factors have about the same number of digits, since these are the hardest inputs of a
+ * given size for every algorithm. They are generated from a fixed seed so that every run factorises the same values. Each
+ * factorisation is checked and the median time of each size is printed, together with the algorithm that the engine chooses
+ * for it. The engine's cache is cleared before every call so that each one is measured from scratch.
+ * <p>
+ * The old path can not be interrupted and does not finish in any useful time beyond about 45 digits, so it is run in a child
+ * JVM that is killed once it has taken more than {@value #OLD_BUDGET} seconds for the semiprimes of one size. That size is
+ * then reported as timed out and the old path is not run for the larger sizes. The engine is run for every size; at the
+ * default sizes of 20 to 80 digits the largest take minutes for each semiprime.
+ * <p>
+ * The repository has no build manifest, so this is a plain program rather than a JMH benchmark. Run it with the optional
+ * arguments {@code [samples] [digits...]}.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class FactorizationBenchmark {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:14:02 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the number of semiprimes of each size followed by the sizes in decimal digits, all of which are optional.
+	 *             The child JVM is given {@code --old} followed by the semiprimes to be factorised.
+	 * @throws IOException          if the child JVM can not be started or read.
+	 * @throws InterruptedException if the thread is interrupted while waiting for the child JVM.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length > 0 && args[0].equals("--old")) {
+			old(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
+		final int samples = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+		int[] digits = DIGITS;
+		if (args.length > 1) {
+			digits = new int[args.length - 1];
+			for (int i = 1; i < args.length; i++)
+				digits[i - 1] = Integer.parseInt(args[i]);
+		}
+		final FactorEngine engine = FactorEngine.getDefault();
+		final Random rand = new Random(SEED);
+
+		/* warm up the engine on small inputs; the child JVM warms up the old path itself */
+		for (int i = 0; i < 200; i++) {
+			BigInteger n = semiprime(12, rand);
+			check(n, engine.factors(n));
+		}
+		System.out.printf("%6s %-16s %14s %14s %9s%n", "digits", "algorithm", "before (ms)", "engine (ms)", "speed-up");
+		boolean timedOut = false;
+		for (int d : digits) {
+			final BigInteger[] n = new BigInteger[samples];
+			final double[] after = new double[samples];
+			for (int i = 0; i < samples; i++) {
+				n[i] = semiprime(d, rand);
+				engine.clearCache();
+				final long start = System.nanoTime();
+				check(n[i], engine.factors(n[i]));
+				after[i] = (System.nanoTime() - start) / 1e6;
+			}
+			final double[] before = timedOut ? null : runOld(n);
+			timedOut = before == null;
+			final double a = median(after);
+			final String algorithm = FactorEngine.Algorithm.forBitLength(n[0].bitLength()).toString();
+			if (timedOut)
+				System.out.printf("%6d %-16s %14s %14.3f %9s%n", d, algorithm, "timed out", a, "-");
+			else
+				System.out.printf("%6d %-16s %14.3f %14.3f %8.2fx%n", d, algorithm, median(before), a, median(before) / a);
+		}
+	}
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 01:05:40 ---------------------------------------------------
+	 */
+	/**
+	 * Times the old path on the given semiprimes in a child JVM, which is killed if it takes more than {@value #OLD_BUDGET}
+	 * seconds.
+	 *
+	 * @param n the semiprimes.
+	 * @return the time taken for each semiprime in milliseconds or {@code null} if the child JVM was killed.
+	 * @throws IOException          if the child JVM can not be started or read.
+	 * @throws InterruptedException if the thread is interrupted while waiting for the child JVM.
+	 */
+	private static double[] runOld(BigInteger[] n) throws IOException, InterruptedException {
+		final List<String> command = new ArrayList<>(Arrays.asList(
+				System.getProperty("java.home") + File.separator + "bin" + File.separator + "java", "-cp",
+				System.getProperty("java.class.path"), FactorizationBenchmark.class.getName(), "--old"));
+		for (BigInteger x : n)
+			command.add(x.toString());
+		final Process p = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+		if (!p.waitFor(OLD_BUDGET, TimeUnit.SECONDS)) {
+			p.destroyForcibly().waitFor();
+			return null;
+		}
+		if (p.exitValue() != 0)
+			throw new AssertionError("the old path failed with status " + p.exitValue());
+		final double[] times = new double[n.length];
+		try (BufferedReader r = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+			for (int i = 0; i < times.length; i++)
+				times[i] = Double.parseDouble(r.readLine());
+		}
+		return times;
+	}
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 01:09:15 ---------------------------------------------------
+	 */
+	/**
+	 * The body of the child JVM. It warms up the old path, then factorises each of the given semiprimes with it and prints the
+	 * time taken for each in milliseconds, one per line.
+	 *
+	 * @param args the semiprimes in decimal.
+	 */
+	private static void old(String[] args) {
+		final Random rand = new Random(SEED);
+		for (int i = 0; i < 200; i++) {
+			BigInteger n = semiprime(12, rand);
+			check(n, Factors.factors(n, 5));
+		}
+		for (String a : args) {
+			final BigInteger n = new BigInteger(a);
+			final long start = System.nanoTime();
+			check(n, Factors.factors(n, 5));
+			System.out.println((System.nanoTime() - start) / 1e6);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:16:45 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a product of two random primes with a combined length of about the given number of digits.
+	 *
+	 * @param digits the number of decimal digits of the result.
+	 * @param rand   the source of randomness.
+	 * @return a semiprime.
+	 */
+	private static BigInteger semiprime(int digits, Random rand) {
+		final int bits = (int) Math.ceil(digits * Math.log(10) / Math.log(2));
+		return BigInteger.probablePrime(bits / 2, rand).multiply(BigInteger.probablePrime(bits - bits / 2, rand));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:18:10 ---------------------------------------------------
+	 */
+	/**
+	 * Checks that the given list holds the prime factors of {@code n}.
+	 *
+	 * @param n       the value that was factorised.
+	 * @param factors the factors that were found.
+	 * @throws AssertionError if the factors are wrong.
+	 */
+	private static void check(BigInteger n, List<BigInteger> factors) {
+		BigInteger p = BigInteger.ONE;
+		for (BigInteger f : factors) {
+			if (!f.isProbablePrime(40))
+				throw new AssertionError(n + ": " + factors);
+			p = p.multiply(f);
+		}
+		if (!p.equals(n))
+			throw new AssertionError(n + ": " + factors);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:19:32 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the median of the given values, which are sorted in place.
+	 *
+	 * @param values the values.
+	 * @return the median.
+	 */
+	private static double median(double[] values) {
+		Arrays.sort(values);
+		return values[values.length / 2];
+	}
+
+	/**
+	 * The default sizes in decimal digits.
+	 */
+	private static final int[] DIGITS = { 20, 30, 40, 50, 60, 70, 80 };
+	/**
+	 * The number of seconds the old path may take for the semiprimes of one size.
+	 */
+	private static final long OLD_BUDGET = 60;
+	/**
+	 * The seed of the semiprimes.
+	 */
+	private static final long SEED = 0x5eedL;
+}
@@ -0,0 +1,169 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 21:55:40 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: IntegerRepresentationBenchmark.java ------------------------------------------------------
+ * Class name: IntegerRepresentationBenchmark ------------------------------------------------
+ */
+/**
+ * Measures the time per operation of the bounded integer representations ({@link TC}, {@link OC}, {@link SMR}, {@link NB},
+ * {@link Ex} and {@link MT}) at bounds of 32 and 64 bits.
+ * <p>
+ * Each operation is applied to 1,024 random operands from a fixed seed that fit in the bound, with the operand pairs taken
+ * from neighbouring values. Each operation runs 12 rounds of 200 passes over the operands, and the best of the last 8 rounds is
+ * printed in nanoseconds per operation.
+ * <p>
+ * Running every operation in one JVM lets the profile of one operation affect the next, so the operations can also be run one
+ * per JVM by passing the index of an operation (as listed by a run without arguments) as the only argument.
+ * <p>
+ * The repository has no build manifest, so this is a plain program rather than a JMH benchmark.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class IntegerRepresentationBenchmark {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:57:02 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.value ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: IntegerRepresentationBenchmark.java ------------------------------------------------------
+	 * Class name: Op ------------------------------------------------
+	 */
+	/**
+	 * An operation that is measured. The operands are at index 0 and 1 of the array and the carry at index 2, and the result is
+	 * written to index 0 as the representations do.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static interface Op {
+		/**
+		 * Runs the operation.
+		 *
+		 * @param bound the number of bits.
+		 * @param r     the operands and the result.
+		 */
+		void run(int bound, BigInteger[] r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:58:15 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the index of the only operation to run, which is optional.
+	 */
+	public static void main(String[] args) {
+		final int only = args.length > 0 ? Integer.parseInt(args[0]) : -1;
+		final List<String> names = new ArrayList<>();
+		final List<Op> ops = new ArrayList<>();
+		add(names, ops, "TC.fromDecimal", (b, r) -> TC.fromDecimal(b, r));
+		add(names, ops, "MT.fromTC", (b, r) -> MT.fromTC(b, r));
+		add(names, ops, "TC.add", (b, r) -> TC.add(b, r));
+		add(names, ops, "TC.multiply", (b, r) -> TC.multiply(b, r));
+		add(names, ops, "TC.not", (b, r) -> TC.not(b, r));
+		add(names, ops, "TC.shiftLeft(5)", (b, r) -> TC.shiftLeft(5, b, r));
+		add(names, ops, "TC.shiftRight(5, arith)", (b, r) -> TC.shiftRight(5, b, true, r));
+		add(names, ops, "TC.circularShiftLeft(5)", (b, r) -> TC.circularShiftLeft(5, b, false, r));
+		add(names, ops, "TC.circularShiftRight(5, c)", (b, r) -> TC.circularShiftRight(5, b, true, r));
+		add(names, ops, "TC.compare", (b, r) -> sink += TC.compare(r[0], r[1], b));
+		add(names, ops, "OC.fromDecimal", (b, r) -> OC.fromDecimal(b, r));
+		add(names, ops, "SMR.fromDecimal", (b, r) -> SMR.fromDecimal(b, r));
+		add(names, ops, "NB.fromDecimal", (b, r) -> NB.fromDecimal(b, r));
+		add(names, ops, "Ex.fromDecimal", (b, r) -> Ex.fromDecimal(b, r));
+		add(names, ops, "MT.fromNB", (b, r) -> MT.fromNB(b, r));
+		add(names, ops, "MT.fromSMR", (b, r) -> MT.fromSMR(b, r));
+
+		final Random rand = new Random(SEED);
+		System.out.printf("%3s %-28s %12s %12s%n", "#", "operation", "b=32 ns/op", "b=64 ns/op");
+		final BigInteger[][] operands = new BigInteger[BOUNDS.length][1024];
+		for (int i = 0; i < BOUNDS.length; i++)
+			for (int j = 0; j < operands[i].length; j++)
+				operands[i][j] = BigInteger.valueOf(BOUNDS[i] == 64 ? rand.nextLong() >> 1 : rand.nextInt() >> 1);
+		for (int k = 0; k < ops.size(); k++) {
+			if (only >= 0 && k != only)
+				continue;
+			final double[] ns = new double[BOUNDS.length];
+			for (int i = 0; i < BOUNDS.length; i++)
+				ns[i] = measure(ops.get(k), BOUNDS[i], operands[i]);
+			System.out.printf("%3d %-28s %12.1f %12.1f%n", k, names.get(k), ns[0], ns[1]);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 22:01:37 ---------------------------------------------------
+	 */
+	/**
+	 * Adds an operation to the lists.
+	 *
+	 * @param names the names of the operations.
+	 * @param ops   the operations.
+	 * @param name  the name of the operation.
+	 * @param op    the operation.
+	 */
+	private static void add(List<String> names, List<Op> ops, String name, Op op) {
+		names.add(name);
+		ops.add(op);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 22:02:20 ---------------------------------------------------
+	 */
+	/**
+	 * Measures the given operation.
+	 *
+	 * @param op       the operation.
+	 * @param bound    the number of bits.
+	 * @param operands the operands, of which there is a power of 2.
+	 * @return the best time per operation in nanoseconds.
+	 */
+	private static double measure(Op op, int bound, BigInteger[] operands) {
+		final BigInteger[] r = new BigInteger[3];
+		double best = Double.MAX_VALUE;
+		for (int round = 0; round < 12; round++) {
+			final long start = System.nanoTime();
+			for (int pass = 0; pass < 200; pass++)
+				for (int i = 0; i < operands.length; i++) {
+					r[0] = operands[i];
+					r[1] = operands[(i + 1) & (operands.length - 1)];
+					r[2] = BigInteger.ONE;
+					op.run(bound, r);
+					sink += r[0].signum();
+				}
+			final double ns = (System.nanoTime() - start) / (200.0 * operands.length);
+			if (round >= 4)
+				best = Math.min(best, ns);
+		}
+		return best;
+	}
+
+	/**
+	 * The bounds at which each operation is measured.
+	 */
+	private static final int[] BOUNDS = { 32, 64 };
+	/**
+	 * The seed of the operands.
+	 */
+	private static final long SEED = 7L;
+	/**
+	 * Accumulates the results so that the operations are not optimised away.
+	 */
+	private static long sink;
+}
@@ -3,12 +3,7 @@
  */
 package mathaid.calculator.base;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.PrintStream;
 import java.math.BigDecimal;
 
 import mathaid.IndexBeyondLimitException;
@@ -107,6 +102,11 @@ public class Calculator {
 	public static final int DEFAULT_PRECISION = 0x000000C8;
 	private static final int CALC_MAX = 3;
 	public static final BigDecimal MAX_FACTORIAL = new BigDecimal("9999999");
+	/*
+	 * The key of the requests made for input events, each of which supersedes the
+	 * previous one.
+	 */
+	private static final Object INPUT = new Object();
 
 	/*
 	 * public static final PrintStream OUT; static final InputStream IN; static
@@ -160,59 +160,45 @@ public class Calculator {
 	public void start(String eq) {
 //		String eq = scanner.next();
 		input.input(eq);
-		new Thread(() -> {
-			textChanged();
-		}).start();
+		textChanged();
 	}
 
+	/*
+	 * Appends to the journal of the given file rather than rewriting the file, so
+	 * the calling thread never waits on the file system. See Journal.
+	 */
 	public void logCalculation(File file, Object result) {
-		if (!file.exists())
-			try {
-				file.createNewFile();
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-		FileOutputStream fs = null;
-		try {
-			fs = new FileOutputStream(file);
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		}
-		PrintStream out = new PrintStream(new BufferedOutputStream(fs));
-		out.println(result);
-		out.close();
+		Journal.of(file.toPath()).append(Journal.Kind.RESULT, result);
 	}
 
 	public void logError(File file, Object err) {
-		if (!file.exists())
-			try {
-				file.createNewFile();
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-		FileOutputStream fs = null;
-		try {
-			fs = new FileOutputStream(file, true);
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-		}
-		PrintStream error = new PrintStream(new BufferedOutputStream(fs));
-		error.println(err);
-		error.close();
+		Journal.of(file.toPath()).append(Journal.Kind.ERROR, err);
 	}
 
 //	void stop() {
 //		scanner.close();
 //	}
 
+	/*
+	 * Runs on the pipeline, after every request made before it. A later keystroke
+	 * supersedes this one, so each step is skipped once that happens. Nothing runs
+	 * on the calling thread, not even input.update(), so the input and the
+	 * calculators have not been updated yet when this method returns.
+	 */
 	public void textChanged() {
-		input.update();
-		current().doAction();
-		current().update();
-		new Thread(() -> {
+		pipeline.submitLatest(INPUT, r -> {
+			input.update();
+			current().doAction();
+			current().update();
+			if (r.isCancelled())
+				return;
 			output.doAction();
 			try {
+				if (r.isCancelled())
+					return;
 				current().getDetails().doAction();
+				if (r.isCancelled())
+					return;
 //				OUT.println(current().evaluate());
 				logCalculation(new File("res/output.txt"), current().evaluate());
 			} catch (Throwable e) {
@@ -221,11 +207,11 @@ public class Calculator {
 				logError(new File("res/error.txt"), e);
 			}
 //			System.out.println(current().getDetails().getLastDetails());
-		}).start();
+		});
 	}
 
 	public void equals() {
-		new Thread(() -> {
+		pipeline.submit(r -> {
 			current().evaluate();
 			current().update();
 //			OUT.println(current().getHistory().getList().get(current().getHistory().getList().size() - 1));
@@ -234,6 +220,14 @@ public class Calculator {
 		});
 	}
 
+	/*
+	 * The queue on which this calculator's input is processed. Its depth and
+	 * counters can be read for monitoring.
+	 */
+	public RequestPipeline getPipeline() {
+		return pipeline;
+	}
+
 	public void next() {
 		input.unRegister(current());
 		currentCalculator++;
@@ -305,6 +299,11 @@ public class Calculator {
 	private Input input;
 	private Output output;
 	private int currentCalculator;
+	/*
+	 * Runs the work for each input event one at a time and in order, instead of a
+	 * new thread per event.
+	 */
+	private final RequestPipeline pipeline = new RequestPipeline();
 
 //	private Scanner scanner;
 	// XXX: version 100100
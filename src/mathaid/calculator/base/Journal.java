@@ -0,0 +1,709 @@
+/**
+ *
+ */
+package mathaid.calculator.base;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 17:48:30 ---------------------------------------------------
+ * Package: mathaid.calculator.base ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: Journal.java ------------------------------------------------------
+ * Class name: Journal ------------------------------------------------
+ */
+/**
+ * An append-only log of calculation results and errors, written by a single background thread so that the threads doing the
+ * calculations never wait on the file system.
+ * <p>
+ * Appended records go into a fixed-size ring buffer. The writer thread takes every record in the buffer at once and writes
+ * them with a single call (a group commit), so a busy journal makes fewer and larger writes. A thread appending to a full
+ * buffer waits until the writer has made room.
+ * <p>
+ * When the file reaches {@link #MAX_BYTES_PROPERTY} bytes or has been written to for {@link #MAX_AGE_PROPERTY} milliseconds,
+ * it is renamed by appending the time of the rotation to its name and a new file is started. Records are written either as
+ * one line of text each ({@code time}, {@code kind} and the escaped text, separated by tabs) or, when
+ * {@link #BINARY_PROPERTY} is {@code true}, in a compact binary form after a header that marks the file as binary. A file is
+ * never written in both forms: if the existing file is not in the form of the journal opening it, it is first rotated as above.
+ * {@link #replay(Path, Consumer)} reads back either form.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public final class Journal implements Closeable {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:51:04 ---------------------------------------------------
+	 * Package: mathaid.calculator.base ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: Journal.java ------------------------------------------------------
+	 * Class name: Kind ------------------------------------------------
+	 */
+	/**
+	 * The kinds of records in a journal.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	public enum Kind {
+		/**
+		 * The result of a calculation.
+		 */
+		RESULT,
+		/**
+		 * An error thrown by a calculation.
+		 */
+		ERROR
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:52:11 ---------------------------------------------------
+	 * Package: mathaid.calculator.base ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: Journal.java ------------------------------------------------------
+	 * Class name: Record ------------------------------------------------
+	 */
+	/**
+	 * An immutable entry of a journal.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	public static final class Record {
+		/**
+		 * Constructs a {@code Record}.
+		 *
+		 * @param time the time it was appended in milliseconds since the epoch.
+		 * @param kind the kind of record.
+		 * @param text the text of the record.
+		 */
+		Record(long time, Kind kind, String text) {
+			this.time = time;
+			this.kind = kind;
+			this.text = text;
+		}
+
+		/**
+		 * Gets the time this record was appended.
+		 *
+		 * @return the time in milliseconds since the epoch.
+		 */
+		public long getTime() {
+			return time;
+		}
+
+		/**
+		 * Gets the kind of this record.
+		 *
+		 * @return whether this record is a result or an error.
+		 */
+		public Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * Gets the text of this record.
+		 *
+		 * @return the result or error as it was appended.
+		 */
+		public String getText() {
+			return text;
+		}
+
+		/**
+		 * Gets this record in the text form of a journal, without the line separator.
+		 *
+		 * @return the time, kind and escaped text of this record separated by tabs.
+		 */
+		@Override
+		public String toString() {
+			return time + "\t" + kind + "\t" + escape(text);
+		}
+
+		/**
+		 * The time this record was appended.
+		 */
+		private final long time;
+		/**
+		 * The kind of this record.
+		 */
+		private final Kind kind;
+		/**
+		 * The text of this record.
+		 */
+		private final String text;
+	}
+
+	/**
+	 * The system property which, when {@code true}, makes journals opened by {@link #of(Path)} write binary records.
+	 */
+	public static final String BINARY_PROPERTY = "mathaid.journal.binary";
+	/**
+	 * The system property holding the size in bytes at which a journal file is rotated. It is 16 MiB when absent.
+	 */
+	public static final String MAX_BYTES_PROPERTY = "mathaid.journal.size";
+	/**
+	 * The system property holding the number of milliseconds after which a journal file is rotated. It is one day when absent.
+	 */
+	public static final String MAX_AGE_PROPERTY = "mathaid.journal.age";
+	/**
+	 * The number of records the ring buffer of a journal opened by {@link #of(Path)} holds.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+	/**
+	 * The first bytes of a binary journal file.
+	 */
+	private static final byte[] MAGIC = { 'M', 'J', 'N', 'L', 1 };
+	/**
+	 * The longest time the writer thread sleeps without checking whether the file should be rotated.
+	 */
+	private static final long IDLE_MILLIS = 1_000;
+	/**
+	 * Every journal opened by {@link #of(Path)}, by the absolute path of its file.
+	 */
+	private static final Map<Path, Journal> JOURNALS = new ConcurrentHashMap<>();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			for (Journal j : JOURNALS.values())
+				j.close();
+		}, "journal-shutdown"));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:56:42 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the shared journal that writes to the given file, opening it with the settings in the system properties of this
+	 * class the first time it is requested. Every shared journal is closed (and so written out) when the JVM shuts down.
+	 *
+	 * @param file the path of the journal file.
+	 * @return the journal of the file.
+	 */
+	public static Journal of(Path file) {
+		return JOURNALS.computeIfAbsent(file.toAbsolutePath().normalize(),
+				f -> new Journal(f, Boolean.getBoolean(BINARY_PROPERTY), Long.getLong(MAX_BYTES_PROPERTY, 16L << 20),
+						Long.getLong(MAX_AGE_PROPERTY, TimeUnit.DAYS.toMillis(1)), DEFAULT_CAPACITY));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:58:15 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code Journal} and starts its writer thread. Nothing is written to the file until the first record is.
+	 *
+	 * @param file     the path of the journal file.
+	 * @param binary   {@code true} to write binary records, {@code false} to write lines of text.
+	 * @param maxBytes the size in bytes at which the file is rotated.
+	 * @param maxAge   the number of milliseconds after which the file is rotated.
+	 * @param capacity the number of records the ring buffer holds.
+	 * @throws IllegalArgumentException if {@code maxBytes}, {@code maxAge} or {@code capacity} is not positive.
+	 */
+	public Journal(Path file, boolean binary, long maxBytes, long maxAge, int capacity) throws IllegalArgumentException {
+		if (maxBytes <= 0 || maxAge <= 0 || capacity <= 0)
+			throw new IllegalArgumentException("maxBytes, maxAge and capacity must be positive");
+		this.file = file;
+		this.binary = binary;
+		this.maxBytes = maxBytes;
+		this.maxAge = maxAge;
+		ring = new Record[capacity];
+		writer = new Thread(this::write, "journal-" + file.getFileName());
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:00:02 ---------------------------------------------------
+	 */
+	/**
+	 * Appends a record to this journal. The record is written by the writer thread; if the ring buffer is full, the calling
+	 * thread waits until there is room. A {@code Throwable} is appended with its stack trace. A record appended after this
+	 * journal is closed (such as by the shutdown hook) is dropped.
+	 *
+	 * @param kind  the kind of record.
+	 * @param value the result or error to be appended.
+	 */
+	public void append(Kind kind, Object value) {
+		final Record r = new Record(System.currentTimeMillis(), kind, text(value));
+		lock.lock();
+		try {
+			while (!closed && tail - head == ring.length)
+				notFull.awaitUninterruptibly();
+			if (closed)
+				return;
+			ring[(int) (tail++ % ring.length)] = r;
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:01:27 ---------------------------------------------------
+	 */
+	/**
+	 * Waits until every record appended before this call has been written.
+	 */
+	public void flush() {
+		lock.lock();
+		try {
+			final long target = tail;
+			notEmpty.signal();
+			while (written < target && writer.isAlive())
+				drained.awaitUninterruptibly();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:02:10 ---------------------------------------------------
+	 */
+	/**
+	 * Writes every record appended so far, then stops the writer thread and closes the file. Records appended after this call
+	 * are dropped. Closing a closed journal has no effect.
+	 */
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			closed = true;
+			notEmpty.signal();
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		JOURNALS.remove(file, this);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:03:44 ---------------------------------------------------
+	 */
+	/**
+	 * The body of the writer thread. It takes every record in the ring buffer at once, writes them with a single call and
+	 * rotates the file when it is due, until this journal is closed and the buffer is empty.
+	 */
+	private void write() {
+		Record[] batch = new Record[ring.length];
+		while (true) {
+			int n;
+			lock.lock();
+			try {
+				while (head == tail && !closed)
+					try {
+						notEmpty.await(IDLE_MILLIS, TimeUnit.MILLISECONDS);
+						if (head == tail)
+							break;
+					} catch (InterruptedException e) {
+						closed = true;
+					}
+				n = (int) (tail - head);
+				for (int i = 0; i < n; i++) {
+					final int at = (int) (head++ % ring.length);
+					batch[i] = ring[at];
+					ring[at] = null;
+				}
+				notFull.signalAll();
+			} finally {
+				lock.unlock();
+			}
+			try {
+				if (n > 0)
+					commit(batch, n);
+				if (channel != null && (size >= maxBytes || System.currentTimeMillis() - opened >= maxAge))
+					rotate();
+			} catch (IOException | RuntimeException e) {
+				e.printStackTrace();
+			}
+			lock.lock();
+			try {
+				written += n;
+				drained.signalAll();
+				if (closed && head == tail) {
+					closeChannel();
+					return;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:06:20 ---------------------------------------------------
+	 */
+	/**
+	 * Encodes the given records and writes them to the file with a single call, opening the file if needed.
+	 *
+	 * @param batch the records to be written.
+	 * @param n     the number of records in {@code batch}.
+	 * @throws IOException if the file cannot be written.
+	 */
+	private void commit(Record[] batch, int n) throws IOException {
+		if (channel == null)
+			open();
+		final ByteBuffer[] buffers = new ByteBuffer[n];
+		long total = 0;
+		for (int i = 0; i < n; i++) {
+			buffers[i] = encode(batch[i]);
+			total += buffers[i].remaining();
+			batch[i] = null;
+		}
+		while (total > 0)
+			total -= channel.write(buffers);
+		size = channel.size();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:07:48 ---------------------------------------------------
+	 */
+	/**
+	 * Opens the file for appending, writing the header of a binary journal if the file is new. An existing file that is not
+	 * in the form of this journal is rotated first, so that a file never holds records of both forms.
+	 *
+	 * @throws IOException if the file cannot be opened.
+	 */
+	private void open() throws IOException {
+		final Path dir = file.getParent();
+		if (dir != null)
+			Files.createDirectories(dir);
+		if (Files.exists(file) && Files.size(file) > 0 && isBinary(file) != binary)
+			moveAside();
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		opened = System.currentTimeMillis();
+		size = channel.size();
+		if (binary && size == 0) {
+			channel.write(ByteBuffer.wrap(MAGIC));
+			size = channel.size();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:08:55 ---------------------------------------------------
+	 */
+	/**
+	 * Closes the file and renames it by appending the current time (or the first later millisecond not already
+	 * taken) to its name. The next record starts a new file.
+	 *
+	 * @throws IOException if the file cannot be closed or renamed.
+	 */
+	private void rotate() throws IOException {
+		closeChannel();
+		moveAside();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:09:12 ---------------------------------------------------
+	 */
+	/**
+	 * Renames the file, which must not be open, by appending the current time (or the first later millisecond not already
+	 * taken) to its name.
+	 *
+	 * @throws IOException if the file cannot be renamed.
+	 */
+	private void moveAside() throws IOException {
+		long time = System.currentTimeMillis();
+		Path to = file.resolveSibling(file.getFileName() + "." + time);
+		while (Files.exists(to))
+			to = file.resolveSibling(file.getFileName() + "." + ++time);
+		try {
+			Files.move(file, to, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			Files.move(file, to);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:09:40 ---------------------------------------------------
+	 */
+	/**
+	 * Closes the file if it is open.
+	 */
+	private void closeChannel() {
+		if (channel == null)
+			return;
+		try {
+			channel.close();
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+		channel = null;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:10:31 ---------------------------------------------------
+	 */
+	/**
+	 * Encodes the given record in the format of this journal.
+	 *
+	 * @param r the record to be encoded.
+	 * @return the bytes of the record.
+	 */
+	private ByteBuffer encode(Record r) {
+		if (!binary)
+			return ByteBuffer.wrap((r + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+		final byte[] b = r.text.getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer buf = ByteBuffer.allocate(Long.BYTES + 1 + Integer.BYTES + b.length);
+		buf.putLong(r.time).put((byte) r.kind.ordinal()).putInt(b.length).put(b);
+		return buf.flip();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:11:20 ---------------------------------------------------
+	 */
+	/**
+	 * Checks whether the given file starts with the header of a binary journal.
+	 *
+	 * @param file the path of a journal file.
+	 * @return {@code true} if the file is a binary journal, {@code false} if it is a text journal or is shorter than the
+	 *         header.
+	 * @throws IOException if the file cannot be read.
+	 */
+	private static boolean isBinary(Path file) throws IOException {
+		try (InputStream in = Files.newInputStream(file)) {
+			return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:12:06 ---------------------------------------------------
+	 */
+	/**
+	 * Reads every record in the given journal file, in the order they were written. Both the text and the binary form are
+	 * read, as told by the first bytes of the file.
+	 *
+	 * @param file     the path of a journal file, which may be one that has been rotated.
+	 * @param consumer receives each record.
+	 * @throws IOException if the file cannot be read or is not a journal.
+	 */
+	public static void replay(Path file, Consumer<Record> consumer) throws IOException {
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+			in.mark(MAGIC.length);
+			final byte[] m = new byte[MAGIC.length];
+			final int l = in.readNBytes(m, 0, m.length);
+			if (l == MAGIC.length && Arrays.equals(m, MAGIC)) {
+				final DataInputStream d = new DataInputStream(in);
+				final Kind[] kinds = Kind.values();
+				while (true) {
+					final long time;
+					try {
+						time = d.readLong();
+					} catch (EOFException e) {
+						return;
+					}
+					final int kind = d.readUnsignedByte();
+					final byte[] b = new byte[d.readInt()];
+					d.readFully(b);
+					if (kind >= kinds.length)
+						throw new IOException("Unknown record kind " + kind + " in " + file);
+					consumer.accept(new Record(time, kinds[kind], new String(b, StandardCharsets.UTF_8)));
+				}
+			}
+			in.reset();
+			final BufferedReader r = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			for (String line = r.readLine(); line != null; line = r.readLine()) {
+				if (line.isEmpty())
+					continue;
+				final int a = line.indexOf('\t'), b = line.indexOf('\t', a + 1);
+				if (a < 0 || b < 0)
+					throw new IOException("Malformed record in " + file + ": " + line);
+				try {
+					consumer.accept(new Record(Long.parseLong(line.substring(0, a)), Kind.valueOf(line.substring(a + 1, b)),
+							unescape(line.substring(b + 1))));
+				} catch (IllegalArgumentException e) {
+					throw new IOException("Malformed record in " + file + ": " + line, e);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:14:37 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the text of a record from the appended value.
+	 *
+	 * @param value a result or an error.
+	 * @return the stack trace of a {@code Throwable}, or else the {@code String} value of the argument.
+	 */
+	private static String text(Object value) {
+		if (!(value instanceof Throwable))
+			return String.valueOf(value);
+		final StringWriter w = new StringWriter();
+		((Throwable) value).printStackTrace(new PrintWriter(w));
+		return w.toString().strip();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:15:12 ---------------------------------------------------
+	 */
+	/**
+	 * Escapes the backslashes, tabs and line breaks in the given text so that it fits on one line of a text journal.
+	 *
+	 * @param s the text to be escaped.
+	 * @return the escaped text.
+	 */
+	private static String escape(String s) {
+		final StringBuilder b = new StringBuilder(s.length() + 8);
+		for (int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			switch (c) {
+			case '\\':
+				b.append("\\\\");
+				break;
+			case '\t':
+				b.append("\\t");
+				break;
+			case '\n':
+				b.append("\\n");
+				break;
+			case '\r':
+				b.append("\\r");
+				break;
+			default:
+				b.append(c);
+			}
+		}
+		return b.toString();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:15:58 ---------------------------------------------------
+	 */
+	/**
+	 * Reverses {@link #escape(String)}.
+	 *
+	 * @param s the escaped text.
+	 * @return the original text.
+	 */
+	private static String unescape(String s) {
+		final StringBuilder b = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == '\\' && i + 1 < s.length()) {
+				c = s.charAt(++i);
+				b.append(c == 't' ? '\t' : c == 'n' ? '\n' : c == 'r' ? '\r' : c);
+			} else
+				b.append(c);
+		}
+		return b.toString();
+	}
+
+	/**
+	 * The path of the journal file.
+	 */
+	private final Path file;
+	/**
+	 * {@code true} if records are written in binary form.
+	 */
+	private final boolean binary;
+	/**
+	 * The size in bytes at which the file is rotated.
+	 */
+	private final long maxBytes;
+	/**
+	 * The number of milliseconds after which the file is rotated.
+	 */
+	private final long maxAge;
+	/**
+	 * The records appended but not yet taken by the writer thread. The record at position {@code p} is at index
+	 * {@code p % ring.length}.
+	 */
+	private final Record[] ring;
+	/**
+	 * The thread that writes the records.
+	 */
+	private final Thread writer;
+	/**
+	 * Guards the ring buffer and its positions.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/**
+	 * Signalled when a record is appended or this journal is closed.
+	 */
+	private final Condition notEmpty = lock.newCondition();
+	/**
+	 * Signalled when the writer thread takes records from the ring buffer.
+	 */
+	private final Condition notFull = lock.newCondition();
+	/**
+	 * Signalled when the writer thread has written a batch.
+	 */
+	private final Condition drained = lock.newCondition();
+	/**
+	 * The position of the next record to be taken by the writer thread.
+	 */
+	private long head;
+	/**
+	 * The position of the next record to be appended.
+	 */
+	private long tail;
+	/**
+	 * The number of records that have been written (or failed to be written).
+	 */
+	private long written;
+	/**
+	 * Set when this journal is closed.
+	 */
+	private boolean closed;
+	/**
+	 * The open file or {@code null}. Only used by the writer thread.
+	 */
+	private FileChannel channel;
+	/**
+	 * The size of the open file. Only used by the writer thread.
+	 */
+	private long size;
+	/**
+	 * The time the open file was opened. Only used by the writer thread.
+	 */
+	private long opened;
+}
@@ -0,0 +1,559 @@
+/**
+ *
+ */
+package mathaid.calculator.base;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 17:05:12 ---------------------------------------------------
+ * Package: mathaid.calculator.base ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: RequestPipeline.java ------------------------------------------------------
+ * Class name: RequestPipeline ------------------------------------------------
+ */
+/**
+ * An ordered queue of the work requested by a single session (such as a {@link Calculator}), run on a pool of threads shared
+ * by every pipeline.
+ * <p>
+ * Requests of a pipeline run one at a time and in the order they were submitted, but pipelines run concurrently with each
+ * other. Since a pipeline only ever hands one task at a time to the shared pool, the pool never holds more tasks than there
+ * are pipelines. The pool uses virtual threads where the platform has them and a fixed number of daemon threads otherwise.
+ * <p>
+ * A request submitted with {@link #submitLatest(Object, Task)} supersedes every earlier request with the same key: the ones
+ * still queued are dropped and the one running (if any) is cancelled. Cancellation is cooperative, so a task should check
+ * {@link Request#isCancelled()} between its steps. At most {@link #DEFAULT_CAPACITY} requests may be queued by default, after
+ * which a submitting thread waits for room (back-pressure).
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public final class RequestPipeline {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:08:40 ---------------------------------------------------
+	 * Package: mathaid.calculator.base ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: RequestPipeline.java ------------------------------------------------------
+	 * Class name: Task ------------------------------------------------
+	 */
+	/**
+	 * The work of a request.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	@FunctionalInterface
+	public interface Task {
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 17:09:22 ---------------------------------------------------
+		 */
+		/**
+		 * Runs this task.
+		 *
+		 * @param r the request being run, which tells whether it has been superseded.
+		 * @throws Exception if the task fails.
+		 */
+		void run(Request r) throws Exception;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:10:05 ---------------------------------------------------
+	 * Package: mathaid.calculator.base ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: RequestPipeline.java ------------------------------------------------------
+	 * Class name: Request ------------------------------------------------
+	 */
+	/**
+	 * A submitted task along with its state.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	public static final class Request {
+		/**
+		 * Constructs a {@code Request}.
+		 *
+		 * @param key  the key under which it was submitted or {@code null} if it supersedes nothing.
+		 * @param task the work of this request.
+		 */
+		Request(Object key, Task task) {
+			this.key = key;
+			this.task = task;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 17:11:34 ---------------------------------------------------
+		 */
+		/**
+		 * Checks whether this request has been superseded by a later one or cancelled by {@link RequestPipeline#cancel()}.
+		 *
+		 * @return {@code true} if the work of this request is no longer needed.
+		 */
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 17:12:02 ---------------------------------------------------
+		 */
+		/**
+		 * Checks whether this request has finished running or was dropped before it ran.
+		 *
+		 * @return {@code true} if this request will not do any more work.
+		 */
+		public boolean isDone() {
+			return done;
+		}
+
+		/**
+		 * The key under which this request was submitted or {@code null}.
+		 */
+		final Object key;
+		/**
+		 * The work of this request.
+		 */
+		final Task task;
+		/**
+		 * Set when this request is superseded or cancelled.
+		 */
+		volatile boolean cancelled;
+		/**
+		 * Set when this request has run or has been dropped.
+		 */
+		volatile boolean done;
+	}
+
+	/**
+	 * The default number of requests that may be queued in a pipeline before a submitting thread waits.
+	 */
+	public static final int DEFAULT_CAPACITY = 64;
+	/**
+	 * The number of threads created for {@link #EXECUTOR} when virtual threads are not available.
+	 */
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+	/**
+	 * The pool on which every pipeline runs.
+	 */
+	private static final ExecutorService EXECUTOR = executor();
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:14:48 ---------------------------------------------------
+	 */
+	/**
+	 * Creates the shared pool, with a virtual thread per task if the platform supports it, or else with one daemon thread per
+	 * processor (at least two).
+	 *
+	 * @return the shared pool.
+	 */
+	private static ExecutorService executor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), r -> {
+				Thread t = new Thread(r, "request-pipeline-" + THREAD_COUNT.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			});
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:16:20 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code RequestPipeline} that queues up to {@link #DEFAULT_CAPACITY} requests.
+	 */
+	public RequestPipeline() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:16:54 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code RequestPipeline} that queues up to the given number of requests.
+	 *
+	 * @param capacity the number of requests that may be queued before a submitting thread waits.
+	 * @throws IllegalArgumentException if {@code capacity} is not positive.
+	 */
+	public RequestPipeline(int capacity) throws IllegalArgumentException {
+		if (capacity <= 0)
+			throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+		this.capacity = capacity;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:17:41 ---------------------------------------------------
+	 */
+	/**
+	 * Queues the given task to run after every request submitted before it. If the queue is full, the calling thread waits
+	 * until there is room.
+	 *
+	 * @param task the work to be done.
+	 * @return the submitted request.
+	 */
+	public Request submit(Task task) {
+		return enqueue(new Request(null, task));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:18:29 ---------------------------------------------------
+	 */
+	/**
+	 * Queues the given task to run after every request submitted before it, and supersedes every earlier request with the same
+	 * key. Requests with that key which are still queued are dropped and the running one (if any) is cancelled.
+	 *
+	 * @param key  identifies the kind of request, such as the input of a session. Must not be {@code null}.
+	 * @param task the work to be done.
+	 * @return the submitted request.
+	 * @throws NullPointerException if {@code key} is {@code null}.
+	 */
+	public Request submitLatest(Object key, Task task) throws NullPointerException {
+		if (key == null)
+			throw new NullPointerException("key");
+		return enqueue(new Request(key, task));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:19:55 ---------------------------------------------------
+	 */
+	/**
+	 * Drops every queued request and cancels the running one (if any).
+	 */
+	public void cancel() {
+		lock.lock();
+		try {
+			for (Request r : queue) {
+				r.cancelled = true;
+				r.done = true;
+				cancelled.increment();
+			}
+			queue.clear();
+			if (running != null && !running.cancelled) {
+				running.cancelled = true;
+				cancelled.increment();
+			}
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:21:10 ---------------------------------------------------
+	 */
+	/**
+	 * Adds the given request to the queue, superseding the earlier requests with its key, and makes sure the queue is being run.
+	 *
+	 * @param r the request to be queued.
+	 * @return {@code r}.
+	 */
+	private Request enqueue(Request r) {
+		submitted.increment();
+		boolean start;
+		lock.lock();
+		try {
+			if (r.key != null)
+				supersede(r.key);
+			while (queue.size() >= capacity) {
+				waited.increment();
+				notFull.awaitUninterruptibly();
+				if (r.key != null)
+					supersede(r.key);
+			}
+			queue.add(r);
+			maxDepth = Math.max(maxDepth, queue.size());
+			start = !scheduled;
+			scheduled = true;
+		} finally {
+			lock.unlock();
+		}
+		if (start)
+			EXECUTOR.execute(this::runNext);
+		return r;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:22:36 ---------------------------------------------------
+	 */
+	/**
+	 * Drops the queued requests with the given key and cancels the running one if it has that key. Must be called while holding
+	 * {@link #lock}.
+	 *
+	 * @param key the key of the superseded requests.
+	 */
+	private void supersede(Object key) {
+		for (Iterator<Request> i = queue.iterator(); i.hasNext();) {
+			Request q = i.next();
+			if (key.equals(q.key)) {
+				q.cancelled = true;
+				q.done = true;
+				i.remove();
+				coalesced.increment();
+			}
+		}
+		if (running != null && key.equals(running.key) && !running.cancelled) {
+			running.cancelled = true;
+			cancelled.increment();
+		}
+		notFull.signalAll();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:24:03 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the request at the head of the queue, then hands the rest of the queue back to the pool so that other pipelines get
+	 * their turn. A task that throws is counted as failed and its stack trace is printed, and the pipeline goes on with the
+	 * next request.
+	 */
+	private void runNext() {
+		final Request r;
+		lock.lock();
+		try {
+			r = queue.poll();
+			if (r == null) {
+				scheduled = false;
+				return;
+			}
+			running = r;
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		try {
+			if (!r.cancelled) {
+				r.task.run(r);
+				if (!r.cancelled)
+					completed.increment();
+			}
+		} catch (Throwable e) {
+			if (!r.cancelled)
+				failed.increment();
+			e.printStackTrace();
+		} finally {
+			r.done = true;
+			boolean more;
+			lock.lock();
+			try {
+				running = null;
+				more = !queue.isEmpty();
+				if (!more)
+					scheduled = false;
+			} finally {
+				lock.unlock();
+			}
+			if (more)
+				EXECUTOR.execute(this::runNext);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:26:18 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of requests waiting to run.
+	 *
+	 * @return the current depth of the queue.
+	 */
+	public int getDepth() {
+		lock.lock();
+		try {
+			return queue.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:26:49 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the greatest number of requests that have waited to run at the same time.
+	 *
+	 * @return the maximum depth of the queue so far.
+	 */
+	public int getMaxDepth() {
+		lock.lock();
+		try {
+			return maxDepth;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:27:15 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of requests submitted to this pipeline. Each request that is no longer queued or running has been
+	 * counted by exactly one of {@link #getCoalesced()}, {@link #getCancelled()}, {@link #getCompleted()} and
+	 * {@link #getFailed()}.
+	 *
+	 * @return the number of submitted requests.
+	 */
+	public long getSubmitted() {
+		return submitted.sum();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:27:40 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of queued requests that were dropped, without running, because a later request superseded them.
+	 *
+	 * @return the number of dropped requests.
+	 */
+	public long getCoalesced() {
+		return coalesced.sum();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:28:06 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of requests that were cancelled by {@link #cancel()}, whether queued or running, and of running requests
+	 * that were superseded. A running request is counted here, and not as completed or failed, even if it went on to finish.
+	 *
+	 * @return the number of cancelled requests.
+	 */
+	public long getCancelled() {
+		return cancelled.sum();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:28:31 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of requests that have run to the end without throwing and without being cancelled.
+	 *
+	 * @return the number of completed requests.
+	 */
+	public long getCompleted() {
+		return completed.sum();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:28:59 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of requests that threw while running without having been cancelled.
+	 *
+	 * @return the number of failed requests.
+	 */
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:29:24 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of times a submitting thread had to wait because the queue was full.
+	 *
+	 * @return the number of waits for room in the queue.
+	 */
+	public long getWaited() {
+		return waited.sum();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:29:58 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the metrics of this pipeline as a {@code String}.
+	 *
+	 * @return the queue depth and request counts.
+	 */
+	@Override
+	public String toString() {
+		return "RequestPipeline[depth=" + getDepth() + ", maxDepth=" + getMaxDepth() + ", submitted=" + getSubmitted()
+				+ ", coalesced=" + getCoalesced() + ", cancelled=" + getCancelled() + ", completed=" + getCompleted()
+				+ ", failed=" + getFailed() + ", waited=" + getWaited() + "]";
+	}
+
+	/**
+	 * The number of requests that may be queued before a submitting thread waits.
+	 */
+	private final int capacity;
+	/**
+	 * The requests waiting to run, in order.
+	 */
+	private final ArrayDeque<Request> queue = new ArrayDeque<>();
+	/**
+	 * Guards {@link #queue}, {@link #running}, {@link #scheduled} and {@link #maxDepth}.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/**
+	 * Signalled whenever room is made in {@link #queue}.
+	 */
+	private final Condition notFull = lock.newCondition();
+	/**
+	 * The request being run or {@code null}.
+	 */
+	private Request running;
+	/**
+	 * Set while this pipeline has a task in the shared pool.
+	 */
+	private boolean scheduled;
+	/**
+	 * The greatest size {@link #queue} has had.
+	 */
+	private int maxDepth;
+	/**
+	 * The number of submitted requests.
+	 */
+	private final LongAdder submitted = new LongAdder();
+	/**
+	 * The number of queued requests dropped because they were superseded.
+	 */
+	private final LongAdder coalesced = new LongAdder();
+	/**
+	 * The number of requests cancelled by {@code cancel()} and of running requests that were superseded.
+	 */
+	private final LongAdder cancelled = new LongAdder();
+	/**
+	 * The number of requests that ran without throwing or being cancelled.
+	 */
+	private final LongAdder completed = new LongAdder();
+	/**
+	 * The number of requests that threw without being cancelled.
+	 */
+	private final LongAdder failed = new LongAdder();
+	/**
+	 * The number of times a submitting thread waited for room.
+	 */
+	private final LongAdder waited = new LongAdder();
+}
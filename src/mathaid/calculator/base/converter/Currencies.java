@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 
 import org.jsoup.Connection;
@@ -644,6 +645,44 @@ public final class Currencies {
 			return incompatibleCurrencies;
 		}
 
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 20:02:16 ---------------------------------------------------
+		 */
+		/**
+		 * Gets the rate table with the given key, which is only fetched (via {@link #fetchRates(String)}) when it is not already
+		 * in memory. A table that is older than the time-to-live of the cache is still returned, while a new one is fetched in the
+		 * background. Concurrent calls for the same table share a single fetch, and when a fetch fails the last table that was
+		 * fetched successfully (which is kept on disk) is returned instead.
+		 * <p>
+		 * The cache is shared by every instance of a given class, so the key must identify everything that the result of
+		 * {@code fetchRates} depends on.
+		 *
+		 * @param key the key of the table as understood by {@code fetchRates}.
+		 * @return an unmodifiable map of the rates in the table or {@code null} if the table is neither in memory nor on disk and
+		 *         could not be fetched.
+		 * @see RateCache
+		 */
+		protected final Map<String, BigDecimal> getRates(String key) {
+			return RateCache.get(this, key);
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 20:04:31 ---------------------------------------------------
+		 */
+		/**
+		 * Fetches the rate table with the given key from this {@code Website}. This is called by {@link #getRates(String)} when
+		 * the table is not in memory or has expired, and never concurrently for the same key. The meaning of both the key and the
+		 * rates are left to the sub-class, for example the key may be a base currency and the rates the value of one unit of it
+		 * in each currency that the site supports.
+		 *
+		 * @param key the key of the table.
+		 * @return a map of the rates in the table, which is copied by the caller.
+		 * @throws IOException if the table could not be retrieved.
+		 */
+		protected abstract Map<String, BigDecimal> fetchRates(String key) throws IOException;
+
 		/*
 		 * Date: 15 Aug 2021-----------------------------------------------------------
 		 * Time created: 21:47:33--------------------------------------------
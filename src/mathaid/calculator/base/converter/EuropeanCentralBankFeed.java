@@ -59,15 +59,17 @@ final class EuropeanCentralBankFeed extends Website {
 	}
 	
 	/*
-	 * Date: 14 Apr 2022----------------------------------------------------------- 
-	 * Time created: 00:18:24--------------------------------------------
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:10:05 ---------------------------------------------------
 	 */
 	/**
-	 * Creates a set of all the currencies represented in the XML data.
+	 * Parses the XML data of the feed into a map of every currency it contains.
+	 * 
 	 * @param xml the XML in string form.
-	 * @return a set of all the currencies represented in the XML data.
+	 * @return a {@code HashMap} using the available currencies' iso code as keys
+	 * and their corresponding rate as the value. This is empty if the XML could not be parsed.
 	 */
-	private static HashSet<Currencies.MediumOfExchange> in(String xml) {
+	private static Map<String, String> parse(String xml) {
 		Map<String, String> map = new HashMap<>();
 		javax.xml.parsers.DocumentBuilderFactory builderFactory = javax.xml.parsers.DocumentBuilderFactory.newInstance();
 		try {
@@ -93,6 +95,20 @@ final class EuropeanCentralBankFeed extends Website {
 		} catch (java.io.IOException e) {
 			e.printStackTrace();
 		}
+		return map;
+	}
+	
+	/*
+	 * Date: 14 Apr 2022----------------------------------------------------------- 
+	 * Time created: 00:18:24--------------------------------------------
+	 */
+	/**
+	 * Creates a set of all the currencies represented in the XML data.
+	 * @param xml the XML in string form.
+	 * @return a set of all the currencies represented in the XML data.
+	 */
+	private static HashSet<Currencies.MediumOfExchange> in(String xml) {
+		Map<String, String> map = parse(xml);
 		HashSet<Currencies.MediumOfExchange> set = new HashSet<>();
 		for(String iso : map.keySet()) {
 			for(Currencies.MediumOfExchange currency : Currencies.CURRENCIES) {
@@ -221,46 +237,26 @@ final class EuropeanCentralBankFeed extends Website {
 	}
 	
 	/*
-	 * Date: 14 Apr 2022----------------------------------------------------------- 
-	 * Time created: 01:26:05--------------------------------------------
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 20:12:40 --------------------------------------
 	 */
 	/**
 	 * Connects the mathaid api to the given url specified by {@link #getUrl()},
-	 * which by consequence is the European central bank feed.
+	 * which by consequence is the European central bank feed, and parses every
+	 * rate in it. The feed only has euro rates, so the key is ignored.
+	 * 
+	 * @param key {@inheritDoc}
 	 * @return a {@code HashMap} using the available currencies' iso code as keys
 	 * and their corresponding rate as the value. The rate is the euro rate for
 	 * the given key.
+	 * @throws IOException {@inheritDoc}
 	 */
-	private Map<String, String> connectToFeed(){
+	@Override
+	protected Map<String, BigDecimal> fetchRates(String key) throws IOException {
 		org.jsoup.Connection connection = connectViaPostManApi(getUrl());
-		Map<String, String> map = new HashMap<>();
-		try {
-			String xml = connection.get().toString();
-			javax.xml.parsers.DocumentBuilderFactory builderFactory = javax.xml.parsers.DocumentBuilderFactory.newInstance();
-			try {
-				javax.xml.parsers.DocumentBuilder builder = builderFactory.newDocumentBuilder();
-				java.io.ByteArrayInputStream stream = new java.io.ByteArrayInputStream(xml.getBytes("UTF-8"));
-				try {
-					org.w3c.dom.Document xmlDocument = builder.parse(stream);
-					org.w3c.dom.NodeList list = xmlDocument.getElementsByTagName("Cube");
-					for(int i = 0; i < list.getLength(); i++) {
-						org.w3c.dom.Node node = list.item(i);
-						if(node instanceof org.w3c.dom.Element) {
-							org.w3c.dom.Element element = (org.w3c.dom.Element) node;
-							
-							if(element.hasAttribute("currency") && element.hasAttribute("rate"))
-								map.put(element.getAttribute("currency"), element.getAttribute("rate"));
-						}
-					}
-				} catch (org.xml.sax.SAXException e) {
-					e.printStackTrace();
-				}
-			} catch (javax.xml.parsers.ParserConfigurationException e) {
-				e.printStackTrace();
-			}
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		Map<String, BigDecimal> map = new HashMap<>();
+		for(Map.Entry<String, String> e : parse(connection.get().toString()).entrySet())
+			map.put(e.getKey(), new BigDecimal(e.getValue()));
 		return map;
 	}
 
@@ -290,18 +286,18 @@ final class EuropeanCentralBankFeed extends Website {
 	 * Time created: 02:22:58--------------------------------------------
 	 */
 	/**
-	 * Converts the given a single unit of Euro to {@code MediumOfExchange}
+	 * Converts the given a single unit of Euro to {@code MediumOfExchange}. The
+	 * feed is only fetched when the cached rates have not been fetched or have expired.
 	 * @param currency the currency to which the euro is to be converted to
-	 * @return the argument converted from euro
-	 * @throws NumberFormatException if the specified currency is not
-	 * available
+	 * @return the argument converted from euro or {@code null} if the feed
+	 * is not available or does not have the specified currency
 	 */
-	private BigDecimal getEuroUnitFor(MediumOfExchange currency) throws NumberFormatException {
+	private BigDecimal getEuroUnitFor(MediumOfExchange currency) {
 		if(currency.compareTo(EURO) == 0) return BigDecimal.ONE;
-		Map<String, String> feed = connectToFeed();
-		if(feed.isEmpty())
+		Map<String, BigDecimal> feed = getRates(EURO.getIsoCode());
+		if(feed == null)
 			return null;
-		return new BigDecimal(feed.get(currency.getIsoCode()));
+		return feed.get(currency.getIsoCode());
 	}
 	
 	/*
@@ -313,12 +309,13 @@ final class EuropeanCentralBankFeed extends Website {
 	 * 
 	 * @param units the num of units of currency by which the conversion is scaled.
 	 * @param to the currency to which the euro is to be converted to
-	 * @return the argument converted from euros scaled by the given units
-	 * @throws NumberFormatException if the specified currency is not
-	 * available for this conversion
+	 * @return the argument converted from euros scaled by the given units or
+	 * {@code null} if the specified currency is not available for this conversion
 	 */
 	private BigDecimal eur2another(BigDecimal units, MediumOfExchange to) {
 		BigDecimal n = getEuroUnitFor(to);
+		if(n == null)
+			return null;
 		n = units.multiply(n, DEF);
 		
 		BigDecimal n2 = n.setScale(to.getFractionalDigits(), DEF.getRoundingMode());
@@ -337,13 +334,14 @@ final class EuropeanCentralBankFeed extends Website {
 	 * @param units the num of unit(s) by which the conversion is scaled
 	 * @param to the currency to which the first argument is to be converted to
 	 * @return the a {@code BigDecimal} converted from the first argument to the third argument using the given units as a scale
-	 * @throws NumberFormatException if either the first or third argument is not
-	 * available for this conversion
+	 * or {@code null} if either the first or third argument is not available for this conversion
 	 */
 	private BigDecimal another2another(MediumOfExchange from, BigDecimal units, MediumOfExchange to) {
-		BigDecimal n = BigDecimal.ONE.divide(getEuroUnitFor(from), DEF);
-		BigDecimal n1 = BigDecimal.ONE.divide(getEuroUnitFor(to), DEF);
-		n = n.divide(n1, DEF);
+		BigDecimal f = getEuroUnitFor(from);
+		BigDecimal t = getEuroUnitFor(to);
+		if(f == null || t == null)
+			return null;
+		BigDecimal n = t.divide(f, DEF);
 		n = units.multiply(n, DEF);
 
 		BigDecimal n2 = n.setScale(to.getFractionalDigits(), DEF.getRoundingMode());
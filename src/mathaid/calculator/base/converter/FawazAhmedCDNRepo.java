@@ -283,25 +283,6 @@ final class FawazAhmedCDNRepo extends Website {
 	 */
 	private static final String ALL_AVAILABLE_CURRENCIES = "currencies";
 	
-	/*
-	 * Date: 13 Apr 2022----------------------------------------------------------- 
-	 * Time created: 20:34:41---------------------------------------------------  
-	 * Package: mathaid.calculator.base.converter------------------------------------------------ 
-	 * Project: LatestProject------------------------------------------------ 
-	 * File: FawazAhmedCDNRepo.java------------------------------------------------------ 
-	 * Class name: ResponseObject------------------------------------------------ 
-	 */
-	/**
-	 * A helper class that maps onto the response json within {@link FawazAhmedCDNRepo#convert(MediumOfExchange, BigDecimal, MediumOfExchange)}.
-	 * @author Oruovo Anthony Etineakpopha
-	 * @email tonyoruovo@gmail.com
-	 */
-	private static class ResponseObject {
-//		Calendar date;
-		MediumOfExchange currency;
-		BigDecimal value;
-	}
-
 	/*
 	 * Date: 13 Apr 2022----------------------------------------------------------- 
 	 * Time created: 00:18:48--------------------------------------------------- 
@@ -381,56 +362,70 @@ final class FawazAhmedCDNRepo extends Website {
 			src = "BTC";
 		if(dst.compareTo("XBT") == 0)
 			dst = "BTC";
-		String url = getUrl()
-				.replace("{apiVersion}", apiVersion)
-				.replace("{date}", date == null ? MOST_RECENT : String.format("%1$tY-%1$tm-%1$td", date))
-				.replace("{endpoint}", ALL_AVAILABLE_CURRENCIES + "/" + src.toLowerCase() + "/" + dst.toLowerCase());
-		Connection connection = connectViaPostManApi(url);
-		String json = null;
-		Map<String, String> dict = null;
+		Map<String, BigDecimal> dict = getRates(apiVersion + "/"
+				+ (date == null ? MOST_RECENT : String.format("%1$tY-%1$tm-%1$td", date))
+				+ "/" + src.toLowerCase() + "/" + dst.toLowerCase());
+		if(dict == null || !dict.containsKey(dst))
+			return null;
+
+		BigDecimal bd = x.multiply(dict.get(dst), DEF);
+		BigDecimal bd2 = bd.setScale(to.getFractionalDigits(),DEF.getRoundingMode());
+		if(bd2.compareTo(BigDecimal.ZERO) == 0)
+			return bd;
+		return bd2;
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 20:21:07 --------------------------------------
+	 */
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The key has the form {@code apiVersion/date/src/dst} and the table fetched holds the rate of
+	 * the destination currency (under it's upper case code) in units of the source currency. The
+	 * {@link #FALLBACK_URL fallback url} is requested if the basic url fails.
+	 * </p>
+	 * 
+	 * @param key {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, BigDecimal> fetchRates(String key) throws IOException {
+		String[] parts = key.split("/");
+		Map<String, String> dict;
 		try {
-			Document response = connection.get();
-			json = getBodyContent(response);
-			dict = parseJsonString(json);
+			dict = request(getUrl(), parts);
 		}catch(IOException ioe) {
 			ioe.printStackTrace();
-			url = FALLBACK_URL
-				.replace("{apiVersion}", apiVersion)
-				.replace("{date}", date == null ? MOST_RECENT : String.format("%1$tY-%1$tm-%1$td", date))
-				.replace("{endpoint}", ALL_AVAILABLE_CURRENCIES + "/" + src.toLowerCase() + "/" + dst.toLowerCase());
-			connection = connectViaPostManApi(url);
-			json = null;
-			try {
-				Document response = connection.get();
-				json = getBodyContent(response);
-				dict = parseJsonString(json);
-			}catch(IOException ex) {
-				ex.printStackTrace();
-				try {
-					new BaseException(ExceptionMessage.EMPTY, ex);
-				} catch (Exception e) {
-					return null;
-				}
-			}
+			dict = request(FALLBACK_URL, parts);
 		}
-		
-		if(dict != null) {
-			ResponseObject ro = new ResponseObject();
-//			List<Integer> date = Arrays.stream(dict.get("date").split("-"))
-//					.map(a -> Integer.parseInt(a)).collect(Collectors.toList());
-//			ro.date = new GregorianCalendar(date.get(0), date.get(1), date.get(2));
-			for(MediumOfExchange c : Currencies.CURRENCIES)
-				if(dict.containsKey(c.getIsoCode()))
-					ro.currency = c;
-			ro.value = new BigDecimal(dict.get(ro.currency.getIsoCode()));
+		Map<String, BigDecimal> rates = new HashMap<>();
+		if(dict != null && dict.containsKey(parts[3].toUpperCase()))
+			rates.put(parts[3].toUpperCase(), new BigDecimal(dict.get(parts[3].toUpperCase())));
+		return rates;
+	}
 
-			BigDecimal bd = x.multiply(ro.value, DEF);
-			BigDecimal bd2 = bd.setScale(ro.currency.getFractionalDigits(),DEF.getRoundingMode());
-			if(bd2.compareTo(BigDecimal.ZERO) == 0)
-				return bd;
-			return bd2;
-		}
-		return null;
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:23:40 ---------------------------------------------------
+	 */
+	/**
+	 * Requests the json of a single conversion pair from the given url template.
+	 * 
+	 * @param template either the {@linkplain #getUrl() url} of this site or {@link #FALLBACK_URL}.
+	 * @param parts the api version, date, source and destination in that order.
+	 * @return the response parsed by {@link #parseJsonString(String)}.
+	 * @throws IOException if the request failed.
+	 */
+	private static Map<String, String> request(String template, String[] parts) throws IOException {
+		String url = template
+				.replace("{apiVersion}", parts[0])
+				.replace("{date}", parts[1])
+				.replace("{endpoint}", ALL_AVAILABLE_CURRENCIES + "/" + parts[2] + "/" + parts[3]);
+		Document response = connectViaPostManApi(url).get();
+		return parseJsonString(getBodyContent(response));
 	}
 	
 	/**
@@ -8,7 +8,9 @@ import java.math.BigDecimal;
 import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import mathaid.BaseException;
@@ -211,6 +213,36 @@ final class FxtopDotCom extends Website {
 	 */
 	@Override
 	public BigDecimal convert(MediumOfExchange from, BigDecimal x, MediumOfExchange to) {
+		Map<String, BigDecimal> rates = getRates(from.getIsoCode() + "/" + to.getIsoCode());
+		if (rates == null)
+			return null;
+		BigDecimal n = x.multiply(rates.get(to.getIsoCode()), DEF);
+
+		BigDecimal n2 = n.setScale(to.getFractionalDigits(), DEF.getRoundingMode());
+		if(n2.compareTo(BigDecimal.ZERO) == 0)
+			return n;
+		return n2;
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 20:26:05 --------------------------------------
+	 */
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The key has the form {@code src/dst} where both are upper case codes, and the table fetched
+	 * holds the rate of the destination currency in units of the source currency.
+	 * </p>
+	 * 
+	 * @param key {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, BigDecimal> fetchRates(String key) throws IOException {
+		MediumOfExchange from = valueOf(key.charAt(0), key.charAt(1), key.charAt(2));
+		MediumOfExchange to = valueOf(key.charAt(4), key.charAt(5), key.charAt(6));
 		// Examples:
 //		"1 NGN-Nigeria [Nigerian naira]=0.04 USD-United States [US dollar / $]"
 //		"1 JPY-Japan [Japanese yen / ¥]=0.0079 USD-United States [US dollar / $]";
@@ -250,26 +282,20 @@ final class FxtopDotCom extends Website {
 		sb.append("([A-Za-z]+\\s+)*");//followed by one or more text describing the country of origin
 		java.util.regex.Pattern regex =  java.util.regex.Pattern.compile(sb.toString());
 		List<String> out = new java.util.ArrayList<>();
-		navigateResource(updateResource(getUrl(), from.getIsoCode(), to.getIsoCode()).select(
+		org.jsoup.nodes.Document resource = updateResource(getUrl(), from.getIsoCode(), to.getIsoCode());
+		if (resource == null)
+			throw new IOException(getUrl());
+		navigateResource(resource.select(
 				"body>table>tbody>tr>td>table>tbody>tr>td>table>tbody>tr>td[align=left] a[name=result]+table>tbody"),
 				"td", "align", "center", regex, out);
-		if(out.isEmpty())
-			return null;
 		for(String text : out) {
 			if(text.contains("=")) {
 				String ans = text.substring(text.indexOf('=') + 1);
 				ans = ans.substring(0, ans.indexOf(to.getIsoCode()));
-				BigDecimal n = sanitize(ans.replaceAll("\\s|-|,|", ""));
-				n = x.multiply(n, DEF);
-				
-				BigDecimal n2 = n.setScale(to.getFractionalDigits(), DEF.getRoundingMode());
-				if(n2.compareTo(BigDecimal.ZERO) == 0)
-					return n;
-				return n2;
+				return Collections.singletonMap(to.getIsoCode(), sanitize(ans.replaceAll("\\s|-|,|", "")));
 			}
 		}
-		
-		return null;
+		throw new IOException("no rate for " + key);
 	}
 
 	
@@ -0,0 +1,417 @@
+/**
+ *
+ */
+package mathaid.calculator.base.converter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mathaid.calculator.base.converter.Currencies.Website;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 19:40:12 ---------------------------------------------------
+ * Package: mathaid.calculator.base.converter ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: RateCache.java ------------------------------------------------------
+ * Class name: RateCache ------------------------------------------------
+ */
+/**
+ * The in-memory store of the rate tables fetched by every {@link Website}.
+ * <p>
+ * A rate table is identified by the class of the {@code Website} that fetched it and a key chosen by that class (such as the
+ * base currency of the table). A table is fetched once and then read from memory until it is older than {@link #TTL}, after
+ * which the stale table is still returned while a newer one is fetched in the background. A daemon thread also refreshes
+ * every expired table that has been read since it was last fetched, so that tables in use rarely expire at all.
+ * <p>
+ * At most one fetch of a given table runs at any time; every caller that needs the table while it is being fetched waits for
+ * that fetch rather than starting another. Each table that is fetched successfully is also written to the directory named by
+ * {@link #DIRECTORY_PROPERTY}, and that copy is returned when a table is not in memory and can not be fetched (for example when
+ * there is no internet connection).
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class RateCache {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:42:30 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.converter ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: RateCache.java ------------------------------------------------------
+	 * Class name: Table ------------------------------------------------
+	 */
+	/**
+	 * An immutable snapshot of a rate table and the time at which it was fetched.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static final class Table {
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 19:43:02 ---------------------------------------------------
+		 */
+		/**
+		 * Constructs a {@code Table} from the given rates.
+		 *
+		 * @param rates   the rates, which are copied.
+		 * @param fetched the time at which the rates were fetched in milliseconds since the epoch.
+		 */
+		Table(Map<String, BigDecimal> rates, long fetched) {
+			this.rates = Collections.unmodifiableMap(new HashMap<>(rates));
+			this.fetched = fetched;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 19:43:40 ---------------------------------------------------
+		 */
+		/**
+		 * Checks whether this table is older than {@link RateCache#TTL}.
+		 *
+		 * @param now the current time in milliseconds since the epoch.
+		 * @return {@code true} if this table should be fetched again.
+		 */
+		boolean isExpired(long now) {
+			return now - fetched >= TTL;
+		}
+
+		/**
+		 * The rates of this table.
+		 */
+		final Map<String, BigDecimal> rates;
+		/**
+		 * The time at which this table was fetched.
+		 */
+		final long fetched;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:44:15 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.converter ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: RateCache.java ------------------------------------------------------
+	 * Class name: Entry ------------------------------------------------
+	 */
+	/**
+	 * The state of a single rate table: the last snapshot, the fetch in progress (if any) and the last time it was read.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static final class Entry {
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 19:45:00 ---------------------------------------------------
+		 */
+		/**
+		 * Constructs an {@code Entry} whose table is fetched by the given {@code Website}.
+		 *
+		 * @param site the {@code Website} that fetches the table.
+		 * @param key  the key of the table within {@code site}.
+		 * @param name the name of the table within this cache.
+		 */
+		Entry(Website site, String key, String name) {
+			this.site = site;
+			this.key = key;
+			this.name = name;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 19:45:48 ---------------------------------------------------
+		 */
+		/**
+		 * Fetches the table unless a fetch is already in progress, in which case the future of that fetch is returned.
+		 *
+		 * @param async {@code true} if the fetch should run on the refresh thread rather than the calling thread.
+		 * @return a future completed with the new table or exceptionally if the fetch failed.
+		 */
+		CompletableFuture<Table> refresh(boolean async) {
+			CompletableFuture<Table> mine = new CompletableFuture<>();
+			while (!inFlight.compareAndSet(null, mine)) {
+				CompletableFuture<Table> f = inFlight.get();
+				if (f != null)
+					return f;
+			}
+			attempted = System.currentTimeMillis();
+			Runnable fetch = () -> {
+				try {
+					Map<String, BigDecimal> rates = site.fetchRates(key);
+					if (rates == null || rates.isEmpty())
+						throw new IOException("no rates were fetched for " + name);
+					Table t = new Table(rates, System.currentTimeMillis());
+					table = t;
+					mine.complete(t);
+					store(name, t);
+				} catch (Throwable e) {
+					mine.completeExceptionally(e);
+				} finally {
+					inFlight.set(null);
+				}
+			};
+			if (async)
+				EXECUTOR.execute(fetch);
+			else
+				fetch.run();
+			return mine;
+		}
+
+		/**
+		 * The {@code Website} that fetches this table.
+		 */
+		final Website site;
+		/**
+		 * The key of this table within {@link #site}.
+		 */
+		final String key;
+		/**
+		 * The name of this table within the cache and on disk.
+		 */
+		final String name;
+		/**
+		 * The fetch in progress or {@code null}.
+		 */
+		final AtomicReference<CompletableFuture<Table>> inFlight = new AtomicReference<>();
+		/**
+		 * The last snapshot or {@code null} if none has been fetched or loaded.
+		 */
+		volatile Table table;
+		/**
+		 * The last time {@link RateCache#get(Website, String)} was called for this table.
+		 */
+		volatile long lastRead;
+		/**
+		 * The last time a fetch of this table was started.
+		 */
+		volatile long attempted;
+	}
+
+	/**
+	 * The system property holding the number of milliseconds for which a fetched table is used before it is fetched again.
+	 */
+	public static final String TTL_PROPERTY = "mathaid.currency.ttl";
+	/**
+	 * The system property naming the directory in which the last table fetched by each {@code Website} is kept. When absent, a
+	 * directory named {@code .mathaid/rates} in the user's home directory is used.
+	 */
+	public static final String DIRECTORY_PROPERTY = "mathaid.currency.dir";
+	/**
+	 * The number of milliseconds for which a fetched table is used before it is fetched again. This is one hour unless
+	 * {@link #TTL_PROPERTY} is set.
+	 */
+	static final long TTL = Long.getLong(TTL_PROPERTY, TimeUnit.HOURS.toMillis(1));
+	/**
+	 * The least number of milliseconds between two attempts to fetch an expired table, so that a site which is down is not
+	 * requested on every conversion.
+	 */
+	private static final long RETRY = Math.min(TTL, TimeUnit.MINUTES.toMillis(1));
+	/**
+	 * The key under which the fetch time of a table is written to disk. It can not clash with a currency code.
+	 */
+	private static final String FETCHED = "@fetched";
+	/**
+	 * Every table that has been requested, by name.
+	 */
+	private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+	/**
+	 * The single daemon thread on which background fetches and the periodic sweep run. The thread is only started once a table
+	 * has been requested.
+	 */
+	private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "rate-cache-refresh");
+		t.setDaemon(true);
+		return t;
+	});
+	/**
+	 * Set once the periodic sweep has been scheduled.
+	 */
+	private static final AtomicBoolean sweeping = new AtomicBoolean();
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:49:20 ---------------------------------------------------
+	 */
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private RateCache() {
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:49:52 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the rate table with the given key fetched by the given {@code Website}.
+	 * <p>
+	 * The table in memory is returned if there is one, and if it has expired a new one is fetched in the background. Otherwise
+	 * the table is fetched on the calling thread (or the fetch already in progress is awaited), and if that fails, the last
+	 * table written to disk is returned instead.
+	 *
+	 * @param site the {@code Website} that fetches the table.
+	 * @param key  the key of the table within {@code site}.
+	 * @return an unmodifiable map of the rates or {@code null} if the table could neither be fetched nor loaded from disk.
+	 */
+	static Map<String, BigDecimal> get(Website site, String key) {
+		if (!sweeping.get() && sweeping.compareAndSet(false, true)) {
+			long period = Math.max(1_000L, Math.min(TTL / 4, 60_000L));
+			EXECUTOR.scheduleWithFixedDelay(RateCache::sweep, period, period, TimeUnit.MILLISECONDS);
+		}
+		String name = site.getClass().getSimpleName() + "/" + key;
+		Entry e = ENTRIES.computeIfAbsent(name, n -> new Entry(site, key, n));
+		long now = System.currentTimeMillis();
+		e.lastRead = now;
+		Table t = e.table;
+		if (t != null) {
+			if (t.isExpired(now) && now - e.attempted >= RETRY)
+				e.refresh(true);
+			return t.rates;
+		}
+		try {
+			t = e.refresh(false).join();
+		} catch (CompletionException | CancellationException ex) {
+			t = load(name);
+			if (t == null)
+				return null;
+			synchronized (e) {
+				if (e.table == null)
+					e.table = t;
+			}
+		}
+		return t.rates;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:52:04 ---------------------------------------------------
+	 */
+	/**
+	 * Discards every table held in memory. The tables on disk are kept, so they are still used when a fetch fails.
+	 */
+	static void clear() {
+		ENTRIES.clear();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:52:40 ---------------------------------------------------
+	 */
+	/**
+	 * Refreshes every expired table that has been read since it was fetched. Tables that are no longer read are left to
+	 * expire, and are only fetched again when they are next requested.
+	 * <p>
+	 * This runs on the refresh thread, so a table is fetched on it directly and a fetch already in progress is not awaited:
+	 * that fetch may be queued behind this sweep on the same thread. A failed fetch keeps the stale table until a later sweep
+	 * succeeds.
+	 */
+	private static void sweep() {
+		long now = System.currentTimeMillis();
+		for (Entry e : ENTRIES.values()) {
+			Table t = e.table;
+			if (t != null && t.isExpired(now) && e.lastRead > t.fetched && now - e.attempted >= RETRY)
+				e.refresh(false);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:53:35 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the file in which the table with the given name is kept.
+	 *
+	 * @param name the name of the table.
+	 * @return the path of the file.
+	 */
+	private static Path file(String name) {
+		String dir = System.getProperty(DIRECTORY_PROPERTY);
+		Path p = dir != null ? Paths.get(dir) : Paths.get(System.getProperty("user.home"), ".mathaid", "rates");
+		return p.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".properties");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:54:18 ---------------------------------------------------
+	 */
+	/**
+	 * Writes the given table to disk, replacing the previous one. The table is written to a temporary file which is then moved
+	 * in place, so a reader never sees a partially written table. A failure is printed but not thrown, since the table is still
+	 * in memory.
+	 *
+	 * @param name  the name of the table.
+	 * @param table the table to be written.
+	 */
+	private static void store(String name, Table table) {
+		Path f = file(name);
+		Properties p = new Properties();
+		for (Map.Entry<String, BigDecimal> e : table.rates.entrySet())
+			p.setProperty(e.getKey(), e.getValue().toString());
+		p.setProperty(FETCHED, Long.toString(table.fetched));
+		try {
+			Files.createDirectories(f.getParent());
+			Path tmp = Files.createTempFile(f.getParent(), f.getFileName().toString(), ".tmp");
+			try (OutputStream out = Files.newOutputStream(tmp)) {
+				p.store(out, name);
+			}
+			try {
+				Files.move(tmp, f, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				Files.move(tmp, f, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException | SecurityException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:55:30 ---------------------------------------------------
+	 */
+	/**
+	 * Reads the table with the given name from disk.
+	 *
+	 * @param name the name of the table.
+	 * @return the table as it was when it was written or {@code null} if there is no such table or it could not be read.
+	 */
+	private static Table load(String name) {
+		Path f = file(name);
+		if (!Files.isRegularFile(f))
+			return null;
+		Properties p = new Properties();
+		try (InputStream in = Files.newInputStream(f)) {
+			p.load(in);
+			Map<String, BigDecimal> rates = new HashMap<>();
+			for (String k : p.stringPropertyNames())
+				if (!k.equals(FETCHED))
+					rates.put(k, new BigDecimal(p.getProperty(k)));
+			return rates.isEmpty() ? null : new Table(rates, Long.parseLong(p.getProperty(FETCHED, "0")));
+		} catch (IOException | NumberFormatException | SecurityException e) {
+			return null;
+		}
+	}
+}
@@ -1,9 +1,12 @@
 package mathaid.calculator.base.converter;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import mathaid.calculator.base.converter.Currencies.MediumOfExchange;
 import mathaid.calculator.base.converter.Currencies.Website;
@@ -106,16 +109,10 @@ final class WiseDotCom extends Website {
 	public BigDecimal convert(MediumOfExchange from, BigDecimal x, MediumOfExchange to) {
 		if (from.compareTo(to) == 0)
 			return x;
-		BigDecimal n;
-		String url = getUrl() + from.getIsoCode().toLowerCase() + MID + to.getIsoCode().toLowerCase() + END;
-		List<String> l = new ArrayList<>();
-		try {			
-			search(url, RESIDENT_CLASS_NAME, l);
-		}catch(Throwable t) {
-			throw t;
-		}
-		n = sanitize(l.get(0));
-		n = x.multiply(n, DEF);
+		Map<String, BigDecimal> rates = getRates(from.getIsoCode().toLowerCase() + MID + to.getIsoCode().toLowerCase());
+		if (rates == null)
+			return null;
+		BigDecimal n = x.multiply(rates.get(to.getIsoCode()), DEF);
 		
 		BigDecimal n2 = n.setScale(to.getFractionalDigits(), DEF.getRoundingMode());
 		if(n2.compareTo(BigDecimal.ZERO) == 0)
@@ -130,4 +127,29 @@ final class WiseDotCom extends Website {
 //		return n.round(new MathContext(numOfIntegerDigits + to.getFractionalDigits(), RoundingMode.HALF_EVEN));
 	}
 
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 20:18:44 --------------------------------------
+	 */
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The key is the lower case source code, {@link #MID} and the lower case destination code of
+	 * a single conversion pair, and the table fetched holds the rate of the destination currency
+	 * (under it's upper case code) in units of the source currency.
+	 * </p>
+	 * 
+	 * @param key {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, BigDecimal> fetchRates(String key) throws IOException {
+		List<String> l = new ArrayList<>();
+		search(getUrl() + key + END, RESIDENT_CLASS_NAME, l);
+		if (l.isEmpty())
+			throw new IOException(getUrl() + key + END);
+		return Collections.singletonMap(key.substring(key.indexOf(MID) + MID.length()).toUpperCase(), sanitize(l.get(0)));
+	}
+
 }
\ No newline at end of file
@@ -3,9 +3,12 @@
  */
 package mathaid.calculator.base.converter;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import mathaid.calculator.base.converter.Currencies.MediumOfExchange;
 import mathaid.calculator.base.converter.Currencies.Website;
@@ -83,12 +86,10 @@ final class XeDotCom extends Website {
 	public BigDecimal convert(MediumOfExchange from, BigDecimal x, MediumOfExchange to) {
 		if (from.compareTo(to) == 0)
 			return x;
-		BigDecimal n;
-		String url = getUrl() + from.getIsoCode() + MID + to.getIsoCode();
-		List<String> l = new ArrayList<>();
-		search(url, RESIDENT_CLASS_NAME, l);
-		n = sanitize(l.get(0));
-		n = x.multiply(n, DEF);
+		Map<String, BigDecimal> rates = getRates(from.getIsoCode() + MID + to.getIsoCode());
+		if (rates == null)
+			return null;
+		BigDecimal n = x.multiply(rates.get(to.getIsoCode()), DEF);
 		
 		BigDecimal n2 = n.setScale(to.getFractionalDigits(), DEF.getRoundingMode());
 		if(n2.compareTo(BigDecimal.ZERO) == 0)
@@ -103,4 +104,29 @@ final class XeDotCom extends Website {
 //		return n.round(new MathContext(numOfIntegerDigits + to.getFractionalDigits(), RoundingMode.HALF_EVEN));
 	}
 
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 20:30:12 --------------------------------------
+	 */
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The key is the url parameters of a single conversion pair (the source code, {@link #MID} and
+	 * the destination code) and the table fetched holds the rate of the destination currency in
+	 * units of the source currency.
+	 * </p>
+	 * 
+	 * @param key {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	protected Map<String, BigDecimal> fetchRates(String key) throws IOException {
+		List<String> l = new ArrayList<>();
+		search(getUrl() + key, RESIDENT_CLASS_NAME, l);
+		if (l.isEmpty())
+			throw new IOException(getUrl() + key);
+		return Collections.singletonMap(key.substring(key.indexOf(MID) + MID.length()), sanitize(l.get(0)));
+	}
+
 }
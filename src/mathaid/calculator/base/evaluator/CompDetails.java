@@ -9,7 +9,6 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 
-import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
 import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
 import mathaid.calculator.base.typeset.Digits;
 import mathaid.calculator.base.typeset.LinkedSegment;
@@ -74,52 +73,59 @@ class CompDetails {
 		}
 	}
 
-	public static LinkedSegment getReal(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
-		return Digits.toSegment(z.real().round(new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), getExp(p),
-				EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment getReal(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
+		return Digits.toSegment(z.real().round(c.getMathContext()), getExp(p),
+				c.getDigitPunc());
 	}
 
-	public static LinkedSegment getImaginary(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
-		return Digits.toSegment(z.imaginary().round(new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), getExp(p),
-				EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment getImaginary(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
+		return Digits.toSegment(z.imaginary().round(c.getMathContext()), getExp(p),
+				c.getDigitPunc());
 	}
 
-	public static LinkedSegment getMagnitude(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
-		return Digits.toSegment(z.magnitude().round(new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), getExp(p),
-				EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment getMagnitude(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
+		return Digits.toSegment(z.magnitude().round(c.getMathContext()), getExp(p),
+				c.getDigitPunc());
 	}
 
-	public static LinkedSegment getXCoordinate(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
-		return Digits.toSegment(z.toRectangularCoordinates()[0].round(new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), getExp(p),
-				EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment getXCoordinate(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
+		return Digits.toSegment(z.toRectangularCoordinates()[0].round(c.getMathContext()), getExp(p),
+				c.getDigitPunc());
 	}
 
-	public static LinkedSegment getYCoordinate(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
-		return Digits.toSegment(z.toRectangularCoordinates()[1].round(new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), getExp(p),
-				EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment getYCoordinate(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
+		return Digits.toSegment(z.toRectangularCoordinates()[1].round(c.getMathContext()), getExp(p),
+				c.getDigitPunc());
 	}
 
-	public static LinkedSegment getArg(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
-		return Digits.toSegment(z.argument().round(new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), getExp(p),
-				EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment getArg(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
+		return Digits.toSegment(z.argument().round(c.getMathContext()), getExp(p),
+				c.getDigitPunc());
 	}
 
-	public static LinkedSegment getExpression(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
+	public static LinkedSegment getExpression(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
 
 		SegmentBuilder s = new SegmentBuilder();
 		if (z.real().signum() != 0)
-			s.append(Digits.toSegment(z.real().round(new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), getExp(p),
-					EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(z.real().round(c.getMathContext()), getExp(p),
+					c.getDigitPunc()));
 		if (z.imaginary().abs().compareTo(BigDecimal.ONE) != 0)
-			s.append(Digits.toSegment(z.imaginary().round(new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), getExp(p),
-					EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(z.imaginary().round(c.getMathContext()), getExp(p),
+					c.getDigitPunc()));
 		else if (z.imaginary().signum() < 0) {
 			s.append(Segments.operator(" -", " -"));//.operator("-", "-", Segment.MINUS_OPERATOR_SEGMENT));
 			s.append(Digits.i());//Segments.constant("I", "i"));
@@ -129,20 +135,21 @@ class CompDetails {
 		return s.toSegment();
 	}
 
-	public static LinkedSegment inFixed(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
+	public static LinkedSegment inFixed(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
 		SegmentBuilder s = new SegmentBuilder();
 		if (z.real().signum() != 0) {
-			BigFraction rf = new BigFraction(z.real(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.real(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
 			String ss = fixedPoint(rf.getDecimalExpansion(p.getScale()), rf.signum(), p.getScale());
-			s.append(Digits.toSegment(new BigDecimal(ss), 0, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(new BigDecimal(ss), 0, c.getDigitPunc()));
 		}
 		if (z.imaginary().abs().compareTo(BigDecimal.ONE) != 0) {
-			BigFraction rf = new BigFraction(z.imaginary(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.imaginary(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
 			String ss = fixedPoint(rf.getDecimalExpansion(p.getScale()), rf.signum(), p.getScale());
-			s.append(Digits.toSegment(new BigDecimal(ss), 0, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(new BigDecimal(ss), 0, c.getDigitPunc()));
 
 		} else if (z.imaginary().signum() < 0) {
 			s.append(Segments.operator(" -", " -"));
@@ -153,26 +160,27 @@ class CompDetails {
 		return s.toSegment();
 	}
 
-	public static LinkedSegment inEngineering(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
+	public static LinkedSegment inEngineering(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
 		SegmentBuilder s = new SegmentBuilder();
 		if (z.real().signum() != 0) {
-			BigFraction rf = new BigFraction(z.real(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.real(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
 			String ss = Digits.toSegmentString(rf, 3);
 			int scale = Digits.scale(ss);
 			if (scale <= p.getScale())
 				ss = Digits.truncateToScale(ss, p.getScale());
-			s.append(Digits.toSegment(Digits.fromSegmentString(ss), false, p.getRecurringType(), EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(Digits.fromSegmentString(ss), false, p.getRecurringType(), c.getDigitPunc()));
 		}
 		if (z.imaginary().abs().compareTo(BigDecimal.ONE) != 0) {
-			BigFraction rf = new BigFraction(z.imaginary(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.imaginary(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
 			String ss = Digits.toSegmentString(rf, 3);
 			int scale = Digits.scale(ss);
 			if (scale <= p.getScale())
 				ss = Digits.truncateToScale(ss, p.getScale());
-			s.append(Digits.toSegment(Digits.fromSegmentString(ss), false, p.getRecurringType(), EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(Digits.fromSegmentString(ss), false, p.getRecurringType(), c.getDigitPunc()));
 
 		} else if (z.imaginary().signum() < 0) {
 			s.append(Segments.operator(" -", " -"));
@@ -183,18 +191,18 @@ class CompDetails {
 		return s.toSegment();
 	}
 
-	public static LinkedSegment inCommonFraction(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
+	public static LinkedSegment inCommonFraction(DetailsContext c) {
+		Complex z = c.getComplex();
 		SegmentBuilder s = new SegmentBuilder();
 		if (z.real().signum() != 0) {
-			BigFraction rf = new BigFraction(z.real(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.real(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
-			s.append(Digits.toSegment(rf, false, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(rf, false, c.getDigitPunc()));
 		}
 		if (z.imaginary().abs().compareTo(BigDecimal.ONE) != 0) {
-			BigFraction rf = new BigFraction(z.imaginary(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.imaginary(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
-			s.append(Digits.toSegment(rf, false, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(rf, false, c.getDigitPunc()));
 
 		} else if (z.imaginary().signum() < 0) {
 			s.append(Segments.operator(" -", " -"));
@@ -205,26 +213,27 @@ class CompDetails {
 		return s.toSegment();
 	}
 
-	public static LinkedSegment inScientific(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
+	public static LinkedSegment inScientific(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
 		SegmentBuilder s = new SegmentBuilder();
 		if (z.real().signum() != 0) {
-			BigFraction rf = new BigFraction(z.real(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.real(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
 			String ss = Digits.toSegmentString(rf, 1);
 			int scale = Digits.scale(ss);
 			if (scale <= p.getScale())
 				ss = Digits.truncateToScale(ss, p.getScale());
-			s.append(Digits.toSegment(Digits.fromSegmentString(ss), p.getRecurringType(), 1, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(Digits.fromSegmentString(ss), p.getRecurringType(), 1, c.getDigitPunc()));
 		}
 		if (z.imaginary().abs().compareTo(BigDecimal.ONE) > 0) {
-			BigFraction rf = new BigFraction(z.imaginary(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.imaginary(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
 			String ss = Digits.toSegmentString(rf, 1);
 			int scale = Digits.scale(ss);
 			if (scale <= p.getScale())
 				ss = Digits.truncateToScale(ss, p.getScale());
-			s.append(Digits.toSegment(Digits.fromSegmentString(ss), p.getRecurringType(), 1, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(Digits.fromSegmentString(ss), p.getRecurringType(), 1, c.getDigitPunc()));
 
 		} else if (z.imaginary().signum() < 0) {
 			s.append(Segments.operator(" -", " -"));
@@ -234,13 +243,14 @@ class CompDetails {
 		return s.toSegment();
 	}
 
-	public static LinkedSegment inEngineeringSuffix(String str, Params p) {
-		Complex z = fromString(str, p.getScale());
+	public static LinkedSegment inEngineeringSuffix(DetailsContext c) {
+		Params p = c.getParams();
+		Complex z = c.getComplex();
 		SegmentBuilder s = new SegmentBuilder();
 		if (z.real().signum() != 0) {
-			BigFraction rf = new BigFraction(z.real(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.real(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
-			s.append(Digits.toSegment(rf, true, p.getRecurringType(), EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(rf, true, p.getRecurringType(), c.getDigitPunc()));
 //			String ss = Digits.toSegmentString(rf, 3);
 //			SegmentBuilder sb;
 
@@ -273,9 +283,9 @@ class CompDetails {
 //			s.append(sb);
 		}
 		if (z.imaginary().abs().compareTo(BigDecimal.ONE) != 0) {
-			BigFraction rf = new BigFraction(z.imaginary(), new MathContext(p.getScale(), RoundingMode.HALF_EVEN), null,
+			BigFraction rf = new BigFraction(z.imaginary(), c.getMathContext(), null,
 					new BigDecimal("1E-10"));
-			s.append(Digits.toSegment(rf, true, p.getRecurringType(), EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			s.append(Digits.toSegment(rf, true, p.getRecurringType(), c.getDigitPunc()));
 //			String ss = Digits.toSegmentString(rf, 3);
 //			SegmentBuilder sb;
 
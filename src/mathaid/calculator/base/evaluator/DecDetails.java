@@ -4,11 +4,7 @@
 package mathaid.calculator.base.evaluator;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
-import java.math.RoundingMode;
 
-import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
-import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
 import mathaid.calculator.base.typeset.Digits;
 import mathaid.calculator.base.typeset.LinkedSegment;
 import mathaid.calculator.base.util.Utility;
@@ -27,22 +23,19 @@ import mathaid.calculator.base.util.Utility;
  */
 class DecDetails {
 
-	public static LinkedSegment inScientific(String str, Params p) {
-		String n = Utility
-				.toScientificString(new BigDecimal(str, new MathContext(p.getScale(), RoundingMode.HALF_EVEN)));
-		return Digits.toSegment(new BigDecimal(n), 1, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment inScientific(DetailsContext c) {
+		String n = Utility.toScientificString(c.getDecimal());
+		return Digits.toSegment(new BigDecimal(n), 1, c.getDigitPunc());
 	}
 
-	public static LinkedSegment inEngineering(String str, Params p) {
-		String n = Utility
-				.toEngineeringString(new BigDecimal(str, new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), false);
-		return Digits.toSegment(new BigDecimal(n), 3, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment inEngineering(DetailsContext c) {
+		String n = Utility.toEngineeringString(c.getDecimal(), false);
+		return Digits.toSegment(new BigDecimal(n), 3, c.getDigitPunc());
 	}
 
-	public static LinkedSegment inEngineeringSI(String str, Params p) {
-		String s = Utility
-				.toEngineeringString(new BigDecimal(str, new MathContext(p.getScale(), RoundingMode.HALF_EVEN)), true);
-		return Digits.toSegment(new BigDecimal(s), true, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment inEngineeringSI(DetailsContext c) {
+		String s = Utility.toEngineeringString(c.getDecimal(), true);
+		return Digits.toSegment(new BigDecimal(s), true, c.getDigitPunc());
 //		SegmentBuilder sb;
 
 //		int suffixIndex = s.indexOf('E');
@@ -0,0 +1,249 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
+import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
+import mathaid.calculator.base.typeset.DigitPunc;
+import mathaid.calculator.base.value.BigFraction;
+import mathaid.calculator.base.value.Complex;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 15:40:12 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: DetailsContext.java ------------------------------------------------------
+ * Class name: DetailsContext ------------------------------------------------
+ */
+/**
+ * Holds a single result together with the values derived from it that are shared by the details of that result.
+ * <p>
+ * The details of {@link FractionalDetails}, {@link CompDetails} and {@link DecDetails} are all computed from the same string and
+ * options. Rather than have every detail parse the string again (which involves several regular expression replacements and a
+ * new {@code BigFraction} or {@code Complex}), one {@code DetailsContext} is created for each result and passed to every
+ * detail. The parsed value and the values computed from it are created the first time they are requested and then reused.
+ * <p>
+ * The value of a given {@code DetailsContext} never changes after construction, and since the details of a result may be
+ * computed on different threads, each derived value is computed at most a few times and always to the same result.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class DetailsContext {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:42:50 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code DetailsContext} for the given result. The scale and digit punctuation of {@code params} are copied at
+	 * construction, so that the values parsed from the result do not change if {@code params} does afterwards. The other options
+	 * are read from {@code params} by each detail when it is computed.
+	 *
+	 * @param source the result in SYMJA syntax.
+	 * @param params the options with which the details are to be formatted.
+	 */
+	DetailsContext(String source, Params params) {
+		this.source = source;
+		this.params = params;
+		scale = params.getScale();
+		mc = new MathContext(scale, RoundingMode.HALF_EVEN);
+		dp = EvaluatableExpression.fromParams(params, params.getNumOfRepeats());
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:44:16 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the result.
+	 *
+	 * @return the result given at the constructor.
+	 */
+	String getSource() {
+		return source;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:44:40 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the options of the details. This is the object given at the constructor and not a copy of it.
+	 *
+	 * @return the params given at the constructor.
+	 */
+	Params getParams() {
+		return params;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:45:03 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the scale of the params at the time this object was created.
+	 *
+	 * @return the scale of the details.
+	 */
+	int getScale() {
+		return scale;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:45:30 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the {@code MathContext} that rounds to {@link #getScale()} digits using {@link RoundingMode#HALF_EVEN}.
+	 *
+	 * @return the math context of the details.
+	 */
+	MathContext getMathContext() {
+		return mc;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:46:11 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the digit punctuation created from the params by {@link EvaluatableExpression#fromParams}.
+	 *
+	 * @return the digit punctuation of the details.
+	 */
+	DigitPunc getDigitPunc() {
+		return dp;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:47:02 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the result as a fraction, parsing it with {@link FractionalDetails#fromString(String)} on the first call.
+	 *
+	 * @return the result as a fraction.
+	 */
+	BigFraction getFraction() {
+		BigFraction f = fraction;
+		if (f == null)
+			fraction = f = FractionalDetails.fromString(source);
+		return f;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:48:25 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the {@linkplain #getFraction() fraction} in it's lowest terms.
+	 *
+	 * @return the fraction in it's lowest terms.
+	 */
+	BigFraction getLowestTerms() {
+		BigFraction f = lowestTerms;
+		if (f == null)
+			lowestTerms = f = getFraction().toLowestTerms();
+		return f;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:49:10 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the {@linkplain #getFraction() fraction} as a mixed fraction in the form returned by {@link BigFraction#toMixed()}.
+	 *
+	 * @return a copy of the mixed fraction array.
+	 */
+	BigInteger[] getMixed() {
+		BigInteger[] m = mixed;
+		if (m == null)
+			mixed = m = getFraction().toMixed();
+		return m.clone();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:49:57 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the {@linkplain #getFraction() fraction} separated into it's non-recurring and recurring part in the form returned
+	 * by {@link BigFraction#getRecurring()}.
+	 *
+	 * @return a copy of the recurring array.
+	 */
+	BigDecimal[] getRecurring() {
+		BigDecimal[] r = recurring;
+		if (r == null)
+			recurring = r = getFraction().getRecurring();
+		return r.clone();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:50:41 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the result as a complex number, parsing it with {@link CompDetails#fromString(String, int)} on the first call.
+	 *
+	 * @return the result as a complex number.
+	 */
+	Complex getComplex() {
+		Complex z = complex;
+		if (z == null)
+			complex = z = CompDetails.fromString(source, scale);
+		return z;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:51:20 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the result as a decimal rounded with {@link #getMathContext()}.
+	 *
+	 * @return the result as a decimal.
+	 */
+	BigDecimal getDecimal() {
+		BigDecimal d = decimal;
+		if (d == null)
+			decimal = d = new BigDecimal(source, mc);
+		return d;
+	}
+
+	/**
+	 * The result.
+	 */
+	private final String source;
+	/**
+	 * The options of the details.
+	 */
+	private final Params params;
+	/**
+	 * The scale of {@link #params} at construction.
+	 */
+	private final int scale;
+	/**
+	 * The math context created from {@link #scale}.
+	 */
+	private final MathContext mc;
+	/**
+	 * The digit punctuation created from {@link #params}.
+	 */
+	private final DigitPunc dp;
+	private volatile BigFraction fraction;
+	private volatile BigFraction lowestTerms;
+	private volatile BigInteger[] mixed;
+	private volatile BigDecimal[] recurring;
+	private volatile Complex complex;
+	private volatile BigDecimal decimal;
+}
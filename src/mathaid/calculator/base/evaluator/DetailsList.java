@@ -3,8 +3,26 @@
  */
 package mathaid.calculator.base.evaluator;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import mathaid.MomentString;
 import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression.ExpressionParams;
@@ -32,6 +50,23 @@ import mathaid.calculator.base.typeset.LinkedSegment;
  * abort the computation and instead display an error message in the index the
  * information was supposed to be.
  * </p>
+ * <p>
+ * A detail that is expensive to compute (such as an integral or a factorisation) should be scheduled with
+ * {@link #submit(MomentString, Supplier)} rather than put directly into the map. Each submitted detail runs as an independent task
+ * on a bounded pool shared by all {@code DetailsList} objects, and it's result is put into the map (and sent to the
+ * {@linkplain #setListener(BiConsumer) listener}) as soon as it is ready, so that a slow detail does not hold up a cheap one. A
+ * detail that does not complete within the {@linkplain #setTimeout(long) timeout} is cancelled, as are all pending details when
+ * {@link #setSource(LinkedSegment)} is called with a new result.
+ * </p>
+ * <p>
+ * A detail that is only worth computing if it is actually viewed should be registered with
+ * {@link #defer(MomentString, Supplier)} instead. {@link #getLazyDetails()} lists every detail of the current result, whether it
+ * was put, submitted or deferred, and a deferred detail is computed the first time it is read from there. The result is
+ * remembered for later reads and, like a submitted detail, put into the map and sent to the listener. Every read from
+ * {@code getLazyDetails()} is counted (across all {@code DetailsList} objects) and the {@linkplain #setPrefetchCount(int) most
+ * read} deferred details are submitted as soon as they are registered, so that the details a user usually looks at are ready
+ * by the time they are read. The counts can be retrieved with {@link #getReadCounts()}.
+ * </p>
  * 
  * @author Oruovo Anthony Etineakpopha
  * @email tonyoruovo@gmail.com
@@ -55,27 +90,404 @@ public abstract class DetailsList<P extends ExpressionParams> implements Runnabl
 		}
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:20:06 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a daemon thread so that pending details never prevent the application from exiting.
+	 * 
+	 * @param name the prefix of the name of each thread created.
+	 * @return a factory of daemon threads.
+	 */
+	private static ThreadFactory daemon(String name) {
+		return r -> {
+			Thread t = new Thread(r, name + "-" + THREAD_COUNT.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		};
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 14:22:40 --------------------------------------
+	 */
+	/**
+	 * Called by sub-classes after all their details have been put or {@linkplain #submit(MomentString, Supplier) submitted}. This
+	 * releases the source and returns immediately as submitted details complete on their own.
+	 */
 	@Override
 	public void run() {
 		src = null;
-		try {
-			Thread.currentThread().join();
-		} catch (InterruptedException e) {
-			e.printStackTrace();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:24:12 ---------------------------------------------------
+	 */
+	/**
+	 * Schedules the computation of a detail on the shared pool. When the computation completes, it's result is put into the map
+	 * of details under the given key and sent to the listener, unless the source has been changed in the meantime, the result is
+	 * {@code null} or the key already has a value (as a prefetched deferred detail has if it was read first). A computation that
+	 * throws an exception or exceeds the timeout is discarded.
+	 * 
+	 * @param key    the heading of the detail.
+	 * @param detail computes the value of the detail.
+	 */
+	protected void submit(MomentString key, Supplier<? extends LinkedSegment> detail) {
+		final long gen;
+		synchronized (pending) {
+			gen = generation;
+		}
+		final FutureTask<Void> f = new FutureTask<>(() -> {
+			LinkedSegment value;
+			try {
+				value = detail.get();
+			} catch (RuntimeException e) {
+				return;
+			}
+			if (value == null || Thread.currentThread().isInterrupted())
+				return;
+			BiConsumer<MomentString, LinkedSegment> l;
+			synchronized (pending) {
+				if (gen != generation || details.putIfAbsent(key, value) != null)
+					return;
+				l = listener;
+			}
+			if (l != null)
+				l.accept(key, value);
+		}, null) {
+			@Override
+			protected void done() {
+				synchronized (pending) {
+					pending.remove(this);
+				}
+			}
+		};
+		synchronized (pending) {
+			if (gen != generation)
+				return;
+			pending.add(f);
+		}
+		EXECUTOR.execute(f);
+		TIMER.schedule(() -> f.cancel(true), timeout, TimeUnit.MILLISECONDS);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:02:19 ---------------------------------------------------
+	 */
+	/**
+	 * Registers a detail that is computed only when it is read from {@link #getLazyDetails()}. If the detail is one of the
+	 * {@linkplain #setPrefetchCount(int) most read} details, it is also {@linkplain #submit(MomentString, Supplier) submitted} so
+	 * that it is computed ahead of it's first read.
+	 * 
+	 * @param key    the heading of the detail.
+	 * @param detail computes the value of the detail. Once it returns, it is not called again for this registration.
+	 */
+	protected void defer(MomentString key, Supplier<? extends LinkedSegment> detail) {
+		final Memo m = new Memo(key, detail);
+		synchronized (pending) {
+			m.generation = generation;
+			lazyDetails.put(key, m);
+		}
+		if (isPopular(key.string))
+			submit(key, m::compute);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:05:47 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the detail with the given heading is one of the {@linkplain #setPrefetchCount(int) most read} details.
+	 * 
+	 * @param name the heading of the detail.
+	 * @return {@code true} if fewer than {@code prefetchCount} details have been read more often than {@code name} and
+	 *         {@code name} has been read at least once.
+	 */
+	private boolean isPopular(String name) {
+		final LongAdder a = READS.get(name);
+		if (a == null || prefetchCount < 1)
+			return false;
+		final long n = a.sum();
+		int rank = 0;
+		for (LongAdder x : READS.values())
+			if (x.sum() > n && ++rank >= prefetchCount)
+				return false;
+		return true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:06:30 ---------------------------------------------------
+	 */
+	/**
+	 * Counts a read of the detail with the given heading.
+	 * 
+	 * @param name the heading of the detail.
+	 */
+	private static void read(String name) {
+		READS.computeIfAbsent(name, k -> new LongAdder()).increment();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:08:03 ---------------------------------------------------
+	 */
+	/**
+	 * Gets a read-only snapshot of all the details of the current source, each mapped to a supplier of it's value. This includes
+	 * the details that were put into the map, the submitted details that have completed and every deferred detail, whether it has
+	 * been computed or not. Submitted details that complete after this call are not in the returned map, but are sent to the
+	 * listener.
+	 * <p>
+	 * Calling {@code get()} on a value counts the read. For a deferred detail, it also computes the detail on the calling thread
+	 * (if it has not already been computed), puts the result into {@link #getLastDetails()} and sends it to the listener the
+	 * first time it is computed. A deferred detail that throws an exception returns {@code null} and is computed again on the next
+	 * read.
+	 * 
+	 * @return the details mapped to their suppliers.
+	 */
+	public NavigableMap<MomentString, Supplier<LinkedSegment>> getLazyDetails() {
+		final NavigableMap<MomentString, Supplier<LinkedSegment>> m = new TreeMap<>((x, y) -> x.compareTo(y));
+		synchronized (pending) {
+			for (Map.Entry<MomentString, LinkedSegment> e : details.entrySet()) {
+				final String name = e.getKey().string;
+				final LinkedSegment v = e.getValue();
+				m.put(e.getKey(), () -> {
+					read(name);
+					return v;
+				});
+			}
+			m.putAll(lazyDetails);
 		}
+		return Collections.unmodifiableNavigableMap(m);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:10:26 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of times each detail has been read from {@link #getLazyDetails()}, by the heading of the detail. This is
+	 * shared by all {@code DetailsList} objects.
+	 * 
+	 * @return a snapshot of the read counts.
+	 */
+	public static Map<String, Long> getReadCounts() {
+		final Map<String, Long> m = new HashMap<>();
+		READS.forEach((k, v) -> m.put(k, v.sum()));
+		return m;
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:11:14 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the number of the most read deferred details that are submitted as soon as they are registered.
+	 * 
+	 * @param n the number of details to prefetch. A value less than 1 disables prefetching.
+	 */
+	public void setPrefetchCount(int n) {
+		this.prefetchCount = n;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:27:33 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the object that is notified with each detail (submitted via {@link #submit(MomentString, Supplier)}) as soon as it is
+	 * computed. The listener is called on a thread of the shared pool.
+	 * 
+	 * @param listener the listener of details. May be {@code null} to remove the current listener.
+	 */
+	public void setListener(BiConsumer<MomentString, LinkedSegment> listener) {
+		this.listener = listener;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:28:10 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the maximum time that a single submitted detail may take before it is cancelled. This only affects details submitted
+	 * after this call.
+	 * 
+	 * @param millis the timeout in milliseconds.
+	 */
+	public void setTimeout(long millis) {
+		this.timeout = millis;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:29:44 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the result whose details are to be computed. All the details of the previous result are cleared and any of them that
+	 * are still pending are cancelled.
+	 * 
+	 * @param segment the new result.
+	 */
 	public void setSource(LinkedSegment segment) {
 //		this.src = Tuple.of(params, segment);
-		this.src = segment;
-		details.clear();
+		synchronized (pending) {
+			generation++;
+			final List<Future<?>> running = new ArrayList<>(pending);
+			pending.clear();
+			for (Future<?> f : running)
+				f.cancel(true);
+			this.src = segment;
+			details.clear();
+			lazyDetails.clear();
+		}
 	}
 
 	protected NavigableMap<MomentString, LinkedSegment> getLastDetails() {
 		return details;
 	}
 
-	final NavigableMap<MomentString, LinkedSegment> details = new TreeMap<>((x, y) -> x.compareTo(y));
+	/**
+	 * The shared pool on which submitted details are computed.
+	 */
+	private static final ExecutorService EXECUTOR;
+	/**
+	 * Cancels submitted details that exceed their timeout.
+	 */
+	private static final ScheduledExecutorService TIMER;
+	/**
+	 * The number of threads created by {@link #daemon(String)}.
+	 */
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+	/**
+	 * The number of reads of each detail.
+	 */
+	private static final Map<String, LongAdder> READS = new ConcurrentHashMap<>();
+	/**
+	 * The default value of {@link #setPrefetchCount(int)}.
+	 */
+	public static final int DEFAULT_PREFETCH_COUNT = 4;
+	/**
+	 * The default value of {@link #setTimeout(long)}.
+	 */
+	public static final long DEFAULT_TIMEOUT_MILLIS = 10_000;
+
+	static {
+		EXECUTOR = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() - 1), daemon("details"));
+		TIMER = Executors.newSingleThreadScheduledExecutor(daemon("details-timer"));
+	}
+
+	final NavigableMap<MomentString, LinkedSegment> details = new ConcurrentSkipListMap<>((x, y) -> x.compareTo(y));
 //	Couple<P, Segment> src;
 	protected LinkedSegment src;
+	/**
+	 * The details that have been submitted for the current source and are still running. A detail removes itself when it
+	 * completes or is cancelled. This is also the lock that guards {@link #generation}.
+	 */
+	private final List<Future<?>> pending = new ArrayList<>();
+	/**
+	 * Incremented each time the source changes so that late details of a previous source are discarded.
+	 */
+	private long generation;
+	private volatile BiConsumer<MomentString, LinkedSegment> listener;
+	private volatile long timeout = DEFAULT_TIMEOUT_MILLIS;
+	private volatile int prefetchCount = DEFAULT_PREFETCH_COUNT;
+	/**
+	 * The deferred details of the current source. Guarded by {@link #pending}.
+	 */
+	private final NavigableMap<MomentString, Memo> lazyDetails = new TreeMap<>((x, y) -> x.compareTo(y));
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:14:38 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.evaluator ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: DetailsList.java ------------------------------------------------------
+	 * Class name: Memo ------------------------------------------------
+	 */
+	/**
+	 * A deferred detail which computes it's value at most once.
+	 * 
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private final class Memo implements Supplier<LinkedSegment> {
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 15:15:20 ---------------------------------------------------
+		 */
+		/**
+		 * Constructs a {@code Memo} for the given detail.
+		 * 
+		 * @param key    the heading of the detail.
+		 * @param detail the computation of the detail.
+		 */
+		Memo(MomentString key, Supplier<? extends LinkedSegment> detail) {
+			this.key = key;
+			this.detail = detail;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 15:16:02 ---------------------------------------------------
+		 */
+		/**
+		 * Computes the detail if it has not been computed, without counting it as a read. An exception thrown by the detail is
+		 * not remembered, so the next call computes it again.
+		 * 
+		 * @return the value of the detail or {@code null} if the detail threw an exception.
+		 */
+		LinkedSegment compute() {
+			LinkedSegment v = value;
+			if (v == null)
+				synchronized (this) {
+					v = value;
+					if (v == null)
+						try {
+							value = v = detail.get();
+						} catch (RuntimeException e) {
+							return null;
+						}
+				}
+			return v;
+		}
+
+		/*
+		 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+		 * Most recent time created: 15:17:45 --------------------------------------
+		 */
+		/**
+		 * Records the read and computes the detail if necessary. The first time a value is available, it is put into the details
+		 * of the source for which this was registered and sent to the listener, unless the source has changed since.
+		 * 
+		 * @return the value of the detail.
+		 */
+		@Override
+		public LinkedSegment get() {
+			read(key.string);
+			final LinkedSegment v = compute();
+			if (v == null)
+				return null;
+			final BiConsumer<MomentString, LinkedSegment> l;
+			synchronized (pending) {
+				if (generation != DetailsList.this.generation || details.putIfAbsent(key, v) != null)
+					return v;
+				l = listener;
+			}
+			if (l != null)
+				l.accept(key, v);
+			return v;
+		}
+
+		private final MomentString key;
+		private final Supplier<? extends LinkedSegment> detail;
+		private volatile LinkedSegment value;
+		/**
+		 * The generation of the source for which this was registered. Guarded by {@link DetailsList#pending}.
+		 */
+		private long generation;
+	}
 }
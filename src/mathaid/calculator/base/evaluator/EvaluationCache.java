@@ -0,0 +1,257 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 12:05:44 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: EvaluationCache.java ------------------------------------------------------
+ * Class name: EvaluationCache ------------------------------------------------
+ */
+/**
+ * A bounded, thread-safe cache of evaluation results which evicts the least recently used entry once it's capacity is
+ * exceeded.
+ * <p>
+ * The cache is meant to sit in front of an expensive {@link Evaluator} such as the CAS, so that an expression that has already
+ * been evaluated with the same options is not evaluated again. The values stored are expected to be immutable as the same
+ * object is returned to every caller that requests it's key.
+ * <p>
+ * The computation of a missing value in {@link #get(Object, Function)} is done outside of the lock of this cache so that a slow
+ * evaluation does not block other threads from reading the cache. While a key is being computed it has an in-flight future, so
+ * another thread that misses on the same key waits for that computation instead of starting its own, and every key is
+ * computed at most once.
+ * <p>
+ * The number of hits, misses and evictions are recorded and can be queried at any time. {@link #invalidateAll()} should be
+ * called whenever something that is not part of the key (such as a user defined constant) changes the result of an
+ * evaluation.
+ *
+ * @param <K> the type of key.
+ * @param <V> the type of cached value.
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class EvaluationCache<K, V> {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:08:13 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs an {@code EvaluationCache} that holds at most the given number of entries.
+	 *
+	 * @param capacity the maximum number of entries before the least recently used entry is evicted.
+	 * @throws IllegalArgumentException if {@code capacity < 1}.
+	 */
+	public EvaluationCache(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("capacity: " + capacity);
+		this.capacity = capacity;
+		hits = new LongAdder();
+		misses = new LongAdder();
+		evictions = new LongAdder();
+		loading = new HashMap<>();
+		entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				if (size() > EvaluationCache.this.capacity) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:10:37 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the value mapped to the given key, computing and storing it with {@code loader} if it is absent.
+	 * <p>
+	 * If another thread is already computing the value of {@code key}, this waits for that computation and returns it's result
+	 * (or throws it's exception) rather than calling {@code loader}. Such a call is counted as a hit.
+	 *
+	 * @param key    the key whose value is to be retrieved.
+	 * @param loader the function that computes the value of {@code key} when it is not in this cache. It is called without any
+	 *               lock held and a {@code null} result is returned without being cached.
+	 * @return the cached value of {@code key} or the value computed by {@code loader}.
+	 * @throws RuntimeException any exception thrown by {@code loader}, whether it was called by this thread or by the thread
+	 *                          whose computation this thread waited for.
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		V v;
+		CompletableFuture<V> f;
+		final CompletableFuture<V> mine;
+		final long gen;
+		synchronized (entries) {
+			v = entries.get(key);
+			f = v == null ? loading.get(key) : null;
+			if (v == null && f == null) {
+				mine = new CompletableFuture<>();
+				loading.put(key, mine);
+			} else
+				mine = null;
+			gen = generation;
+		}
+		if (v != null) {
+			hits.increment();
+			return v;
+		} else if (mine == null) {
+			hits.increment();
+			try {
+				return f.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException)
+					throw (RuntimeException) e.getCause();
+				else if (e.getCause() instanceof Error)
+					throw (Error) e.getCause();
+				throw e;
+			}
+		}
+		misses.increment();
+		try {
+			v = loader.apply(key);
+		} catch (RuntimeException | Error e) {
+			synchronized (entries) {
+				loading.remove(key, mine);
+			}
+			mine.completeExceptionally(e);
+			throw e;
+		}
+		synchronized (entries) {
+			loading.remove(key, mine);
+			if (v != null && gen == generation)
+				entries.put(key, v);
+		}
+		mine.complete(v);
+		return v;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:12:02 ---------------------------------------------------
+	 */
+	/**
+	 * Removes every entry from this cache. A value that is being computed while this is called is returned to the threads
+	 * waiting for it but is not stored. The statistics are retained.
+	 */
+	public void invalidateAll() {
+		synchronized (entries) {
+			entries.clear();
+			loading.clear();
+			generation++;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:12:40 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of entries currently in this cache.
+	 *
+	 * @return the size of this cache.
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:13:05 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the maximum number of entries that this cache can hold.
+	 *
+	 * @return the capacity given at the constructor.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:13:31 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of calls to {@link #get(Object, Function)} that found their key in this cache.
+	 *
+	 * @return the number of cache hits.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:13:58 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of calls to {@link #get(Object, Function)} that had to compute their value.
+	 *
+	 * @return the number of cache misses.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:14:20 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of entries that were removed because the capacity of this cache was exceeded. Entries removed by
+	 * {@link #invalidateAll()} are not counted.
+	 *
+	 * @return the number of evictions.
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * The maximum number of entries.
+	 */
+	private final int capacity;
+	/**
+	 * The entries in access order, the eldest being the least recently used.
+	 */
+	private final LinkedHashMap<K, V> entries;
+	/**
+	 * The futures of the keys that are being computed. This is guarded by the lock of {@link #entries}.
+	 */
+	private final Map<K, CompletableFuture<V>> loading;
+	/**
+	 * The number of times {@link #invalidateAll()} has been called. A computation started before the last invalidation does not
+	 * store it's value. This is guarded by the lock of {@link #entries}.
+	 */
+	private long generation;
+	/**
+	 * The number of hits.
+	 */
+	private final LongAdder hits;
+	/**
+	 * The number of misses.
+	 */
+	private final LongAdder misses;
+	/**
+	 * The number of evictions.
+	 */
+	private final LongAdder evictions;
+}
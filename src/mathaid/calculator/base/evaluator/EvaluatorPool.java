@@ -0,0 +1,287 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import mathaid.functional.Supplier;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 13:02:18 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: EvaluatorPool.java ------------------------------------------------------
+ * Class name: EvaluatorPool ------------------------------------------------
+ */
+/**
+ * A fixed size pool of isolated {@link Evaluator} objects that allows independent expressions to be evaluated in parallel.
+ * <p>
+ * An evaluator such as the one backed by the CAS is not thread-safe and it's callers would otherwise have to serialise on a
+ * single instance. A pool holds several of such evaluators, each of which is used by at most one thread at a time. An evaluator
+ * is borrowed with {@link #checkout()} and must be given back with {@link #release(Evaluator)} after use. This pool is itself
+ * an {@code Evaluator} whose {@link #evaluate(String)} method does both for a single expression.
+ * <p>
+ * Each evaluator is warmed up as soon as it is created by evaluating a given expression on it, so that the first expression
+ * that a user enters does not bear the cost of loading the CAS.
+ * <p>
+ * Because every evaluator in the pool has it's own state, an expression that changes that state (such as an assignment) has to
+ * be evaluated with {@link #evaluateAll(String)} so that all evaluators in the pool remain consistent. The pool keeps every such
+ * expression so that an evaluator that fails to evaluate one of them while the others succeed can be replaced with a new
+ * evaluator that has the same state.
+ * <p>
+ * A thread that has borrowed an evaluator must release it before it calls {@code evaluateAll(String)}, otherwise it would wait
+ * for it's own evaluator forever. Such a call fails with an {@code IllegalStateException} instead.
+ * <p>
+ * The time threads spend waiting for an evaluator to become available is recorded and may be retrieved with
+ * {@link #getWaitNanos()} and {@link #getWaitCount()}.
+ *
+ * @param <T> the type of result returned by the pooled evaluators.
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class EvaluatorPool<T> implements Evaluator<T> {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:05:41 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs an {@code EvaluatorPool} by creating and warming up the given number of evaluators.
+	 *
+	 * @param size    the number of evaluators in this pool.
+	 * @param factory creates a new evaluator each time it is called. The evaluators it returns must not share any state.
+	 * @param warmUp  the expression evaluated on each evaluator after it is created. This may be {@code null} in which case no
+	 *                warm-up is done.
+	 * @throws IllegalArgumentException if {@code size < 1}.
+	 */
+	public EvaluatorPool(int size, Supplier<? extends Evaluator<T>> factory, String warmUp) {
+		if (size < 1)
+			throw new IllegalArgumentException("size: " + size);
+		this.size = size;
+		this.factory = factory;
+		this.warmUp = warmUp;
+		idle = new ArrayBlockingQueue<>(size);
+		waitNanos = new LongAdder();
+		waitCount = new LongAdder();
+		history = new ArrayList<>();
+		held = ThreadLocal.withInitial(() -> new int[1]);
+		for (int i = 0; i < size; i++)
+			idle.add(create());
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:02:44 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a new evaluator, warms it up and evaluates on it every expression that was successfully given to
+	 * {@link #evaluateAll(String)}, so that it has the same state as the other evaluators in this pool.
+	 *
+	 * @return a new evaluator.
+	 */
+	private Evaluator<T> create() {
+		Evaluator<T> e = factory.supply();
+		if (warmUp != null)
+			e.evaluate(warmUp);
+		for (String s : history)
+			e.evaluate(s);
+		return e;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:08:27 ---------------------------------------------------
+	 */
+	/**
+	 * Borrows an evaluator from this pool, waiting for one to be released if all are in use. The returned evaluator must be
+	 * released with {@link #release(Evaluator)} when the caller is done with it.
+	 *
+	 * @return an evaluator that is used by no other thread until it is released.
+	 * @throws IllegalStateException if the current thread is interrupted while waiting.
+	 */
+	public Evaluator<T> checkout() {
+		Evaluator<T> e = idle.poll();
+		if (e == null) {
+			final long start = System.nanoTime();
+			try {
+				e = idle.take();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(ex);
+			}
+			waitNanos.add(System.nanoTime() - start);
+			waitCount.increment();
+		}
+		held.get()[0]++;
+		return e;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:10:03 ---------------------------------------------------
+	 */
+	/**
+	 * Gives back an evaluator that was borrowed with {@link #checkout()}. This should be called by the thread that borrowed it.
+	 *
+	 * @param e the evaluator to be released.
+	 */
+	public void release(Evaluator<T> e) {
+		final int[] n = held.get();
+		if (n[0] > 0)
+			n[0]--;
+		idle.add(e);
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 13:11:36 --------------------------------------
+	 */
+	/**
+	 * Evaluates the argument with any evaluator in this pool that is not in use.
+	 *
+	 * @param expression {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RuntimeException {@inheritDoc}
+	 */
+	@Override
+	public T evaluate(String expression) throws RuntimeException {
+		Evaluator<T> e = checkout();
+		try {
+			return e.evaluate(expression);
+		} finally {
+			release(e);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:13:20 ---------------------------------------------------
+	 */
+	/**
+	 * Evaluates the argument on every evaluator in this pool. This waits until all the evaluators have been released and no
+	 * other thread can borrow any of them until this method returns. Only one such call can proceed at a time.
+	 * <p>
+	 * If the expression fails on every evaluator, the exception of the first one is thrown and the evaluators are left as they
+	 * are since they all failed the same way. If it fails on only some of them, those evaluators no longer have the same state as
+	 * the rest and are replaced with new evaluators on which the expression is evaluated again.
+	 *
+	 * @param expression the value to be evaluated.
+	 * @return the result of evaluating {@code expression} on the first evaluator that did not fail.
+	 * @throws RuntimeException      if there is a syntax, overflow etc error encountered.
+	 * @throws IllegalStateException if the current thread has borrowed an evaluator from this pool and not released it.
+	 */
+	public synchronized T evaluateAll(String expression) throws RuntimeException {
+		if (held.get()[0] > 0)
+			throw new IllegalStateException("evaluateAll called by a thread that has not released it's evaluator");
+		List<Evaluator<T>> all = new ArrayList<>(size);
+		try {
+			for (int i = 0; i < size; i++)
+				all.add(checkout());
+			RuntimeException failure = null;
+			boolean[] failed = new boolean[size];
+			T t = null;
+			boolean succeeded = false;
+			for (int i = 0; i < size; i++)
+				try {
+					T r = all.get(i).evaluate(expression);
+					if (!succeeded)
+						t = r;
+					succeeded = true;
+				} catch (RuntimeException e) {
+					failed[i] = true;
+					if (failure == null)
+						failure = e;
+				}
+			if (!succeeded)
+				throw failure;
+			history.add(expression);
+			for (int i = 0; i < size; i++)
+				if (failed[i])
+					all.set(i, create());
+			return t;
+		} finally {
+			for (Evaluator<T> e : all)
+				release(e);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:15:48 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of evaluators in this pool.
+	 *
+	 * @return the size given at the constructor.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:16:12 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the total time, in nanoseconds, that threads have spent waiting in {@link #checkout()} because no evaluator was
+	 * available.
+	 *
+	 * @return the accumulated queue-wait time.
+	 */
+	public long getWaitNanos() {
+		return waitNanos.sum();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:16:40 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of calls to {@link #checkout()} that had to wait for an evaluator.
+	 *
+	 * @return the number of waits.
+	 */
+	public long getWaitCount() {
+		return waitCount.sum();
+	}
+
+	/**
+	 * The number of evaluators.
+	 */
+	private final int size;
+	/**
+	 * Creates the evaluators of this pool.
+	 */
+	private final Supplier<? extends Evaluator<T>> factory;
+	/**
+	 * The expression that warms up a new evaluator, which may be {@code null}.
+	 */
+	private final String warmUp;
+	/**
+	 * The expressions that were successfully evaluated by {@link #evaluateAll(String)}, in order. This is only accessed with the
+	 * lock of this pool held.
+	 */
+	private final List<String> history;
+	/**
+	 * The number of evaluators that each thread has borrowed and not released.
+	 */
+	private final ThreadLocal<int[]> held;
+	/**
+	 * The evaluators that are not in use.
+	 */
+	private final BlockingQueue<Evaluator<T>> idle;
+	/**
+	 * The total time spent waiting for an evaluator.
+	 */
+	private final LongAdder waitNanos;
+	/**
+	 * The number of times a thread had to wait for an evaluator.
+	 */
+	private final LongAdder waitCount;
+}
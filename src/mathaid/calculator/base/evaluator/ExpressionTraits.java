@@ -0,0 +1,116 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 13:48:55 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: ExpressionTraits.java ------------------------------------------------------
+ * Class name: ExpressionTraits ------------------------------------------------
+ */
+/**
+ * Classifies a result of the CAS with a single evaluation and reports the traits of the result as a bitset.
+ * <p>
+ * The traits are determined by the SYMJA predicates {@code AtomicQ}, {@code NumberQ}, {@code SymbolQ}, {@code RealNumberQ} and
+ * {@code IntegerQ}, which are sent to the CAS together as a list so that only one round-trip is needed. Each predicate that
+ * returns {@code True} sets it's corresponding bit in the value returned by {@link #classify(Evaluator, String)}, and the
+ * value can be queried with {@link #is(int, int)}. A predicate that the CAS leaves unevaluated sets no bit, therefore a clear
+ * bit does not mean that the predicate is {@code False}. {@link #NOT_REAL} is set only when {@code RealNumberQ} is explicitly
+ * {@code False}.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class ExpressionTraits {
+
+	/**
+	 * The bit that is set if the expression has a single node i.e {@code AtomicQ[x]}.
+	 */
+	static final int ATOMIC = 1;
+	/**
+	 * The bit that is set if the expression is a number i.e {@code NumberQ[x]}.
+	 */
+	static final int NUMBER = 1 << 1;
+	/**
+	 * The bit that is set if the expression is a symbol i.e {@code SymbolQ[x]}.
+	 */
+	static final int SYMBOL = 1 << 2;
+	/**
+	 * The bit that is set if the expression is a real number i.e {@code RealNumberQ[x]}.
+	 */
+	static final int REAL = 1 << 3;
+	/**
+	 * The bit that is set if the expression is an integer i.e {@code IntegerQ[x]}.
+	 */
+	static final int INTEGER = 1 << 4;
+	/**
+	 * The bit that is set if {@code RealNumberQ[x]} returns {@code False} rather than {@code True} or an unevaluated
+	 * expression. Together with {@link #NUMBER} this marks a complex number.
+	 */
+	static final int NOT_REAL = 1 << 5;
+	/**
+	 * The predicates in the order of their bits.
+	 */
+	private static final String QUERY = "{AtomicQ[%1$s], NumberQ[%1$s], SymbolQ[%1$s], RealNumberQ[%1$s], IntegerQ[%1$s]}";
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:52:30 ---------------------------------------------------
+	 */
+	/**
+	 * Evaluates all the predicates of the given expression in one call and returns them as a bitset.
+	 *
+	 * @param evaluator the CAS with which the predicates are evaluated.
+	 * @param s         the expression to be classified in SYMJA syntax.
+	 * @return an {@code int} whose bits are the union of {@link #ATOMIC}, {@link #NUMBER}, {@link #SYMBOL}, {@link #REAL} and
+	 *         {@link #INTEGER} for each predicate that is true, and {@link #NOT_REAL} if {@code RealNumberQ} is false.
+	 */
+	static int classify(Evaluator<String> evaluator, String s) {
+		String r = evaluator.evaluate(String.format(QUERY, s));
+		int traits = 0;
+		int bit = 1;
+		int start = r.indexOf('{') + 1;
+		for (int i = start; i <= r.length(); i++) {
+			if (i == r.length() || r.charAt(i) == ',' || r.charAt(i) == '}') {
+				final String v = r.substring(start, i).strip();
+				if (v.equals("True"))
+					traits |= bit;
+				else if (bit == REAL && v.equals("False"))
+					traits |= NOT_REAL;
+				bit <<= 1;
+				start = i + 1;
+				if (i < r.length() && r.charAt(i) == '}')
+					break;
+			}
+		}
+		return traits;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:55:12 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if all the given traits are set.
+	 *
+	 * @param traits the bitset returned by {@link #classify(Evaluator, String)}.
+	 * @param mask   the trait(s) to be checked.
+	 * @return {@code true} if every bit of {@code mask} is set in {@code traits}.
+	 */
+	static boolean is(int traits, int mask) {
+		return (traits & mask) == mask;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:48:55 ---------------------------------------------------
+	 */
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private ExpressionTraits() {
+	}
+}
@@ -9,8 +9,6 @@ import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.List;
 
-import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
-import mathaid.calculator.base.evaluator.parser.expression.scientific.Name;
 import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
 import mathaid.calculator.base.typeset.Digits;
 import mathaid.calculator.base.typeset.LinkedSegment;
@@ -52,26 +50,26 @@ class FractionalDetails {
 		return f;
 	}
 
-	public static LinkedSegment toMixedFraction(String str, Name.Params p) {
-		BigFraction f = fromString(str);
-		return Digits.toSegment(f, true, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment toMixedFraction(DetailsContext c) {
+		BigFraction f = c.getFraction();
+		return Digits.toSegment(f, true, c.getDigitPunc());
 	}
 
-	public static LinkedSegment toLowestTerm(String str, Name.Params p) {
-		BigFraction f = fromString(str).toLowestTerms();
-		return Digits.toSegment(f, false, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment toLowestTerm(DetailsContext c) {
+		BigFraction f = c.getLowestTerms();
+		return Digits.toSegment(f, false, c.getDigitPunc());
 	}
 
-	static LinkedSegment integer(BigInteger num, Name.Params p) {
-		return Digits.toSegment(num, 10, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	static LinkedSegment integer(BigInteger num, DetailsContext c) {
+		return Digits.toSegment(num, 10, c.getDigitPunc());
 	}
 
 	static BigInteger i(String s) {
 		return new BigInteger(s);
 	}
 
-	public static LinkedSegment getContinuedFraction(String str, Name.Params p) {
-		BigFraction f = fromString(str);
+	public static LinkedSegment getContinuedFraction(DetailsContext c) {
+		BigFraction f = c.getFraction();
 		List<BigInteger> l = f.toContinuedFraction();
 		SegmentBuilder sb = new SegmentBuilder();
 		for (int i = l.size() - 1; i >= 0; i--) {
@@ -79,29 +77,29 @@ class FractionalDetails {
 			if (n.signum() != 0)
 				if (!sb.isEmpty()) {
 					LinkedSegment s = sb.toSegment();
-					SegmentBuilder nw = new SegmentBuilder(integer(n, p))
+					SegmentBuilder nw = new SegmentBuilder(integer(n, c))
 							.append(Segments.operator(" +", " +")).append(s);
-					sb.deleteAll().append(Segments.fraction(integer(i("1"), p), nw.toSegment()));
+					sb.deleteAll().append(Segments.fraction(integer(i("1"), c), nw.toSegment()));
 				} else
-					sb.append(Segments.fraction(integer(i("1"), p), integer(n, p)));
+					sb.append(Segments.fraction(integer(i("1"), c), integer(n, c)));
 		}
 		return sb.toSegment();
 	}
 
-	public static LinkedSegment getEgyptianFraction(String str, Params p) {
-		BigFraction f = fromString(str);
+	public static LinkedSegment getEgyptianFraction(DetailsContext c) {
+		BigFraction f = c.getFraction();
 		List<BigFraction> l = f.toEgyptianFractions();
-		SegmentBuilder sb = new SegmentBuilder(Digits.toSegment(l.get(0), false, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+		SegmentBuilder sb = new SegmentBuilder(Digits.toSegment(l.get(0), false, c.getDigitPunc()));
 		for (int i = 1; i < l.size(); i++) {
 			BigFraction fr = l.get(i);
 			sb.append(Segments.operator("+", "+"));
-			sb.append(Digits.toSegment(fr, false, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			sb.append(Digits.toSegment(fr, false, c.getDigitPunc()));
 		}
 		return sb.toSegment();
 	}
 
-	public static LinkedSegment getFactors(String str, Params p) {
-		BigFraction f = fromString(str);
+	public static LinkedSegment getFactors(DetailsContext c) {
+		BigFraction f = c.getFraction();
 		List<BigInteger> l = f.factorize();
 
 		BigInteger current = null;
@@ -114,9 +112,9 @@ class FractionalDetails {
 		for (int i = 0; i < l.size(); i++) {
 			current = l.get(i);
 			if (current == null || (current.compareTo(previous) != 0 && previous.signum() != 0)) {
-				sb.append(exponent * negativeExponent == 1 ? integer(previous, p)
-						: Segments.pow(integer(previous, p),
-								integer(i(String.valueOf(exponent * negativeExponent)), p)))
+				sb.append(exponent * negativeExponent == 1 ? integer(previous, c)
+						: Segments.pow(integer(previous, c),
+								integer(i(String.valueOf(exponent * negativeExponent)), c)))
 						.append(Segments.operator("\\cdot", "*"));
 
 				exponent = 1;
@@ -129,54 +127,55 @@ class FractionalDetails {
 				exponent++;
 			previous = current;
 		}
-		sb.append(exponent * negativeExponent == 1 ? integer(current, p)
-				: Segments.pow(integer(current, p), integer(i(String.valueOf(exponent * negativeExponent)), p)));
+		sb.append(exponent * negativeExponent == 1 ? integer(current, c)
+				: Segments.pow(integer(current, c), integer(i(String.valueOf(exponent * negativeExponent)), c)));
 		return sb.toSegment();
 	}
 
-	public static LinkedSegment getFractionAsDecimal(String str, Params p) {
-		BigFraction f = fromString(str);
+	public static LinkedSegment getFractionAsDecimal(DetailsContext c) {
+		Params p = c.getParams();
+		BigFraction f = c.getFraction();
 //		String s = Digits.toSegmentString(f, 0);
-		return Digits.toSegment(f, p.getRecurringType(), 0, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+		return Digits.toSegment(f, p.getRecurringType(), 0, c.getDigitPunc());
 	}
 
-	public static LinkedSegment getPeriod(String str, Params p) {
-		BigFraction f = fromString(str);
-		return integer(BigInteger.valueOf(f.getPeriod()), p);
+	public static LinkedSegment getPeriod(DetailsContext c) {
+		BigFraction f = c.getFraction();
+		return integer(BigInteger.valueOf(f.getPeriod()), c);
 	}
 
-	public static LinkedSegment getRemainder(String str, Params p) {
-		BigFraction f = fromString(str);
-		BigInteger rem = f.toMixed()[1];
-		return integer(rem, p);
+	public static LinkedSegment getRemainder(DetailsContext c) {
+		BigInteger rem = c.getMixed()[1];
+		return integer(rem, c);
 	}
 
-	public static LinkedSegment getPercentage(String str, Params p) {
-		BigFraction f = fromString(str);
+	public static LinkedSegment getPercentage(DetailsContext c) {
+		BigFraction f = c.getFraction();
 		BigDecimal percent = f.percent();
 		return Digits
-				.toSegment(percent, 0, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()))
+				.toSegment(percent, 0, c.getDigitPunc())
 				.concat(Segments.operator("%", "*Rational[1, 100]"));
 	}
 
-	public static LinkedSegment getQuotient(String str, Params p) {
-		BigFraction f = fromString(str);
-		BigInteger quotient = f.toMixed()[0];
-		return integer(quotient, p);
+	public static LinkedSegment getQuotient(DetailsContext c) {
+		BigInteger quotient = c.getMixed()[0];
+		return integer(quotient, c);
 	}
 
-	public static LinkedSegment inEngineering(String str, Params p) {
-		BigFraction f = fromString(str);
+	public static LinkedSegment inEngineering(DetailsContext c) {
+		Params p = c.getParams();
+		BigFraction f = c.getFraction();
 		String s = Digits.toSegmentString(f, 3);
 		int scale = Digits.scale(s);
 		if (scale > p.getScale())
 			s = Digits.truncateToScale(s, p.getScale());
-		return Digits.toSegment(Digits.fromSegmentString(s), p.getRecurringType(), 3, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+		return Digits.toSegment(Digits.fromSegmentString(s), p.getRecurringType(), 3, c.getDigitPunc());
 	}
 
-	public static LinkedSegment inEngineeringSuffix(String str, Params p) {
-		BigFraction f = fromString(str);
-		return Digits.toSegment(f, true, p.getRecurringType(), EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+	public static LinkedSegment inEngineeringSuffix(DetailsContext c) {
+		Params p = c.getParams();
+		BigFraction f = c.getFraction();
+		return Digits.toSegment(f, true, p.getRecurringType(), c.getDigitPunc());
 //		String s = Utility.toEngineeringString(f.getDecimalExpansion(p.getScale()), true);
 //		SegmentBuilder sb;
 
@@ -226,8 +225,9 @@ class FractionalDetails {
 		return n.setScale(totalScale, RoundingMode.HALF_EVEN).multiply(new BigDecimal(signum)).toPlainString();
 	}
 
-	public static LinkedSegment inScientific(String str, Params p) {
-		BigFraction f = fromString(str);
+	public static LinkedSegment inScientific(DetailsContext c) {
+		Params p = c.getParams();
+		BigFraction f = c.getFraction();
 		String s = Digits.toSegmentString(f, 1);
 		int scale = Digits.scale(s);
 //		if (scale <= p.getScale())
@@ -240,12 +240,13 @@ class FractionalDetails {
 //				p.getNumOfRepeats()).toSegment();
 		if (scale > p.getScale())
 			s = Digits.truncateToScale(s, p.getScale());
-		return Digits.toSegment(f, true, p.getRecurringType(), EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+		return Digits.toSegment(f, true, p.getRecurringType(), c.getDigitPunc());
 	}
 
-	public static LinkedSegment inFixed(String str, Params p) {
-		BigFraction f = fromString(str);
+	public static LinkedSegment inFixed(DetailsContext c) {
+		Params p = c.getParams();
+		BigFraction f = c.getFraction();
 		String s = fixedPoint(f.getDecimalExpansion(p.getScale()), f.signum(), p.getScale());
-		return Digits.toSegment(new BigDecimal(s), 0, EvaluatableExpression.fromParams(p, p.getNumOfRepeats()));
+		return Digits.toSegment(new BigDecimal(s), 0, c.getDigitPunc());
 	}
 }
@@ -21,10 +21,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 import mathaid.MomentString;
 import mathaid.calculator.base.converter.AngleUnit;
-import mathaid.calculator.base.evaluator.parser.PrattParser;
+import mathaid.calculator.base.evaluator.parser.IncrementalParser;
+import mathaid.calculator.base.evaluator.parser.ParserPool;
 import mathaid.calculator.base.evaluator.parser.ProgrammerLexer;
 import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
 import mathaid.calculator.base.evaluator.parser.expression.programmer.PExpression;
@@ -722,8 +724,12 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 	public ProgrammerCalculator(KeyBoard<T, F> keyboard, KeyAction<T, String> modKeys) {
 		this.keyboard = keyboard;
 		this.modKeys = modKeys;
-		parser = new PrattParser<>();
-		this.lexer = new ProgrammerLexer();
+		final ProgrammerLexer lexer = new ProgrammerLexer();
+		parsers = new ParserPool<>(() -> new ProgrammerLexer("", lexer.getSyntax(), lexer.getRadix()));
+		r = lexer.getRadix();
+		editLexer = new ProgrammerLexer("", lexer.getSyntax(), r);
+		editParser = new IncrementalParser<>(editLexer);
+		editLock = new ReentrantLock();
 		details = new Programmer();
 		this.constants = new HashMap<>();
 		this.boundVariables = new HashMap<>();
@@ -835,9 +841,25 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 	public SegmentBuilder evaluate(String expression) {
 		// TODO Auto-generated method stub
 		EvaluatableExpression<Params> f;
-		synchronized (lexer) {
-			lexer.setSource(expression);
-			f = parser.parse(lexer, lexer.getSyntax(), this);
+		/* The expression being typed is parsed incrementally, concurrent ones in full */
+		if (editLock.tryLock())
+			try {
+				if (editLexer.getRadix() != r) {
+					editLexer.setRadix(r);
+					editParser.invalidate();
+				}
+				f = editParser.parse(expression, this);
+			} finally {
+				editLock.unlock();
+			}
+		else {
+			final ParserPool.Entry<EvaluatableExpression<Params>, Params, ProgrammerLexer> e = parsers.checkout();
+			try {
+				e.getLexer().setRadix(r);
+				f = e.parse(expression, this);
+			} finally {
+				parsers.release(e);
+			}
 		}
 		SegmentBuilder sb = new SegmentBuilder();
 		f.format(sb);
@@ -919,6 +941,7 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 	
 	public void setResultType(int resultType) {
 		rt = resultType;
+		editParser.invalidate();
 	}
 
 	/*
@@ -1027,7 +1050,6 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 	
 	public void setRadix(int r) {
 		this.r = r;
-		lexer.setRadix(r);
 	}
 
 	/*
@@ -1132,6 +1154,7 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 	
 	public void setBitRepresentation(int bitRep) {
 		br = bitRep;
+		editParser.invalidate();
 	}
 
 	/*
@@ -1150,6 +1173,7 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 	
 	public void setEndianess(int e) {
 		this.end = e;
+		editParser.invalidate();
 	}
 
 	/*
@@ -1168,6 +1192,7 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 	
 	public void setBitLength(int bitLength) {
 		bl = bitLength;
+		editParser.invalidate();
 	}
 
 	/*
@@ -1186,6 +1211,7 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 	
 	public void setRoundingMode(RoundingMode rm) {
 		this.rm = rm;
+		editParser.invalidate();
 	}
 
 	/*
@@ -1207,8 +1233,24 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 
 	private final KeyBoard<T, F> keyboard;
 	private final KeyAction<T, String> modKeys;
-	private final ProgrammerLexer lexer;
-	private final PrattParser<EvaluatableExpression<Params>, Params> parser;
+	/**
+	 * The lexer and parser pairs used to parse expressions. The lexers share a single syntax and are given the radix of this
+	 * calculator each time they are borrowed.
+	 */
+	private final ParserPool<EvaluatableExpression<Params>, Params, ProgrammerLexer> parsers;
+	/**
+	 * The lexer of {@link #editParser}.
+	 */
+	private final ProgrammerLexer editLexer;
+	/**
+	 * Parses the expression that is being edited, re-using the parts that an edit did not change. It is invalidated whenever a
+	 * setting that numbers are parsed with is changed.
+	 */
+	private final IncrementalParser<EvaluatableExpression<Params>, Params> editParser;
+	/**
+	 * Held while {@link #editParser} is in use.
+	 */
+	private final ReentrantLock editLock;
 	private final DetailsList<PExpression.Params> details;
 	private final Map<String, Couple<String, Function<Params, SegmentBuilder>>> constants;
 	private final Map<String, Couple<String, Function<Params, SegmentBuilder>>> boundVariables;
@@ -1218,7 +1260,7 @@ public class ProgrammerCalculator<T extends GUIComponent<T>, F> implements Calcu
 	private int bl;//bitlength
 	private int end;//endianess
 	private int br;//bit representation
-	private int r;//radix
+	private volatile int r;//radix
 	private int igs;//integer group size
 	private int mgs;//mantissa group size
 	private int rt;//result type
@@ -311,6 +311,7 @@ public class SDetails implements Result.Details {
 		Appendable sb = new NumberAdapter();
 		src.toString(sb, null, new ArrayList<>(Arrays.asList(-1)));
 		String s = sb.toString();
+		final DetailsContext ctx = new DetailsContext(s, evaluator);
 		Collator c = Collator.getInstance(Locale.US);
 		// it has a single value as it's result
 		boolean isAtomic = c.compare(evaluator.getSymja().evaluate(String.format("AtomicQ[%s]", s)), "True") == 0;
@@ -332,19 +333,19 @@ public class SDetails implements Result.Details {
 				boolean isFrac = s.indexOf("Rational[") >= 0 || Utility.isFraction(s);
 				boolean isInteger = c.compare(evaluator.getSymja().evaluate(String.format("IntegerQ[%s]", s)), "True") == 0;
 				if (isComplex) {
-					details.put(new MomentString("Expression"), CompDetails.getExpression(s, evaluator));
-					details.put(new MomentString("Engineering notation"), CompDetails.inEngineering(s, evaluator));
+					details.put(new MomentString("Expression"), CompDetails.getExpression(ctx));
+					details.put(new MomentString("Engineering notation"), CompDetails.inEngineering(ctx));
 					details.put(new MomentString("Engineering suffix notation"),
-							CompDetails.inEngineeringSuffix(s, evaluator));
-					details.put(new MomentString("Scientific notation"), CompDetails.inScientific(s, evaluator));
-					details.put(new MomentString("Fixed notation"), CompDetails.inFixed(s, evaluator));
-					details.put(new MomentString("Real"), CompDetails.getReal(s, evaluator));
-					details.put(new MomentString("Imaginary"), CompDetails.getImaginary(s, evaluator));
-					details.put(new MomentString("Argument"), CompDetails.getArg(s, evaluator));
-					details.put(new MomentString("Magnitude"), CompDetails.getMagnitude(s, evaluator));
-					details.put(new MomentString("X coordinate"), CompDetails.getXCoordinate(s, evaluator));
-					details.put(new MomentString("Y coordinate"), CompDetails.getYCoordinate(s, evaluator));
-					details.put(new MomentString("As common fraction"), CompDetails.inCommonFraction(s, evaluator));
+							CompDetails.inEngineeringSuffix(ctx));
+					details.put(new MomentString("Scientific notation"), CompDetails.inScientific(ctx));
+					details.put(new MomentString("Fixed notation"), CompDetails.inFixed(ctx));
+					details.put(new MomentString("Real"), CompDetails.getReal(ctx));
+					details.put(new MomentString("Imaginary"), CompDetails.getImaginary(ctx));
+					details.put(new MomentString("Argument"), CompDetails.getArg(ctx));
+					details.put(new MomentString("Magnitude"), CompDetails.getMagnitude(ctx));
+					details.put(new MomentString("X coordinate"), CompDetails.getXCoordinate(ctx));
+					details.put(new MomentString("Y coordinate"), CompDetails.getYCoordinate(ctx));
+					details.put(new MomentString("As common fraction"), CompDetails.inCommonFraction(ctx));
 				} else if (isFrac) {
 					if (Utility.isFraction(s)) {
 						BigFraction f = Digits.fromSegmentString(s);
@@ -353,37 +354,37 @@ public class SDetails implements Result.Details {
 					} else {
 						details.put(new MomentString("Expression"), src);
 					}
-					details.put(new MomentString("Lowest term"), FractionalDetails.toLowestTerm(s, evaluator));
+					details.put(new MomentString("Lowest term"), FractionalDetails.toLowestTerm(ctx));
 					details.put(new MomentString("Mixed fraction"),
-							FractionalDetails.toMixedFraction(s, evaluator));
+							FractionalDetails.toMixedFraction(ctx));
 					details.put(new MomentString("Continued fraction"),
-							FractionalDetails.getContinuedFraction(s, evaluator));
+							FractionalDetails.getContinuedFraction(ctx));
 					details.put(new MomentString("Egyptian fraction"),
-							FractionalDetails.getEgyptianFraction(s, evaluator));
-					details.put(new MomentString("Prime factor(s)"), FractionalDetails.getFactors(s, evaluator));
-					details.put(new MomentString("Period"), FractionalDetails.getPeriod(s, evaluator));
-					details.put(new MomentString("Percentage"), FractionalDetails.getPercentage(s, evaluator));
-					details.put(new MomentString("Quotient"), FractionalDetails.getQuotient(s, evaluator));
-					details.put(new MomentString("Remainder"), FractionalDetails.getRemainder(s, evaluator));
-					details.put(new MomentString("Decimal"), FractionalDetails.getFractionAsDecimal(s, evaluator));
+							FractionalDetails.getEgyptianFraction(ctx));
+					details.put(new MomentString("Prime factor(s)"), FractionalDetails.getFactors(ctx));
+					details.put(new MomentString("Period"), FractionalDetails.getPeriod(ctx));
+					details.put(new MomentString("Percentage"), FractionalDetails.getPercentage(ctx));
+					details.put(new MomentString("Quotient"), FractionalDetails.getQuotient(ctx));
+					details.put(new MomentString("Remainder"), FractionalDetails.getRemainder(ctx));
+					details.put(new MomentString("Decimal"), FractionalDetails.getFractionAsDecimal(ctx));
 					details.put(new MomentString("Engineering notation"),
-							FractionalDetails.inEngineering(s, evaluator));
+							FractionalDetails.inEngineering(ctx));
 					details.put(new MomentString("Engineering suffix notation"),
-							FractionalDetails.inEngineeringSuffix(s, evaluator));
+							FractionalDetails.inEngineeringSuffix(ctx));
 					details.put(new MomentString("Scientific notation"),
-							FractionalDetails.inScientific(s, evaluator));
-					details.put(new MomentString("Fixed notation"), FractionalDetails.inFixed(s, evaluator));
+							FractionalDetails.inScientific(ctx));
+					details.put(new MomentString("Fixed notation"), FractionalDetails.inFixed(ctx));
 //					TODO: details.put(new MomentString("Number line"), FractionalDetails.getPeriod(s, evaluator));
 				} else if (isInteger) {
 					details.put(new MomentString("Expression"), src);
-					details.put(new MomentString("Prime factors"), FractionalDetails.getFactors(s, evaluator));
+					details.put(new MomentString("Prime factors"), FractionalDetails.getFactors(ctx));
 					details.put(new MomentString("Roman figure"),
 							Segments.constant(s, Utility.romanNumeral(Integer.valueOf(s))));
 				} else {
 					details.put(new MomentString("Expression"), src);
-					details.put(new MomentString("Scientific notation"), DecDetails.inScientific(s, evaluator));
-					details.put(new MomentString("Engineering notation"), DecDetails.inEngineering(s, evaluator));
-					details.put(new MomentString("Engineering SI"), DecDetails.inEngineeringSI(s, evaluator));
+					details.put(new MomentString("Scientific notation"), DecDetails.inScientific(ctx));
+					details.put(new MomentString("Engineering notation"), DecDetails.inEngineering(ctx));
+					details.put(new MomentString("Engineering SI"), DecDetails.inEngineeringSI(ctx));
 				}
 			} else if (isSymbol) {
 				details.put(new MomentString("Expression"), src);
@@ -11,29 +11,20 @@ import static mathaid.calculator.base.evaluator.parser.expression.EvaluatableExp
 import static mathaid.calculator.base.typeset.Digits.toSegment;
 import static mathaid.calculator.base.util.Arith.sqrt;
 import static mathaid.calculator.base.util.Constants.apery;
-import static mathaid.calculator.base.util.Constants.catalan;
-import static mathaid.calculator.base.util.Constants.conf;
-import static mathaid.calculator.base.util.Constants.conway;
 import static mathaid.calculator.base.util.Constants.e;
 import static mathaid.calculator.base.util.Constants.eb;
-import static mathaid.calculator.base.util.Constants.em;
 import static mathaid.calculator.base.util.Constants.khinchin;
-import static mathaid.calculator.base.util.Constants.levy;
-import static mathaid.calculator.base.util.Constants.lieb;
 import static mathaid.calculator.base.util.Constants.mills;
-import static mathaid.calculator.base.util.Constants.omega;
 import static mathaid.calculator.base.util.Constants.pi;
-import static mathaid.calculator.base.util.Constants.plastic;
 import static mathaid.calculator.base.util.Constants.recFib;
-import static mathaid.calculator.base.util.Constants.sierpinski;
-import static mathaid.calculator.base.util.Constants.superGR;
-import static mathaid.calculator.base.util.Constants.uniParabola;
 import static mathaid.calculator.base.util.Utility.d;
 import static mathaid.calculator.base.util.Utility.f;
 import static mathaid.calculator.base.util.Utility.mc;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.IntFunction;
 
 import org.matheclipse.core.eval.EvalEngine;
 import org.matheclipse.core.eval.EvalUtilities;
@@ -42,12 +33,15 @@ import mathaid.calculator.base.converter.AngleUnit;
 import mathaid.calculator.base.evaluator.parser.PrattParser;
 import mathaid.calculator.base.evaluator.parser.ScientificLexer;
 import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
+import mathaid.calculator.base.evaluator.parser.expression.scientific.ExpressionCompiler;
 import mathaid.calculator.base.evaluator.parser.expression.scientific.Name;
 import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
 import mathaid.calculator.base.typeset.BasicSegment;
 import mathaid.calculator.base.typeset.DigitPunc;
 import mathaid.calculator.base.typeset.LinkedSegment;
 import mathaid.calculator.base.typeset.SegmentBuilder;
+import mathaid.calculator.base.util.ConstantTable;
+import mathaid.calculator.base.util.Constants;
 import mathaid.calculator.base.util.Tuple;
 import mathaid.calculator.base.util.Tuple.Couple;
 import mathaid.functional.Supplier;
@@ -103,6 +97,23 @@ public class Scientific implements Evaluator<LinkedSegment>, Name.Params {
 	static DigitPunc fp(Params p) {
 		return fromParams(p, p.getNumOfRepeats());
 	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:52:19 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the segments of the given constant to the scale of the given parameters. The value is read from the
+	 * {@link ConstantTable}, which only calls the function when the constant has not yet been computed to that scale.
+	 * 
+	 * @param name the name of the constant in the table.
+	 * @param p    the parameters of the evaluation.
+	 * @param f    computes the constant to the number of significant digits given to it.
+	 * @return a builder of the digits of the constant.
+	 */
+	static SegmentBuilder constant(String name, Params p, IntFunction<BigDecimal> f) {
+		return new SegmentBuilder(toSegment(ConstantTable.get(name, p.getScale(), f), 0, fp(p)));
+	}
 	
 	static void initConstants(Map<String, Tuple.Couple<String, Supplier.Function<Params, SegmentBuilder>>> s) {
 		//PI, Archimedes' constant
@@ -116,18 +127,15 @@ public class Scientific implements Evaluator<LinkedSegment>, Name.Params {
 		s.put("E", Tuple.of("e", fx));
 		
 		//Tau - constant for 2 * Pi
-		fx = p -> new SegmentBuilder(toSegment(pi(p.getScale()).multiply(d(2)), 0,
-				fp(p)));
+		fx = p -> constant("tau", p, x -> pi(x).multiply(d(2)));
 		s.put("\u03A4", Tuple.of("\\tau", fx));
 		
 		//Pythagoras constant Sqrt[2]
-		fx = p -> new SegmentBuilder(toSegment(sqrt(d(2), mc(p.getScale())), 0,
-				fp(p)));
+		fx = p -> constant("pythagoras", p, x -> sqrt(d(2), mc(x)));
 		s.put("Py", Tuple.of("\\sqrt{2}", fx));
 		
 		//Theodorus constant Sqrt[3]
-		fx = p -> new SegmentBuilder(toSegment(sqrt(d(3), mc(p.getScale())), 0,
-				fp(p)));
+		fx = p -> constant("theodorus", p, x -> sqrt(d(3), mc(x)));
 		s.put("Th", Tuple.of("\\sqrt{3}", fx));
 		
 		//Apery number to the 50th index in the apery series
@@ -135,19 +143,19 @@ public class Scientific implements Evaluator<LinkedSegment>, Name.Params {
 		s.put("Ap", Tuple.of("\\zeta(3)", fx));
 		
 		//golden ratio
-		fx = p -> new SegmentBuilder(toSegment(sqrt(d(5), mc(p.getScale())).add(d(1)).divide(d(2), mc(p.getScale())), 0, fp(p)));
+		fx = p -> constant("golden", p, x -> sqrt(d(5), mc(x)).add(d(1)).divide(d(2), mc(x)));
 		s.put("Gr", Tuple.of("\\phi", fx));
 		
 		//Super golden ratio
-		fx = p -> new SegmentBuilder(toSegment(superGR(p.getScale()), 0, fp(p)));
+		fx = p -> constant("superGolden", p, Constants::superGR);
 		s.put("SgR", Tuple.of("\\psi_S", fx));
 		
 		//Silver ratio
-		fx = p -> new SegmentBuilder(toSegment(sqrt(d(2), mc(p.getScale())).add(d(1)), 0, fp(p)));
+		fx = p -> constant("silver", p, x -> sqrt(d(2), mc(x)).add(d(1)));
 		s.put("\u0394", Tuple.of("\\delta_S", fx));
 		
 		//Euler-Mascheroni constant
-		fx = p -> new SegmentBuilder(toSegment(em(p.getScale()), 0, fp(p)));
+		fx = p -> constant("eulerMascheroni", p, Constants::em);
 		s.put("\\u03b3", Tuple.of("\\gamma", fx));
 		
 		//Meissel–Mertens constant
@@ -163,7 +171,7 @@ public class Scientific implements Evaluator<LinkedSegment>, Name.Params {
 		s.put("HsM", Tuple.of("\\sigma", fx));
 		
 		//Conway constant
-		fx = p -> new SegmentBuilder(toSegment(conway(p.getScale()), 0, fp(p)));
+		fx = p -> constant("conway", p, Constants::conway);
 		s.put("\u03bb", Tuple.of("\\lambda", fx));
 		
 		//Mills constant
@@ -171,7 +179,7 @@ public class Scientific implements Evaluator<LinkedSegment>, Name.Params {
 		s.put("\u03b8", Tuple.of("\\theta", fx));
 		
 		//Plastic constant
-		fx = p -> new SegmentBuilder(toSegment(plastic(p.getScale()), 0, fp(p)));
+		fx = p -> constant("plastic", p, Constants::plastic);
 		s.put("\u03c1", Tuple.of("\\rho", fx));
 		
 		//Ramanujan–Soldner constant
@@ -179,15 +187,15 @@ public class Scientific implements Evaluator<LinkedSegment>, Name.Params {
 		s.put("\u03bc", Tuple.of("\\mu", fx));
 		
 		//Levy's constant
-		fx = p -> new SegmentBuilder(toSegment(levy(p.getScale()), 0, fp(p)));
+		fx = p -> constant("levy", p, Constants::levy);
 		s.put("LeV", Tuple.of("L_y", fx));
 		
 		//Conjugate of fibonacci constant
-		fx = p -> new SegmentBuilder(toSegment(conf(p.getScale()), 0, fp(p)));
+		fx = p -> constant("conjugateFibonacci", p, Constants::conf);
 		s.put("CfC", Tuple.of("\\psi_{CF}", fx));
 		
 		//Reciprocal fibonacci constant
-		fx = p -> new SegmentBuilder(toSegment(recFib(250, p.getScale()), 0, fp(p)));
+		fx = p -> constant("reciprocalFibonacci", p, x -> recFib(250, x));
 		s.put("RfC", Tuple.of("\\psi_{RF}", fx));
 		
 		//Feigenbaum 2nd constant. It is a rational value but the sci calculator cannot yet process constants with rational values
@@ -197,7 +205,7 @@ public class Scientific implements Evaluator<LinkedSegment>, Name.Params {
 		s.put("FbS", Tuple.of("F_2", fx));
 		
 		//Sierpinski's constant
-		fx = p -> new SegmentBuilder(toSegment(sierpinski(p.getScale()), 0, fp(p)));
+		fx = p -> constant("sierpinski", p, Constants::sierpinski);
 		s.put("Ks", Tuple.of("K", fx));
 		
 		//Khinchin's constant
@@ -205,23 +213,23 @@ public class Scientific implements Evaluator<LinkedSegment>, Name.Params {
 		s.put("KhC", Tuple.of("K_0", fx));
 		
 		//universal parabolic constant
-		fx = p -> new SegmentBuilder(toSegment(uniParabola(p.getScale()), 0, fp(p)));
+		fx = p -> constant("universalParabolic", p, Constants::uniParabola);
 		s.put("Up", Tuple.of("P_2", fx));
 		
 		//Erdos–Borwein's constant
-		fx = p -> new SegmentBuilder(toSegment(eb(250, p.getScale()), 0, fp(p)));
+		fx = p -> constant("erdosBorwein", p, x -> eb(250, x));
 		s.put("ErBo", Tuple.of("E", fx));
 		
 		//Lieb's square ice constant
-		fx = p -> new SegmentBuilder(toSegment(lieb(p.getScale()), 0, fp(p)));
+		fx = p -> constant("lieb", p, Constants::lieb);
 		s.put("LsI", Tuple.of("L_c", fx));
 		
 		//Catalan's constant
-		fx = p -> new SegmentBuilder(toSegment(catalan(p.getScale()), 0, fp(p)));
+		fx = p -> constant("catalan", p, Constants::catalan);
 		s.put("Ct", Tuple.of("L_c", fx));
 		
 		//Omega constant
-		fx = p -> new SegmentBuilder(toSegment(omega(p.getScale()), 0, fp(p)));
+		fx = p -> constant("omega", p, Constants::omega);
 		s.put("\u03A9", Tuple.of("\\Omega", fx));
 	}
 
@@ -667,7 +675,7 @@ public class Scientific implements Evaluator<LinkedSegment>, Name.Params {
 	public LinkedSegment evaluate(String expression) throws RuntimeException {
 		final String src = symja.evaluate(expression);
 		lexer.setSource(src);
-		EvaluatableExpression<Name.Params> f = parser.parse(lexer, lexer.getSyntax(), Scientific.this);
+		EvaluatableExpression<Name.Params> f = ExpressionCompiler.compile(parser.parse(lexer, lexer.getSyntax(), Scientific.this));
 		parser.reset();
 
 		if (getResultType() != Name.Params.ResultType.EXPRESSION)// (EXPRESSION_MASK == (modifier & EXPRESSION_MASK))
@@ -4,24 +4,24 @@
 package mathaid.calculator.base.evaluator;
 
 import java.text.CharacterIterator;
-import java.text.Collator;
 import java.text.StringCharacterIterator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import org.matheclipse.core.eval.EvalEngine;
 import org.matheclipse.core.eval.EvalUtilities;
 
 import mathaid.MomentString;
 import mathaid.calculator.base.converter.AngleUnit;
-import mathaid.calculator.base.evaluator.parser.PrattParser;
+import mathaid.calculator.base.evaluator.parser.ParserPool;
 import mathaid.calculator.base.evaluator.parser.ScientificLexer;
 import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
+import mathaid.calculator.base.evaluator.parser.expression.scientific.ExpressionCompiler;
 import mathaid.calculator.base.evaluator.parser.expression.scientific.Name;
 import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
 import mathaid.calculator.base.gui.GUIComponent;
@@ -69,6 +69,14 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 	public static final int NUM_INPUT_TYPE = 1;
 	public static final int INT_INPUT_MASK = 3;
 	public static final int SYMBOL_INPUT_MASK = 2;
+	/**
+	 * The maximum number of evaluated expressions held by the result cache of a {@code ScientificCalculator}.
+	 */
+	public static final int RESULT_CACHE_CAPACITY = 512;
+	/**
+	 * The number of CAS engines created by {@link #ScientificCalculator(KeyBoard, KeyAction)}.
+	 */
+	public static final int DEFAULT_ENGINE_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
 //	static final int REWRITE_DIFF = "diff".hashCode();
 	/**
 	 * A constant meant to be used as an argument for
@@ -340,8 +348,8 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 
 	}
 
-	private static Evaluator<String> getSymjaEvaluator(Params params) {
-		return new Symja(params);
+	private static EvaluatorPool<String> getSymjaEvaluator(Params params, int engines) {
+		return new EvaluatorPool<>(engines, () -> new Symja(params), "1+1");
 	}
 
 	/*
@@ -356,10 +364,27 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 	 *                         {@code Sin(x)}.
 	 */
 	public ScientificCalculator(KeyBoard<T, F> keyboard, KeyAction<T, String> modKeys) {
+		this(keyboard, modKeys, DEFAULT_ENGINE_COUNT);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:24:09 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code ScientificCalculator} that evaluates expressions with the given number of CAS engines, allowing that
+	 * many expressions to be evaluated in parallel.
+	 * 
+	 * @param keyboard the keyboard of this calculator.
+	 * @param modKeys  the modifier keys of this calculator.
+	 * @param engines  the number of isolated CAS engines to be created. Each engine is warmed up before this constructor returns.
+	 * @throws IllegalArgumentException if {@code engines < 1}.
+	 */
+	public ScientificCalculator(KeyBoard<T, F> keyboard, KeyAction<T, String> modKeys, int engines) {
 		this.keyboard = keyboard;
 		this.modKeys = modKeys;
-		lexer = new ScientificLexer();
-		parser = new PrattParser<>();
+		final ScientificLexer lexer = new ScientificLexer();
+		parsers = new ParserPool<>(() -> new ScientificLexer("", lexer.getSyntax()));
 //		complex = false;
 		resultType = Name.Params.ResultType.DECIMAL;
 		intGroupSize = 3;
@@ -375,8 +400,9 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 		trig = AngleUnit.DEG;
 		constants = new HashMap<>();
 		boundVariables = new HashMap<>();
-		evaluator = getSymjaEvaluator(this);
+		evaluator = getSymjaEvaluator(this, engines);
 		details = new Scientific();
+		results = new EvaluationCache<>(RESULT_CACHE_CAPACITY);
 	}
 
 	@Override
@@ -542,6 +568,7 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 	 */
 	public void addConstant(String name, Couple<String, Function<Params, SegmentBuilder>> constant) {
 		this.constants.put(name, constant);
+		results.invalidateAll();
 	}
 
 	/*
@@ -565,6 +592,7 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 	 */
 	public void addBoundVariables(String name, Couple<String, Function<Params, SegmentBuilder>> boundVariable) {
 		this.boundVariables.put(name, boundVariable);
+		results.invalidateAll();
 	}
 
 	/*
@@ -776,6 +804,92 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 		this.trig = trig;
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:21:16 ---------------------------------------------------
+	 */
+	/**
+	 * Creates the key of the given expression in the {@linkplain #getResultCache() result cache}. The key consists of the
+	 * expression with it's runs of white space collapsed into a single space and the options that change the result of an
+	 * evaluation, namely the scale, angle unit, result type, the complex flag and whether the expression is to be evaluated. The
+	 * options that only affect formatting are not part of the key because the cached result is formatted afresh on every call.
+	 * 
+	 * @param expression the expression to be evaluated.
+	 * @return the key of {@code expression} using the current options of this calculator.
+	 */
+	private String cacheKey(String expression) {
+		return new StringBuilder(expression.strip().replaceAll("\\s+", " ")).append('\0').append(getScale()).append('\0')
+				.append(getTrig()).append('\0').append(getResultType()).append('\0').append(isComplex()).append('\0')
+				.append(modifier & EXPRESSION_MASK).toString();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:27:31 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the result of the given expression may be retrieved from the result cache. An expression that
+	 * {@linkplain #isAssignment(String) assigns} a value within the CAS (and thereby changes the result of later expressions) or
+	 * that produces a random value is never cached.
+	 * 
+	 * @param expression the expression to be evaluated.
+	 * @return {@code true} if the result of {@code expression} depends only on the expression and the options of this calculator.
+	 */
+	private static boolean isCacheable(String expression) {
+		return !isAssignment(expression) && !expression.contains("Random");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:48:12 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the given expression changes the state of the CAS, such as {@code x = 2}, {@code f[x_] := x^2}, {@code x += 1},
+	 * {@code x =.} or {@code Clear[x]}. The comparisons {@code ==}, {@code ===}, {@code !=}, {@code =!=}, {@code <=} and
+	 * {@code >=} are not assignments.
+	 * 
+	 * @param expression the expression to be evaluated.
+	 * @return {@code true} if {@code expression} assigns or clears a value within the CAS.
+	 */
+	static boolean isAssignment(String expression) {
+		return ASSIGNMENT.matcher(expression).find();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:29:02 ---------------------------------------------------
+	 */
+	/**
+	 * Evaluates the given expression with a CAS engine (or with every engine if it is an assignment), then parses, compiles and
+	 * (if the {@link #EXPRESSION_MASK} is set) evaluates the result. This is the uncached part of {@link #evaluate(String)}.
+	 * 
+	 * @param expression the expression to be evaluated.
+	 * @return the unformatted result of {@code expression}.
+	 */
+	private EvaluatableExpression<Params> compute(String expression) {
+		final String src = isAssignment(expression) ? evaluator.evaluateAll(expression) : evaluator.evaluate(expression);
+		EvaluatableExpression<Params> f = parsers.parse(src, this);
+		f = ExpressionCompiler.compile(f);
+
+		if (EXPRESSION_MASK == (modifier & EXPRESSION_MASK))// (getResultType() != Params.ResultType.EXPRESSION)
+			f = f.evaluate();
+		return f;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:24:50 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the cache that maps previously evaluated expressions to their result. This can be used to query the hit, miss and
+	 * eviction counts.
+	 * 
+	 * @return the result cache of this calculator.
+	 */
+	public EvaluationCache<String, EvaluatableExpression<Params>> getResultCache() {
+		return results;
+	}
+
 	/*
 	 * Most Recent Date: 4 Sep 2022-----------------------------------------------
 	 * Most recent time created: 06:02:35--------------------------------------
@@ -788,18 +902,14 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 	 */
 	@Override
 	public SegmentBuilder evaluate(String expression) {
-		final String src;
-		synchronized (evaluator) {
-			src = evaluator.evaluate(expression);
-		}
 		EvaluatableExpression<Params> f;
-		synchronized (lexer) {
-			lexer.setSource(src);
-			f = parser.parse(lexer, lexer.getSyntax(), this);
+		if (isCacheable(expression))
+			f = results.get(cacheKey(expression), k -> compute(expression));
+		else {
+			f = compute(expression);
+			if (isAssignment(expression))
+				results.invalidateAll();
 		}
-
-		if (EXPRESSION_MASK == (modifier & EXPRESSION_MASK))// (getResultType() != Params.ResultType.EXPRESSION)
-			f = f.evaluate();
 		SegmentBuilder sb = new SegmentBuilder();
 		f.format(sb);
 		if (hasIntegral())
@@ -835,9 +945,10 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 			Appendable sb = new NumberAdapter();
 			src.toString(sb, null, new ArrayList<>(Arrays.asList(-1)));
 			String s = sb.toString();
-			Collator c = Collator.getInstance(Locale.US);
+			final DetailsContext ctx = new DetailsContext(s, ScientificCalculator.this);
+			final int traits = ExpressionTraits.classify(evaluator, s);
 			// it has a single value as it's result
-			boolean isAtomic = c.compare(evaluator.evaluate(String.format("AtomicQ[%s]", s)), "True") == 0;
+			boolean isAtomic = ExpressionTraits.is(traits, ExpressionTraits.ATOMIC);
 			/*
 			 * There 2 evaluation methods. 1. IExpr.evaluate(EvalEngine); this one is for
 			 * numerical evaluations but is not always reliable because sometimes it returns
@@ -848,27 +959,31 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 			 * result is expected to be an expression.
 			 */
 			if (isAtomic) {// meaning this expression contains just a single node
-				boolean isNumber = c.compare(evaluator.evaluate(String.format("NumberQ[%s]", s)), "True") == 0;
-				boolean isSymbol = c.compare(evaluator.evaluate(String.format("SymbolQ[%s]", s)), "True") == 0;
+				boolean isNumber = ExpressionTraits.is(traits, ExpressionTraits.NUMBER);
+				boolean isSymbol = ExpressionTraits.is(traits, ExpressionTraits.SYMBOL);
 				if (isNumber) {
-					boolean isComplex = c.compare(evaluator.evaluate(String.format("RealNumberQ[%s]", s)).toString(),
-							"False") == 0;
+					boolean isComplex = ExpressionTraits.is(traits, ExpressionTraits.NUMBER | ExpressionTraits.NOT_REAL);
 					boolean isFrac = s.indexOf("Rational[") >= 0 || Utility.isFraction(s);
-					boolean isInteger = c.compare(evaluator.evaluate(String.format("IntegerQ[%s]", s)), "True") == 0;
+					boolean isInteger = ExpressionTraits.is(traits, ExpressionTraits.INTEGER);
 					if (isComplex) {
-						details.put(new MomentString("Expression"), CompDetails.getExpression(s, ScientificCalculator.this));
-						details.put(new MomentString("Engineering notation"), CompDetails.inEngineering(s, ScientificCalculator.this));
-						details.put(new MomentString("Engineering suffix notation"),
-								CompDetails.inEngineeringSuffix(s, ScientificCalculator.this));
-						details.put(new MomentString("Scientific notation"), CompDetails.inScientific(s, ScientificCalculator.this));
-						details.put(new MomentString("Fixed notation"), CompDetails.inFixed(s, ScientificCalculator.this));
-						details.put(new MomentString("Real"), CompDetails.getReal(s, ScientificCalculator.this));
-						details.put(new MomentString("Imaginary"), CompDetails.getImaginary(s, ScientificCalculator.this));
-						details.put(new MomentString("Argument"), CompDetails.getArg(s, ScientificCalculator.this));
-						details.put(new MomentString("Magnitude"), CompDetails.getMagnitude(s, ScientificCalculator.this));
-						details.put(new MomentString("X coordinate"), CompDetails.getXCoordinate(s, ScientificCalculator.this));
-						details.put(new MomentString("Y coordinate"), CompDetails.getYCoordinate(s, ScientificCalculator.this));
-						details.put(new MomentString("As common fraction"), CompDetails.inCommonFraction(s, ScientificCalculator.this));
+						details.put(new MomentString("Expression"), CompDetails.getExpression(ctx));
+						defer(new MomentString("Engineering notation"),
+								() -> CompDetails.inEngineering(ctx));
+						defer(new MomentString("Engineering suffix notation"),
+								() -> CompDetails.inEngineeringSuffix(ctx));
+						defer(new MomentString("Scientific notation"),
+								() -> CompDetails.inScientific(ctx));
+						defer(new MomentString("Fixed notation"), () -> CompDetails.inFixed(ctx));
+						defer(new MomentString("Real"), () -> CompDetails.getReal(ctx));
+						defer(new MomentString("Imaginary"), () -> CompDetails.getImaginary(ctx));
+						defer(new MomentString("Argument"), () -> CompDetails.getArg(ctx));
+						defer(new MomentString("Magnitude"), () -> CompDetails.getMagnitude(ctx));
+						defer(new MomentString("X coordinate"),
+								() -> CompDetails.getXCoordinate(ctx));
+						defer(new MomentString("Y coordinate"),
+								() -> CompDetails.getYCoordinate(ctx));
+						defer(new MomentString("As common fraction"),
+								() -> CompDetails.inCommonFraction(ctx));
 					} else if (isFrac) {
 						if (Utility.isFraction(s)) {
 							BigFraction f = Digits.fromSegmentString(s);
@@ -877,37 +992,48 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 						} else {
 							details.put(new MomentString("Expression"), src);
 						}
-						details.put(new MomentString("Lowest term"), FractionalDetails.toLowestTerm(s, ScientificCalculator.this));
-						details.put(new MomentString("Mixed fraction"),
-								FractionalDetails.toMixedFraction(s, ScientificCalculator.this));
-						details.put(new MomentString("Continued fraction"),
-								FractionalDetails.getContinuedFraction(s, ScientificCalculator.this));
-						details.put(new MomentString("Egyptian fraction"),
-								FractionalDetails.getEgyptianFraction(s, ScientificCalculator.this));
-						details.put(new MomentString("Prime factor(s)"), FractionalDetails.getFactors(s, ScientificCalculator.this));
-						details.put(new MomentString("Period"), FractionalDetails.getPeriod(s, ScientificCalculator.this));
-						details.put(new MomentString("Percentage"), FractionalDetails.getPercentage(s, ScientificCalculator.this));
-						details.put(new MomentString("Quotient"), FractionalDetails.getQuotient(s, ScientificCalculator.this));
-						details.put(new MomentString("Remainder"), FractionalDetails.getRemainder(s, ScientificCalculator.this));
-						details.put(new MomentString("Decimal"), FractionalDetails.getFractionAsDecimal(s, ScientificCalculator.this));
-						details.put(new MomentString("Engineering notation"),
-								FractionalDetails.inEngineering(s, ScientificCalculator.this));
-						details.put(new MomentString("Engineering suffix notation"),
-								FractionalDetails.inEngineeringSuffix(s, ScientificCalculator.this));
-						details.put(new MomentString("Scientific notation"),
-								FractionalDetails.inScientific(s, ScientificCalculator.this));
-						details.put(new MomentString("Fixed notation"), FractionalDetails.inFixed(s, ScientificCalculator.this));
-//						TODO: details.put(new MomentString("Number line"), FractionalDetails.getPeriod(s, ScientificCalculator.this));
+						defer(new MomentString("Lowest term"),
+								() -> FractionalDetails.toLowestTerm(ctx));
+						defer(new MomentString("Mixed fraction"),
+								() -> FractionalDetails.toMixedFraction(ctx));
+						defer(new MomentString("Continued fraction"),
+								() -> FractionalDetails.getContinuedFraction(ctx));
+						defer(new MomentString("Egyptian fraction"),
+								() -> FractionalDetails.getEgyptianFraction(ctx));
+						defer(new MomentString("Prime factor(s)"),
+								() -> FractionalDetails.getFactors(ctx));
+						defer(new MomentString("Period"), () -> FractionalDetails.getPeriod(ctx));
+						defer(new MomentString("Percentage"),
+								() -> FractionalDetails.getPercentage(ctx));
+						defer(new MomentString("Quotient"),
+								() -> FractionalDetails.getQuotient(ctx));
+						defer(new MomentString("Remainder"),
+								() -> FractionalDetails.getRemainder(ctx));
+						defer(new MomentString("Decimal"),
+								() -> FractionalDetails.getFractionAsDecimal(ctx));
+						defer(new MomentString("Engineering notation"),
+								() -> FractionalDetails.inEngineering(ctx));
+						defer(new MomentString("Engineering suffix notation"),
+								() -> FractionalDetails.inEngineeringSuffix(ctx));
+						defer(new MomentString("Scientific notation"),
+								() -> FractionalDetails.inScientific(ctx));
+						defer(new MomentString("Fixed notation"),
+								() -> FractionalDetails.inFixed(ctx));
+//						TODO: defer(new MomentString("Number line"), () -> FractionalDetails.getPeriod(s, ScientificCalculator.this));
 					} else if (isInteger) {
 						details.put(new MomentString("Expression"), src);
-						details.put(new MomentString("Prime factors"), FractionalDetails.getFactors(s, ScientificCalculator.this));
+						defer(new MomentString("Prime factors"),
+								() -> FractionalDetails.getFactors(ctx));
 						details.put(new MomentString("Roman figure"),
 								Segments.constant(s, Utility.romanNumeral(Integer.valueOf(s))));
 					} else {
 						details.put(new MomentString("Expression"), src);
-						details.put(new MomentString("Scientific notation"), DecDetails.inScientific(s, ScientificCalculator.this));
-						details.put(new MomentString("Engineering notation"), DecDetails.inEngineering(s, ScientificCalculator.this));
-						details.put(new MomentString("Engineering SI"), DecDetails.inEngineeringSI(s, ScientificCalculator.this));
+						defer(new MomentString("Scientific notation"),
+								() -> DecDetails.inScientific(ctx));
+						defer(new MomentString("Engineering notation"),
+								() -> DecDetails.inEngineering(ctx));
+						defer(new MomentString("Engineering SI"),
+								() -> DecDetails.inEngineeringSI(ctx));
 					}
 				} else if (isSymbol) {
 					details.put(new MomentString("Expression"), src);
@@ -930,87 +1056,76 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 
 			if (occurence(s, '*') > 1)
 //				list.add(ExpressionDetailsList.REWRITE_DISTRIBUTE);
-				details.put(new MomentString("Distribute"), rewrite(s, REWRITE_DISTRIBUTE));
+				submit(new MomentString("Distribute"), () -> rewrite(s, REWRITE_DISTRIBUTE));
 			if ((occurence(s, '(') > 0 && occurence(s, '^') > 0) || (occurence(s, '(') > 1))
-				details.put(new MomentString("Expand"), rewrite(s, REWRITE_EXPAND));
+				submit(new MomentString("Expand"), () -> rewrite(s, REWRITE_EXPAND));
 			if ((occurence(s, '(') > 0 && occurence(s, '^') > 0) || (occurence(s, '(') > 1))
-				details.put(new MomentString("ExpandAll"), rewrite(s, REWRITE_EXPAND_ALL));
+				submit(new MomentString("ExpandAll"), () -> rewrite(s, REWRITE_EXPAND_ALL));
 			if (occurence(s, 'I') > 0 || s.contains("Complex"))
-				details.put(new MomentString("ExpandComplex"), rewrite(s, REWRITE_EXPAND_COMPLEX));
+				submit(new MomentString("ExpandComplex"), () -> rewrite(s, REWRITE_EXPAND_COMPLEX));
 			if (occurence(s, '/') > 0 && occurence(s, '(') > 1) {
 				if (occurence(s, 'y') == 0 || occurence(s, 'x') == 0)
-					details.put(new MomentString("Apart"), rewrite(s, REWRITE_FRACTIONS_APART));
+					submit(new MomentString("Apart"), () -> rewrite(s, REWRITE_FRACTIONS_APART));
 				else {
-					details.put(new MomentString("Apartx"), rewrite(s, REWRITE_FRACTIONS_APARTX));
-					details.put(new MomentString("Aparty"), rewrite(s, REWRITE_FRACTIONS_APARTY));
+					submit(new MomentString("Apartx"), () -> rewrite(s, REWRITE_FRACTIONS_APARTX));
+					submit(new MomentString("Aparty"), () -> rewrite(s, REWRITE_FRACTIONS_APARTY));
 				}
 			}
 			if (occurence(s, '/') > 1)
-				details.put(new MomentString("Together"), rewrite(s, REWRITE_FRACTIONS_TOGETHER));
+				submit(new MomentString("Together"), () -> rewrite(s, REWRITE_FRACTIONS_TOGETHER));
 			if ((occurence(s, '*') > 0 && occurence(s, '^') > 0) || (occurence(s, '^') > 1))
-				details.put(new MomentString("PowerExpand"), rewrite(s, REWRITE_EXPAND_POWER));
+				submit(new MomentString("PowerExpand"), () -> rewrite(s, REWRITE_EXPAND_POWER));
 			if (occurence(s, 'x') > 0) {
-				details.put(new MomentString("SimplifyX"), rewrite(s, REWRITE_SIMPLIFYX));
-				details.put(new MomentString("SimplifyX1"), rewrite(s, REWRITE_SIMPLIFYX1));
+				submit(new MomentString("SimplifyX"), () -> rewrite(s, REWRITE_SIMPLIFYX));
+				submit(new MomentString("SimplifyX1"), () -> rewrite(s, REWRITE_SIMPLIFYX1));
 			}
 			if (occurence(s, 'y') > 0) {
-				details.put(new MomentString("SimplifyY"), rewrite(s, REWRITE_SIMPLIFYY));
-				details.put(new MomentString("SimplifyY1"), rewrite(s, REWRITE_SIMPLIFYY1));
+				submit(new MomentString("SimplifyY"), () -> rewrite(s, REWRITE_SIMPLIFYY));
+				submit(new MomentString("SimplifyY1"), () -> rewrite(s, REWRITE_SIMPLIFYY1));
 			}
 			if (contains(s, trigFunctions())) {
-				details.put(new MomentString("TrigExpand"), rewrite(s, REWRITE_TRIG_EXPAND));
-				details.put(new MomentString("TrigToExp"), rewrite(s, REWRITE_TRIG_TO_EXPONENT));
+				submit(new MomentString("TrigExpand"), () -> rewrite(s, REWRITE_TRIG_EXPAND));
+				submit(new MomentString("TrigToExp"), () -> rewrite(s, REWRITE_TRIG_TO_EXPONENT));
 			}
 			if (containsOccurence(s, trigFunctions()) > 1 && s.contains("*"))
-				details.put(new MomentString("TrigReduce"), rewrite(s, REWRITE_TRIG_REDUCE));
+				submit(new MomentString("TrigReduce"), () -> rewrite(s, REWRITE_TRIG_REDUCE));
 			if(!hasIntegral()) {
-				String i = evaluator.evaluate(String.format("Integrate[%1$s, %2$s]", s, ScientificCalculator.this.getIndependentVariables()[0]));
-				EvaluatableExpression<Params> f;
-				synchronized (lexer) {
-					lexer.setSource(i);
-					f = parser.parse(lexer, lexer.getSyntax(), ScientificCalculator.this);
-				}
-
-				SegmentBuilder integral = new SegmentBuilder();
-				f.format(integral);
-				
-				details.put(new MomentString(String.format("Integral (with respect to %s)", ScientificCalculator.this.getIndependentVariables()[0])), integral.toSegment());
-				i = evaluator.evaluate(String.format("Integrate[%1$s, %2$s]", s, ScientificCalculator.this.getIndependentVariables()[1]));
-				synchronized (lexer) {
-					lexer.setSource(i);
-					f = parser.parse(lexer, lexer.getSyntax(), ScientificCalculator.this);
-				}
-
-				f.format(integral.deleteAll());
-				
-				details.put(new MomentString(String.format("Integral (with respect to %s)", ScientificCalculator.this.getIndependentVariables()[1])), integral.toSegment());
+				final char[] v = ScientificCalculator.this.getIndependentVariables();
+				submit(new MomentString(String.format("Integral (with respect to %s)", v[0])),
+						() -> calculus("Integrate", s, v[0]));
+				submit(new MomentString(String.format("Integral (with respect to %s)", v[1])),
+						() -> calculus("Integrate", s, v[1]));
 			}
 			if(!hasDifferential()) {
-				String i = evaluator.evaluate(String.format("D[%1$s, %2$s]", s, ScientificCalculator.this.getIndependentVariables()[0]));
-				EvaluatableExpression<Params> f;
-				synchronized (lexer) {
-					lexer.setSource(i);
-					f = parser.parse(lexer, lexer.getSyntax(), ScientificCalculator.this);
-				}
-
-				SegmentBuilder diff = new SegmentBuilder();
-				f.format(diff);
-				
-				details.put(new MomentString(String.format("Differential (with respect to %s)", ScientificCalculator.this.getIndependentVariables()[0])), diff.toSegment());
-				i = evaluator.evaluate(String.format("D[%1$s, %2$s]", s, ScientificCalculator.this.getIndependentVariables()[1]));
-				synchronized (lexer) {
-					lexer.setSource(i);
-					f = parser.parse(lexer, lexer.getSyntax(), ScientificCalculator.this);
-				}
-
-				f.format(diff.deleteAll());
-				
-				details.put(new MomentString(String.format("Differential (with respect to %s)", ScientificCalculator.this.getIndependentVariables()[1])), diff.toSegment());
+				final char[] v = ScientificCalculator.this.getIndependentVariables();
+				submit(new MomentString(String.format("Differential (with respect to %s)", v[0])), () -> calculus("D", s, v[0]));
+				submit(new MomentString(String.format("Differential (with respect to %s)", v[1])), () -> calculus("D", s, v[1]));
 			}
 
 			super.run();
 		}
 
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 14:41:52 ---------------------------------------------------
+		 */
+		/**
+		 * Applies the given calculus function of the CAS to the expression with respect to the given variable and returns the
+		 * formatted result.
+		 * 
+		 * @param function the name of the function such as {@code Integrate} or {@code D}.
+		 * @param s        the expression.
+		 * @param variable the variable of integration or differentiation.
+		 * @return the formatted result of {@code function[s, variable]}.
+		 */
+		private LinkedSegment calculus(String function, String s, char variable) {
+			String i = evaluator.evaluate(String.format("%1$s[%2$s, %3$s]", function, s, variable));
+			EvaluatableExpression<Params> f = parsers.parse(i, ScientificCalculator.this);
+			SegmentBuilder sb = new SegmentBuilder();
+			f.format(sb);
+			return sb.toSegment();
+		}
+
 		/*
 		 * Date: 11 Aug 2021-----------------------------------------------------------
 		 * Time created: 11:45:21--------------------------------------------
@@ -1081,11 +1196,7 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 			if (listOfArgs.contains(REWRITE_TRIG_TO_EXPONENT))
 				s = evaluator.evaluate(String.format("TrigToExp[%s]", s));
 
-			EvaluatableExpression<Params> f;
-			synchronized (lexer) {
-				lexer.setSource(s);
-				f = parser.parse(lexer, lexer.getSyntax(), ScientificCalculator.this);
-			}
+			EvaluatableExpression<Params> f = parsers.parse(s, ScientificCalculator.this);
 
 			SegmentBuilder sb = new SegmentBuilder();
 			f.format(sb);
@@ -1095,10 +1206,23 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 		}
 	}
 
-	private final ScientificLexer lexer;
-	private final PrattParser<EvaluatableExpression<Params>, Params> parser;
+	/**
+	 * Matches an assignment operator ({@code =}, {@code :=}, {@code +=}, {@code ^=} etc, but not a comparison) or the head of a
+	 * function that assigns or clears a value within the CAS.
+	 */
+	private static final Pattern ASSIGNMENT = Pattern.compile("(?<![=!<>])=(?!=|!=)|\\b(?:Set|SetDelayed|Unset|Clear|ClearAll"
+			+ "|UpSet|UpSetDelayed|TagSet|TagSetDelayed|AddTo|SubtractFrom|TimesBy|DivideBy|Increment|Decrement|PreIncrement"
+			+ "|PreDecrement)\\[");
+
+	/**
+	 * The lexer and parser pairs used to parse the results of the CAS engines. The lexers share a single syntax.
+	 */
+	private final ParserPool<EvaluatableExpression<Params>, Params, ScientificLexer> parsers;
 //	private final Params params;
-	private Evaluator<String> evaluator;
+	/**
+	 * The CAS engines used by {@link #evaluate(String)} and the details of the result.
+	 */
+	private final EvaluatorPool<String> evaluator;
 
 //	private boolean complex;
 	private boolean integral;
@@ -1117,6 +1241,10 @@ public class ScientificCalculator<T extends GUIComponent<T>, F> implements Calcu
 	private String[] multiplicationString;
 	private AngleUnit trig;
 	private final DetailsList<Name.Params> details;
+	/**
+	 * The evaluated (but unformatted) results of previous calls to {@link #evaluate(String)}.
+	 */
+	private final EvaluationCache<String, EvaluatableExpression<Params>> results;
 	private final Map<String, Couple<String, Function<Params, SegmentBuilder>>> constants;
 	private final Map<String, Couple<String, Function<Params, SegmentBuilder>>> boundVariables;
 	private final KeyBoard<T, F> keyboard;
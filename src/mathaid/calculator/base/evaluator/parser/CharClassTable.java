@@ -0,0 +1,210 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator.parser;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 18:41:12 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator.parser ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: CharClassTable.java ------------------------------------------------------
+ * Class name: CharClassTable ------------------------------------------------
+ */
+/**
+ * A precomputed lookup of the class (white space, punctuator, letter and/or digit) and the single-character {@link Type} of
+ * every {@code char} in a {@link CommonSyntax}, so that a lexer can classify a character with two array reads instead of
+ * searching the sets of boxed {@code Character}s and the types of the syntax.
+ * <p>
+ * The table has two levels: the high byte of a {@code char} selects a page of 256 entries and the low byte selects the entry
+ * in that page. Pages with no entries are shared, so a syntax made of ASCII characters only needs a single page of its own.
+ * <p>
+ * A table is a snapshot of the syntax it was created from; it is not updated when the sets of the syntax change.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public final class CharClassTable {
+
+	/**
+	 * The class bit of the characters in {@link Syntax#getWhitespaces()}.
+	 */
+	public static final byte WHITESPACE = 1;
+	/**
+	 * The class bit of the characters in {@link Syntax#getPunctuatorsAndDelimiters()}.
+	 */
+	public static final byte PUNCTUATOR = 2;
+	/**
+	 * The class bit of the characters in {@link Syntax#getLetters()}.
+	 */
+	public static final byte LETTER = 4;
+	/**
+	 * The class bit of the characters in {@link Syntax#getDigits()}.
+	 */
+	public static final byte DIGIT = 8;
+	/**
+	 * The page shared by every range of 256 characters that has no class.
+	 */
+	private static final byte[] NO_CLASSES = new byte[256];
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:44:30 ---------------------------------------------------
+	 */
+	/**
+	 * Creates the table of the given syntax.
+	 * <p>
+	 * The type of a character is the first type (in the iteration order of {@link CommonSyntax#getTypes()}) whose name starts
+	 * with that character, which is the type {@link CommonSyntax#getType(Character)} has always returned.
+	 *
+	 * @param syntax the syntax whose characters are to be classified.
+	 * @return the table of the syntax.
+	 */
+	public static CharClassTable of(CommonSyntax<?, ?, ?> syntax) {
+		final CharClassTable t = new CharClassTable();
+		t.set(syntax.getWhitespaces(), WHITESPACE);
+		t.set(syntax.getPunctuatorsAndDelimiters(), PUNCTUATOR);
+		t.set(syntax.getLetters(), LETTER);
+		t.set(syntax.getDigits(), DIGIT);
+		if (syntax.getTypes() != null)
+			for (Type<String> type : syntax.getTypes()) {
+				final String name = type.getName();
+				if (name == null || name.isEmpty())
+					continue;
+				final char c = name.charAt(0);
+				Type<String>[] page = t.types[c >>> 8];
+				if (page == null)
+					page = t.types[c >>> 8] = newPage();
+				if (page[c & 0xFF] == null)
+					page[c & 0xFF] = type;
+			}
+		return t;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:47:03 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a page of types.
+	 *
+	 * @return an empty array of 256 types.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Type<String>[] newPage() {
+		return (Type<String>[]) new Type<?>[256];
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:45:51 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs an empty {@code CharClassTable}.
+	 */
+	@SuppressWarnings("unchecked")
+	private CharClassTable() {
+		classes = new byte[256][];
+		Arrays.fill(classes, NO_CLASSES);
+		types = (Type<String>[][]) new Type<?>[256][];
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:48:20 ---------------------------------------------------
+	 */
+	/**
+	 * Adds the given class bit to every character in the given set.
+	 *
+	 * @param chars the characters, which may be {@code null}.
+	 * @param bit   the class bit.
+	 */
+	private void set(Set<Character> chars, byte bit) {
+		if (chars == null)
+			return;
+		for (Character ch : chars) {
+			final char c = ch;
+			byte[] page = classes[c >>> 8];
+			if (page == NO_CLASSES)
+				page = classes[c >>> 8] = new byte[256];
+			page[c & 0xFF] |= bit;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:49:37 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the class bits of the given character.
+	 *
+	 * @param c a character.
+	 * @return the bitwise or of {@link #WHITESPACE}, {@link #PUNCTUATOR}, {@link #LETTER} and {@link #DIGIT} for each set of the
+	 *         syntax that contains the character, or {@code 0} if none does.
+	 */
+	public byte classOf(char c) {
+		return classes[c >>> 8][c & 0xFF];
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:50:12 ---------------------------------------------------
+	 */
+	/**
+	 * Checks whether the given character is in any of the classes given.
+	 *
+	 * @param c    a character.
+	 * @param mask the bitwise or of the classes to check.
+	 * @return {@code true} if the character is in at least one of the classes.
+	 */
+	public boolean is(char c, byte mask) {
+		return (classOf(c) & mask) != 0;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:51:02 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the type of the given character.
+	 *
+	 * @param c a character.
+	 * @return the type whose name starts with the character or {@code null} if there is none.
+	 */
+	public Type<String> typeOf(char c) {
+		final Type<String>[] page = types[c >>> 8];
+		return page == null ? null : page[c & 0xFF];
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:52:26 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the end of the run of characters, starting at the given index, that are all in at least one of the given classes.
+	 *
+	 * @param s    the characters to be scanned.
+	 * @param from the index of the first character to be checked.
+	 * @param to   the index after the last character to be checked.
+	 * @param mask the bitwise or of the classes of the run.
+	 * @return the index of the first character in {@code [from, to)} that is in none of the classes, or {@code to} if every one
+	 *         is.
+	 */
+	public int span(CharSequence s, int from, int to, byte mask) {
+		while (from < to && (classOf(s.charAt(from)) & mask) != 0)
+			from++;
+		return from;
+	}
+
+	/**
+	 * The pages of class bits by the high byte of a character.
+	 */
+	private final byte[][] classes;
+	/**
+	 * The pages of types by the high byte of a character. A page with no types is {@code null}.
+	 */
+	private final Type<String>[][] types;
+}
@@ -7,7 +7,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -656,6 +655,11 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 			 * characters that creates {@link Array} objects.
 			 */
 			Character[] arrayDelimiters;
+			/**
+			 * The table of the characters in this syntax, or {@code null} if it has to be created again because the sets it
+			 * is made from have changed.
+			 */
+			volatile CharClassTable charClasses;
 
 			/*
 			 * Most Recent Date: 1 Aug 2021-----------------------------------------------
@@ -670,13 +674,25 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 			 */
 			@Override
 			public Type<String> getType(Character c) {
-				Type<String> t;
-				for (Iterator<Type<String>> i = types.iterator(); i.hasNext();) {
-					t = i.next();
-					if ((!t.getName().isEmpty()) && t.getName().toString().charAt(0) == c)
-						return t;
-				}
-				return null;
+				return getCharClasses().typeOf(c);
+			}
+
+			/*
+			 * Date: 17 Oct 2026 -----------------------------------------------------------
+			 * Time created: 18:58:40 ---------------------------------------------------
+			 */
+			/**
+			 * Gets the table of the characters of this syntax, creating it if this syntax has been changed since it was last
+			 * created.
+			 * 
+			 * @return {@inheritDoc}
+			 */
+			@Override
+			public CharClassTable getCharClasses() {
+				CharClassTable t = charClasses;
+				if (t == null)
+					charClasses = t = CharClassTable.of(this);
+				return t;
 			}
 
 			/*
@@ -1030,6 +1046,7 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 		 * @return a {@code CommonSyntax}.
 		 */
 		public CommonSyntax<E, PrattParser<E, P>, P> build() {
+			syntax.charClasses = CharClassTable.of(syntax);
 			return syntax;
 		}
 
@@ -1113,6 +1130,7 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 			if (syntax.whitespaces == null)
 				syntax.whitespaces = new HashSet<>();
 			syntax.whitespaces.add(whitespace);
+			syntax.charClasses = null;
 			return this;
 		}
 
@@ -1146,6 +1164,7 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 			if (syntax.punctuators == null)
 				syntax.punctuators = new HashSet<>();
 			syntax.punctuators.add(c);
+			syntax.charClasses = null;
 			return this;
 		}
 
@@ -1173,6 +1192,7 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 			if (syntax.letters == null)
 				syntax.letters = new HashSet<>();
 			syntax.letters.add(letter);
+			syntax.charClasses = null;
 			return this;
 		}
 
@@ -1205,6 +1225,7 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 			if (syntax.digits == null)
 				syntax.digits = new HashSet<>();
 			syntax.digits.add(digit);
+			syntax.charClasses = null;
 			return this;
 		}
 
@@ -1242,6 +1263,7 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 		 */
 		public Builder<E, P> registerType(Type<String> type) {
 			syntax.types.add(type);
+			syntax.charClasses = null;
 			return this;
 		}
 
@@ -1259,6 +1281,7 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 		 */
 		public Builder<E, P> registerTypes(Collection<Type<String>> types) {
 			syntax.types.addAll(types);
+			syntax.charClasses = null;
 			return this;
 		}
 
@@ -1507,6 +1530,19 @@ public interface CommonSyntax<E extends EvaluatableExpression<A>, P extends Pars
 	 */
 	Type<String> getType(Character c);
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:56:02 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the precomputed classes and types of the characters in this syntax. Lexers use it to classify each character of the
+	 * source with array reads rather than with look-ups in the sets returned by {@link #getDigits()}, {@link #getLetters()},
+	 * {@link #getPunctuatorsAndDelimiters()} and {@link #getWhitespaces()}.
+	 * 
+	 * @return the table of the characters of this syntax.
+	 */
+	CharClassTable getCharClasses();
+
 	/*
 	 * Most Recent Date: 1 Aug 2021-----------------------------------------------
 	 * Most recent time created: 14:03:38--------------------------------------
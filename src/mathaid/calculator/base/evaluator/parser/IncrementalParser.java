@@ -0,0 +1,450 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator.parser;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression.ExpressionParams;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 21:12:09 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator.parser ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: IncrementalParser.java ------------------------------------------------------
+ * Class name: IncrementalParser ------------------------------------------------
+ */
+/**
+ * A {@code PrattParser} for an expression that is edited a little at a time, such as the one a user is typing. It keeps the
+ * tokens and the sub-expressions of the last source code it parsed, and parses an edit of that source code by re-lexing only the
+ * characters around the edit and re-using every sub-expression whose tokens were not changed by it.
+ * <h2>Re-lexing</h2>
+ * <p>
+ * The edit is found by comparing the new source code with the previous one: the characters before the first difference are the
+ * unchanged prefix, and the characters after the last difference are the unchanged suffix. The tokens that end before the
+ * prefix does are kept, and the lexer resumes from the end of the last kept token. It stops as soon as it reaches, inside the
+ * unchanged suffix, the place where one of the previous tokens started, because the tokens read from a place depend only on the
+ * characters after it. The previous tokens from that place are then re-used.
+ * <h2>Re-using sub-expressions</h2>
+ * <p>
+ * Every call to {@link #parse(int, Iterator, CommonSyntax, ExpressionParams)} starts at a token and, for a given precedence,
+ * returns an expression made from the tokens up to the one that made it stop. Such an expression is recorded, and is returned
+ * again without being parsed when the same call is made at the same token after an edit that did not change any of those
+ * tokens.
+ * <p>
+ * Sub-expressions depend on the params object as well as on the tokens, hence {@link #invalidate()} must be called whenever the
+ * params change in a way that affects parsing. An {@code IncrementalParser} is not thread-safe.
+ *
+ * @param <E> the type of expression parsed.
+ * @param <P> the type of params object.
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class IncrementalParser<E extends EvaluatableExpression<P>, P extends ExpressionParams<P>> extends PrattParser<E, P> {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:15:30 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.evaluator.parser ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: IncrementalParser.java ------------------------------------------------------
+	 * Class name: Memo ------------------------------------------------
+	 */
+	/**
+	 * An expression returned by {@link IncrementalParser#parse(int, Iterator, CommonSyntax, ExpressionParams)}. Memos that start
+	 * at the same token form a list.
+	 *
+	 * @param <E> the type of expression.
+	 */
+	private static final class Memo<E> {
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 21:16:02 ---------------------------------------------------
+		 */
+		/**
+		 * Constructs a {@code Memo}.
+		 *
+		 * @param precedence the precedence the parse started with.
+		 * @param span       the number of tokens from the first token to the one that made the parse stop.
+		 * @param expression the expression parsed.
+		 * @param next       the next memo that starts at the same token.
+		 */
+		Memo(int precedence, int span, E expression, Memo<E> next) {
+			this.precedence = precedence;
+			this.span = span;
+			this.expression = expression;
+			this.next = next;
+		}
+
+		/**
+		 * The precedence the parse started with.
+		 */
+		final int precedence;
+		/**
+		 * The number of tokens from the first token to the one that made the parse stop.
+		 */
+		final int span;
+		/**
+		 * The expression parsed.
+		 */
+		final E expression;
+		/**
+		 * The next memo that starts at the same token.
+		 */
+		final Memo<E> next;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:17:44 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.evaluator.parser ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: IncrementalParser.java ------------------------------------------------------
+	 * Class name: Stream ------------------------------------------------
+	 */
+	/**
+	 * An infinite {@code Iterator} over the tokens of the current source code.
+	 */
+	private final class Stream implements Iterator<Token<String>> {
+
+		/*
+		 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+		 * Most recent time created: 21:18:20 --------------------------------------
+		 */
+		/**
+		 * Returns <code>true</code>.
+		 *
+		 * @return <code>true</code>.
+		 */
+		@Override
+		public boolean hasNext() {
+			return true;
+		}
+
+		/*
+		 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+		 * Most recent time created: 21:18:51 --------------------------------------
+		 */
+		/**
+		 * Returns the token at the cursor and advances the cursor. An exception thrown by the lexer is thrown again when the
+		 * cursor reaches the token that could not be read.
+		 *
+		 * @return the next token or an end-of-file token.
+		 */
+		@Override
+		public Token<String> next() {
+			final int i = position++;
+			if (i < count)
+				return tokens[i];
+			if (error != null)
+				throw error;
+			return eof;
+		}
+
+		/**
+		 * The index of the next token.
+		 */
+		int position;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:20:35 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs an {@code IncrementalParser} that reads tokens with the given lexer. The lexer must not be used by anything else.
+	 *
+	 * @param lexer the lexer.
+	 */
+	@SuppressWarnings("unchecked")
+	public IncrementalParser(Lexer<E, P> lexer) {
+		this.lexer = lexer;
+		stream = new Stream();
+		tokens = (Token<String>[]) new Token<?>[16];
+		ends = new int[16];
+		memos = (Memo<E>[]) new Memo<?>[16];
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:22:12 ---------------------------------------------------
+	 */
+	/**
+	 * Parses the given source code, re-using what it has in common with the source code of the previous call.
+	 *
+	 * @param src    the source code.
+	 * @param params parameter object that contains data for the parse parselets.
+	 * @return the parsed expression.
+	 * @throws RuntimeException specifically a {@code java.lang.IllegalArgumentException} if the source code does not match the
+	 *                          syntax of the lexer.
+	 */
+	public E parse(String src, P params) {
+		if (invalid || source == null) {
+			invalid = false;
+			relex(src, 0, Integer.MAX_VALUE, 0);
+		} else if (!src.equals(source))
+			update(src);
+		reset();
+		stream.position = 0;
+		reused = 0;
+		return parse(stream, lexer.getSyntax(), params);
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 21:24:05 --------------------------------------
+	 */
+	/**
+	 * Parses as {@link PrattParser#parse(int, Iterator, CommonSyntax, ExpressionParams) the super class does}, except that when
+	 * the tokens are read from the source code given to {@link #parse(String, ExpressionParams)}, an expression that was parsed
+	 * from the same unchanged tokens with the same precedence is returned instead.
+	 *
+	 * @param beginingPrecedence {@inheritDoc}
+	 * @param lexer              {@inheritDoc}
+	 * @param syntax             {@inheritDoc}
+	 * @param params             {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws RuntimeException {@inheritDoc}
+	 */
+	@Override
+	public E parse(int beginingPrecedence, Iterator<Token<String>> lexer, CommonSyntax<E, PrattParser<E, P>, P> syntax,
+			P params) {
+		if (lexer != stream)
+			return super.parse(beginingPrecedence, lexer, syntax, params);
+		final int start = stream.position - getWaiting();
+		if (start >= count)
+			return super.parse(beginingPrecedence, lexer, syntax, params);
+		for (Memo<E> m = memos[start]; m != null; m = m.next)
+			if (m.precedence == beginingPrecedence) {
+				reset();
+				stream.position = start + m.span;
+				reused++;
+				return m.expression;
+			}
+		final E e = super.parse(beginingPrecedence, lexer, syntax, params);
+		memos[start] = new Memo<>(beginingPrecedence, stream.position - getWaiting() - start, e, memos[start]);
+		return e;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:26:48 ---------------------------------------------------
+	 */
+	/**
+	 * Discards every token and expression kept, so that the next source code is parsed in full. This must be called when the
+	 * params change in a way that affects parsing, such as the radix of numbers. This method may be called from any thread.
+	 */
+	public void invalidate() {
+		invalid = true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:27:33 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of tokens read by the lexer for the last source code parsed.
+	 *
+	 * @return the number of tokens that were not re-used.
+	 */
+	public int getLexed() {
+		return lexed;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:28:04 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of expressions that were re-used by the last parse.
+	 *
+	 * @return the number of sub-expressions that were not parsed again.
+	 */
+	public int getReused() {
+		return reused;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:29:15 ---------------------------------------------------
+	 */
+	/**
+	 * Finds the edit that changed the previous source code into the given one and re-lexes the characters around it.
+	 *
+	 * @param src the new source code.
+	 */
+	private void update(String src) {
+		final String old = source;
+		final int min = Math.min(old.length(), src.length());
+		int prefix = 0;
+		while (prefix < min && old.charAt(prefix) == src.charAt(prefix))
+			prefix++;
+		int suffix = 0;
+		while (suffix < min - prefix && old.charAt(old.length() - 1 - suffix) == src.charAt(src.length() - 1 - suffix))
+			suffix++;
+		/* A token that ends at the prefix may have looked at the first changed character, so it is read again */
+		int keep = Arrays.binarySearch(ends, 0, count, prefix);
+		keep = keep < 0 ? -keep - 1 : keep;
+		relex(src, keep, old.length() - suffix, src.length() - old.length());
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:31:40 ---------------------------------------------------
+	 */
+	/**
+	 * Keeps the given number of tokens, reads the tokens of the given source code after them and re-uses the previous tokens
+	 * from the first place in the unchanged suffix where the two agree.
+	 *
+	 * @param src    the new source code.
+	 * @param keep   the number of tokens to keep.
+	 * @param suffix the index in the previous source code where the unchanged suffix starts, or {@link Integer#MAX_VALUE} if
+	 *               nothing is to be re-used.
+	 * @param delta  the difference between the lengths of the new and the previous source code.
+	 */
+	@SuppressWarnings("unchecked")
+	private void relex(String src, int keep, int suffix, int delta) {
+		final Token<String>[] oldTokens = tokens;
+		final int[] oldEnds = ends;
+		final Memo<E>[] oldMemos = memos;
+		final int oldCount = source == null ? 0 : count;
+		final RuntimeException oldError = error;
+		source = null;
+		tokens = Arrays.copyOf(oldTokens, Math.max(16, oldTokens.length));
+		ends = Arrays.copyOf(oldEnds, tokens.length);
+		memos = (Memo<E>[]) new Memo<?>[tokens.length];
+		count = keep;
+		error = null;
+		lexed = 0;
+		for (int i = 0; i < keep; i++)
+			memos[i] = retain(oldMemos[i], keep - i);
+
+		int old = keep;
+		int index = keep == 0 ? 0 : ends[keep - 1];
+		lexer.setSource(src, index);
+		while (true) {
+			if (index - delta >= suffix) {
+				while (old < oldCount && oldEnds[old] <= index - delta)
+					old++;
+				if ((old == 0 ? 0 : oldEnds[old - 1]) == index - delta) {
+					final int n = oldCount - old;
+					grow(count + n + 1);
+					System.arraycopy(oldTokens, old, tokens, count, n);
+					System.arraycopy(oldMemos, old, memos, count, n);
+					for (int i = 0; i < n; i++)
+						ends[count + i] = oldEnds[old + i] + delta;
+					count += n;
+					error = oldError;
+					break;
+				}
+			}
+			if (index >= src.length()) {
+				eof = lexer.next();
+				break;
+			}
+			final Token<String> t;
+			try {
+				t = lexer.next();
+			} catch (RuntimeException e) {
+				error = e;
+				break;
+			}
+			index = lexer.getIndex();
+			grow(count + 2);
+			tokens[count] = t;
+			ends[count++] = index;
+			lexed++;
+		}
+		source = src;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:35:22 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the memos of the given list whose tokens, up to and including the one that made the parse stop, are all kept.
+	 *
+	 * @param m    the list of memos that start at a kept token.
+	 * @param kept the number of kept tokens from the start of the memos.
+	 * @return the memos that are still valid.
+	 */
+	private Memo<E> retain(Memo<E> m, int kept) {
+		Memo<E> head = null;
+		for (; m != null; m = m.next)
+			if (m.span < kept)
+				head = new Memo<>(m.precedence, m.span, m.expression, head);
+		return head;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:36:10 ---------------------------------------------------
+	 */
+	/**
+	 * Ensures that the arrays of tokens can hold the given number of tokens.
+	 *
+	 * @param capacity the number of tokens.
+	 */
+	private void grow(int capacity) {
+		if (capacity <= tokens.length)
+			return;
+		final int length = Math.max(capacity, tokens.length << 1);
+		tokens = Arrays.copyOf(tokens, length);
+		ends = Arrays.copyOf(ends, length);
+		memos = Arrays.copyOf(memos, length);
+	}
+
+	/**
+	 * The lexer.
+	 */
+	private final Lexer<E, P> lexer;
+	/**
+	 * The tokens of {@link #source} as read by the parser.
+	 */
+	private final Stream stream;
+	/**
+	 * The source code last parsed, or {@code null} if there is none.
+	 */
+	private String source;
+	/**
+	 * The tokens of {@link #source}.
+	 */
+	private Token<String>[] tokens;
+	/**
+	 * The index in {@link #source} of the character after each token.
+	 */
+	private int[] ends;
+	/**
+	 * The expressions parsed from the tokens, by the index of their first token.
+	 */
+	private Memo<E>[] memos;
+	/**
+	 * The number of tokens read before the end of {@link #source} or before {@link #error}.
+	 */
+	private int count;
+	/**
+	 * The exception thrown by the lexer after {@link #count} tokens, or {@code null} if it read all of {@link #source}.
+	 */
+	private RuntimeException error;
+	/**
+	 * The end-of-file token.
+	 */
+	private Token<String> eof;
+	/**
+	 * The number of tokens read by the lexer for {@link #source}.
+	 */
+	private int lexed;
+	/**
+	 * The number of expressions re-used by the last parse.
+	 */
+	private int reused;
+	/**
+	 * Set when every token and expression kept must be discarded.
+	 */
+	private volatile boolean invalid;
+}
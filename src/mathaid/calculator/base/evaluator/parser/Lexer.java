@@ -0,0 +1,75 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator.parser;
+
+import java.util.Iterator;
+
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression.ExpressionParams;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 20:12:05 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator.parser ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: Lexer.java ------------------------------------------------------
+ * Class name: Lexer ------------------------------------------------
+ */
+/**
+ * An infinite {@code Iterator} of tokens read from a source code that can be reused for another source code, together with
+ * the syntax that the tokens are parsed with by a {@link PrattParser}.
+ *
+ * @param <E> the type of expression parsed from the tokens.
+ * @param <P> the type of params object.
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public interface Lexer<E extends EvaluatableExpression<P>, P extends ExpressionParams<P>> extends Iterator<Token<String>> {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:13:40 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the source code to the given value and resets the cursor to the start of it.
+	 *
+	 * @param src the new source code.
+	 */
+	void setSource(String src);
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:02:48 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the source code to the given value and moves the cursor to the given index, so that the next token is read from that
+	 * index. The tokens read from an index depend only on the characters from that index onward.
+	 *
+	 * @param src   the new source code.
+	 * @param index the index of the cursor.
+	 */
+	void setSource(String src, int index);
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:03:31 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the index of the cursor, which is the index of the character after the last token read.
+	 *
+	 * @return the index of the cursor.
+	 */
+	int getIndex();
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:14:22 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the syntax used for validating symbols.
+	 *
+	 * @return the syntax.
+	 */
+	CommonSyntax<E, PrattParser<E, P>, P> getSyntax();
+}
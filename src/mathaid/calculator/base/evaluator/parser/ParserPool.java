@@ -0,0 +1,226 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator.parser;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression.ExpressionParams;
+import mathaid.functional.Supplier;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 20:30:44 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator.parser ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: ParserPool.java ------------------------------------------------------
+ * Class name: ParserPool ------------------------------------------------
+ */
+/**
+ * A pool of {@link Lexer} and {@link PrattParser} pairs that allows a calculator to parse expressions on several threads at
+ * once without serialising on a single lexer.
+ * <p>
+ * Neither a lexer nor a parser is thread-safe. A pair is borrowed with {@link #checkout()}, is used by the borrowing thread only
+ * and must be given back with {@link #release(Entry)} after use. The {@link #parse(String, ExpressionParams)} method does both
+ * for a single expression.
+ * <p>
+ * Unlike the {@code EvaluatorPool}, a thread never waits for a pair: a new pair is created when none is idle, as it is cheap to
+ * create one. The pool therefore grows to the greatest number of threads that have parsed at the same time, which may be
+ * retrieved with {@link #getCreated()}.
+ *
+ * @param <E> the type of expression parsed.
+ * @param <P> the type of params object.
+ * @param <L> the type of lexer.
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class ParserPool<E extends EvaluatableExpression<P>, P extends ExpressionParams<P>, L extends Lexer<E, P>> {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:33:12 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.evaluator.parser ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: ParserPool.java ------------------------------------------------------
+	 * Class name: Entry ------------------------------------------------
+	 */
+	/**
+	 * A lexer and the parser that parses it's tokens.
+	 *
+	 * @param <E> the type of expression parsed.
+	 * @param <P> the type of params object.
+	 * @param <L> the type of lexer.
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	public static final class Entry<E extends EvaluatableExpression<P>, P extends ExpressionParams<P>, L extends Lexer<E, P>> {
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 20:34:02 ---------------------------------------------------
+		 */
+		/**
+		 * Constructs an {@code Entry} from the given lexer and a new parser.
+		 *
+		 * @param lexer the lexer.
+		 */
+		private Entry(L lexer) {
+			this.lexer = lexer;
+			parser = new PrattParser<>();
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 20:34:40 ---------------------------------------------------
+		 */
+		/**
+		 * Gets the lexer of this pair.
+		 *
+		 * @return the lexer.
+		 */
+		public L getLexer() {
+			return lexer;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 20:35:09 ---------------------------------------------------
+		 */
+		/**
+		 * Gets the parser of this pair.
+		 *
+		 * @return the parser.
+		 */
+		public PrattParser<E, P> getParser() {
+			return parser;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 20:35:47 ---------------------------------------------------
+		 */
+		/**
+		 * Parses the given source code with this pair.
+		 *
+		 * @param src    the source code.
+		 * @param params parameter object that contains data for the parse parselets.
+		 * @return the parsed expression.
+		 * @throws RuntimeException specifically a {@code java.lang.IllegalArgumentException} if the source code does not match the
+		 *                          syntax of the lexer.
+		 */
+		public E parse(String src, P params) {
+			parser.reset();
+			lexer.setSource(src);
+			return parser.parse(lexer, lexer.getSyntax(), params);
+		}
+
+		/**
+		 * The lexer.
+		 */
+		private final L lexer;
+		/**
+		 * The parser.
+		 */
+		private final PrattParser<E, P> parser;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:37:15 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs an empty {@code ParserPool}.
+	 *
+	 * @param factory creates a new lexer each time it is called. The lexers it returns must not share any mutable state, but may
+	 *                share a syntax.
+	 */
+	public ParserPool(Supplier<? extends L> factory) {
+		this.factory = factory;
+		idle = new ConcurrentLinkedQueue<>();
+		created = new LongAdder();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:38:26 ---------------------------------------------------
+	 */
+	/**
+	 * Borrows a pair from this pool, creating one if all are in use. The returned pair must be released with
+	 * {@link #release(Entry)} when the caller is done with it.
+	 *
+	 * @return a pair that is used by no other thread until it is released.
+	 */
+	public Entry<E, P, L> checkout() {
+		final Entry<E, P, L> e = idle.poll();
+		if (e != null)
+			return e;
+		created.increment();
+		return new Entry<>(factory.supply());
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:39:10 ---------------------------------------------------
+	 */
+	/**
+	 * Gives back a pair that was borrowed with {@link #checkout()}. The waiting stack of the parser is cleared so that the pool
+	 * does not hold on to the tokens of the last source code parsed.
+	 *
+	 * @param e the pair to be released.
+	 */
+	public void release(Entry<E, P, L> e) {
+		e.parser.reset();
+		idle.offer(e);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:40:02 ---------------------------------------------------
+	 */
+	/**
+	 * Parses the given source code with any pair in this pool that is not in use.
+	 *
+	 * @param src    the source code.
+	 * @param params parameter object that contains data for the parse parselets.
+	 * @return the parsed expression.
+	 * @throws RuntimeException specifically a {@code java.lang.IllegalArgumentException} if the source code does not match the
+	 *                          syntax of the lexers.
+	 */
+	public E parse(String src, P params) {
+		final Entry<E, P, L> e = checkout();
+		try {
+			return e.parse(src, params);
+		} finally {
+			release(e);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:40:51 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of pairs this pool has created.
+	 *
+	 * @return the number of pairs created.
+	 */
+	public long getCreated() {
+		return created.sum();
+	}
+
+	/**
+	 * Creates the lexers.
+	 */
+	private final Supplier<? extends L> factory;
+	/**
+	 * The pairs that are not in use.
+	 */
+	private final Queue<Entry<E, P, L>> idle;
+	/**
+	 * The number of pairs created.
+	 */
+	private final LongAdder created;
+}
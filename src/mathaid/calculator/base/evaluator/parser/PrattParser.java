@@ -3,9 +3,8 @@
  */
 package mathaid.calculator.base.evaluator.parser;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.List;
 
 import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
 import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression.ExpressionParams;
@@ -46,9 +45,10 @@ import mathaid.calculator.base.typeset.SegmentBuilder;
  * </p>
  * <h2>The waiting stack</h2>
  * <p>
- * A {@code List} object is used for storing tokens to be parsed. This list is treated like the waiting stack (not ideal but
- * this enables the use of an {@code ArrayList} object which is a fast random access list) for tokens with a lower precedence
- * than the one currently being parsed. After the first token has been inserted into the waiting stack, It is analysed to see if
+ * A fixed size circular buffer is used for storing tokens to be parsed. This buffer is treated like the waiting stack for
+ * tokens with a lower precedence than the one currently being parsed, and a token is read from or removed at the head of it
+ * without moving any of the other tokens. The size of the buffer is the furthest a parselet may look ahead and is given at
+ * construction. After the first token has been inserted into the waiting stack, It is analysed to see if
  * it is a prefix token and sent to the appropriate {@code PrefixParselet} via the
  * {@linkplain CommonSyntax#getPrefixParselet(Type)} method depending on the {@linkplain Token#getType() token's type}. The
  * token being parsed is considered to be the left hand side of the raw expression source.
@@ -76,6 +76,10 @@ import mathaid.calculator.base.typeset.SegmentBuilder;
  * {@code java.lang.IllegalArgumentException} will be thrown when a syntax is violated, for example, expression such as
  * {@code 3*2+6)}. This exception is constructed by {@code IllegalTokenException} class.
  * </p>
+ * <p>
+ * A {@code PrattParser} is not thread-safe as the waiting stack is part of it's state. Threads that parse concurrently should
+ * each use their own parser, such as one that is borrowed from a {@link ParserPool}.
+ * </p>
  * 
  * @param <E>
  * @param <P> the type of params object
@@ -85,14 +89,40 @@ import mathaid.calculator.base.typeset.SegmentBuilder;
 public class PrattParser<E extends EvaluatableExpression<P>, P extends ExpressionParams<P>>
 		implements Parser<String, SegmentBuilder, E, PrattParser<E, P>, CommonSyntax<E, PrattParser<E, P>, P>, P> {
 
+	/**
+	 * The default number of tokens a parselet can look ahead.
+	 */
+	public static final int DEFAULT_LOOKAHEAD = 4;
+
 	/*
 	 * Date: 1 Dec 2023 -----------------------------------------------------------
 	 * Time created: 13:03:55 ---------------------------------------------------
 	 */
 	/**
-	 * Constructor for creating a {@code PrattParser} object.
+	 * Constructor for creating a {@code PrattParser} object that can look ahead {@link #DEFAULT_LOOKAHEAD} tokens.
 	 */
 	public PrattParser() {
+		this(DEFAULT_LOOKAHEAD);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:21:37 ---------------------------------------------------
+	 */
+	/**
+	 * Constructor for creating a {@code PrattParser} object that can look ahead the given number of tokens.
+	 * 
+	 * @param lookahead the size of the waiting stack. This is rounded up to a power of 2.
+	 * @throws IllegalArgumentException if {@code lookahead < 1} or {@code lookahead > 2<sup>30</sup>}.
+	 */
+	@SuppressWarnings("unchecked")
+	public PrattParser(int lookahead) {
+		if (lookahead < 1 || lookahead > 1 << 30)
+			throw new IllegalArgumentException("lookahead: " + lookahead);
+		int length = 1;
+		while (length < lookahead)
+			length <<= 1;
+		stack = (Token<String>[]) new Token<?>[length];
 	}
 
 	/*
@@ -210,7 +240,22 @@ public class PrattParser<E extends EvaluatableExpression<P>, P extends Expressio
 	 * Clears the internal stack. Meant to enhance reuseability
 	 */
 	public void reset() {
-		stack.clear();
+		Arrays.fill(stack, null);
+		head = 0;
+		size = 0;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:08:40 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of tokens that have been read from the lexer into the waiting stack but have not yet been consumed.
+	 * 
+	 * @return the number of tokens in the waiting stack.
+	 */
+	protected int getWaiting() {
+		return size;
 	}
 
 	/*
@@ -294,11 +339,14 @@ public class PrattParser<E extends EvaluatableExpression<P>, P extends Expressio
 	 * @param lexer the token generator
 	 * @returns the topmost token on the waiting stack
 	 * @implNote Pushes one element into the {@link #stack} if it is empty and then retrieves and removes the head of the
-	 *           {@link #stack}.
+	 *           {@link #stack} by moving the head forward.
 	 */
 	protected Token<String> readAndPop(Iterator<Token<String>> lexer) {
-		readAndPeek(0, lexer);
-		return stack.remove(0);
+		final Token<String> t = readAndPeek(0, lexer);
+		stack[head] = null;
+		head = (head + 1) & (stack.length - 1);
+		size--;
+		return t;
 	}
 
 	/*
@@ -315,16 +363,28 @@ public class PrattParser<E extends EvaluatableExpression<P>, P extends Expressio
 	 * @param distance the number of tokens to generate. This is also the distance to which the cursor of the stack is to be moved.
 	 * @return the element at index {@code distance} in the {@link #stack} but does not remove it from the {@link #stack} i.e
 	 *         returns the last token generated that is also the topmost token on the stack but does not remove it from the stack
+	 * @throws IndexOutOfBoundsException if {@code distance} is not less than the lookahead given at construction.
 	 */
 	protected Token<String> readAndPeek(int distance, Iterator<Token<String>> lexer) {
-		while (distance >= stack.size())
-			stack.add(lexer.next());
-		return stack.get(distance);
+		if (distance >= stack.length)
+			throw new IndexOutOfBoundsException("lookahead: " + distance);
+		final int mask = stack.length - 1;
+		while (distance >= size)
+			stack[(head + size++) & mask] = lexer.next();
+		return stack[(head + distance) & mask];
 	}
 
 	/**
-	 * A final field of type {@code List}. This represents the waiting stack.
+	 * A circular buffer whose length is a power of 2. This represents the waiting stack.
+	 */
+	protected final Token<String>[] stack;
+	/**
+	 * The index of the topmost token in the {@link #stack}.
+	 */
+	private int head;
+	/**
+	 * The number of tokens in the {@link #stack}.
 	 */
-	protected final List<Token<String>> stack = new ArrayList<>();
+	private int size;
 
 }
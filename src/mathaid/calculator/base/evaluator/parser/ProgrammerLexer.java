@@ -3,8 +3,6 @@
  */
 package mathaid.calculator.base.evaluator.parser;
 
-import java.util.Iterator;
-
 import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
 import mathaid.calculator.base.evaluator.parser.expression.programmer.PExpression.Params;
 import mathaid.calculator.base.evaluator.parser.parselet.programmer.FunctionParselet;
@@ -35,7 +33,7 @@ import mathaid.calculator.base.value.FloatAid;
  * @author Oruovo Anthony Etineakpopha
  * @email tonyoruovo@gmail.com
  */
-public class ProgrammerLexer implements Iterator<Token<String>> {
+public class ProgrammerLexer implements Lexer<EvaluatableExpression<Params>, Params> {
 
 	/*
 	 * Date: 1 Dec 2023 -----------------------------------------------------------
@@ -233,8 +231,44 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 	 * 
 	 * @param src the non-null value to be used as the new source code.
 	 */
+	@Override
 	public void setSource(String src) {
+		if (src != null) {
+			this.src = src;
+			index = 0;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:05:12 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the source code to the given value and moves the cursor to the given index.
+	 * 
+	 * @param src   the new source code.
+	 * @param index the index from which the next token is read.
+	 */
+	@Override
+	public void setSource(String src, int index) {
+		if (index < 0 || index > src.length())
+			throw new IndexOutOfBoundsException("index: " + index);
 		this.src = src;
+		this.index = index;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:05:58 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the index of the cursor.
+	 * 
+	 * @return the index of the character after the last token read.
+	 */
+	@Override
+	public int getIndex() {
+		return index;
 	}
 
 	/*
@@ -259,6 +293,7 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 	 * 
 	 * @return the syntax.
 	 */
+	@Override
 	public CommonSyntax<EvaluatableExpression<Params>, PrattParser<EvaluatableExpression<Params>, Params>, Params> getSyntax() {
 		return syntax;
 	}
@@ -292,13 +327,14 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 	@Override
 	public Token<String> next() {
 		if (index < src.length()) {
+			final CharClassTable classes = syntax.getCharClasses();
 			char c = src.charAt(index++);
-			if (isSymbol(c)) {
-				return getSymbolToken(c);
+			if (classes.is(c, CharClassTable.PUNCTUATOR)) {
+				return getSymbolToken(c, classes);
 			} else if (isLowerCaseLetter(c)) {
-				return getLetterToken();
-			} else if (isNumber(c)) {
-				return getNumberToken(new StringBuilder(), false, false, false);
+				return getLetterToken(classes);
+			} else if (isNumber(c, classes)) {
+				return getNumberToken(classes);
 			}
 			throw new RuntimeException(String.format("the token \"%s\" is unknown", c));
 		}
@@ -314,62 +350,43 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 	 * <p>
 	 * Called by {@link #next} when the {@code char} hint is encountered.
 	 * 
-	 * @param c the hint for the type of punctuated token to be returned.
+	 * @param c       the hint for the type of punctuated token to be returned.
+	 * @param classes the character classes of the syntax.
 	 * @return the next punctuator token.
 	 */
-	private Token<String> getSymbolToken(char c) {
+	private Token<String> getSymbolToken(char c, CharClassTable classes) {
 		if (c == '-' && index < src.length()) {// for lamda
 			char ch = src.charAt(index);
 			if (ch == '>') {
 				index += 1;
-				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.RIGHT_LAMBDA),
-						String.format("%1$s%2$s", c, ch));
+				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.RIGHT_LAMBDA), src, index - 2, 2);
 			}
 		} else if (c == '>' && index < src.length()) {// for right shift
 			char ch = src.charAt(index);
 			if (ch == '>') {
 				index += 1;
-				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.RIGHT_SHIFT),
-						String.format("%1$s%2$s", c, ch));
+				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.RIGHT_SHIFT), src, index - 2, 2);
 			}
 		} else if (c == '<' && index < src.length()) {// for left shift
 			char ch = src.charAt(index);
 			if (ch == '<') {
 				index += 1;
-				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.LEFT_SHIFT),
-						String.format("%1$s%2$s", c, ch));
+				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.LEFT_SHIFT), src, index - 2, 2);
 			}
 		} else if(c == '+' && index < src.length()) {// for ++
 			char ch = src.charAt(index);
 			if (ch == '+') {
 				index += 1;
-				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.INCREMENT),
-						String.format("%1$s%2$s", c, ch));
+				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.INCREMENT), src, index - 2, 2);
 			}
 		} else if(c == '-' && index < src.length()) {// for --
 			char ch = src.charAt(index);
 			if (ch == '-') {
 				index += 1;
-				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.DECREMENT),
-						String.format("%1$s%2$s", c, ch));
+				return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.DECREMENT), src, index - 2, 2);
 			}
 		}
-		return new Token<>(syntax.getType(c), String.valueOf(c));
-	}
-
-	/*
-	 * Date: 11 Dec 2022-----------------------------------------------------------
-	 * Time created: 04:41:18--------------------------------------------
-	 */
-	/**
-	 * Checks if the given {@code char} value is a punctuation or delimiter. Basically, this checks if the value is a number,
-	 * variable or constant.
-	 * 
-	 * @param c the value to be checked.
-	 * @return <code>true</code> if the argument is considered as a punctuation or a delimiter by the internal syntax.
-	 */
-	private boolean isSymbol(char c) {
-		return syntax.getPunctuatorsAndDelimiters().contains(c);
+		return new Token<>(classes.typeOf(c), src, index - 1, 1);
 	}
 
 	/*
@@ -382,61 +399,60 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 	 * <code>&lt;integer-digits&gt;.?&lt;integer-digits&gt;_&lt;decimal-digits&gt;e|p|E(-|+)|P(-|+)</code>&lt;integer-digits&gt;_&lt;decimal-digits&gt;
 	 * </pre>
 	 * <p>
-	 * This is called when the lexer encounters a digit specified by {@link #isNumber(char)}.
+	 * This is called when the lexer encounters a digit specified by {@link #isNumber(char, CharClassTable)}.
+	 * <p>
+	 * The token is a view of the source unless the digits have to be rewritten, which is when a radix or an exponent is given.
 	 * 
-	 * @param sb                  a string builder to be used for appending digit in a recursive context.
-	 * @param hasPoint            {@code false} when first called, will be set by this method when the lexer's cursor is at a radix
-	 *                            point.
-	 * @param radixFound          {@code false} when first called, will be set by this method when the radix specifier is found.
-	 * @param exponentCharIsFound {@code false} when first called, will be set by this method when the exponent specifier is found.
+	 * @param classes the character classes of the syntax.
 	 * @return {@code String} of symbols that makeup a valid number as a token.
 	 */
-	private Token<String> getNumberToken(StringBuilder sb, boolean hasPoint, boolean radixFound,
-			boolean exponentCharIsFound) {
-		if (index < src.length()) {
+	private Token<String> getNumberToken(CharClassTable classes) {
+		final int start = index;
+		/* Only created once the digits are no longer the same as the ones in the source */
+		StringBuilder sb = null;
+		boolean hasPoint = false;
+		boolean radixFound = false;
+		while (index < src.length()) {
 			char c = src.charAt(index);
 
-			if (isNumber(c) || (c == '.' && !hasPoint)) {
-				sb.append(c);
+			if (isNumber(c, classes) || (c == '.' && !hasPoint)) {
+				if (sb != null)
+					sb.append(c);
 				index++;
 				if (c == '.')
 					hasPoint = true;
-				return getNumberToken(sb, hasPoint, radixFound, exponentCharIsFound);
+				continue;
 			} else if (c == '_' && !radixFound) {
+				final String digits = sb == null ? src.substring(start, index) : sb.toString();
 				index++;
-				StringBuilder rad = new StringBuilder();
-				getRadixValue(rad);
+				final String rad = getRadixValue();
 				int radix;
 				try {
-					radix = Integer.parseInt(rad.toString());
+					radix = Integer.parseInt(rad);
 				} catch (NumberFormatException e) {
 					throw new NumberFormatException("radix is not decimal");
 				}
 				String significand;
 				try {
-					significand = FloatAid.toString(sb.toString(), radix, this.radix, null);
+					significand = FloatAid.toString(digits, radix, this.radix, null);
 				} catch (NumberFormatException e) {
 					throw new NumberFormatException("number is not in the same radix as given");
 				}
-				sb.replace(0, sb.length(), significand);
-				return getNumberToken(sb, true, true, exponentCharIsFound);
-			} else if (isExponent(c, exponentCharIsFound)) {
-				exponentCharIsFound = true;
-				StringBuilder exp = new StringBuilder();
+				sb = new StringBuilder(significand);
+				hasPoint = true;
+				radixFound = true;
+				continue;
+			} else if (isExponent(c, false)) {
+				if (sb == null)
+					sb = new StringBuilder().append(src, start, index);
 				index++;
-				getExp(exp, false);
+				final String exp = getExp(classes);
 				sb.append(Character.toLowerCase(c));
 				sb.append(exp);
 			}
-//			else if (c == 'E' || c == 'e') {
-//				StringBuilder exp = new StringBuilder();
-//				index++;
-//				getExp(exp, false);
-//				sb.append('e');
-//				sb.append(exp);
-//			}
-
-			return new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.NAME), sb.toString());
+
+			return sb == null ? new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.NAME), src, start, index - start)
+					: new Token<>(CommonSyntax.COMMON_TYPES.get(CommonSyntax.NAME), sb.toString());
 		}
 		return new Token<>(CommonSyntax.BASIC_TYPES.get(CommonSyntax.EOF), "");
 	}
@@ -446,51 +462,44 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 	 * Time created: 18:04:50--------------------------------------------
 	 */
 	/**
-	 * Appends the exponent part of a number into the given {@code StringBuilder} asserting that a sign character (for the exponent)
-	 * should be append as well.
+	 * Reads the exponent part of a number, which may start with a sign character and may be followed by its radix.
 	 * <p>
-	 * This is called recursively by {@link #getNumberToken(StringBuilder, boolean, boolean, boolean)}.
+	 * This is called by {@link #getNumberToken(CharClassTable)} after the exponent character.
 	 * 
-	 * @param exp         a {@code StringBuilder}.
-	 * @param signIsFound an Assertion that the sign is found. This will be {@code false} on the initial call and will be
-	 *                    automatically set on subsequent calls when the sign characters have been read. This causes this method to
-	 *                    behave differently depending on it's value.
+	 * @param classes the character classes of the syntax.
+	 * @return the exponent in the default radix. An exponent given with a radix is returned with its sign.
 	 */
-	private void getExp(StringBuilder exp, boolean signIsFound) {
-		if (index < src.length()) {
+	private String getExp(CharClassTable classes) {
+		final int start = index;
+		while (index < src.length()) {
 			char c = src.charAt(index);
-			if (isNumber(c) || ((c == '-' || c == '+') && exp.length() == 0)) {
-				exp.append(c);
+			if (isNumber(c, classes) || ((c == '-' || c == '+') && index == start)) {
 				index++;
-				if ((c == '-' || c == '+') && exp.length() < 1)
-					signIsFound = true;
-				getExp(exp, signIsFound);
+				continue;
 			} else if (c == '_') {
+				final String digits = src.substring(start, index);
 				index++;
-				StringBuilder sb = new StringBuilder();
-				getRadixValue(sb);
+				final String rad = getRadixValue();
 				int radix;
 				try {
-					radix = Integer.parseInt(sb.toString());
+					radix = Integer.parseInt(rad);
 				} catch (NumberFormatException e) {
 					throw new NumberFormatException("radix is not decimal");
 				}
 				int exponent;
 				try {
-					exponent = Integer.parseInt(exp.toString(), radix);
+					exponent = Integer.parseInt(digits, radix);
 				} catch (NumberFormatException e) {
 					throw new NumberFormatException("exponent is not in the same radix as given");
 				}
-				exp.delete(0, exp.length()).append(Integer.toString(exponent, this.radix));
-				if (exp.charAt(0) != '-' && exp.charAt(0) != '+')
-					exp.insert(0, '+');
-				return;
-
+				final String exp = Integer.toString(exponent, this.radix);
+				return exp.charAt(0) != '-' && exp.charAt(0) != '+' ? '+' + exp : exp;
 			}
-
-			if (exp.length() < 1)
-				throw new NumberFormatException("no exponent vaue was found");
+			break;
 		}
+		if (index == start && index < src.length())
+			throw new NumberFormatException("no exponent vaue was found");
+		return src.substring(start, index);
 	}
 
 	/*
@@ -498,24 +507,18 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 	 * Time created: 17:04:37 ---------------------------------------------------
 	 */
 	/**
-	 * Called by {@link #getNumberToken} to append the radix part of a number into the given {@code StringBuilder}.
-	 * <p>
-	 * This is called recursively by {@link #getNumberToken}.
+	 * Called by {@link #getNumberToken} to read the radix part of a number.
 	 * 
-	 * @param sb a {@code StringBuilder}.
+	 * @return the decimal digits of the radix.
 	 * @implNote Only decimal digits are supported.
 	 */
-	private void getRadixValue(StringBuilder sb) {
-		if (index < src.length()) {
-			char c = src.charAt(index);
-			if (isDecimalDigit(c)) {
-				sb.append(c);
-				index++;
-				getRadixValue(sb);
-			}
-			if (sb.length() < 1)
-				throw new NumberFormatException("no radix vaue was found");
-		}
+	private String getRadixValue() {
+		final int start = index;
+		while (index < src.length() && isDecimalDigit(src.charAt(index)))
+			index++;
+		if (index == start && index < src.length())
+			throw new NumberFormatException("no radix vaue was found");
+		return src.substring(start, index);
 	}
 
 	/*
@@ -594,12 +597,13 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 	 * <p>
 	 * All alphanumeric characters that are valid digits must be in upper-case.
 	 * 
-	 * @param c the value to be checked.
+	 * @param c       the value to be checked.
+	 * @param classes the character classes of the syntax.
 	 * @return <code>true</code> if the argument is a number or else returns {@code false}.
 	 */
-	private boolean isNumber(char c) {
+	private boolean isNumber(char c, CharClassTable classes) {
 //		return FloatAid.isNumber(c, Character.MAX_RADIX) && !isLowerCaseLetter(c);
-		return syntax.getDigits().contains(c) && !isLowerCaseLetter(c);
+		return classes.is(c, CharClassTable.DIGIT) && !isLowerCaseLetter(c);
 	}
 
 	/*
@@ -611,34 +615,17 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 	 * <p>
 	 * Called by {@link #next()} when an alphabetic character is encountered.
 	 * 
+	 * @param classes the character classes of the syntax.
 	 * @return the next letter token.
 	 */
-	private Token<String> getLetterToken() {
+	private Token<String> getLetterToken(CharClassTable classes) {
 		/*
 		 * Since index was already incremented, we need to decrement it once to get the
 		 * current character
 		 */
 		int start = index - 1;
-		while (index < src.length()) {
-			if (!syntax.getLetters().contains(getNextCharacter()))
-				break;
-			index++;
-		}
-		String name = src.substring(start, index);
-		return new Token<>(syntax.getNameType(), name);
-	}
-
-	/*
-	 * Date: 5 Dec 2022-----------------------------------------------------------
-	 * Time created: 14:40:21--------------------------------------------
-	 */
-	/**
-	 * Gets the next character to be validated by this lexer.
-	 * 
-	 * @return the next character to be read and validated.
-	 */
-	private char getNextCharacter() {
-		return src.charAt(index);
+		index = classes.span(src, index, src.length(), CharClassTable.LETTER);
+		return new Token<>(syntax.getNameType(), src, start, index - start);
 	}
 
 	/*
@@ -660,8 +647,7 @@ public class ProgrammerLexer implements Iterator<Token<String>> {
 		 * a letter cannot start with a 'p' or 'e' as those are used for exponent
 		 * characters
 		 */
-		String alphabet = "abcdfghijklmnoqrstuvwxyz";
-		return alphabet.indexOf(letter) > -1;
+		return letter >= 'a' && letter <= 'z' && letter != 'e' && letter != 'p';
 	}
 
 	private String src;
@@ -3,8 +3,6 @@
  */
 package mathaid.calculator.base.evaluator.parser;
 
-import java.util.Iterator;
-
 import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
 import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
 import mathaid.calculator.base.evaluator.parser.parselet.scientific.ArrayParselet;
@@ -35,7 +33,7 @@ import mathaid.calculator.base.evaluator.parser.parselet.scientific.PrefixParsel
  * @author Oruovo Anthony Etineakpopha
  * @email tonyoruovo@gmail.com
  */
-public class ScientificLexer implements Iterator<Token<String>> {
+public class ScientificLexer implements Lexer<EvaluatableExpression<Params>, Params> {
 
 	/*
 	 * Date: 1 Dec 2023 -----------------------------------------------------------
@@ -182,6 +180,7 @@ public class ScientificLexer implements Iterator<Token<String>> {
 	 * 
 	 * @return the syntax.
 	 */
+	@Override
 	public CommonSyntax<EvaluatableExpression<Params>, PrattParser<EvaluatableExpression<Params>, Params>, Params> getSyntax() {
 		return syntax;
 	}
@@ -210,13 +209,46 @@ public class ScientificLexer implements Iterator<Token<String>> {
 	 * 
 	 * @param src the non-null value to be used as the new source code.
 	 */
+	@Override
 	public void setSource(String src) {
-		if (src != null && src.length() > 0) {
+		if (src != null) {
 			this.src = src;
 			index = 0;
 		}
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:05:12 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the source code to the given value and moves the cursor to the given index.
+	 * 
+	 * @param src   the new source code.
+	 * @param index the index from which the next token is read.
+	 */
+	@Override
+	public void setSource(String src, int index) {
+		if (index < 0 || index > src.length())
+			throw new IndexOutOfBoundsException("index: " + index);
+		this.src = src;
+		this.index = index;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 21:05:58 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the index of the cursor.
+	 * 
+	 * @return the index of the character after the last token read.
+	 */
+	@Override
+	public int getIndex() {
+		return index;
+	}
+
 	/*
 	 * Most Recent Date: 15 Sep 2022-----------------------------------------------
 	 * Most recent time created: 09:04:01--------------------------------------
@@ -246,13 +278,14 @@ public class ScientificLexer implements Iterator<Token<String>> {
 	@Override
 	public Token<String> next() {
 		if (index < src.length()) {
+			final CharClassTable classes = syntax.getCharClasses();
 			char c = src.charAt(index++);
-			if (isPuncAndOrDelim(c))
-				return getSymbolToken(c);
-			else if (isLetter(c)) {
-				return getLetterToken();
-			} else if (isNumber(c)) {
-				return getNumberToken();
+			if (classes.is(c, CharClassTable.PUNCTUATOR))
+				return getSymbolToken(c, classes);
+			else if (classes.is(c, CharClassTable.LETTER)) {
+				return getLetterToken(classes);
+			} else if (classes.is(c, CharClassTable.DIGIT)) {
+				return getNumberToken(classes);
 			}
 			throw new RuntimeException(String.format("the token \"%s\" is unknown", c));
 		}
@@ -267,11 +300,12 @@ public class ScientificLexer implements Iterator<Token<String>> {
 	 * Generates a {@code Token} comprising of numeric symbols, which are in the same format as the mathaid number specified in the
 	 * {@link mathaid.calculator.base.typeset.NumberAdapter} documentation.
 	 * <p>
-	 * This is called when the lexer encounters a digit specified by {@link #isNumber(char)}.
+	 * This is called when the lexer encounters one of the {@link CommonSyntax#getDigits() digits} of the syntax.
 	 * 
+	 * @param classes the character classes of the syntax.
 	 * @return {@code String} of symbols that makeup a valid mathaid number as a token.
 	 */
-	private Token<String> getNumberToken() {
+	private Token<String> getNumberToken(CharClassTable classes) {
 		int start = index - 1;
 		while (index < src.length()) {
 			char ch = src.charAt(index);
@@ -280,28 +314,14 @@ public class ScientificLexer implements Iterator<Token<String>> {
 			 * character (e because symja uses only java's double exponent operator) stop
 			 * parsing the string and return the word as number
 			 */
-			if (ch != 'e' && ch != '.' && (!syntax.getDigits().contains(ch)))
+			if (ch != 'e' && ch != '.' && !classes.is(ch, CharClassTable.DIGIT))
 				if (src.charAt(index - 1) == 'e' && (ch == '-' || ch == '+'))
 					;
 				else
 					break;
 			index++;
 		}
-		String num = src.substring(start, index);
-		return new Token<>(syntax.getNameType(), num);
-	}
-
-	/*
-	 * Date: 1 Dec 2023 -----------------------------------------------------------
-	 * Time created: 15:54:36 ---------------------------------------------------
-	 */
-	/**
-	 * Gets the character being validated by this lexer.
-	 * 
-	 * @return the current character being read and validated.
-	 */
-	private char getCurrentCharacter() {
-		return src.charAt(index);
+		return new Token<>(syntax.getNameType(), src, start, index - start);
 	}
 
 	/*
@@ -313,17 +333,13 @@ public class ScientificLexer implements Iterator<Token<String>> {
 	 * <p>
 	 * Called by {@link #next()} when an alphabetic character is encountered.
 	 * 
+	 * @param classes the character classes of the syntax.
 	 * @return the next letter token.
 	 */
-	private Token<String> getLetterToken() {
+	private Token<String> getLetterToken(CharClassTable classes) {
 		int start = index - 1;
-		while (index < src.length()) {
-			if (!syntax.getLetters().contains(getCurrentCharacter()))
-				break;
-			index++;
-		}
-		String name = src.substring(start, index);
-		return new Token<>(syntax.getNameType(), name);
+		index = classes.span(src, index, src.length(), CharClassTable.LETTER);
+		return new Token<>(syntax.getNameType(), src, start, index - start);
 	}
 
 	/*
@@ -335,75 +351,18 @@ public class ScientificLexer implements Iterator<Token<String>> {
 	 * <p>
 	 * Called by {@link #next} when the {@code char} hint is encountered.
 	 * 
-	 * @param c the hint for the type of punctuated token to be returned.
+	 * @param c       the hint for the type of punctuated token to be returned.
+	 * @param classes the character classes of the syntax.
 	 * @return the next punctuator token.
 	 */
-	private Token<String> getSymbolToken(char c) {
+	private Token<String> getSymbolToken(char c, CharClassTable classes) {
 		if (c == '-' && index < src.length()) {// for lamda
-			char ch = lookAhead();
-			if (ch == '>') {
+			if (src.charAt(index) == '>') {
 				index += 1;
-				return new Token<>(CommonSyntax.BASIC_TYPES.get(CommonSyntax.RIGHT_LAMBDA),
-						String.format("%1$s%2$s", c, ch));
+				return new Token<>(CommonSyntax.BASIC_TYPES.get(CommonSyntax.RIGHT_LAMBDA), src, index - 2, 2);
 			}
 		}
-		return new Token<>(syntax.getType(c), String.valueOf(c));
-	}
-
-	/*
-	 * Date: 1 Dec 2023 -----------------------------------------------------------
-	 * Time created: 16:06:56 ---------------------------------------------------
-	 */
-	/**
-	 * Peeks ahead of the cursor position at the nect character to be read and returns it.
-	 * 
-	 * @return the character at one index after the current position of the {@code Iterator}'s cursor.
-	 */
-	private char lookAhead() {
-		return src.charAt(index + 1);
-	}
-
-	/*
-	 * Date: 1 Dec 2023 -----------------------------------------------------------
-	 * Time created: 16:08:14 ---------------------------------------------------
-	 */
-	/**
-	 * Checks if the given {@code char} value is a punctuation or delimiter. Basically, this checks if the value is a number,
-	 * variable or constant.
-	 * 
-	 * @param c the value to be checked.
-	 * @return <code>true</code> if the argument is considered as a punctuation or a delimiter by the internal syntax.
-	 */
-	private boolean isPuncAndOrDelim(char c) {
-		return syntax.getPunctuatorsAndDelimiters().contains(c);
-	}
-
-	/*
-	 * Date: 1 Dec 2023 -----------------------------------------------------------
-	 * Time created: 16:10:36 ---------------------------------------------------
-	 */
-	/**
-	 * Checks if the given {@code char} value is a letter i.e it can be used as a constant or variable.
-	 * 
-	 * @param c the value to be checked.
-	 * @return <code>true</code> if the argument is a letter or else returns <code>false</code>.
-	 */
-	private boolean isLetter(char c) {
-		return syntax.getLetters().contains(c);
-	}
-
-	/*
-	 * Date: 1 Dec 2023 -----------------------------------------------------------
-	 * Time created: 16:12:14 ---------------------------------------------------
-	 */
-	/**
-	 * Checks if the given {@code char} argument is a number. This is determined by the internal syntax.
-	 * 
-	 * @param c the value to be checked.
-	 * @return <code>true</code> if the argument is a number or else returns {@code false}.
-	 */
-	private boolean isNumber(char c) {
-		return syntax.getDigits().contains(c);
+		return new Token<>(classes.typeOf(c), src, index - 1, 1);
 	}
 
 	/**
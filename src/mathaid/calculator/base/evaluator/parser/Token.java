@@ -31,10 +31,30 @@ public class Token<T> {
 	 * @param name the value of the token. This is the literal value.
 	 */
 	public Token(Type<T> type, String name) {
-		this.type = type;
+		this(type, name, 0, name == null ? 0 : name.length());
 		this.name = name;
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:04:18 ---------------------------------------------------
+	 */
+	/**
+	 * Constructor for creating a {@code Token} object that is a view of a range of the source it was read from. The name is not
+	 * copied out of the source until {@link #getName()} is first called.
+	 * 
+	 * @param type   the type information for the token
+	 * @param source the source code the token was read from.
+	 * @param offset the index of the first character of the token in {@code source}.
+	 * @param length the number of characters in the token.
+	 */
+	public Token(Type<T> type, String source, int offset, int length) {
+		this.type = type;
+		this.source = source;
+		this.offset = offset;
+		this.length = length;
+	}
+
 	/*
 	 * Date: 29 Jul 2021-----------------------------------------------------------
 	 * Time created: 10:35:17--------------------------------------------
@@ -60,7 +80,7 @@ public class Token<T> {
 	 */
 	@Override
 	public int hashCode() {
-		return type.hashCode() ^ name.hashCode();
+		return type.hashCode() ^ getName().hashCode();
 	}
 
 	/*
@@ -93,7 +113,7 @@ public class Token<T> {
 	 */
 	@Override
 	public String toString() {
-		return name  + ":" + getType().getName() + ":" + getType().getPrecedence();
+		return getName()  + ":" + getType().getName() + ":" + getType().getPrecedence();
 	}
 
 	/*
@@ -106,7 +126,49 @@ public class Token<T> {
 	 * @return a {@code String} which is also the name of this token.
 	 */
 	public String getName() {
-		return name;
+		String n = name;
+		if (n == null && source != null)
+			name = n = source.substring(offset, offset + length);
+		return n;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:06:51 ---------------------------------------------------
+	 */
+	/**
+	 * Returns the source this {@code Token} was read from. For a token that was not created as a view, this is its name.
+	 * 
+	 * @return the source code the token was read from.
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:07:30 ---------------------------------------------------
+	 */
+	/**
+	 * Returns the index of the first character of this {@code Token} in {@link #getSource() the source}.
+	 * 
+	 * @return the offset of the token in its source.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:07:58 ---------------------------------------------------
+	 */
+	/**
+	 * Returns the number of characters of this {@code Token} in {@link #getSource() the source}.
+	 * 
+	 * @return the length of the token in its source.
+	 */
+	public int getLength() {
+		return length;
 	}
 
 	/**
@@ -114,8 +176,20 @@ public class Token<T> {
 	 */
 	private final Type<T> type;
 	/**
-	 * Holds the value
+	 * Holds the source code the token was read from.
+	 */
+	private final String source;
+	/**
+	 * Holds the index of the token in {@link #source}.
+	 */
+	private final int offset;
+	/**
+	 * Holds the number of characters of the token in {@link #source}.
+	 */
+	private final int length;
+	/**
+	 * Holds the value, once it has been copied out of {@link #source}.
 	 */
-	private final String name;
+	private String name;
 
 }
\ No newline at end of file
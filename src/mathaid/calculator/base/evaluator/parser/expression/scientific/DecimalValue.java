@@ -0,0 +1,169 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator.parser.expression.scientific;
+
+import static mathaid.calculator.base.util.Utility.d;
+
+import java.math.BigDecimal;
+
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
+import mathaid.calculator.base.typeset.SegmentBuilder;
+import mathaid.calculator.base.value.BigFraction;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 11:02:51 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator.parser.expression.scientific ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: DecimalValue.java ------------------------------------------------------
+ * Class name: DecimalValue ------------------------------------------------
+ */
+/**
+ * A typed leaf of a compiled expression tree that holds a real number as a {@code BigDecimal}.
+ * <p>
+ * A plain {@link Name} carries a number as a {@code String}, so every {@link Function}, {@link Operator} or {@link Postfix}
+ * that computes with it has to parse the string into a number and then write the result back into a string for the next
+ * node. A {@code DecimalValue} carries the number itself, which is passed from node to node without any parsing. The string
+ * form returned by {@link #getName()} is only created when it is asked for, such as when the tree is sent back to the CAS.
+ * <p>
+ * This is what every decimal {@code Name} is compiled to by the {@link ExpressionCompiler} and what the arithmetic of
+ * {@code Operator}, {@code Function} and {@code Postfix} returns once a tree has been compiled. Common fractions, complex
+ * numbers and symbols (variables, constants and function names) are not compiled and keep their existing node types.
+ * <p>
+ * A {@code DecimalValue} is immutable and it's {@link #evaluate()} method returns itself.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class DecimalValue extends Name {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:04:30 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code DecimalValue} from a number whose string form will be created when it is needed.
+	 *
+	 * @param value  the number.
+	 * @param params the {@code ExpressionParams} representing options for the evaluation and format within this expression.
+	 */
+	public DecimalValue(BigDecimal value, Params params) {
+		this(null, value, params);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:05:12 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code DecimalValue} from a number and the string it was parsed from. This retains the original string so
+	 * that {@link #getName()} returns it unchanged.
+	 *
+	 * @param name   the string from which {@code value} was parsed. This may be {@code null} in which case it will be created
+	 *               from {@code value} when {@link #getName()} is first called.
+	 * @param value  the number.
+	 * @param params the {@code ExpressionParams} representing options for the evaluation and format within this expression.
+	 */
+	public DecimalValue(String name, BigDecimal value, Params params) {
+		super(name, params);
+		this.value = value;
+		this.rendered = name;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:47:33 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number held by this node.
+	 *
+	 * @return the value of this node.
+	 */
+	public BigDecimal getValue() {
+		return value;
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 11:08:21 --------------------------------------
+	 */
+	/**
+	 * Appends the number tree of this value using the same fraction that {@link Name#format(SegmentBuilder)} would have parsed
+	 * from the string form.
+	 *
+	 * @param formatBuilder {@inheritDoc}
+	 */
+	@Override
+	public void format(SegmentBuilder formatBuilder) {
+		formatNumber(formatBuilder, new BigFraction(getValue(), null, null, d("1E-10")));
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 10:51:40 --------------------------------------
+	 */
+	/**
+	 * Returns {@code this} as a value is already reduced.
+	 *
+	 * @return {@code this}.
+	 */
+	@Override
+	public EvaluatableExpression<Params> evaluate() {
+		return this;
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 14:05:48 --------------------------------------
+	 */
+	/**
+	 * Returns {@code true} as a value is always a number.
+	 *
+	 * @return {@code true}.
+	 */
+	@Override
+	boolean isNumeral() {
+		return true;
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 10:52:18 --------------------------------------
+	 */
+	/**
+	 * Gets the string form of the value of this node, creating it the first time this method is called.
+	 *
+	 * @return the plain string form of {@link #getValue()}.
+	 */
+	@Override
+	public String getName() {
+		String s = rendered;
+		if (s == null)
+			rendered = s = value.toPlainString();
+		return s;
+	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 10:53:45 --------------------------------------
+	 */
+	/**
+	 * Returns {@link #getName()}
+	 *
+	 * @return {@code getName()}
+	 */
+	@Override
+	public String toString() {
+		return getName();
+	}
+
+	/**
+	 * The number held by this node.
+	 */
+	private final BigDecimal value;
+	/**
+	 * The cache for {@link #getName()}. This is a benign race as every thread will render the same string.
+	 */
+	private String rendered;
+}
@@ -0,0 +1,108 @@
+/**
+ * 
+ */
+package mathaid.calculator.base.evaluator.parser.expression.scientific;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression;
+import mathaid.calculator.base.evaluator.parser.expression.scientific.Name.Params;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 11:22:36 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator.parser.expression.scientific ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: ExpressionCompiler.java ------------------------------------------------------
+ * Class name: ExpressionCompiler ------------------------------------------------
+ */
+/**
+ * Converts the tree returned by the parser into a tree whose decimal leaves are {@link DecimalValue} objects.
+ * <p>
+ * The parser creates a {@link Name} for every number it reads and each {@code Name} keeps it's number as a {@code String}.
+ * Without compilation, every {@code evaluate()} and {@code format(SegmentBuilder)} call on such a leaf parses that string
+ * again, and every intermediate result is written back to a {@code String} only to be parsed again by the node above it.
+ * Compiling the tree once after it is parsed means each number is parsed exactly once and then passed through the tree as a
+ * {@code BigDecimal}.
+ * <p>
+ * Compilation does not change the shape of the tree, only it's leaves, therefore a compiled tree formats and evaluates to the
+ * same result as the tree it was compiled from.
+ * 
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public final class ExpressionCompiler {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:24:10 ---------------------------------------------------
+	 */
+	/**
+	 * Compiles the given tree by replacing every number {@code Name} with a {@link DecimalValue}. Nodes that have no number in
+	 * them are returned as is.
+	 * 
+	 * @param x the tree to be compiled. This is not modified.
+	 * @return a tree equivalent to {@code x} whose numbers are typed values.
+	 */
+	public static EvaluatableExpression<Params> compile(EvaluatableExpression<Params> x) {
+		if (x == null || x instanceof DecimalValue)
+			return x;
+		Params p = x.getParams();
+		if (x instanceof Function) {
+			Function f = (Function) x;
+			return new Function(f.getNameExpression(), compile(f.getArguments()), p);
+		} else if (x instanceof Operator) {
+			Operator o = (Operator) x;
+			return new Operator(compile(o.getLeft()), o.getName(), compile(o.getRight()), p);
+		} else if (x instanceof Prefix) {
+			Prefix o = (Prefix) x;
+			return new Prefix(o.getName(), compile(o.getRight()), p);
+		} else if (x instanceof Postfix) {
+			Postfix o = (Postfix) x;
+			return new Postfix(compile(o.getLeft()), o.getName(), p);
+		} else if (x instanceof Group)
+			return new Group(compile(((Group) x).getContent()), p);
+		else if (x instanceof Array)
+			return new Array(compile(((Array) x).getArray()), p);
+		else if (x instanceof Name) {
+			String s = x.getName();
+			if (s.isEmpty() || !(Character.isDigit(s.charAt(0)) || s.charAt(0) == '.'))
+				return x;
+			try {
+				return new DecimalValue(s, new BigDecimal(s), p);
+			} catch (NumberFormatException e) {
+			}
+		}
+		return x;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:27:52 ---------------------------------------------------
+	 */
+	/**
+	 * Compiles every element of the given list.
+	 * 
+	 * @param l the list to be compiled.
+	 * @return a new mutable list of the compiled elements in the same order.
+	 */
+	private static List<EvaluatableExpression<Params>> compile(List<EvaluatableExpression<Params>> l) {
+		List<EvaluatableExpression<Params>> c = new ArrayList<>(l.size());
+		for (EvaluatableExpression<Params> x : l)
+			c.add(compile(x));
+		return c;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:22:36 ---------------------------------------------------
+	 */
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private ExpressionCompiler() {
+	}
+
+}
@@ -156,7 +156,7 @@ public class Function extends Name {
 	 */
 	private static boolean isTwo(EvaluatableExpression<Params> x) {
 		if (isNumber(x)) {
-			BigDecimal n = d(x.getName());
+			BigDecimal n = toDecimal(x);
 			return n.compareTo(d(2L)) == 0;
 		}
 		return false;
@@ -174,7 +174,7 @@ public class Function extends Name {
 	 */
 	private static boolean isOne(EvaluatableExpression<Params> x) {
 		if (isNumber(x)) {
-			BigDecimal n = d(x.getName());
+			BigDecimal n = toDecimal(x);
 			return n.compareTo(BigDecimal.ONE) == 0;
 		}
 		return false;
@@ -210,6 +210,19 @@ public class Function extends Name {
 		return unmodifiableList(args);
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:31:07 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the identifier given at the constructor.
+	 * 
+	 * @return the expression that is the name of this function.
+	 */
+	EvaluatableExpression<Params> getNameExpression() {
+		return name;
+	}
+
 	/*
 	 * Date: 30 Nov 2023 -----------------------------------------------------------
 	 * Time created: 09:03:00 ---------------------------------------------------
@@ -260,7 +273,9 @@ public class Function extends Name {
 	// Note that the argument must already be checked by isNumber(x) || is
 	// IntegerFraction
 	private BigDecimal asDecimal(EvaluatableExpression<Params> x) {
-		if (x instanceof Function) {
+		if (x instanceof DecimalValue)
+			return ((DecimalValue) x).getValue();
+		else if (x instanceof Function) {
 			Function frac = (Function) x;
 			BigInteger num = i(frac.getArguments().get(0).getName());
 			BigInteger denom = i(frac.getArguments().get(1).getName());
@@ -505,6 +520,20 @@ public class Function extends Name {
 				isTrig && getParams().getTrig() == GRAD));
 	}
 
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 14:06:10--------------------------------------
+	 */
+	/**
+	 * Returns {@code false} as a function is never a single number, even when it's arguments are numbers.
+	 * 
+	 * @return {@code false}.
+	 */
+	@Override
+	boolean isNumeral() {
+		return false;
+	}
+
 	/*
 	 * Most Recent Date: 11 Sep 2022-----------------------------------------------
 	 * Most recent time created: 18:09:47--------------------------------------
@@ -537,8 +566,8 @@ public class Function extends Name {
 						|| getParams().getResultType() == Params.ResultType.MFRAC)
 					return new Function(name, asList(firstArg, secondArg), getParams());
 				if (isNumber(firstArg) && isNumber(secondArg))
-					return new Name(f(i(firstArg.getName()), i(secondArg.getName()))
-							.getDecimalExpansion(getParams().getScale() + 5).toString(), getParams());
+					return new DecimalValue(f(i(firstArg.getName()), i(secondArg.getName()))
+							.getDecimalExpansion(getParams().getScale() + 5), getParams());
 				return new Function(name, asList(firstArg, secondArg), getParams());
 			}
 			/*
@@ -548,63 +577,63 @@ public class Function extends Name {
 			case SIN: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(sin(n, getParams().getTrig(), mc).toString(), getParams());
+					return new DecimalValue(sin(n, getParams().getTrig(), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case ASIN: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(asin(n, getParams().getTrig(), mc).toString(), getParams());
+					return new DecimalValue(asin(n, getParams().getTrig(), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case SINH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(sinh(n, mc).toString(), getParams());
+					return new DecimalValue(sinh(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case ASINH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(asinh(n, mc).toString(), getParams());
+					return new DecimalValue(asinh(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case COS: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(cos(n, getParams().getTrig(), mc).toString(), getParams());
+					return new DecimalValue(cos(n, getParams().getTrig(), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case ACOS: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(acos(n, getParams().getTrig(), mc).toString(), getParams());
+					return new DecimalValue(acos(n, getParams().getTrig(), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case COSH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(cosh(n, mc).toString(), getParams());
+					return new DecimalValue(cosh(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case ACOSH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(acosh(n, mc).toString(), getParams());
+					return new DecimalValue(acosh(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case TAN: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(tan(n, getParams().getTrig(), mc).toString(), getParams());
+					return new DecimalValue(tan(n, getParams().getTrig(), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
@@ -615,35 +644,35 @@ public class Function extends Name {
 						BigDecimal x = asDecimal(firstArg);
 						BigDecimal y = asDecimal(secondArg);
 						if (x != null && y != null)
-							return new Name(atan(x, y, getParams().getTrig(), mc).toString(), getParams());
+							return new DecimalValue(atan(x, y, getParams().getTrig(), mc), getParams());
 						return new Function(name, asList(firstArg, secondArg), getParams());
 					}
 					return new Function(name, asList(firstArg, secondArg), getParams());
 				}
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(atan(n, getParams().getTrig(), mc).toString(), getParams());
+					return new DecimalValue(atan(n, getParams().getTrig(), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case TANH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(tanh(n, mc).toString(), getParams());
+					return new DecimalValue(tanh(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case ATANH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(atanh(n, mc).toString(), getParams());
+					return new DecimalValue(atanh(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case COT: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(tan(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc).toString(),
+					return new DecimalValue(tan(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc),
 							getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
@@ -651,7 +680,7 @@ public class Function extends Name {
 			case ACOT: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(atan(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc).toString(),
+					return new DecimalValue(atan(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc),
 							getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
@@ -659,21 +688,21 @@ public class Function extends Name {
 			case COTH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(tanh(BigDecimal.ONE.divide(n, mc), mc).toString(), getParams());
+					return new DecimalValue(tanh(BigDecimal.ONE.divide(n, mc), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case ACOTH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(atanh(BigDecimal.ONE.divide(n, mc), mc).toString(), getParams());
+					return new DecimalValue(atanh(BigDecimal.ONE.divide(n, mc), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case CSC: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(sin(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc).toString(),
+					return new DecimalValue(sin(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc),
 							getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
@@ -681,7 +710,7 @@ public class Function extends Name {
 			case ACSC: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(asin(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc).toString(),
+					return new DecimalValue(asin(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc),
 							getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
@@ -689,21 +718,21 @@ public class Function extends Name {
 			case CSCH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(sinh(BigDecimal.ONE.divide(n, mc), mc).toString(), getParams());
+					return new DecimalValue(sinh(BigDecimal.ONE.divide(n, mc), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case ACSCH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(asinh(BigDecimal.ONE.divide(n, mc), mc).toString(), getParams());
+					return new DecimalValue(asinh(BigDecimal.ONE.divide(n, mc), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case SEC: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(cos(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc).toString(),
+					return new DecimalValue(cos(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc),
 							getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
@@ -711,7 +740,7 @@ public class Function extends Name {
 			case ASEC: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(acos(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc).toString(),
+					return new DecimalValue(acos(BigDecimal.ONE.divide(n, mc), getParams().getTrig(), mc),
 							getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
@@ -719,14 +748,14 @@ public class Function extends Name {
 			case SECH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(cosh(BigDecimal.ONE.divide(n, mc), mc).toString(), getParams());
+					return new DecimalValue(cosh(BigDecimal.ONE.divide(n, mc), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case ASECH: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(acosh(BigDecimal.ONE.divide(n, mc), mc).toString(), getParams());
+					return new DecimalValue(acosh(BigDecimal.ONE.divide(n, mc), mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
@@ -737,14 +766,14 @@ public class Function extends Name {
 						BigDecimal x = asDecimal(firstArg);
 						BigDecimal y = asDecimal(secondArg);
 						if (x != null && y != null)
-							return new Name(log(x, y, mc).toString(), getParams());
+							return new DecimalValue(log(x, y, mc), getParams());
 						return new Function(name, asList(firstArg, secondArg), getParams());
 					}
 					return new Function(name, asList(firstArg, secondArg), getParams());
 				}
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(log(n, mc).toString(), getParams());
+					return new DecimalValue(log(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
@@ -753,49 +782,49 @@ public class Function extends Name {
 			case LOG10: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(log10(n, mc).toString(), getParams());
+					return new DecimalValue(log10(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case LOG2: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(log2(n, mc).toString(), getParams());
+					return new DecimalValue(log2(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case EXP: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(exp(n, mc).toString(), getParams());
+					return new DecimalValue(exp(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case SQRT: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(sqrt(n, mc).toString(), getParams());
+					return new DecimalValue(sqrt(n, mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case CBRT: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(cbrt(n, getParams().getScale()).toString(), getParams());
+					return new DecimalValue(cbrt(n, getParams().getScale()), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case ABS: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(n.abs(mc).toString(), getParams());
+					return new DecimalValue(n.abs(mc), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
 			case SIGN: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					return new Name(String.valueOf(n.signum()), getParams());
+					return new DecimalValue(BigDecimal.valueOf(n.signum()), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
@@ -806,7 +835,7 @@ public class Function extends Name {
 					BigDecimal y = asDecimal(secondArg);
 					if (x != null && y != null && mathaid.calculator.base.util.Utility.isInteger(x)
 							&& mathaid.calculator.base.util.Utility.isInteger(y))
-						return new Name(x.toBigInteger().gcd(y.toBigInteger()).toString(), getParams());
+						return new DecimalValue(new BigDecimal(x.toBigInteger().gcd(y.toBigInteger())), getParams());
 					return new Function(name, asList(firstArg, secondArg), getParams());
 				}
 				return new Function(name, asList(firstArg, secondArg), getParams());
@@ -828,7 +857,7 @@ public class Function extends Name {
 					BigDecimal x = asDecimal(firstArg);
 					BigDecimal y = asDecimal(secondArg);
 					if (x != null && y != null)
-						return new Name(mod(x, y).toString(), getParams());
+						return new DecimalValue(mod(x, y), getParams());
 					return new Function(name, asList(firstArg, secondArg), getParams());
 				}
 				return new Function(name, asList(firstArg, secondArg), getParams());
@@ -841,7 +870,7 @@ public class Function extends Name {
 					if (x != null && y != null && mathaid.calculator.base.util.Utility.isInteger(x)
 							&& mathaid.calculator.base.util.Utility.isInteger(y)) {
 						BigDecimal n = factorial(x.abs()).divide(factorial(x.abs().subtract(y.abs())));
-						return new Name(n.multiply(d(x.min(y).signum())).toString(), getParams());
+						return new DecimalValue(n.multiply(d(x.min(y).signum())), getParams());
 					}
 					return new Function(name, asList(firstArg, secondArg), getParams());
 				}
@@ -858,7 +887,7 @@ public class Function extends Name {
 						BigDecimal d = factorial(y.abs());
 						BigDecimal e = factorial(x.abs().subtract(y.abs()));
 						BigDecimal f = c.divide(d.multiply(e));
-						return new Name(f.multiply(d(x.min(y).signum())).toString(), getParams());
+						return new DecimalValue(f.multiply(d(x.min(y).signum())), getParams());
 					}
 					return new Function(name, asList(firstArg, secondArg), getParams());
 				}
@@ -867,7 +896,7 @@ public class Function extends Name {
 			case GAMMA: {
 				BigDecimal n = asDecimal(firstArg);
 				if (n != null) {
-					new Name(gamma(n, getParams().getScale()).toString(), getParams());
+					new DecimalValue(gamma(n, getParams().getScale()), getParams());
 				}
 				return new Function(name, asList(firstArg), getParams());
 			}
@@ -879,7 +908,7 @@ public class Function extends Name {
 					BigDecimal x = asDecimal(firstArg);
 					BigDecimal y = asDecimal(secondArg);
 					if (x != null && y != null) {
-						return new Name(x.min(y).toString(), getParams());
+						return new DecimalValue(x.min(y), getParams());
 					}
 					return new Function(name, asList(firstArg, secondArg), getParams());
 				}
@@ -891,7 +920,7 @@ public class Function extends Name {
 					BigDecimal x = asDecimal(firstArg);
 					BigDecimal y = asDecimal(secondArg);
 					if (x != null && y != null) {
-						return new Name(x.max(y).toString(), getParams());
+						return new DecimalValue(x.max(y), getParams());
 					}
 					return new Function(name, asList(firstArg, secondArg), getParams());
 				}
@@ -712,7 +712,7 @@ public class Name extends EvaluatableExpression<Name.Params> {
 	 */
 	protected static boolean isInteger(EvaluatableExpression<?> x) {
 		if (isNumber(x))
-			return mathaid.calculator.base.util.Utility.isInteger(d(x.getName()));
+			return mathaid.calculator.base.util.Utility.isInteger(toDecimal(x));
 		return false;
 	}
 
@@ -744,12 +744,48 @@ public class Name extends EvaluatableExpression<Name.Params> {
 	 */
 	/**
 	 * Checks if the generic expression is a number.
+	 * <p>
+	 * The check is delegated to {@link #isNumeral()} so that a {@link DecimalValue} is a number without any check on it's name
+	 * and operators and functions are never numbers.
 	 * 
 	 * @param x the value to be checked.
-	 * @return {@code x instanceof Name && isNumber(x.getName())}
+	 * @return {@code x instanceof Name && ((Name) x).isNumeral()}
 	 */
 	protected static boolean isNumber(EvaluatableExpression<?> x) {
-		return x instanceof Name && isNumber(x.getName());
+		return x instanceof Name && ((Name) x).isNumeral();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:05:22 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if this node is a single number.
+	 * <p>
+	 * Sub-classes that are never numbers (such as {@link Operator} and {@link Function}) or that are always numbers (such as
+	 * {@link DecimalValue}) override this method so that their name is not parsed.
+	 * 
+	 * @return {@code isNumber(getName())}
+	 */
+	boolean isNumeral() {
+		return isNumber(getName());
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:31:05 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the decimal value of an expression that has already been checked by {@link #isNumber(EvaluatableExpression)}. A
+	 * {@link DecimalValue} returns it's value as is, any other expression has it's name parsed.
+	 * 
+	 * @param x the number expression.
+	 * @return the {@code BigDecimal} value of {@code x}.
+	 */
+	protected static BigDecimal toDecimal(EvaluatableExpression<?> x) {
+		if (x instanceof DecimalValue)
+			return ((DecimalValue) x).getValue();
+		return d(x.getName());
 	}
 
 	/*
@@ -858,49 +894,7 @@ public class Name extends EvaluatableExpression<Name.Params> {
 		Params p = getParams();
 
 		if (isNumber(getName())) {
-			switch (p.getResultType()) {
-			case Params.ResultType.DECIMAL:
-			case Params.ResultType.EXPRESSION:
-			default: {
-				// String s = toSegmentString(
-				// new BigFraction(new BigDecimal(getName()),
-				// new java.math.MathContext(p.getScale(), rm("HALF_EVEN")), null, new BigDecimal("1E-10")),
-				// 0);
-				BigFraction s = fromSegmentString(getName()).setMathContext(mc(getParams().getScale()));
-				formatBuilder
-						.append(toSegment(s, p.getRecurringType(), 0, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
-				break;
-
-			}
-			case Params.ResultType.FIX: {
-				BigDecimal n = fromSegmentString(getName()).getFraction();
-				formatBuilder.append(toSegment(d(fixedPoint(n, n.signum(), p.getScale())), 0,
-						EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
-				break;
-			}
-			case Params.ResultType.SCI: {
-				BigFraction s = fromSegmentString(getName());
-				formatBuilder
-						.append(toSegment(s, p.getRecurringType(), 1, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
-				break;
-			}
-			case Params.ResultType.ENG: {
-				BigFraction s = fromSegmentString(getName());
-				formatBuilder.append(
-						toSegment(s, false, p.getRecurringType(), EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
-				break;
-			}
-			case Params.ResultType.FRAC: {
-				BigFraction s = fromSegmentString(getName());
-				formatBuilder.append(toSegment(s, false, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
-				break;
-			}
-			case Params.ResultType.MFRAC: {
-				BigFraction s = fromSegmentString(getName());
-				formatBuilder.append(toSegment(s, true, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
-				break;
-			}
-			}
+			formatNumber(formatBuilder, fromSegmentString(getName()));
 		}
 		// else if (p.getConstants().containsKey(getName()))
 		// formatBuilder.append(constant(p.getConstants().get(getName()).get(), getName()));
@@ -918,6 +912,61 @@ public class Name extends EvaluatableExpression<Name.Params> {
 		// end if
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:12:40 ---------------------------------------------------
+	 */
+	/**
+	 * Appends the number tree of {@code n} to the given builder using the {@linkplain Params#getResultType() result type} of
+	 * {@link #getParams()}. This is the number branch of {@link #format(SegmentBuilder)} and is shared with the typed
+	 * {@link DecimalValue} nodes so that a number is formatted the same way whether it is held as a string or as a value.
+	 * 
+	 * @param formatBuilder the builder to which the number tree will be appended.
+	 * @param n             the number to be formatted.
+	 */
+	protected void formatNumber(SegmentBuilder formatBuilder, BigFraction n) {
+		Params p = getParams();
+		switch (p.getResultType()) {
+		case Params.ResultType.DECIMAL:
+		case Params.ResultType.EXPRESSION:
+		default: {
+			// String s = toSegmentString(
+			// new BigFraction(new BigDecimal(getName()),
+			// new java.math.MathContext(p.getScale(), rm("HALF_EVEN")), null, new BigDecimal("1E-10")),
+			// 0);
+			BigFraction s = n.setMathContext(mc(getParams().getScale()));
+			formatBuilder
+					.append(toSegment(s, p.getRecurringType(), 0, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			break;
+
+		}
+		case Params.ResultType.FIX: {
+			BigDecimal x = n.getFraction();
+			formatBuilder.append(toSegment(d(fixedPoint(x, x.signum(), p.getScale())), 0,
+					EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			break;
+		}
+		case Params.ResultType.SCI: {
+			formatBuilder
+					.append(toSegment(n, p.getRecurringType(), 1, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			break;
+		}
+		case Params.ResultType.ENG: {
+			formatBuilder.append(
+					toSegment(n, false, p.getRecurringType(), EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			break;
+		}
+		case Params.ResultType.FRAC: {
+			formatBuilder.append(toSegment(n, false, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			break;
+		}
+		case Params.ResultType.MFRAC: {
+			formatBuilder.append(toSegment(n, true, EvaluatableExpression.fromParams(p, p.getNumOfRepeats())));
+			break;
+		}
+		}
+	}
+
 	/*
 	 * Most Recent Date: 4 Sep 2022-----------------------------------------------
 	 * Most recent time created: 17:41:03--------------------------------------
@@ -228,6 +228,20 @@ public class Operator extends Name {
 		right.format(formatBuilder);
 
 	}
+
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 14:07:17--------------------------------------
+	 */
+	/**
+	 * Returns {@code false} as an operator is never a single number, even when both operands are numbers.
+	 * 
+	 * @return {@code false}.
+	 */
+	@Override
+	boolean isNumeral() {
+		return false;
+	}
 	
 	public String toString() {
 		return new StringBuilder(left.toString()).append(getName()).append(right.toString()).toString();
@@ -264,21 +278,17 @@ public class Operator extends Name {
 		case "+":
 			if (isNumber(left))
 				if (isNumber(right))
-					return new Name(d(left.getName())
-							.add(d(right.getName()), mc(p.getScale(), rm("HALF_EVEN")))
-							.toPlainString(), p);
+					return new DecimalValue(toDecimal(left).add(toDecimal(right), mc(p.getScale(), rm("HALF_EVEN"))), p);
 			break;
 		case "-":
 			if (isNumber(left))
 				if (isNumber(right))
-					return new Name(d(left.getName()).subtract(d(right.getName()),
-							mc(p.getScale(), rm("HALF_EVEN"))).toPlainString(), p);
+					return new DecimalValue(toDecimal(left).subtract(toDecimal(right), mc(p.getScale(), rm("HALF_EVEN"))), p);
 			break;
 		case "/":
 			if (isNumber(left))
 				if (isNumber(right))
-					return new Name(d(left.getName()).divide(d(right.getName()),
-							mc(p.getScale(), rm("HALF_EVEN"))).toPlainString(), p);
+					return new DecimalValue(toDecimal(left).divide(toDecimal(right), mc(p.getScale(), rm("HALF_EVEN"))), p);
 			// Log[5]/Log[2]
 			if (left instanceof Function && right instanceof Function) {
 				if (left.getName().equals(p.getLog()) && right.getName().equals(p.getLog())) {
@@ -291,8 +301,7 @@ public class Operator extends Name {
 		case "*":
 			if (isNumber(left))
 				if (isNumber(right))
-					return new Name(d(left.getName()).multiply(d(right.getName()),
-							mc(p.getScale(), rm("HALF_EVEN"))).toPlainString(), p);
+					return new DecimalValue(toDecimal(left).multiply(toDecimal(right), mc(p.getScale(), rm("HALF_EVEN"))), p);
 			break;
 		case "^":
 			if (isNumber(left))
@@ -304,8 +313,7 @@ public class Operator extends Name {
 //					Apfloat n1 = new Apfloat(left.name()), n2 = new Apfloat(right.name());
 //					n1 = ApfloatMath.pow(n1, n2);
 //					return new Name(d(n1.toString(true)).toPlainString());
-					return new Name(pow(d(left.getName()), d(right.getName()),
-							mc(p.getScale(), rm("HALF_EVEN"))).toPlainString(), p);
+					return new DecimalValue(pow(toDecimal(left), toDecimal(right), mc(p.getScale(), rm("HALF_EVEN"))), p);
 			break;
 		case ".":
 			/*
@@ -3,7 +3,6 @@
  */
 package mathaid.calculator.base.evaluator.parser.expression.scientific;
 
-import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 
@@ -74,6 +73,20 @@ public class Postfix extends Name {
 		formatBuilder.append(Segments.operator(getName(), getName()));
 	}
 
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 14:09:31--------------------------------------
+	 */
+	/**
+	 * Returns {@code false} as a postfix operator is never a single number, even when it's operand is a number.
+	 * 
+	 * @return {@code false}.
+	 */
+	@Override
+	boolean isNumeral() {
+		return false;
+	}
+
 	/*
 	 * Most Recent Date: 11 Sep 2022-----------------------------------------------
 	 * Most recent time created: 17:37:08--------------------------------------
@@ -97,10 +110,8 @@ public class Postfix extends Name {
 		EvaluatableExpression<Params> exp = left.evaluate();
 		if (getName().equals("!"))
 			if (isNumber(exp))
-				return new Name(
-						Arith.factorial(new BigDecimal(exp.getName()),
-								new MathContext(getParams().getScale(), RoundingMode.HALF_EVEN)).toPlainString(),
-						getParams());
+				return new DecimalValue(Arith.factorial(toDecimal(exp),
+						new MathContext(getParams().getScale(), RoundingMode.HALF_EVEN)), getParams());
 		return new Postfix(exp, getName(), getParams());
 	}
 
@@ -109,6 +109,20 @@ public class Prefix extends Name {
 		right.format(formatBuilder);
 	}
 
+	/*
+	 * Most Recent Date: 17 Oct 2026 -----------------------------------------------
+	 * Most recent time created: 14:08:24--------------------------------------
+	 */
+	/**
+	 * Returns {@code false} as a prefix operator is never a single number, even when it's operand is a number.
+	 * 
+	 * @return {@code false}.
+	 */
+	@Override
+	boolean isNumeral() {
+		return false;
+	}
+
 	/*
 	 * Most Recent Date: 11 Sep 2022-----------------------------------------------
 	 * Most recent time created: 17:13:23--------------------------------------
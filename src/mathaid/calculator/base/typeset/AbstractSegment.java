@@ -54,6 +54,7 @@ public abstract class AbstractSegment implements LinkedSegment {
 		this.focus = focus;
 		this.error = error;
 		this.sibling = sibling;
+		this.length = 1 + (sibling == null ? 0 : sibling.length());
 		this.children = Arrays.copyOfRange(children, 0, children.length);
 		this.spIndex = superIndex;
 		this.sbIndex = subIndex;
@@ -153,6 +154,22 @@ public abstract class AbstractSegment implements LinkedSegment {
 		return sibling;
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:18:44 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of top-level nodes from this segment to the end of the
+	 * tree. The value is computed once at construction, so this call does not
+	 * walk the siblings.
+	 * 
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int length() {
+		return length;
+	}
+
 	/*
 	 * Date: 17 Nov 2023 -----------------------------------------------------------
 	 * Time created: 04:29:25 ---------------------------------------------------
@@ -204,6 +221,10 @@ public abstract class AbstractSegment implements LinkedSegment {
 	 */
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The nodes are formatted one after the other in a single loop, each by its
+	 * own {@link #formatNode(Appendable, Formatter, List)}, so the stack depth
+	 * does not grow with the length of the tree.
 	 * 
 	 * @param a        {@inheritDoc}
 	 * @param f        {@inheritDoc}
@@ -213,7 +234,31 @@ public abstract class AbstractSegment implements LinkedSegment {
 	 *                                   to reference a {@code null} node.
 	 */
 	@Override
-	public abstract void format(Appendable a, Formatter f, List<Integer> position) throws IndexOutOfBoundsException;
+	public void format(Appendable a, Formatter f, List<Integer> position) throws IndexOutOfBoundsException {
+		Traversal.format(this, a, f, position);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:20:31 ---------------------------------------------------
+	 */
+	/**
+	 * Formats this node and its children, but not its siblings, and returns the
+	 * node to be formatted after it.
+	 * 
+	 * @param a        the {@code Appendable} which will build the LaTeX render
+	 *                 string.
+	 * @param f        give additional styling to the resulting LaTeX code.
+	 * @param position the position of the node before this one. The last element
+	 *                 is incremented for every position that this node holds.
+	 * @return the next node to be formatted, which is usually the sibling, or
+	 *         {@code null} if this is the last node.
+	 * @throws IndexOutOfBoundsException if the {@code List} argument is presented
+	 *                                   in such a way that may cause the traversal
+	 *                                   to reference a {@code null} node.
+	 */
+	protected abstract LinkedSegment formatNode(Appendable a, Formatter f, List<Integer> position)
+			throws IndexOutOfBoundsException;
 
 	/*
 	 * Date: 17 Nov 2023 -----------------------------------------------------------
@@ -221,6 +266,10 @@ public abstract class AbstractSegment implements LinkedSegment {
 	 */
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The nodes are appended one after the other in a single loop, each by its
+	 * own {@link #toStringNode(Appendable, Log, List)}, so the stack depth does
+	 * not grow with the length of the tree.
 	 * 
 	 * @param a        {@inheritDoc}
 	 * @param l        {@inheritDoc}
@@ -230,7 +279,30 @@ public abstract class AbstractSegment implements LinkedSegment {
 	 *                                   to reference a {@code null} node.
 	 */
 	@Override
-	public abstract void toString(Appendable a, Log l, List<Integer> position) throws IndexOutOfBoundsException;
+	public void toString(Appendable a, Log l, List<Integer> position) throws IndexOutOfBoundsException {
+		Traversal.toString(this, a, l, position);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:22:05 ---------------------------------------------------
+	 */
+	/**
+	 * Appends the value of this node and its children, but not its siblings, and
+	 * returns the node to be appended after it.
+	 * 
+	 * @param a        the {@code Appendable} to which the value is appended.
+	 * @param l        records any info, warning or error that occurs.
+	 * @param position the position of the node before this one. The last element
+	 *                 is incremented for every position that this node holds.
+	 * @return the next node to be appended, which is usually the sibling, or
+	 *         {@code null} if this is the last node.
+	 * @throws IndexOutOfBoundsException if the {@code List} argument is presented
+	 *                                   in such a way that may cause the traversal
+	 *                                   to reference a {@code null} node.
+	 */
+	protected abstract LinkedSegment toStringNode(Appendable a, Log l, List<Integer> position)
+			throws IndexOutOfBoundsException;
 
 	/*
 	 * Date: 17 Nov 2023 -----------------------------------------------------------
@@ -345,6 +417,11 @@ public abstract class AbstractSegment implements LinkedSegment {
 	 * The implementation sibling of this segment.
 	 */
 	private final LinkedSegment sibling;
+	/**
+	 * The {@linkplain #length() length} of the tree from this segment, computed
+	 * once from the sibling since segments are immutable.
+	 */
+	private final int length;
 	/**
 	 * The implementation of the error property of this segment.
 	 */
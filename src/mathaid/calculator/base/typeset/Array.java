@@ -7,6 +7,8 @@
  */
 package mathaid.calculator.base.typeset;
 
+import static mathaid.calculator.base.typeset.Segment.Type.INTEGER;
+
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
@@ -72,10 +74,11 @@ class Array extends AbstractSegment {
 	 * @param a        {@inheritDoc}
 	 * @param f        {@inheritDoc}
 	 * @param position {@inheritDoc}
+	 * @return {@inheritDoc}
 	 * @throws IndexOutOfBoundsException {@inheritDoc}
 	 */
 	@Override
-	public void format(Appendable a, Formatter f, List<Integer> position) {
+	protected LinkedSegment formatNode(Appendable a, Formatter f, List<Integer> position) {
 		/* Update the current position of the cursor */
 		position.set(position.size() - 1, position.get(position.size() - 1) + 1);
 
@@ -92,11 +95,10 @@ class Array extends AbstractSegment {
 		}
 		sb.append(" \\right]");
 		try {
-			a.append(f.format(this, sb.toString(), getType(), position));
+			f.format(this, sb, getType(), position, a);
 		} catch (IOException e) {
 		}
-		if (hasSibling())
-			getSibling().format(a, f, position);
+		return getSibling();
 	}
 
 	/*
@@ -110,10 +112,11 @@ class Array extends AbstractSegment {
 	 * @param a        {@inheritDoc}
 	 * @param l        {@inheritDoc}
 	 * @param position {@inheritDoc}
+	 * @return {@inheritDoc}
 	 * @throws IndexOutOfBoundsException {@inheritDoc}
 	 */
 	@Override
-	public void toString(Appendable a, Log l, List<Integer> position) {
+	protected LinkedSegment toStringNode(Appendable a, Log l, List<Integer> position) {
 		/* Update the current position of the cursor */
 		position.set(position.size() - 1, position.get(position.size() - 1) + 1);
 
@@ -134,8 +137,7 @@ class Array extends AbstractSegment {
 		} catch (FatalReadException e) {
 			throw new FatalParseException(e.getMessage(), e, position);
 		}
-		if (hasSibling())
-			getSibling().toString(a, l, position);
+		return getSibling();
 	}
 
 	/*
@@ -219,9 +221,8 @@ class Array extends AbstractSegment {
 	@Override
 	public LinkedSegment concat(LinkedSegment ls) {
 		if (!hasSibling()) {
-			if (ls instanceof Digit) {
-				Digit d = (Digit) ls;
-				return new Array(isFocused(), hasError(), d.toDigit(), getChildren());
+			if (DigitRun.isDigit(ls)) {
+				return new Array(isFocused(), hasError(), DigitRun.retype(ls, INTEGER), getChildren());
 			}
 			return new Array(isFocused(), hasError(), ls, getChildren());
 		}
@@ -3,6 +3,7 @@
  */
 package mathaid.calculator.base.typeset;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -88,6 +89,8 @@ public class BasicFormatter implements Formatter {
 	protected BasicFormatter(NavigableMap<Integer, Marker> m) {
 		markers = new HashMap<>(m);
 		painter = new ArrayList<>(m.keySet());
+		closes = new CharSequence[0];
+		survey();
 	}
 
 	/*
@@ -110,6 +113,77 @@ public class BasicFormatter implements Formatter {
 		return format;
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:48:30 ---------------------------------------------------
+	 */
+	/**
+	 * Writes the marked {@code format} argument to the given {@code Appendable}
+	 * without building an intermediate string per marker.
+	 * <p>
+	 * When every marker is a {@link StreamingMarker}, the markers write their
+	 * openings from the outermost (the last in the mark order) to the innermost,
+	 * then the format is written, then the closings are written in the reverse
+	 * order. This produces the same code as
+	 * {@link #format(Segment, String, int, List)}. If, in addition, none of the
+	 * markers {@linkplain StreamingMarker#marksPlain() marks plain segments} and
+	 * the segment has neither the focus nor an error, the format is written as it
+	 * is without calling any marker.
+	 * <p>
+	 * If any of the markers is not a {@code StreamingMarker}, the string returned
+	 * by {@link #format(Segment, String, int, List)} is written instead.
+	 * 
+	 * @param segment  {@inheritDoc}
+	 * @param format   {@inheritDoc}
+	 * @param type     {@inheritDoc}
+	 * @param position {@inheritDoc}
+	 * @param a        {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	public void format(Segment segment, CharSequence format, int type, List<Integer> position, Appendable a)
+			throws IOException {
+		if (plain == 0 && (segment == null || (!segment.isFocused() && !segment.hasError()))) {
+			a.append(format);
+			return;
+		} else if (streaming < painter.size()) {
+			a.append(format(segment, format.toString(), type, position));
+			return;
+		}
+		final int n = painter.size();
+		if (closes.length < n)
+			closes = new CharSequence[n];
+		for (int i = n - 1; i >= 0; i--)
+			closes[i] = ((StreamingMarker) markers.get(painter.get(i))).open(segment, type, position, a);
+		a.append(format);
+		for (int i = 0; i < n; i++) {
+			if (closes[i] != null)
+				a.append(closes[i]);
+			closes[i] = null;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:53:16 ---------------------------------------------------
+	 */
+	/**
+	 * Counts the markers that can stream and the markers that mark plain segments.
+	 * This is called whenever a marker is added or removed.
+	 */
+	private void survey() {
+		streaming = 0;
+		plain = 0;
+		for (Marker m : markers.values()) {
+			if (m instanceof StreamingMarker) {
+				streaming++;
+				if (((StreamingMarker) m).marksPlain())
+					plain++;
+			} else
+				plain++;
+		}
+	}
+
 	/*
 	 * Date: 23 Nov 2023 -----------------------------------------------------------
 	 * Time created: 12:15:48 ---------------------------------------------------
@@ -238,6 +312,7 @@ public class BasicFormatter implements Formatter {
 			return false;
 		markers.put(c, e);
 		painter.add(order, c);
+		survey();
 		return true;
 	}
 
@@ -314,7 +389,9 @@ public class BasicFormatter implements Formatter {
 			return false;
 //		Integer index = painter.indexOf(c);
 //		return painter.remove(index);
-		return painter.remove((Integer) c);
+		boolean removed = painter.remove((Integer) c);
+		survey();
+		return removed;
 	}
 
 	/**
@@ -326,4 +403,18 @@ public class BasicFormatter implements Formatter {
 	 * the code of the marker and it's index within the list is it's order.
 	 */
 	private final List<Integer> painter;
+	/**
+	 * The closing parts returned by the markers for the segment that is being
+	 * streamed, in mark order. It is reused from one segment to the next.
+	 */
+	private CharSequence[] closes;
+	/**
+	 * The number of markers that are {@link StreamingMarker}s.
+	 */
+	private int streaming;
+	/**
+	 * The number of markers that may mark a segment which has neither the focus
+	 * nor an error.
+	 */
+	private int plain;
 }
\ No newline at end of file
@@ -4,6 +4,7 @@
 package mathaid.calculator.base.typeset;
 
 import static mathaid.calculator.base.typeset.Segment.Type.INTEGER;
+import static mathaid.calculator.base.typeset.Segment.Type.MANTISSA;
 import static mathaid.calculator.base.typeset.Segment.Type.POINT;
 
 import java.io.IOException;
@@ -173,13 +174,12 @@ public class BasicSegment extends AbstractSegment {
 	 */
 	public LinkedSegment concat(LinkedSegment ls) {
 		if (!hasSibling()) {
-			if (ls instanceof Digit) {
-				Digit d = (Digit) ls;
+			if (DigitRun.isDigit(ls)) {
 				if (getType() == POINT) {
-					if (d.getType() == INTEGER)
-						return new BasicSegment(f, s, getType(), isFocused(), hasError(), d.toMantissaDigit());
+					if (ls.getType() == INTEGER)
+						return new BasicSegment(f, s, getType(), isFocused(), hasError(), DigitRun.retype(ls, MANTISSA));
 				} else
-					return new BasicSegment(f, s, getType(), isFocused(), hasError(), d.toDigit());
+					return new BasicSegment(f, s, getType(), isFocused(), hasError(), DigitRun.retype(ls, INTEGER));
 			}
 			return new BasicSegment(f, s, getType(), isFocused(), hasError(), ls);
 		}
@@ -194,28 +194,29 @@ public class BasicSegment extends AbstractSegment {
 	 * Appends the format (TeX) to the provided {@link Appendable}, using the given
 	 * {@code Formatter} apply addtional formatting to the generated code (such as
 	 * minifying, prettifying, punctuation --like enforcing parenthesis --,
-	 * coloring, error marking, focus, marking etc). And afterwards, recursively
-	 * calls this method for it's siblings.
+	 * coloring, error marking, focus, marking etc). The sibling is returned so that
+	 * {@link AbstractSegment#format(Appendable, Formatter, List)} can format it
+	 * next.
 	 * 
 	 * @param a {@inheritDoc}
 	 * @param l {@inheritDoc}
 	 * @param p {@inheritDoc}
+	 * @return {@inheritDoc}
 	 * @throws IndexOutOfBoundsException if the positional indices (specified by the
 	 *                                   {@code List} argument) would point to a
 	 *                                   {@code null} node.
 	 */
-	public void format(Appendable a, Formatter f, List<Integer> p) {
+	@Override
+	protected LinkedSegment formatNode(Appendable a, Formatter f, List<Integer> p) {
 		/* Update the current position of the cursor */
 		p.set(p.size() - 1, p.get(p.size() - 1) + 1);
 
 		try {
-			a.append(f.format(this, this.f, getType(), p));
+			f.format(this, this.f, getType(), p, a);
 		} catch (IOException e) {
 		}
 
-		if (hasSibling())
-			getSibling().format(a, f, p);
-
+		return getSibling();
 	}
 
 	/*
@@ -224,17 +225,20 @@ public class BasicSegment extends AbstractSegment {
 	 */
 	/**
 	 * Appends the value (Symja) to the provided {@link Appendable}, using the given
-	 * {@code Log} to record an info, warning or error that occurred. Afterwards,
-	 * recursively calls this method for it's siblings.
+	 * {@code Log} to record an info, warning or error that occurred. The sibling is
+	 * returned so that {@link AbstractSegment#toString(Appendable, Log, List)} can
+	 * append it next.
 	 * 
 	 * @param a {@inheritDoc}
 	 * @param l {@inheritDoc}
 	 * @param p {@inheritDoc}
+	 * @return {@inheritDoc}
 	 * @throws IndexOutOfBoundsException if the positional indices (specified by the
 	 *                                   {@code List} argument) would point to a
 	 *                                   {@code null} node.
 	 */
-	public void toString(Appendable a, Log l, List<Integer> p) throws IndexOutOfBoundsException {
+	@Override
+	protected LinkedSegment toStringNode(Appendable a, Log l, List<Integer> p) throws IndexOutOfBoundsException {
 		/* Update the current position of the cursor */
 		p.set(p.size() - 1, p.get(p.size() - 1) + 1);
 		try {
@@ -244,8 +248,7 @@ public class BasicSegment extends AbstractSegment {
 			throw new FatalParseException(e.getMessage(), e, p);
 		}
 
-		if (hasSibling())
-			getSibling().toString(a, l, p);
+		return getSibling();
 	}
 
 	/*
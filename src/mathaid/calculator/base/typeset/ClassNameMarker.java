@@ -4,6 +4,7 @@
  */
 package mathaid.calculator.base.typeset;
 
+import java.io.IOException;
 import java.util.List;
 
 /*
@@ -21,7 +22,7 @@ import java.util.List;
  * @author Oruovo Anthony Etineakpopha
  * @email tonyoruovo@gmail.com
  */
-class ClassNameMarker implements Marker {
+class ClassNameMarker implements StreamingMarker {
 	/*
 	 * Date: 25 Nov 2023 -----------------------------------------------------------
 	 * Time created: 20:25:49 ---------------------------------------------------
@@ -37,21 +38,23 @@ class ClassNameMarker implements Marker {
 	 * Time created: 20:26:08 ---------------------------------------------------
 	 */
 	/**
-	 * Inserts the {@code Segment#toString()} value into the format as it's HTML
-	 * class name.
+	 * Writes the opening of a HTML class whose name is the
+	 * {@code Segment#toString()} value.
 	 * 
 	 * @param s a valid {@code Segment} which is a reference to the owner of the
-	 *          {@code math} to be formatted.
-	 * @param f the value to be formatted. This is the object of this formatting
-	 *          operation.
+	 *          math to be formatted.
 	 * @param t any value. Not used by this method.
 	 * @param p can be left as <code>null</code>.
-	 * @return the format after formatting.
+	 * @param a the {@code Appendable} to which the opening is written.
+	 * @return the closing of the class or <code>null</code> if the segment is
+	 *         <code>null</code>.
+	 * @throws IOException if {@code a} throws it.
 	 */
-	public String mark(Segment s, String f, int t, List<Integer> p) {
-		if (s != null)
-			return String.format("\\class{%1$s}{%2$s}", s, f);
-		return f;
+	public CharSequence open(Segment s, int t, List<Integer> p, Appendable a) throws IOException {
+		if (s == null)
+			return null;
+		a.append("\\class{").append(String.valueOf(s)).append("}{");
+		return "}";
 	}
 
 	/*
@@ -0,0 +1,194 @@
+/**
+ *
+ */
+package mathaid.calculator.base.typeset;
+
+import java.util.Arrays;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 14:41:05 ---------------------------------------------------
+ * Package: mathaid.calculator.base.typeset ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: ColourTree.java ------------------------------------------------------
+ * Class name: ColourTree ------------------------------------------------
+ */
+/**
+ * An immutable k-d tree of opaque colours placed in the CIE L*a*b* space (derived from CIE XYZ under the D65 white point),
+ * used to find the palette colour that looks closest to any given colour. The tree is stored flat: the node of the range
+ * {@code [lo, hi)} is at its middle index and splits its range on the axis given by its depth.
+ * <p>
+ * A built tree is never modified, so it may be searched from any number of threads without locking.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class ColourTree {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:43:27 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code ColourTree} of the given palette.
+	 *
+	 * @param palette the opaque colours (i.e {@code 0xRRGGBB}) of the palette. Must not be empty. The array is not modified.
+	 * @throws IllegalArgumentException if the palette is empty.
+	 */
+	ColourTree(int[] palette) throws IllegalArgumentException {
+		if (palette.length == 0)
+			throw new IllegalArgumentException("Empty palette");
+		final int n = palette.length;
+		final double[][] p = new double[n][];
+		for (int i = 0; i < n; i++)
+			p[i] = lab(palette[i]);
+		final Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++)
+			order[i] = i;
+		build(order, p, 0, n, 0);
+		colours = new int[n];
+		points = new double[n * 3];
+		for (int i = 0; i < n; i++) {
+			colours[i] = palette[order[i]];
+			System.arraycopy(p[order[i]], 0, points, i * 3, 3);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:46:50 ---------------------------------------------------
+	 */
+	/**
+	 * Orders the given range so that its middle index holds the median along the axis of the given depth, then does the same for
+	 * both halves.
+	 *
+	 * @param order the indexes of the points being ordered.
+	 * @param p     the points.
+	 * @param lo    the first index of the range (inclusive).
+	 * @param hi    the last index of the range (exclusive).
+	 * @param depth the depth of the range's node.
+	 */
+	private static void build(Integer[] order, double[][] p, int lo, int hi, int depth) {
+		if (hi - lo < 2)
+			return;
+		final int axis = depth % 3;
+		Arrays.sort(order, lo, hi, (x, y) -> Double.compare(p[x][axis], p[y][axis]));
+		final int mid = (lo + hi) >>> 1;
+		build(order, p, lo, mid, depth + 1);
+		build(order, p, mid + 1, hi, depth + 1);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:50:12 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the palette colour that is closest to the argument in the CIE L*a*b* space. If the argument is in the palette, it is
+	 * returned as it is.
+	 *
+	 * @param opaque the opaque colour (i.e {@code 0xRRGGBB}) to be searched for.
+	 * @return the nearest opaque colour in the palette.
+	 */
+	int nearest(int opaque) {
+		final double[] q = lab(opaque);
+		final double[] best = { Double.POSITIVE_INFINITY };
+		final int[] found = { 0 };
+		nearest(q, 0, colours.length, 0, best, found);
+		return colours[found[0]];
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:52:39 ---------------------------------------------------
+	 */
+	/**
+	 * Searches the given range for a point closer to {@code q} than the one found so far, visiting the half that contains
+	 * {@code q} first and skipping the other half when its splitting plane is further than the best distance.
+	 *
+	 * @param q     the point being searched for.
+	 * @param lo    the first index of the range (inclusive).
+	 * @param hi    the last index of the range (exclusive).
+	 * @param depth the depth of the range's node.
+	 * @param best  holds the squared distance of the closest point found so far.
+	 * @param found holds the index of the closest point found so far.
+	 */
+	private void nearest(double[] q, int lo, int hi, int depth, double[] best, int[] found) {
+		if (lo >= hi)
+			return;
+		final int mid = (lo + hi) >>> 1;
+		final int at = mid * 3;
+		final double dl = q[0] - points[at], da = q[1] - points[at + 1], db = q[2] - points[at + 2];
+		final double d = dl * dl + da * da + db * db;
+		if (d < best[0]) {
+			best[0] = d;
+			found[0] = mid;
+		}
+		final double plane = q[depth % 3] - points[at + depth % 3];
+		if (plane < 0) {
+			nearest(q, lo, mid, depth + 1, best, found);
+			if (plane * plane < best[0])
+				nearest(q, mid + 1, hi, depth + 1, best, found);
+		} else {
+			nearest(q, mid + 1, hi, depth + 1, best, found);
+			if (plane * plane < best[0])
+				nearest(q, lo, mid, depth + 1, best, found);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:57:03 ---------------------------------------------------
+	 */
+	/**
+	 * Converts the given sRGB colour to CIE XYZ (D65) and then to CIE L*a*b*.
+	 *
+	 * @param opaque the opaque colour (i.e {@code 0xRRGGBB}).
+	 * @return the L*, a* and b* values of the argument.
+	 */
+	static double[] lab(int opaque) {
+		final double r = linear((opaque >>> 16) & 0xFF), g = linear((opaque >>> 8) & 0xFF), b = linear(opaque & 0xFF);
+		final double x = (0.4124564 * r + 0.3575761 * g + 0.1804375 * b) / 0.95047;
+		final double y = 0.2126729 * r + 0.7151522 * g + 0.0721750 * b;
+		final double z = (0.0193339 * r + 0.1191920 * g + 0.9503041 * b) / 1.08883;
+		final double fx = f(x), fy = f(y), fz = f(z);
+		return new double[] { 116 * fy - 16, 500 * (fx - fy), 200 * (fy - fz) };
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:59:31 ---------------------------------------------------
+	 */
+	/**
+	 * Removes the sRGB gamma from the given channel.
+	 *
+	 * @param c the 8-bit channel value.
+	 * @return the linear value of the channel in the range {@code [0, 1]}.
+	 */
+	private static double linear(int c) {
+		final double v = c / 255.0;
+		return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:00:48 ---------------------------------------------------
+	 */
+	/**
+	 * The CIE L*a*b* companding function.
+	 *
+	 * @param t a tristimulus value relative to the white point.
+	 * @return the companded value.
+	 */
+	private static double f(double t) {
+		return t > 216.0 / 24389 ? Math.cbrt(t) : (24389.0 / 27 * t + 16) / 116;
+	}
+
+	/**
+	 * The palette colours in tree order.
+	 */
+	private final int[] colours;
+	/**
+	 * The L*, a* and b* values of {@link #colours}, three per colour.
+	 */
+	private final double[] points;
+}
@@ -7,6 +7,8 @@
  */
 package mathaid.calculator.base.typeset;
 
+import static mathaid.calculator.base.typeset.Segment.Type.INTEGER;
+
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
@@ -317,10 +319,9 @@ public class CompositeSegment extends AbstractSegment {
 	 */
 	public LinkedSegment concat(LinkedSegment ls) {
 		if (!hasSibling()) {
-			if (ls instanceof Digit) {
-				Digit d = (Digit) ls;
+			if (DigitRun.isDigit(ls)) {
 				return new CompositeSegment(fwrappers, swrappers, forder, sorder, getType(), isFocused(), hasError(),
-						d.toDigit(), getChildren(), getSuperIndex(), getSubIndex());
+						DigitRun.retype(ls, INTEGER), getChildren(), getSuperIndex(), getSubIndex());
 			}
 			return new CompositeSegment(fwrappers, swrappers, forder, sorder, getType(), isFocused(), hasError(), ls,
 					getChildren(), getSuperIndex(), getSubIndex());
@@ -339,9 +340,11 @@ public class CompositeSegment extends AbstractSegment {
 	 * @param a {@inheritDoc}
 	 * @param f {@inheritDoc}
 	 * @param p {@inheritDoc}
+	 * @return {@inheritDoc}
 	 * @throws IndexOutOfBoundsException {@inheritDoc}
 	 */
-	public void format(Appendable a, Formatter f, List<Integer> p) {
+	@Override
+	protected LinkedSegment formatNode(Appendable a, Formatter f, List<Integer> p) {
 		/* Update the current position of the cursor */
 		p.set(p.size() - 1, p.get(p.size() - 1) + 1);
 		StringBuilder sb = new StringBuilder();
@@ -356,12 +359,11 @@ public class CompositeSegment extends AbstractSegment {
 		}
 		sb.append(fwrappers[fwrappers.length - 1]);
 		try {
-			a.append(f.format(this, sb.toString(), getType(), p));
+			f.format(this, sb, getType(), p, a);
 		} catch (IOException e) {
 		}
 
-		if (hasSibling())
-			getSibling().format(a, f, p);
+		return getSibling();
 	}
 
 	/*
@@ -374,9 +376,11 @@ public class CompositeSegment extends AbstractSegment {
 	 * @param a {@inheritDoc}
 	 * @param l {@inheritDoc}
 	 * @param p {@inheritDoc}
+	 * @return {@inheritDoc}
 	 * @throws IndexOutOfBoundsException {@inheritDoc}
 	 */
-	public void toString(Appendable a, Log l, List<Integer> p) {
+	@Override
+	protected LinkedSegment toStringNode(Appendable a, Log l, List<Integer> p) {
 		/* Update the current position of the cursor */
 		p.set(p.size() - 1, p.get(p.size() - 1) + 1);
 
@@ -396,8 +400,7 @@ public class CompositeSegment extends AbstractSegment {
 		} catch (IOException e) {
 		}
 
-		if (hasSibling())
-			getSibling().toString(a, l, p);
+		return getSibling();
 	}
 
 	/**
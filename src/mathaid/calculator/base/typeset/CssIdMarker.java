@@ -4,6 +4,7 @@
  */
 package mathaid.calculator.base.typeset;
 
+import java.io.IOException;
 import java.util.List;
 
 /*
@@ -21,7 +22,7 @@ import java.util.List;
  * @author Oruovo Anthony Etineakpopha
  * @email tonyoruovo@gmail.com
  */
-class CssIdMarker implements Marker {
+class CssIdMarker implements StreamingMarker {
 	/*
 	 * Date: 25 Nov 2023 -----------------------------------------------------------
 	 * Time created: 20:22:46 ---------------------------------------------------
@@ -37,26 +38,35 @@ class CssIdMarker implements Marker {
 	 * Time created: 20:19:29 ---------------------------------------------------
 	 */
 	/**
-	 * Marks the format of the given segment with a an id so as to be reference in
-	 * the DOM.
+	 * Writes the opening of an id, so that the format of the given segment can be
+	 * referenced in the DOM. The id is the position list as printed by
+	 * {@link java.util.AbstractCollection#toString()}.
 	 * 
 	 * @param s a valid {@code Segment} which is a reference to the owner of the
-	 *          {@code math} to be formatted.
-	 * @param f the value to be formatted. This is the object of this formatting
-	 *          operation.
+	 *          math to be formatted.
 	 * @param t any value. Not used by this method.
 	 * @param p the position of the current segment in the segment tree. Please see
 	 *          {@link SegmentBuilder} for details on positional indexes.
-	 * @return the format after formatting.
+	 * @param a the {@code Appendable} to which the opening is written.
+	 * @return the closing of the id or <code>null</code> if the segment is
+	 *         <code>null</code>.
+	 * @throws IOException if {@code a} throws it.
 	 */
-	public String mark(Segment s, String f, int t, List<Integer> p) {
+	public CharSequence open(Segment s, int t, List<Integer> p, Appendable a) throws IOException {
 		if (s != null) {
 			if (p == null || p.size() <= 0)
 				throw new IllegalStateException("position is either null or empty");
-			return String.format("\\cssId{%1$s}{%2$s}", p, f);
+			a.append("\\cssId{[");
+			for (int i = 0; i < p.size(); i++) {
+				if (i > 0)
+					a.append(", ");
+				a.append(String.valueOf(p.get(i)));
+			}
+			a.append("]}{");
+			return "}";
 		}
 
-		return f;
+		return null;
 	}
 
 	/*
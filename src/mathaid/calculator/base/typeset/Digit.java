@@ -453,6 +453,7 @@ public final class Digit extends AbstractSegment {
 		this.dp = dp;
 		this.repeatend = new StringBuilder();
 		this.isFirstIndex = true;
+		this.remainingDigits = DigitRun.countDigits(s);
 	}
 
 	/*
@@ -574,37 +575,22 @@ public final class Digit extends AbstractSegment {
 		this('0');
 	}
 
-	/*
-	 * Date: 18 Nov 2023 -----------------------------------------------------------
-	 * Time created: 04:10:51 ---------------------------------------------------
-	 */
-	/**
-	 * Traverses the segment tree from this node if the sibling is an {@code instanceof} {@code Digit}
-	 * class recursively incrementing the argument until a sibling is found that is not a {@code Digit} or {@code null}.
-	 * @param start the start of the count.
-	 * @return the number of consecutive digit siblings from this digit.
-	 */
-	private int getRemainingDigits(int start) {
-		if (hasSibling())
-			if (getSibling() instanceof Digit)
-				return ((Digit) getSibling()).getRemainingDigits(start + 1);
-		return start;
-	}
-
 	/*
 	 * Date: 18 Nov 2023 -----------------------------------------------------------
 	 * Time created: 04:28:17 ---------------------------------------------------
 	 */
 	/**
-	 * Gets the number of remaining {@code Digit} nodes within the {@code Segment} tree by
-	 * recursively traversing the tree and counting all consecutive {@code Digit} nodes.
+	 * Gets the number of remaining {@code Digit} nodes within the {@code Segment} tree, that is
+	 * the count of all consecutive {@code Digit} nodes after this one. A {@link DigitRun}
+	 * sibling adds all the digits that it holds. The count is taken once at construction, so
+	 * formatting a long integer does not walk the rest of the number for every digit.
 	 * <p>Does not include {@code this} in the count.
 	 * @return the count of consecutive {@code Digit} nodes from (but not including)
 	 * {@code this} i.e the number of elements in a number tree excluding the first
 	 * digit in the tree.
 	 */
 	protected int getRemainingDigits() {
-		return getRemainingDigits(0);
+		return remainingDigits;
 	}
 
 	/*
@@ -655,7 +641,7 @@ public final class Digit extends AbstractSegment {
 	protected Digit toDigit() {
 		clearMutables();
 		return new Digit(digit, INTEGER, isFocused(), hasError(), dp,
-				isDigit(getSibling()) ? ((Digit) getSibling()).toDigit() : getSibling());
+				DigitRun.retype(getSibling(), INTEGER));
 	}
 
 	/*
@@ -674,7 +660,7 @@ public final class Digit extends AbstractSegment {
 	protected Digit toMantissaDigit() {
 		clearMutables();
 		return new Digit(digit, MANTISSA, isFocused(), hasError(), dp,
-				isDigit(getSibling()) ? ((Digit) getSibling()).toMantissaDigit() : getSibling());
+				DigitRun.retype(getSibling(), MANTISSA));
 	}
 
 	/*
@@ -694,7 +680,7 @@ public final class Digit extends AbstractSegment {
 	protected Digit toRecurringDigit(int type) {
 		clearMutables();
 		return new Digit(digit, type, isFocused(), hasError(), dp,
-				isDigit(getSibling()) ? ((Digit) getSibling()).toRecurringDigit(type) : getSibling());
+				DigitRun.retype(getSibling(), type));
 	}
 
 	/*
@@ -767,6 +753,8 @@ public final class Digit extends AbstractSegment {
 	@Override
 	public LinkedSegment setSibling(int i, LinkedSegment s) {
 		if (i == 0) {
+			if (s instanceof DigitRun)
+				return new Digit(digit, getType(), isFocused(), hasError(), dp, DigitRun.follow(getType(), s));
 			if (s != null) {
 				switch (getType()) {
 				case INTEGER:// this is an integer digit
@@ -831,29 +819,33 @@ public final class Digit extends AbstractSegment {
 	 * is passed to this parameter
 	 * @param p passed to the {@link Formatter#format(Segment, String, int, List)} and sibling's
 	 * {@link LinkedSegment#format(Appendable, Formatter, List)} methods.
+	 * @return the next node to be formatted, or {@code null} if this is the last node.
 	 * @throws IndexOutOfBoundsException if the positional indices given by the {@code List} argument
 	 * fails to reach a non-null node.
 	 */
-	private void formatDotAll(Appendable a, Formatter f, List<Integer> p) {
+	private LinkedSegment formatDotAll(Appendable a, Formatter f, List<Integer> p) {
 		try {
-			a.append(f.format(this, String.format("\\dot{%s}", digit), getType(), p));
+			f.format(this, String.format("\\dot{%s}", digit), getType(), p, a);
 		} catch (IOException e) {
 		}
 		unitCount += 1;
 		recurCount += 1;
 		if (hasSibling()) {
 			if (hasValidSibling(this, getType())) {
-				Digit n = (Digit) getSibling();
-				n.unitCount = unitCount;
-				n.recurCount = recurCount;
+				if (getSibling() instanceof Digit) {
+					Digit n = (Digit) getSibling();
+					n.unitCount = unitCount;
+					n.recurCount = recurCount;
+				}
 				if (unitCount % dp.getMantGroupSize() == 0)
 					try {
-						a.append(f.format(null, dp.getMantSeparator(), SEPARATOR, null));
+						f.format(null, dp.getMantSeparator(), SEPARATOR, null, a);
 					} catch (IOException e) {
 					}
 			}
-			getSibling().format(a, f, p);
+			return nextToFormat(a, f, p, hasValidSibling(this, getType()));
 		}
+		return null;
 	}
 
 	/*
@@ -868,14 +860,15 @@ public final class Digit extends AbstractSegment {
 	 * is passed to this parameter
 	 * @param p passed to the {@link Formatter#format(Segment, String, int, List)} and sibling's
 	 * {@link LinkedSegment#format(Appendable, Formatter, List)} methods.
+	 * @return the next node to be formatted, or {@code null} if this is the last node.
 	 * @throws IndexOutOfBoundsException if the positional indices given by the {@code List} argument
 	 * fails to reach a non-null node.
 	 */
-	private void formatVinc(Appendable a, Formatter f, List<Integer> p) {
+	private LinkedSegment formatVinc(Appendable a, Formatter f, List<Integer> p) {
 		try {
 			if (recurCount == 0)
 				a.append("\\overline{");
-			a.append(f.format(this, digit, getType(), p));
+			f.format(this, digit, getType(), p, a);
 			unitCount += 1;
 			recurCount += 1;
 			if (!hasValidSibling(this, getType()))
@@ -885,17 +878,20 @@ public final class Digit extends AbstractSegment {
 
 		if (hasSibling()) {
 			if (hasValidSibling(this, getType())) {
-				Digit n = (Digit) getSibling();
-				n.unitCount = unitCount;
-				n.recurCount = recurCount;
+				if (getSibling() instanceof Digit) {
+					Digit n = (Digit) getSibling();
+					n.unitCount = unitCount;
+					n.recurCount = recurCount;
+				}
 				if (unitCount % dp.getMantGroupSize() == 0)
 					try {
-						a.append(f.format(null, dp.getMantSeparator(), SEPARATOR, p));
+						f.format(null, dp.getMantSeparator(), SEPARATOR, p, a);
 					} catch (IOException e) {
 					}
 			}
-			getSibling().format(a, f, p);
+			return nextToFormat(a, f, p, hasValidSibling(this, getType()));
 		}
+		return null;
 	}
 
 	/*
@@ -910,34 +906,38 @@ public final class Digit extends AbstractSegment {
 	 * is passed to this parameter
 	 * @param p passed to the {@link Formatter#format(Segment, String, int, List)} and sibling's
 	 * {@link LinkedSegment#format(Appendable, Formatter, List)} methods.
+	 * @return the next node to be formatted, or {@code null} if this is the last node.
 	 * @throws IndexOutOfBoundsException if the positional indices given by the {@code List} argument
 	 * fails to reach a non-null node.
 	 */
-	private void formatParen(Appendable a, Formatter f, List<Integer> p) {
+	private LinkedSegment formatParen(Appendable a, Formatter f, List<Integer> p) {
 		try {
 			if (recurCount == 0)
-				a.append(f.format(null, "(", DELIMITER, p));
-			a.append(f.format(this, digit, getType(), p));
+				f.format(null, "(", DELIMITER, p, a);
+			f.format(this, digit, getType(), p, a);
 			unitCount += 1;
 			recurCount += 1;
 			if (!hasValidSibling(this, getType()))
-				a.append(f.format(null, ")", DELIMITER, p));
+				f.format(null, ")", DELIMITER, p, a);
 		} catch (IOException e) {
 		}
 
 		if (hasSibling()) {
 			if (hasValidSibling(this, getType())) {
-				Digit n = (Digit) getSibling();
-				n.unitCount = unitCount;
-				n.recurCount = recurCount;
+				if (getSibling() instanceof Digit) {
+					Digit n = (Digit) getSibling();
+					n.unitCount = unitCount;
+					n.recurCount = recurCount;
+				}
 				if (unitCount % dp.getMantGroupSize() == 0)
 					try {
-						a.append(f.format(null, dp.getMantSeparator(), SEPARATOR, p));
+						f.format(null, dp.getMantSeparator(), SEPARATOR, p, a);
 					} catch (IOException e) {
 					}
 			}
-			getSibling().format(a, f, p);
+			return nextToFormat(a, f, p, hasValidSibling(this, getType()));
 		}
+		return null;
 	}
 
 	/*
@@ -952,14 +952,15 @@ public final class Digit extends AbstractSegment {
 	 * is passed to this parameter
 	 * @param p passed to the {@link Formatter#format(Segment, String, int, List)} and sibling's
 	 * {@link LinkedSegment#format(Appendable, Formatter, List)} methods.
+	 * @return the next node to be formatted, or {@code null} if this is the last node.
 	 * @throws IndexOutOfBoundsException if the positional indices given by the {@code List} argument
 	 * fails to reach a non-null node.
 	 */
-	private void formatArc(Appendable a, Formatter f, List<Integer> p) {
+	private LinkedSegment formatArc(Appendable a, Formatter f, List<Integer> p) {
 		try {
 			if (recurCount == 0)
 				a.append("\\overparen{");
-			a.append(f.format(this, digit, getType(), p));
+			f.format(this, digit, getType(), p, a);
 			unitCount += 1;
 			recurCount += 1;
 			if (!hasValidSibling(this, getType()))
@@ -969,17 +970,20 @@ public final class Digit extends AbstractSegment {
 
 		if (hasSibling()) {
 			if (hasValidSibling(this, getType())) {
-				Digit n = (Digit) getSibling();
-				n.unitCount = unitCount;
-				n.recurCount = recurCount;
+				if (getSibling() instanceof Digit) {
+					Digit n = (Digit) getSibling();
+					n.unitCount = unitCount;
+					n.recurCount = recurCount;
+				}
 				if (unitCount % dp.getMantGroupSize() == 0)
 					try {
-						a.append(f.format(null, dp.getMantSeparator(), SEPARATOR, p));
+						f.format(null, dp.getMantSeparator(), SEPARATOR, p, a);
 					} catch (IOException e) {
 					}
 			}
-			getSibling().format(a, f, p);
+			return nextToFormat(a, f, p, hasValidSibling(this, getType()));
 		}
+		return null;
 	}
 
 	/*
@@ -994,17 +998,18 @@ public final class Digit extends AbstractSegment {
 	 * is passed to this parameter
 	 * @param p passed to the {@link Formatter#format(Segment, String, int, List)} and sibling's
 	 * {@link LinkedSegment#format(Appendable, Formatter, List)} methods.
+	 * @return the next node to be formatted, or {@code null} if this is the last node.
 	 * @throws IndexOutOfBoundsException if the positional indices given by the {@code List} argument
 	 * fails to reach a non-null node.
 	 */
-	private void formatDotBar(Appendable a, Formatter f, List<Integer> p) {
+	private LinkedSegment formatDotBar(Appendable a, Formatter f, List<Integer> p) {
 		try {
 			if (recurCount == 0)
 				if (!hasValidSibling(this, getType()))
 					a.append("\\dot{");
 				else
 					a.append("\\overline{");
-			a.append(f.format(this, digit, getType(), p));
+			f.format(this, digit, getType(), p, a);
 			unitCount += 1;
 			recurCount += 1;
 			if (!hasValidSibling(this, getType()))
@@ -1014,17 +1019,20 @@ public final class Digit extends AbstractSegment {
 
 		if (hasSibling()) {
 			if (hasValidSibling(this, getType())) {
-				Digit n = (Digit) getSibling();
-				n.unitCount = unitCount;
-				n.recurCount = recurCount;
+				if (getSibling() instanceof Digit) {
+					Digit n = (Digit) getSibling();
+					n.unitCount = unitCount;
+					n.recurCount = recurCount;
+				}
 				if (unitCount % dp.getMantGroupSize() == 0)
 					try {
-						a.append(f.format(null, dp.getMantSeparator(), SEPARATOR, p));
+						f.format(null, dp.getMantSeparator(), SEPARATOR, p, a);
 					} catch (IOException e) {
 					}
 			}
-			getSibling().format(a, f, p);
+			return nextToFormat(a, f, p, hasValidSibling(this, getType()));
 		}
+		return null;
 	}
 
 	/*
@@ -1039,15 +1047,16 @@ public final class Digit extends AbstractSegment {
 	 * is passed to this parameter
 	 * @param p passed to the {@link Formatter#format(Segment, String, int, List)} and sibling's
 	 * {@link LinkedSegment#format(Appendable, Formatter, List)} methods.
+	 * @return the next node to be formatted, or {@code null} if this is the last node.
 	 * @throws IndexOutOfBoundsException if the positional indices given by the {@code List} argument
 	 * fails to reach a non-null node.
 	 */
-	private void formatDot(Appendable a, Formatter f, List<Integer> p) {
+	private LinkedSegment formatDot(Appendable a, Formatter f, List<Integer> p) {
 		String sym = digit;
 		if (recurCount == 0 || !hasValidSibling(this, getType()))
 			sym = String.format("\\dot{%s}", sym);
 		try {
-			a.append(f.format(this, sym, getType(), p));
+			f.format(this, sym, getType(), p, a);
 		} catch (IOException e) {
 		}
 
@@ -1056,17 +1065,69 @@ public final class Digit extends AbstractSegment {
 
 		if (hasSibling()) {
 			if (hasValidSibling(this, getType())) {
-				Digit n = (Digit) getSibling();
-				n.unitCount = unitCount;
-				n.recurCount = recurCount;
+				if (getSibling() instanceof Digit) {
+					Digit n = (Digit) getSibling();
+					n.unitCount = unitCount;
+					n.recurCount = recurCount;
+				}
 				if (unitCount % dp.getMantGroupSize() == 0)
 					try {
-						a.append(f.format(null, dp.getMantSeparator(), SEPARATOR, p));
+						f.format(null, dp.getMantSeparator(), SEPARATOR, p, a);
 					} catch (IOException e) {
 					}
 			}
-			getSibling().format(a, f, p);
+			return nextToFormat(a, f, p, hasValidSibling(this, getType()));
 		}
+		return null;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:02:19 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the node to be formatted after this digit. If the sibling is a {@link DigitRun} that continues the grouping or
+	 * recurrence of this digit, the counters of this digit are handed to it the same way they are handed to a {@code Digit}
+	 * sibling, and the node after the run's digits is returned instead.
+	 * @param a the {@code Appendable} which will build the LaTeX render string.
+	 * @param f passed to the {@link DigitRun} sibling.
+	 * @param p passed to the {@link DigitRun} sibling.
+	 * @param carry {@code true} if the sibling continues the grouping or recurrence of this digit.
+	 * @return the next node to be formatted.
+	 */
+	private LinkedSegment nextToFormat(Appendable a, Formatter f, List<Integer> p, boolean carry) {
+		if (carry && getSibling() instanceof DigitRun)
+			return ((DigitRun) getSibling()).formatDigits(a, f, p, unitCount, recurCount, repeatend);
+		return getSibling();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:05:40 ---------------------------------------------------
+	 */
+	/**
+	 * Called by a {@link DigitRun} preceding this digit to hand over it's grouping and recurrence counters before this digit is
+	 * formatted.
+	 * @param unitCount the number of mantissa digits formatted so far.
+	 * @param recurCount the number of recurring digits formatted so far.
+	 * @param repeatend the recurring digits formatted so far by an {@link #ELLIPSIS} run.
+	 */
+	void carry(int unitCount, int recurCount, CharSequence repeatend) {
+		this.unitCount = unitCount;
+		this.recurCount = recurCount;
+		this.repeatend.append(repeatend);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:06:58 ---------------------------------------------------
+	 */
+	/**
+	 * Called by a recurring {@link DigitRun} preceding this digit so that the 'r' prefix is not repeated by
+	 * {@link #toString(Appendable, Log, List)}.
+	 */
+	void carry() {
+		isFirstIndex = false;
 	}
 
 	/*
@@ -1091,12 +1152,12 @@ public final class Digit extends AbstractSegment {
 				repeatend.append(r);
 			for (int i = 0; i < repeatend.length(); i++) {
 				if ((unitCount + i) % dp.getMantGroupSize() == 0) {
-					a.append(f.format(null, dp.getMantSeparator(), SEPARATOR, null));
+					f.format(null, dp.getMantSeparator(), SEPARATOR, null, a);
 				}
 				String d = repeatend.substring(i, i + 1);
-				a.append(f.format(null, d, AUTO_COMPLETE, null));
+				f.format(null, d, AUTO_COMPLETE, null, a);
 			}
-			a.append(f.format(null, "\\ldots", AUTO_COMPLETE, null));
+			f.format(null, "\\ldots", AUTO_COMPLETE, null, a);
 		} catch (IOException e) {
 		}
 	}
@@ -1113,12 +1174,13 @@ public final class Digit extends AbstractSegment {
 	 * is passed to this parameter
 	 * @param p passed to the {@link Formatter#format(Segment, String, int, List)} and sibling's
 	 * {@link LinkedSegment#format(Appendable, Formatter, List)} methods.
+	 * @return the next node to be formatted, or {@code null} if this is the last node.
 	 * @throws IndexOutOfBoundsException if the positional indices given by the {@code List} argument
 	 * fails to reach a non-null node.
 	 */
-	private void formatEllip(Appendable a, Formatter f, List<Integer> p) {
+	private LinkedSegment formatEllip(Appendable a, Formatter f, List<Integer> p) {
 		try {
-			a.append(f.format(this, digit, getType(), p));
+			f.format(this, digit, getType(), p, a);
 		} catch (IOException e) {
 		}
 
@@ -1127,20 +1189,23 @@ public final class Digit extends AbstractSegment {
 
 		if (hasSibling()) {
 			if (sibIsSame()) {
-				Digit n = (Digit) getSibling();
-				n.unitCount = unitCount;
-				n.repeatend.append(repeatend);
+				if (getSibling() instanceof Digit) {
+					Digit n = (Digit) getSibling();
+					n.unitCount = unitCount;
+					n.repeatend.append(repeatend);
+				}
 				if (unitCount % dp.getMantGroupSize() == 0) {
 					try {
-						a.append(f.format(null, dp.getMantSeparator(), SEPARATOR, null));
+						f.format(null, dp.getMantSeparator(), SEPARATOR, null, a);
 					} catch (IOException e) {
 					}
 				}
 			} else
 				appendRepeatend(a, f, p);
-			getSibling().format(a, f, p);
-		} else
-			appendRepeatend(a, f, p);
+			return nextToFormat(a, f, p, sibIsSame());
+		}
+		appendRepeatend(a, f, p);
+		return null;
 	}
 
 	/*
@@ -1155,28 +1220,31 @@ public final class Digit extends AbstractSegment {
 	 * is passed to this parameter
 	 * @param p passed to the {@link Formatter#format(Segment, String, int, List)} and sibling's
 	 * {@link LinkedSegment#format(Appendable, Formatter, List)} methods.
+	 * @return the next node to be formatted, or {@code null} if this is the last node.
 	 * @throws IndexOutOfBoundsException if the positional indices given by the {@code List} argument
 	 * fails to reach a non-null node.
 	 */
-	private void formatMant(Appendable a, Formatter f, List<Integer> p) {
+	private LinkedSegment formatMant(Appendable a, Formatter f, List<Integer> p) {
 		try {
-			a.append(f.format(this, digit, getType(), p));
+			f.format(this, digit, getType(), p, a);
 		} catch (IOException e) {
 		}
 		unitCount += 1;
 
 		if (hasSibling()) {
 			if (sibIsSame() || isRecurring(getSibling())) {
-				((Digit) getSibling()).unitCount = unitCount;
+				if (getSibling() instanceof Digit)
+					((Digit) getSibling()).unitCount = unitCount;
 				if (unitCount % dp.getMantGroupSize() == 0) {
 					try {
-						a.append(f.format(null, dp.getMantSeparator(), SEPARATOR, null));
+						f.format(null, dp.getMantSeparator(), SEPARATOR, null, a);
 					} catch (IOException e) {
 					}
 				}
 			}
-			getSibling().format(a, f, p);
+			return nextToFormat(a, f, p, sibIsSame() || isRecurring(getSibling()));
 		}
+		return null;
 	}
 
 	/*
@@ -1191,12 +1259,13 @@ public final class Digit extends AbstractSegment {
 	 * is passed to this parameter
 	 * @param p passed to the {@link Formatter#format(Segment, String, int, List)} and sibling's
 	 * {@link LinkedSegment#format(Appendable, Formatter, List)} methods.
+	 * @return the next node to be formatted, or {@code null} if this is the last node.
 	 * @throws IndexOutOfBoundsException if the positional indices given by the {@code List} argument
 	 * fails to reach a non-null node.
 	 */
-	private void formatInt(Appendable a, Formatter f, List<Integer> p) {
+	private LinkedSegment formatInt(Appendable a, Formatter f, List<Integer> p) {
 		try {
-			a.append(f.format(this, digit, getType(), p));
+			f.format(this, digit, getType(), p, a);
 		} catch (IOException e) {
 		}
 
@@ -1205,27 +1274,14 @@ public final class Digit extends AbstractSegment {
 				int numLength = getRemainingDigits();
 				if (numLength % dp.getIntGroupSize() == 0 && numLength > 0) {
 					try {
-						a.append(f.format(null, dp.getIntSeparator(), SEPARATOR, null));
+						f.format(null, dp.getIntSeparator(), SEPARATOR, null, a);
 					} catch (IOException e) {
 					}
 				}
 			}
-			getSibling().format(a, f, p);
+			return getSibling();
 		}
-	}
-
-	/*
-	 * Date: 18 Nov 2023 -----------------------------------------------------------
-	 * Time created: 05:25:58 ---------------------------------------------------
-	 */
-	/**
-	 * Checks whether the argument is non-null and is an {@code instanceof} {@code Digit} class.
-	 * @param s the value to be checked
-	 * @return {@code true} if the argument is an {@code instanceof} this class, otherwise, returns {@code false}.
-	 */
-	private static boolean isDigit(Segment s) {
-		// return s != null && (s.getType() >= INTEGER && s.getType() <= PARENTHESIS);
-		return s != null && (s instanceof Digit);
+		return null;
 	}
 
 	/*
@@ -1267,7 +1323,7 @@ public final class Digit extends AbstractSegment {
 	 * @return {@code true} if the argument is a recurring type.
 	 */
 	private static boolean isRecurring(Segment s) {
-		return isDigit(s) && s.getType() != INTEGER && s.getType() != MANTISSA;
+		return DigitRun.isDigit(s) && s.getType() != INTEGER && s.getType() != MANTISSA;
 	}
 
 	/*
@@ -1309,42 +1365,34 @@ public final class Digit extends AbstractSegment {
 	 * @param a {@inheritDoc}
 	 * @param f {@inheritDoc}
 	 * @param p {@inheritDoc}
+	 * @return {@inheritDoc}
 	 */
 	@Override
-	public void format(Appendable a, Formatter f, List<Integer> p) {
+	protected LinkedSegment formatNode(Appendable a, Formatter f, List<Integer> p) {
 
 		/* Update the current position of the cursor */
 		p.set(p.size() - 1, p.get(p.size() - 1) + 1);
 
 		switch (getType()) {
 		case ARC:
-			formatArc(a, f, p);
-			break;
+			return formatArc(a, f, p);
 		case DOT:
-			formatDot(a, f, p);
-			break;
+			return formatDot(a, f, p);
 		case DOT_ALL:
-			formatDotAll(a, f, p);
-			break;
+			return formatDotAll(a, f, p);
 		case DOT_BAR:
-			formatDotBar(a, f, p);
-			break;
+			return formatDotBar(a, f, p);
 		case ELLIPSIS:
-			formatEllip(a, f, p);
-			break;
+			return formatEllip(a, f, p);
 		case PARENTHESISED:
-			formatParen(a, f, p);
-			break;
+			return formatParen(a, f, p);
 		case VINCULUM:
-			formatVinc(a, f, p);
-			break;
+			return formatVinc(a, f, p);
 		case MANTISSA:
-			formatMant(a, f, p);
-			break;
+			return formatMant(a, f, p);
 		case INTEGER:
 		default:
-			formatInt(a, f, p);
-			break;
+			return formatInt(a, f, p);
 		}// End switch
 	}
 
@@ -1357,9 +1405,10 @@ public final class Digit extends AbstractSegment {
 	 * @param a {@inheritDoc}
 	 * @param l {@inheritDoc}
 	 * @param p {@inheritDoc}
+	 * @return {@inheritDoc}
 	 */
 	@Override
-	public void toString(Appendable a, Log l, List<Integer> p) {
+	protected LinkedSegment toStringNode(Appendable a, Log l, List<Integer> p) {
 		p.set(p.size() - 1, p.get(p.size() - 1) + 1);
 		try {
 			/*
@@ -1376,7 +1425,7 @@ public final class Digit extends AbstractSegment {
 			case VINCULUM:
 				if (isFirstIndex)
 					a.append('r');
-				if (hasSibling() && isRecurring(getSibling()))
+				if (hasSibling() && isRecurring(getSibling()) && getSibling() instanceof Digit)
 					((Digit) getSibling()).isFirstIndex = false;
 			case INTEGER:
 			case MANTISSA:
@@ -1394,8 +1443,10 @@ public final class Digit extends AbstractSegment {
 					a.append('*');
 				} catch (IOException e) {
 				}
-			getSibling().toString(a, l, p);
+			if (isRecurring(this) && isRecurring(getSibling()) && getSibling() instanceof DigitRun)
+				return ((DigitRun) getSibling()).toStringDigits(a, l, p, false);
 		}
+		return getSibling();
 	}
 
 	/*
@@ -1463,6 +1514,10 @@ public final class Digit extends AbstractSegment {
 	 * A StringBuilder for storing the repeatend of the ellipsis recurring type
 	 */
 	private final StringBuilder repeatend;// for the ellipsis recurring type
+	/**
+	 * The number of consecutive digits after this one, as returned by {@link #getRemainingDigits()}.
+	 */
+	private final int remainingDigits;
 	/**
 	 * Field for specifying that this is the first digit in a number sub-tree.
 	 * A number sub-tree is (or part of) a {@code LinkedSegment} tree consisting entirely
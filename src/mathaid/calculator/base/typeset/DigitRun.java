@@ -0,0 +1,893 @@
+/**
+ *
+ */
+package mathaid.calculator.base.typeset;
+
+import static mathaid.calculator.base.typeset.Segment.Type.ARC;
+import static mathaid.calculator.base.typeset.Segment.Type.AUTO_COMPLETE;
+import static mathaid.calculator.base.typeset.Segment.Type.CONSTANT;
+import static mathaid.calculator.base.typeset.Segment.Type.DELIMITER;
+import static mathaid.calculator.base.typeset.Segment.Type.DOT;
+import static mathaid.calculator.base.typeset.Segment.Type.DOT_ALL;
+import static mathaid.calculator.base.typeset.Segment.Type.DOT_BAR;
+import static mathaid.calculator.base.typeset.Segment.Type.ELLIPSIS;
+import static mathaid.calculator.base.typeset.Segment.Type.FUNCTION;
+import static mathaid.calculator.base.typeset.Segment.Type.INTEGER;
+import static mathaid.calculator.base.typeset.Segment.Type.L_PARENTHESIS;
+import static mathaid.calculator.base.typeset.Segment.Type.MANTISSA;
+import static mathaid.calculator.base.typeset.Segment.Type.PARENTHESISED;
+import static mathaid.calculator.base.typeset.Segment.Type.SEPARATOR;
+import static mathaid.calculator.base.typeset.Segment.Type.VAR_BOUND;
+import static mathaid.calculator.base.typeset.Segment.Type.VAR_FREE;
+import static mathaid.calculator.base.typeset.Segment.Type.VINCULUM;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import mathaid.calculator.FatalReadException;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 09:14:36 ---------------------------------------------------
+ * Package: mathaid.calculator.base.typeset ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: DigitRun.java ------------------------------------------------------
+ * Class name: DigitRun ------------------------------------------------
+ */
+/**
+ * A compact number node that holds a whole run of digits in a single object instead of one {@link Digit} per digit.
+ * <p>
+ * A run has a leading type ({@link Segment.Type#INTEGER INTEGER} or {@link Segment.Type#MANTISSA MANTISSA}) which may be
+ * followed by digits of a single recurring type, so that the mantissa and the recurring part of a number share one node. The
+ * digits are stored as a {@code char} array and the focus and error of each digit are stored as bits, which makes a run of
+ * {@code n} digits cost a few dozen bytes plus {@code 2n} bytes rather than several objects per digit.
+ * <p>
+ * Although it is a single node, a {@code DigitRun} behaves as if each of it's digits was a node of it's own: every digit
+ * occupies a position in {@link #length()}, {@link #subsegment(int)}, {@link #setFocus(int, boolean)},
+ * {@link #setError(int, boolean)} and {@link #setSibling(int, LinkedSegment)}, and every digit advances the position given to
+ * {@link #format(Appendable, Formatter, List)} and {@link #toString(Appendable, Log, List)}. This means that index paths
+ * created for a tree of {@code Digit} nodes (such as those used by {@link SegmentBuilder}) are also valid for a tree that uses
+ * runs. The format and value produced are the same as the equivalent sequence of {@code Digit} nodes, including grouping
+ * separators and recurring decorations.
+ * <p>
+ * Instances of this class are created by {@link Digits} when converting numbers to segments.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public final class DigitRun extends AbstractSegment {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:20:02 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a {@code DigitRun} by specifying all properties. The arrays and bit sets are shared and must not be modified after
+	 * this call.
+	 *
+	 * @param d  the digits.
+	 * @param t  the type of the digits before {@code r}.
+	 * @param r  the index of the first recurring digit, or {@code d.length} if there are no recurring digits.
+	 * @param rt the type of the digits from {@code r}.
+	 * @param fs the indexes of the focused digits or {@code null} if none is focused.
+	 * @param es the indexes of the digits that have errors or {@code null} if none has an error.
+	 * @param dp the punctuation options.
+	 * @param s  the sibling of the last digit.
+	 */
+	DigitRun(char[] d, int t, int r, int rt, BitSet fs, BitSet es, DigitPunc dp, LinkedSegment s) {
+		super(r == 0 ? rt : t, isSet(fs, 0), isSet(es, 0), s, new LinkedSegment[] {}, -1, -1);
+		if (d.length == 0)
+			throw new IllegalArgumentException("a run must have at least one digit");
+		this.digits = d;
+		this.recur = r;
+		this.recurType = r < d.length ? rt : getType();
+		this.foci = fs;
+		this.errors = es;
+		this.dp = dp;
+		this.after = countDigits(s);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:24:45 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a {@code DigitRun} where every digit has the same type.
+	 *
+	 * @param digits the digits, which must not be empty.
+	 * @param type   the type of every digit in the run.
+	 * @param dp     the punctuation options.
+	 * @param s      the sibling of the last digit, may be {@code null}.
+	 */
+	public DigitRun(String digits, int type, DigitPunc dp, LinkedSegment s) {
+		this(digits.toCharArray(), type, isRecurring(type) ? 0 : digits.length(), type, null, null, dp, s);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:26:10 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a {@code DigitRun} without a sibling where every digit has the same type.
+	 *
+	 * @param digits the digits, which must not be empty.
+	 * @param type   the type of every digit in the run.
+	 * @param dp     the punctuation options.
+	 */
+	public DigitRun(String digits, int type, DigitPunc dp) {
+		this(digits, type, dp, null);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:28:31 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the digits held by this run.
+	 *
+	 * @return the digits of this run as a string.
+	 */
+	public String getDigits() {
+		return new String(digits);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:29:14 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the type of the digit at the given position within this run.
+	 *
+	 * @param i a position within this run.
+	 * @return the type that the digit at the given position would have as a {@link Digit}.
+	 */
+	int typeAt(int i) {
+		return i < recur ? getType() : recurType;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:31:40 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a run whose digits are the argument followed by the digits of this run, if the types allow both to be held by one
+	 * node. This is the case when both use the same punctuation, this run has no focus or error, the argument is not of a
+	 * recurring type and this run either starts with it's recurring digits or has the same leading type as the argument.
+	 *
+	 * @param d  the leading digits, which must not be empty.
+	 * @param t  the type of the leading digits.
+	 * @param dp the punctuation options of the leading digits.
+	 * @return a single run holding both sets of digits or a new run with this one as it's sibling if that is not possible.
+	 */
+	LinkedSegment withLeading(String d, int t, DigitPunc dp) {
+		if (dp != this.dp || foci != null || errors != null || isRecurring(t) || !(recur == 0 || getType() == t))
+			return new DigitRun(d, t, dp, this);
+		char[] c = new char[d.length() + digits.length];
+		d.getChars(0, d.length(), c, 0);
+		System.arraycopy(digits, 0, c, d.length(), digits.length);
+		return new DigitRun(c, t, d.length() + recur, recurType, null, null, dp, getSibling());
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:36:58 ---------------------------------------------------
+	 */
+	/**
+	 * Gets a run holding the digits within the given range of this run and the given sibling.
+	 *
+	 * @param from the inclusive start position.
+	 * @param to   the exclusive end position.
+	 * @param s    the sibling of the returned run.
+	 * @return the run for the given range.
+	 */
+	private DigitRun slice(int from, int to, LinkedSegment s) {
+		if (from == 0 && to == digits.length)
+			return new DigitRun(digits, getType(), recur, recurType, foci, errors, dp, s);
+		return new DigitRun(Arrays.copyOfRange(digits, from, to), getType(), Math.max(0, Math.min(recur, to) - from),
+				recurType, range(foci, from, to), range(errors, from, to), dp, s);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:38:26 ---------------------------------------------------
+	 */
+	/**
+	 * Gets a run holding the first digits of this run followed by the given sibling as it is. Unlike
+	 * {@link #setSibling(int, LinkedSegment)}, a digit sibling is not retyped.
+	 *
+	 * @param count the number of digits to keep.
+	 * @param s     the sibling of the returned run.
+	 * @return the run of the first {@code count} digits of this run.
+	 */
+	DigitRun prefix(int count, LinkedSegment s) {
+		return slice(0, count, s);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:40:17 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of positions in the tree from this node, where each digit of this run counts as one position.
+	 *
+	 * @return the number of digits in this run plus the length of the sibling.
+	 */
+	@Override
+	public int length() {
+		return super.length() - 1 + digits.length;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:42:03 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the tree starting at the given position. A position inside this run returns a shorter run starting with the digit at
+	 * that position.
+	 *
+	 * @param from the position of the first node of the returned tree.
+	 * @return the tree from the given position.
+	 * @throws IndexOutOfBoundsException if the argument is negative or not less than {@link #length()}.
+	 */
+	@Override
+	public LinkedSegment subsegment(int from) throws IndexOutOfBoundsException {
+		if (from == 0)
+			return this;
+		else if (from > 0 && from < digits.length)
+			return slice(from, digits.length, getSibling());
+		else if (from >= digits.length && hasSibling())
+			return Traversal.subsegment(getSibling(), from - digits.length);
+		throw new IndexOutOfBoundsException(from);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:45:26 ---------------------------------------------------
+	 */
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param i {@inheritDoc}
+	 * @param f {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public LinkedSegment setFocus(int i, boolean f) {
+		if (i >= 0 && i < digits.length)
+			return new DigitRun(digits, getType(), recur, recurType, with(foci, i, f), errors, dp, getSibling());
+		else if (i >= digits.length && hasSibling())
+			return new DigitRun(digits, getType(), recur, recurType, foci, errors, dp,
+					getSibling().setFocus(i - digits.length, f));
+		throw new IndexOutOfBoundsException(i);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:46:52 ---------------------------------------------------
+	 */
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param i {@inheritDoc}
+	 * @param e {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public LinkedSegment setError(int i, boolean e) {
+		if (i >= 0 && i < digits.length)
+			return new DigitRun(digits, getType(), recur, recurType, foci, with(errors, i, e), dp, getSibling());
+		else if (i >= digits.length && hasSibling())
+			return new DigitRun(digits, getType(), recur, recurType, foci, errors, dp,
+					getSibling().setError(i - digits.length, e));
+		throw new IndexOutOfBoundsException(i);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:48:30 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the sibling of the node at the given position. If the position is inside this run, the digits after it are dropped.
+	 * The type of a digit sibling is converted the same way that {@link Digit#setSibling(int, LinkedSegment)} does.
+	 *
+	 * @param i {@inheritDoc}
+	 * @param s {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public LinkedSegment setSibling(int i, LinkedSegment s) {
+		if (i >= 0 && i < digits.length)
+			return slice(0, i + 1, follow(typeAt(i), s));
+		else if (i >= digits.length && hasSibling())
+			return slice(0, digits.length, getSibling().setSibling(i - digits.length, s));
+		throw new IndexOutOfBoundsException(i);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:50:11 ---------------------------------------------------
+	 */
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param s {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public LinkedSegment concat(LinkedSegment s) {
+		return slice(0, digits.length, hasSibling() ? getSibling().concat(s) : s);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:53:44 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the segment that is passed to the {@code Formatter} for the digit at the given position. This is {@code this} unless
+	 * the digit differs from the first one in type, focus or error, in which case a detached {@code Digit} is created so that
+	 * markers see the properties of that digit.
+	 *
+	 * @param i the position of the digit.
+	 * @param t the type of the digit.
+	 * @return a segment with the properties of the digit at the given position.
+	 */
+	private Segment digitAt(int i, int t) {
+		boolean f = isSet(foci, i), e = isSet(errors, i);
+		if (t == getType() && f == isFocused() && e == hasError())
+			return this;
+		return new Digit(String.valueOf(digits[i]), t, f, e, dp, null);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:58:20 ---------------------------------------------------
+	 */
+	/**
+	 * Renders the digits of this run to a MathJax LaTeX string the same way a sequence of {@link Digit} nodes with the same
+	 * types would.
+	 *
+	 * @param a {@inheritDoc}
+	 * @param f {@inheritDoc}
+	 * @param p {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	protected LinkedSegment formatNode(Appendable a, Formatter f, List<Integer> p) {
+		return formatDigits(a, f, p, 0, 0, "");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:01:52 ---------------------------------------------------
+	 */
+	/**
+	 * Renders the digits of this run, continuing the grouping and recurrence counters of the digit node before it. When the
+	 * last digit is continued by the sibling, the counters are handed on to it: a following run is rendered in the same loop
+	 * and a following {@link Digit} receives them through {@link Digit#carry(int, int, CharSequence)}.
+	 *
+	 * @param a          the {@code Appendable} which will build the LaTeX render string.
+	 * @param f          give additional styling to the resulting LaTeX code.
+	 * @param p          the position of the node before this run.
+	 * @param unitCount  the number of mantissa digits formatted before this run.
+	 * @param recurCount the number of recurring digits formatted before this run.
+	 * @param repeatend  the recurring digits formatted before this run by an {@link Segment.Type#ELLIPSIS ELLIPSIS} node.
+	 * @return the node to be formatted after the digits, or {@code null} if there is none.
+	 */
+	LinkedSegment formatDigits(Appendable a, Formatter f, List<Integer> p, int unitCount, int recurCount,
+			CharSequence repeatend) {
+		final int[] counts = { unitCount, recurCount };
+		final StringBuilder r = new StringBuilder(repeatend);
+		DigitRun run = this;
+		boolean carry;
+		while ((carry = run.formatRun(a, f, p, counts, r)) && run.getSibling() instanceof DigitRun)
+			run = (DigitRun) run.getSibling();
+		if (carry && run.getSibling() instanceof Digit)
+			((Digit) run.getSibling()).carry(counts[0], counts[1], r);
+		return run.getSibling();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:31:08 ---------------------------------------------------
+	 */
+	/**
+	 * Renders the digits of this run alone.
+	 *
+	 * @param a      the {@code Appendable} which will build the LaTeX render string.
+	 * @param f      give additional styling to the resulting LaTeX code.
+	 * @param p      the position of the node before this run.
+	 * @param counts the number of mantissa digits and the number of recurring digits formatted so far, in that order. Both are
+	 *               updated with the digits of this run.
+	 * @param r      the recurring digits of an {@link Segment.Type#ELLIPSIS ELLIPSIS} run that are yet to be repeated.
+	 * @return {@code true} if the last digit is continued by the sibling and the counters should be handed on to it.
+	 */
+	private boolean formatRun(Appendable a, Formatter f, List<Integer> p, int[] counts, StringBuilder r) {
+		int unitCount = counts[0];
+		int recurCount = counts[1];
+		final int n = digits.length;
+		boolean carry = false;
+		try {
+			for (int i = 0; i < n; i++) {
+				/* Update the current position of the cursor */
+				p.set(p.size() - 1, p.get(p.size() - 1) + 1);
+				final int t = typeAt(i);
+				final boolean last = i == n - 1;
+				final boolean more = !last || hasSibling();
+				final int nt = !more ? t : last ? getSibling().getType() : typeAt(i + 1);
+				final boolean same = more && nt == t;
+				final String d = image(digits[i]);
+				final Segment s = digitAt(i, t);
+				switch (t) {
+				case DOT_ALL:
+					f.format(s, String.format("\\dot{%s}", d), t, p, a);
+					unitCount += 1;
+					recurCount += 1;
+					if (same && unitCount % dp.getMantGroupSize() == 0)
+						f.format(null, dp.getMantSeparator(), SEPARATOR, null, a);
+					carry = same;
+					break;
+				case DOT:
+					f.format(s, recurCount == 0 || !same ? String.format("\\dot{%s}", d) : d, t, p, a);
+					unitCount += 1;
+					recurCount += 1;
+					if (same && unitCount % dp.getMantGroupSize() == 0)
+						f.format(null, dp.getMantSeparator(), SEPARATOR, p, a);
+					carry = same;
+					break;
+				case VINCULUM:
+				case ARC:
+				case DOT_BAR:
+				case PARENTHESISED:
+					if (recurCount == 0)
+						a.append(t == VINCULUM ? "\\overline{"
+								: t == ARC ? "\\overparen{"
+										: t == DOT_BAR ? (same ? "\\overline{" : "\\dot{")
+												: f.format(null, "(", DELIMITER, p));
+					f.format(s, d, t, p, a);
+					unitCount += 1;
+					recurCount += 1;
+					if (!same)
+						a.append(t == PARENTHESISED ? f.format(null, ")", DELIMITER, p) : "}");
+					else if (unitCount % dp.getMantGroupSize() == 0)
+						f.format(null, dp.getMantSeparator(), SEPARATOR, p, a);
+					carry = same;
+					break;
+				case ELLIPSIS:
+					f.format(s, d, t, p, a);
+					r.append(d);
+					unitCount += 1;
+					if (!same)
+						appendRepeatend(a, f, r, unitCount);
+					else if (unitCount % dp.getMantGroupSize() == 0)
+						f.format(null, dp.getMantSeparator(), SEPARATOR, null, a);
+					carry = same;
+					break;
+				case MANTISSA:
+					f.format(s, d, t, p, a);
+					unitCount += 1;
+					carry = same || (more && isRecurring(last ? getSibling() : null, nt));
+					if (carry && unitCount % dp.getMantGroupSize() == 0)
+						f.format(null, dp.getMantSeparator(), SEPARATOR, null, a);
+					break;
+				case INTEGER:
+				default:
+					f.format(s, d, t, p, a);
+					final int remaining = n - 1 - i + after;
+					if (same && remaining % dp.getIntGroupSize() == 0 && remaining > 0)
+						f.format(null, dp.getIntSeparator(), SEPARATOR, null, a);
+					carry = false;
+				}
+			}
+		} catch (IOException e) {
+		}
+		counts[0] = unitCount;
+		counts[1] = recurCount;
+		return carry;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:07:35 ---------------------------------------------------
+	 */
+	/**
+	 * Appends the repeated digits of an {@link Segment.Type#ELLIPSIS ELLIPSIS} run followed by an ellipsis.
+	 *
+	 * @param a         the {@code Appendable} which will build the LaTeX render string.
+	 * @param f         the formatter for the repeated digits.
+	 * @param repeatend the recurring digits, which is cleared afterwards.
+	 * @param unitCount the number of mantissa digits formatted so far.
+	 * @throws IOException if {@code a} throws it.
+	 */
+	private void appendRepeatend(Appendable a, Formatter f, StringBuilder repeatend, int unitCount) throws IOException {
+		String r = repeatend.toString();
+		for (int i = 1; i < dp.getNumOfRecurringDigits(); i++)
+			repeatend.append(r);
+		for (int i = 0; i < repeatend.length(); i++) {
+			if ((unitCount + i) % dp.getMantGroupSize() == 0)
+				f.format(null, dp.getMantSeparator(), SEPARATOR, null, a);
+			f.format(null, repeatend.substring(i, i + 1), AUTO_COMPLETE, null, a);
+		}
+		f.format(null, "\\ldots", AUTO_COMPLETE, null, a);
+		repeatend.setLength(0);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:12:48 ---------------------------------------------------
+	 */
+	/**
+	 * Appends the digits of this run to the given {@code Appendable}, with an 'r' before the first recurring digit.
+	 *
+	 * @param a {@inheritDoc}
+	 * @param l {@inheritDoc}
+	 * @param p {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IndexOutOfBoundsException {@inheritDoc}
+	 */
+	@Override
+	protected LinkedSegment toStringNode(Appendable a, Log l, List<Integer> p) {
+		return toStringDigits(a, l, p, true);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:14:21 ---------------------------------------------------
+	 */
+	/**
+	 * Appends the digits of this run, followed by the digits of any run that continues its recurring digits.
+	 *
+	 * @param a     the {@code Appendable} to which the value is appended.
+	 * @param l     records any info, warning or error that occurs.
+	 * @param p     the position of the node before this run.
+	 * @param first {@code false} if the digit node before this run is recurring, in which case a run that starts with recurring
+	 *              digits does not append the 'r' prefix again.
+	 * @return the node to be appended after the digits, or {@code null} if there is none.
+	 */
+	LinkedSegment toStringDigits(Appendable a, Log l, List<Integer> p, boolean first) {
+		DigitRun run = this;
+		while (true) {
+			run.appendDigits(a, p, first);
+			if (!run.hasSibling())
+				return null;
+			LinkedSegment s = run.getSibling();
+			boolean carry = isRecurring(run.typeAt(run.digits.length - 1)) && isRecurring(s, s.getType());
+			if ((isVar(s) || s.getType() == L_PARENTHESIS) && !isDigit(s))
+				try {
+					a.append('*');
+				} catch (IOException e) {
+				}
+			if (!carry || !(s instanceof DigitRun)) {
+				if (carry && s instanceof Digit)
+					((Digit) s).carry();
+				return s;
+			}
+			run = (DigitRun) s;
+			first = false;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:35:47 ---------------------------------------------------
+	 */
+	/**
+	 * Appends the digits of this run alone.
+	 *
+	 * @param a     the {@code Appendable} to which the value is appended.
+	 * @param p     the position of the node before this run.
+	 * @param first {@code false} if the 'r' prefix has already been appended for a recurring digit before this run.
+	 */
+	private void appendDigits(Appendable a, List<Integer> p, boolean first) {
+		try {
+			for (int i = 0; i < digits.length; i++) {
+				/* Update the current position of the cursor */
+				p.set(p.size() - 1, p.get(p.size() - 1) + 1);
+				if (i == recur && (first || i > 0))
+					a.append('r');
+				a.append(digits[i]);
+			}
+		} catch (IOException e) {
+		} catch (FatalReadException e) {
+			throw new FatalParseException(e.getMessage(), e, p);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:16:05 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the argument is a {@code DigitRun} with the same digits and types as this run. Focus, error and siblings are not
+	 * compared.
+	 *
+	 * @param obj {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof DigitRun) {
+			DigitRun r = (DigitRun) obj;
+			return getType() == r.getType() && recur == r.recur && recurType == r.recurType
+					&& Arrays.equals(digits, r.digits);
+		}
+		return false;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:17:22 ---------------------------------------------------
+	 */
+	/**
+	 * Returns the name of the type of the first digit, the same value {@link Digit#toString()} returns for that digit.
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		switch (getType()) {
+		case INTEGER:
+		default:
+			return "INTEGER";
+		case MANTISSA:
+			return "MANTISSA";
+		case ARC:
+			return "ARC";
+		case DOT:
+			return "DOT";
+		case DOT_ALL:
+			return "DOT_ALL";
+		case DOT_BAR:
+			return "DOT_BAR";
+		case ELLIPSIS:
+			return "ELLIPSIS";
+		case PARENTHESISED:
+			return "PARENTHESIS";
+		case VINCULUM:
+			return "VINCULUM";
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:21:09 ---------------------------------------------------
+	 */
+	/**
+	 * Counts the digits held by the argument and the digit nodes ({@link Digit} or {@code DigitRun}) that directly follow it.
+	 * Both kinds of node keep the count of the digits after them, so this does not walk the siblings.
+	 *
+	 * @param s the first node to be counted, may be {@code null}.
+	 * @return the number of consecutive digits from the argument, or {@code 0} if it is not a digit node.
+	 */
+	static int countDigits(LinkedSegment s) {
+		if (s instanceof Digit)
+			return 1 + ((Digit) s).getRemainingDigits();
+		else if (s instanceof DigitRun)
+			return ((DigitRun) s).digits.length + ((DigitRun) s).after;
+		return 0;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:24:31 ---------------------------------------------------
+	 */
+	/**
+	 * Converts the type of a digit node that is about to become the sibling of a digit of the given type. The rules are the ones
+	 * applied by {@link Digit#setSibling(int, LinkedSegment)}: digits after an integer digit become integers, digits after a
+	 * mantissa digit stay mantissas or become integers, and non-recurring digits after a recurring digit take it's type.
+	 *
+	 * @param t the type of the preceding digit.
+	 * @param s the new sibling.
+	 * @return the sibling after the conversion, or the argument itself if it is not a digit node.
+	 */
+	static LinkedSegment follow(int t, LinkedSegment s) {
+		if (!isDigit(s))
+			return s;
+		switch (t) {
+		case INTEGER:
+			return retype(s, INTEGER);
+		case MANTISSA:
+			return retype(s, s.getType() == MANTISSA ? MANTISSA : INTEGER);
+		case ARC:
+		case DOT:
+		case DOT_ALL:
+		case DOT_BAR:
+		case ELLIPSIS:
+		case PARENTHESISED:
+		case VINCULUM:
+			return isRecurring(s, s.getType()) ? s : retype(s, t);
+		default:
+			return s;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:27:50 ---------------------------------------------------
+	 */
+	/**
+	 * Changes the type of every digit in the argument and in the digit nodes that directly follow it.
+	 *
+	 * @param s the first digit node.
+	 * @param t the new type.
+	 * @return the argument with the new type or the argument itself if it is not a digit node.
+	 */
+	static LinkedSegment retype(LinkedSegment s, int t) {
+		if (s instanceof Digit) {
+			Digit d = (Digit) s;
+			return t == INTEGER ? d.toDigit() : t == MANTISSA ? d.toMantissaDigit() : d.toRecurringDigit(t);
+		} else if (s instanceof DigitRun) {
+			DigitRun r = (DigitRun) s;
+			return new DigitRun(r.digits, t, isRecurring(t) ? 0 : r.digits.length, t, r.foci, r.errors, r.dp,
+					retype(r.getSibling(), t));
+		}
+		return s;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:31:12 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the argument is a digit node.
+	 *
+	 * @param s the value to be checked.
+	 * @return {@code true} if the argument is a {@link Digit} or a {@code DigitRun}.
+	 */
+	static boolean isDigit(Segment s) {
+		return s instanceof Digit || s instanceof DigitRun;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:32:40 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the given type is a recurring type of a digit. When a segment is given, it must also be a digit node.
+	 *
+	 * @param s the segment whose type is {@code t} or {@code null} if the type is of a digit in this run.
+	 * @param t the type to be checked.
+	 * @return {@code true} if the type is a recurring digit type.
+	 */
+	private static boolean isRecurring(Segment s, int t) {
+		return (s == null || isDigit(s)) && isRecurring(t);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:33:58 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the given type is one of the recurring digit types.
+	 *
+	 * @param t the type to be checked.
+	 * @return {@code true} if the type is neither {@link Segment.Type#INTEGER INTEGER} nor {@link Segment.Type#MANTISSA
+	 *         MANTISSA}.
+	 */
+	private static boolean isRecurring(int t) {
+		return t != INTEGER && t != MANTISSA;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:35:16 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the argument is a variable, constant or function.
+	 *
+	 * @param s the value to be checked.
+	 * @return {@code true} if the argument is a variable, constant or function.
+	 */
+	private static boolean isVar(Segment s) {
+		return s.getType() == CONSTANT || s.getType() == VAR_FREE || s.getType() == VAR_BOUND || s.getType() == FUNCTION;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:58:40 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the one-character string of a digit, sharing the strings of the ASCII characters so that formatting a run does not
+	 * allocate a string per digit.
+	 *
+	 * @param c the digit.
+	 * @return the digit as a string.
+	 */
+	private static String image(char c) {
+		return c < IMAGES.length ? IMAGES[c] : String.valueOf(c);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:36:44 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if a bit is set.
+	 *
+	 * @param b the bits, may be {@code null}.
+	 * @param i the index of the bit.
+	 * @return {@code true} if the bit is set.
+	 */
+	private static boolean isSet(BitSet b, int i) {
+		return b != null && b.get(i);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:38:03 ---------------------------------------------------
+	 */
+	/**
+	 * Gets a copy of the given bits with the bit at the given index set to the given value.
+	 *
+	 * @param b the bits, may be {@code null}.
+	 * @param i the index of the bit.
+	 * @param v the value of the bit.
+	 * @return the new bits or {@code null} if no bit is set.
+	 */
+	private static BitSet with(BitSet b, int i, boolean v) {
+		if (isSet(b, i) == v)
+			return b;
+		BitSet c = b == null ? new BitSet() : (BitSet) b.clone();
+		c.set(i, v);
+		return c.isEmpty() ? null : c;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:39:27 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the bits within the given range, shifted to start at zero.
+	 *
+	 * @param b    the bits, may be {@code null}.
+	 * @param from the inclusive start index.
+	 * @param to   the exclusive end index.
+	 * @return the bits in the range or {@code null} if none is set.
+	 */
+	private static BitSet range(BitSet b, int from, int to) {
+		if (b == null)
+			return null;
+		BitSet c = b.get(from, to);
+		return c.isEmpty() ? null : c;
+	}
+
+	/**
+	 * The one-character strings of the ASCII characters, used by {@link #image(char)}.
+	 */
+	private static final String[] IMAGES = new String[128];
+	static {
+		for (char c = 0; c < IMAGES.length; c++)
+			IMAGES[c] = String.valueOf(c);
+	}
+
+	/**
+	 * The digits of this run.
+	 */
+	private final char[] digits;
+	/**
+	 * The position of the first recurring digit, or the number of digits if there are none.
+	 */
+	private final int recur;
+	/**
+	 * The type of the digits from {@link #recur}.
+	 */
+	private final int recurType;
+	/**
+	 * The positions of the focused digits or {@code null} if none is focused.
+	 */
+	private final BitSet foci;
+	/**
+	 * The positions of the digits that have errors or {@code null} if none has an error.
+	 */
+	private final BitSet errors;
+	/**
+	 * The punctuation options.
+	 */
+	private final DigitPunc dp;
+	/**
+	 * The number of consecutive digits held by the digit nodes after this run.
+	 */
+	private final int after;
+}
@@ -555,10 +555,10 @@ public final class Digits {
 	public static LinkedSegment toSegment(BigInteger n, int radix, DigitPunc dp) {
 		String str = n.toString(radix).toUpperCase();
 		if (n.signum() < 0)
-			return unsignedDigits(new StringBuilder(str.substring(1)), INTEGER, prefixMinus(), dp);
+			return unsignedDigits(str.substring(1), INTEGER, prefixMinus(), dp, null);
 		else if (str.charAt(0) == '+')
-			return unsignedDigits(new StringBuilder(str.substring(1)), INTEGER, new Empty(), dp);
-		return unsignedDigits(new StringBuilder(str), INTEGER, new Empty(), dp);
+			return unsignedDigits(str.substring(1), INTEGER, new Empty(), dp, null);
+		return unsignedDigits(str, INTEGER, new Empty(), dp, null);
 	}
 
 	/*
@@ -566,23 +566,31 @@ public final class Digits {
 	 * Time created: 16:07:14 ---------------------------------------------------
 	 */
 	/**
-	 * Generates a number tree using the characters in the given {@code StringBuilder} whereby each digit's type is specified by the
-	 * {@code int} argument, the head of the returned tree is the {@code LinkedSegment} argument and each node represents it
-	 * corresponding character in the {@code StringBuilder] such that adjacent characters are siblings of one another}
-	 * 
-	 * @param n  the buffer holding the digits to be generated.
-	 * @param t  the type which each node will have in the number tree.
-	 * @param s  the value to which the generated number will be concatenated.
-	 * @param dp the punctuation options to apply to the generated number tree.
-	 * @return a number tree generated from the given {@code StringBuilder} where the nodes represent the characters of the
-	 *         {@code StringBuilder}.
-	 */
-	private static LinkedSegment unsignedDigits(StringBuilder n, int t, LinkedSegment s, DigitPunc dp) {
-		if (n.length() > 0) {
-			char d = n.charAt(0);
-			return unsignedDigits(n.deleteCharAt(0), t, s.concat(new Digit(d, t, dp)), dp);
-		}
-		return s;
+	 * Generates a number tree using the characters in the given string whereby each digit's type is specified by the {@code int}
+	 * argument, the head of the returned tree is the {@code LinkedSegment} argument and the characters are held by a single
+	 * {@link DigitRun} in which each character occupies it's own position. The run has {@code tail} as it's sibling, unless
+	 * {@code tail} is a run of recurring digits, in which case the characters are added to the front of that run so that the
+	 * mantissa and the recurring digits share one node.
+	 * <p>
+	 * The tree is built from the last character to the first, so that each node is created exactly once with it's final sibling.
+	 * This takes time proportional to the length of {@code n} with constant stack depth, whereas concatenating one digit at a time
+	 * copies the whole tree for each digit.
+	 * 
+	 * @param n    the digits to be generated.
+	 * @param t    the type which each node will have in the number tree.
+	 * @param s    the head of the returned tree. This is a single node without a sibling, such as a sign, a point or an
+	 *             {@code Empty} (in which case the digits become the head).
+	 * @param dp   the punctuation options to apply to the generated number tree.
+	 * @param tail the sibling of the last digit, may be {@code null}.
+	 * @return a number tree generated from the given string where the nodes represent the characters of the string, followed by
+	 *         {@code tail}.
+	 */
+	private static LinkedSegment unsignedDigits(String n, int t, LinkedSegment s, DigitPunc dp, LinkedSegment tail) {
+		if (!n.isEmpty())
+			tail = tail instanceof DigitRun ? ((DigitRun) tail).withLeading(n, t, dp) : new DigitRun(n, t, dp, tail);
+		if (tail == null)
+			return s;
+		return s instanceof Empty ? tail : s.setSibling(0, tail);
 	}
 
 	/*
@@ -623,32 +631,31 @@ public final class Digits {
 			String s = n.toPlainString();
 			if (s.charAt(0) == '+') {
 				if (s.indexOf('.') >= 0)
-					return unsignedMantissa(new StringBuilder(s.substring(1)), new Empty(), dp);
-				return unsignedDigits(new StringBuilder(s.substring(1)), INTEGER, new Empty(), dp);
+					return unsignedMantissa(s.substring(1), new Empty(), dp, null);
+				return unsignedDigits(s.substring(1), INTEGER, new Empty(), dp, null);
 			} else if (s.charAt(0) == '-') {
 				if (s.indexOf('.') >= 0)
-					return unsignedMantissa(new StringBuilder(s.substring(1)), prefixMinus(), dp);
-				return unsignedDigits(new StringBuilder(s.substring(1)), INTEGER, new Empty(), dp);
+					return unsignedMantissa(s.substring(1), prefixMinus(), dp, null);
+				return unsignedDigits(s.substring(1), INTEGER, new Empty(), dp, null);
 			} else if (s.indexOf('.') >= 0)
-				return unsignedMantissa(new StringBuilder(s.substring(0)), new Empty(), dp);
-			return unsignedDigits(new StringBuilder(s.substring(1)), INTEGER, new Empty(), dp);
+				return unsignedMantissa(s.substring(0), new Empty(), dp, null);
+			return unsignedDigits(s.substring(1), INTEGER, new Empty(), dp, null);
 		}
 		final String s = formatAsStandardForm(n, exp).toUpperCase();
 		final int ioe = s.indexOf('E');// index of exponent
 		final String e = s.substring(ioe + 1, s.length());
-		final LinkedSegment h, expn;
+		final LinkedSegment expn = e.charAt(0) == '-' ? unsignedDigits(e.substring(1), INTEGER, prefixMinus(), dp, null)
+				: unsignedDigits(e.substring(e.charAt(0) == '+' ? 1 : 0), INTEGER, new Empty(), dp, null);
+		final LinkedSegment tail = decimalExponent(expn);
 		if (s.charAt(0) == '+') {
-			h = (s.indexOf('.') >= 0) ? unsignedMantissa(new StringBuilder(s.substring(1, ioe)), prefixPlus(), dp)
-					: unsignedDigits(new StringBuilder(s.substring(1, ioe)), INTEGER, prefixPlus(), dp);
+			return (s.indexOf('.') >= 0) ? unsignedMantissa(s.substring(1, ioe), prefixPlus(), dp, tail)
+					: unsignedDigits(s.substring(1, ioe), INTEGER, prefixPlus(), dp, tail);
 		} else if (s.charAt(0) == '-') {
-			h = (s.indexOf('.') >= 0) ? unsignedMantissa(new StringBuilder(s.substring(1, ioe)), prefixMinus(), dp)
-					: unsignedDigits(new StringBuilder(s.substring(1, ioe)), INTEGER, prefixMinus(), dp);
-		} else
-			h = (s.indexOf('.') >= 0) ? unsignedMantissa(new StringBuilder(s.substring(0, ioe)), new Empty(), dp)
-					: unsignedDigits(new StringBuilder(s.substring(0, ioe)), INTEGER, new Empty(), dp);
-		expn = e.charAt(0) == '-' ? unsignedDigits(new StringBuilder(e.substring(1)), INTEGER, prefixMinus(), dp)
-				: unsignedDigits(new StringBuilder(e.substring(e.charAt(0) == '+' ? 1 : 0)), INTEGER, new Empty(), dp);
-		return h.concat(decimalExponent(expn));
+			return (s.indexOf('.') >= 0) ? unsignedMantissa(s.substring(1, ioe), prefixMinus(), dp, tail)
+					: unsignedDigits(s.substring(1, ioe), INTEGER, prefixMinus(), dp, tail);
+		}
+		return (s.indexOf('.') >= 0) ? unsignedMantissa(s.substring(0, ioe), new Empty(), dp, tail)
+				: unsignedDigits(s.substring(0, ioe), INTEGER, new Empty(), dp, tail);
 	}
 
 	/*
@@ -690,35 +697,27 @@ public final class Digits {
 		String s = toEngineeringString(n, useSuffix);
 		int ioe = s.indexOf('E');// index of exponent
 		String e = Character.isDigit(s.charAt(s.length() - 1)) ? s.substring((ioe) + 1, s.length()) : "";
-		LinkedSegment h, exp;
+		LinkedSegment exp;
+		if (!e.isEmpty()) {
+			exp = e.charAt(0) == '-' ? unsignedDigits(e.substring(1), INTEGER, prefixMinus(), dp, null)
+					: unsignedDigits(e.substring(e.charAt(0) == '+' ? 1 : 0), INTEGER, new Empty(), dp, null);
+			exp = decimalExponent(exp);
+		} else
+//			exp = new BasicSegment(s.charAt(s.length() - 1) != 'µ' ? s.charAt(s.length() - 1) + "" : "\\mu",
+			exp = new BasicSegment(s.charAt(s.length() - 1) != '\u03BC' ? s.charAt(s.length() - 1) + "" : "\\mu",
+					getSuffixExpOrDefault(s.substring(s.length() - 1), ""), UNIT);
 		if (s.charAt(0) == '+') {
-			h = (s.indexOf('.') >= 0)
-					? unsignedMantissa(new StringBuilder(s.substring(1, ioe < 0 ? s.length() - 1 : ioe)), prefixPlus(),
-							dp)
-					: unsignedDigits(new StringBuilder(s.substring(1, ioe < 0 ? s.length() - 1 : ioe)), INTEGER,
-							prefixPlus(), dp);
+			return (s.indexOf('.') >= 0)
+					? unsignedMantissa(s.substring(1, ioe < 0 ? s.length() - 1 : ioe), prefixPlus(), dp, exp)
+					: unsignedDigits(s.substring(1, ioe < 0 ? s.length() - 1 : ioe), INTEGER, prefixPlus(), dp, exp);
 		} else if (s.charAt(0) == '-') {
-			h = (s.indexOf('.') >= 0)
-					? unsignedMantissa(new StringBuilder(s.substring(1, ioe < 0 ? s.length() - 1 : ioe)), prefixMinus(),
-							dp)
-					: unsignedDigits(new StringBuilder(s.substring(1, ioe < 0 ? s.length() - 1 : ioe)), INTEGER,
-							prefixMinus(), dp);
-		} else
-			h = (s.indexOf('.') >= 0)
-					? unsignedMantissa(new StringBuilder(s.substring(0, ioe < 0 ? s.length() - 1 : ioe)), new Empty(),
-							dp)
-					: unsignedDigits(new StringBuilder(s.substring(0, ioe < 0 ? s.length() - 1 : ioe)), INTEGER,
-							new Empty(), dp);
-		if (!e.isEmpty()) {
-			exp = e.charAt(0) == '-' ? unsignedDigits(new StringBuilder(e.substring(1)), INTEGER, prefixMinus(), dp)
-					: unsignedDigits(new StringBuilder(e.substring(e.charAt(0) == '+' ? 1 : 0)), INTEGER, new Empty(),
-							dp);
-			return h.concat(decimalExponent(exp));
+			return (s.indexOf('.') >= 0)
+					? unsignedMantissa(s.substring(1, ioe < 0 ? s.length() - 1 : ioe), prefixMinus(), dp, exp)
+					: unsignedDigits(s.substring(1, ioe < 0 ? s.length() - 1 : ioe), INTEGER, prefixMinus(), dp, exp);
 		}
-//		exp = new BasicSegment(s.charAt(s.length() - 1) != 'µ' ? s.charAt(s.length() - 1) + "" : "\\mu",
-		exp = new BasicSegment(s.charAt(s.length() - 1) != '\u03BC' ? s.charAt(s.length() - 1) + "" : "\\mu",
-				getSuffixExpOrDefault(s.substring(s.length() - 1), ""), UNIT);
-		return h.concat(exp);
+		return (s.indexOf('.') >= 0)
+				? unsignedMantissa(s.substring(0, ioe < 0 ? s.length() - 1 : ioe), new Empty(), dp, exp)
+				: unsignedDigits(s.substring(0, ioe < 0 ? s.length() - 1 : ioe), INTEGER, new Empty(), dp, exp);
 	}
 
 	/*
@@ -804,19 +803,21 @@ public final class Digits {
 	 * Time created: 18:03:50 ---------------------------------------------------
 	 */
 	/**
-	 * Transforms the {@code StringBuilder} into an unsigned decimal number tree, then concatenates that number tree to the
-	 * {@code LinkedSegment}.
-	 * 
-	 * @param n  the value from which the number sub-tree will be generated.
-	 * @param s  the head of the returned tree
-	 * @param dp the punctuation options to apply to the generated number tree.
+	 * Transforms the string into an unsigned decimal number tree, then concatenates that number tree to the {@code LinkedSegment}
+	 * and the tail to the number tree.
+	 * 
+	 * @param n    the value from which the number sub-tree will be generated.
+	 * @param s    the head of the returned tree. This is a single node without a sibling as specified by
+	 *             {@link #unsignedDigits(String, int, LinkedSegment, DigitPunc, LinkedSegment)}.
+	 * @param dp   the punctuation options to apply to the generated number tree.
+	 * @param tail the sibling of the last mantissa digit, may be {@code null}.
 	 * @return a tree with a number sub-tree where all integer nodes have the type {@link #INTEGER}, the point node has the type
 	 *         {@link #POINT} and the mantissa have the type {@link #MANTISSA}.
 	 */
-	private static LinkedSegment unsignedMantissa(StringBuilder n, LinkedSegment s, DigitPunc dp) {
-		LinkedSegment num = unsignedDigits(new StringBuilder(n.substring(0, n.indexOf("."))), INTEGER, s, dp);
-		return unsignedDigits(new StringBuilder(n.substring(n.indexOf(".") + 1)), MANTISSA,
-				num.concat(point(dp.getPoint().charAt(0))), dp);
+	private static LinkedSegment unsignedMantissa(String n, LinkedSegment s, DigitPunc dp, LinkedSegment tail) {
+		LinkedSegment mantissa = unsignedDigits(n.substring(n.indexOf('.') + 1), MANTISSA, point(dp.getPoint().charAt(0)), dp,
+				tail);
+		return unsignedDigits(n.substring(0, n.indexOf('.')), INTEGER, s, dp, mantissa);
 	}
 
 	/*
@@ -1037,28 +1038,23 @@ public final class Digits {
 			s = s.substring(0, s.indexOf("."));
 		}
 
-		seg = unsignedDigits(new StringBuilder(s), INTEGER, seg, dp);// int
-		boolean hasPoint = false;
-		if (!mant.isEmpty()) {
-			seg = unsignedDigits(new StringBuilder(mant), MANTISSA, seg.concat(point(dp.getPoint().charAt(0))), dp);// mantissa
-			hasPoint = true;
-		}
-		if (!rec.isEmpty()) {
-			seg = unsignedDigits(new StringBuilder(rec), recurType,
-					hasPoint ? seg : seg.concat(point(dp.getPoint().charAt(0))), dp);// recur
-		}
+		/* built from the exponent back to the integer */
+		LinkedSegment tail = null;
 		if (!exp.isEmpty()) {// exponent
 			if (exp.charAt(0) == '-')
-				seg = seg.concat(decimalExponent(prefixMinus()
-						.concat(unsignedDigits(new StringBuilder(exp.substring(1)), INTEGER, new Empty(), dp))));
+				tail = decimalExponent(unsignedDigits(exp.substring(1), INTEGER, prefixMinus(), dp, null));
 			else if (exp.charAt(0) == '+')
-				seg = seg.concat(
-						decimalExponent(unsignedDigits(new StringBuilder(exp.substring(1)), INTEGER, new Empty(), dp)));
+				tail = decimalExponent(unsignedDigits(exp.substring(1), INTEGER, new Empty(), dp, null));
 			else
-				seg = seg.concat(decimalExponent(unsignedDigits(new StringBuilder(exp), INTEGER, new Empty(), dp)));
+				tail = decimalExponent(unsignedDigits(exp, INTEGER, new Empty(), dp, null));
 		}
+		boolean hasPoint = !mant.isEmpty();
+		if (!rec.isEmpty())
+			tail = unsignedDigits(rec, recurType, hasPoint ? new Empty() : point(dp.getPoint().charAt(0)), dp, tail);// recur
+		if (hasPoint)
+			tail = unsignedDigits(mant, MANTISSA, point(dp.getPoint().charAt(0)), dp, tail);// mantissa
 
-		return seg;
+		return unsignedDigits(s, INTEGER, seg, dp, tail);// int
 	}
 
 	/*
@@ -1155,35 +1151,30 @@ public final class Digits {
 			s = s.substring(0, s.indexOf("."));
 		}
 
-		seg = unsignedDigits(new StringBuilder(s), INTEGER, seg, dp);// int
-		boolean hasPoint = false;
-		if (!mant.isEmpty()) {
-			seg = unsignedDigits(new StringBuilder(mant), MANTISSA, seg.concat(point(dp.getPoint().charAt(0))), dp);// mantissa
-			hasPoint = true;
-		}
-		if (!rec.isEmpty())
-			seg = unsignedDigits(new StringBuilder(rec), recurType,
-					hasPoint ? seg : seg.concat(point(dp.getPoint().charAt(0))), dp);// recur
+		/* built from the exponent back to the integer */
+		LinkedSegment tail = null;
 		if (!exp.isEmpty()) {// exponent
 			if (exp.charAt(0) == '-')
-				seg = decimalExponent(
-						prefixMinus().concat(unsignedDigits(new StringBuilder(exp.substring(1)), INTEGER, seg, dp)));
+				tail = decimalExponent(unsignedDigits(exp.substring(1), INTEGER, prefixMinus(), dp, null));
 			else if (exp.charAt(0) == '+')
-				seg = seg.concat(
-						decimalExponent(unsignedDigits(new StringBuilder(exp.substring(1)), INTEGER, new Empty(), dp)));
+				tail = decimalExponent(unsignedDigits(exp.substring(1), INTEGER, new Empty(), dp, null));
 //			else if (exp.length() == 1 && FloatAid.isNumber(exp.charAt(exp.length() - 1), 10))
 			else if (isNumber(exp.charAt(exp.length() - 1), 10))
-				seg = seg.concat(decimalExponent(unsignedDigits(new StringBuilder(exp), INTEGER, new Empty(), dp)));
+				tail = decimalExponent(unsignedDigits(exp, INTEGER, new Empty(), dp, null));
 			else {
 //				System.err.println(Map.of("exp", exp, "rec", rec, "mant", mant, "numericalExp", numericalExp));
-				LinkedSegment e = new BasicSegment(
+				tail = new BasicSegment(
 						exp.charAt(exp.length() - 1) != '\u03BC' ? exp.charAt(exp.length() - 1) + "" : "\\mu",
 						"E" + numericalExp, UNIT);
-				seg = seg.concat(e);
 			}
 		}
+		boolean hasPoint = !mant.isEmpty();
+		if (!rec.isEmpty())
+			tail = unsignedDigits(rec, recurType, hasPoint ? new Empty() : point(dp.getPoint().charAt(0)), dp, tail);// recur
+		if (hasPoint)
+			tail = unsignedDigits(mant, MANTISSA, point(dp.getPoint().charAt(0)), dp, tail);// mantissa
 
-		return seg;
+		return unsignedDigits(s, INTEGER, seg, dp, tail);// int
 	}
 
 //	Reproduction and Life Cycle: The American holly begins flowering in the springtime, generally between April and June. Only the females produce fruit, which ripen from September through December and remain on the tree through the winter.
@@ -1369,31 +1360,22 @@ public final class Digits {
 			ls = new Empty();
 		}
 
-		if (sig.indexOf('.') >= 0) {
-			ls = unsignedDigits(new StringBuilder(sig.substring(0, sig.indexOf('.'))), INTEGER, ls, dp);
-			ls = unsignedDigits(new StringBuilder(sig.substring(sig.indexOf('.') + 1)), MANTISSA,
-					ls.concat(point(dp.getPoint().charAt(0))), dp).concat(sub(sigRadix, dp));
-		} else {
-			ls = unsignedDigits(new StringBuilder(sig), INTEGER, ls, dp).concat(sub(sigRadix, dp));
-		}
-
-		if (!exp.isEmpty())
+		/* built from the exponent back to the significand */
+		LinkedSegment tail = sub(sigRadix, dp);
+		if (!exp.isEmpty()) {
+			LinkedSegment sign = prefixPlus();
 			if (exp.charAt(0) == '-') {
 				exp = exp.substring(1);
-				ls = unsignedDigits(
-						new StringBuilder(Integer.toString(Integer.parseInt(exp, sigRadix), expRadix).toUpperCase()),
-						INTEGER, ls.concat(radixExponent(norm)).concat(prefixMinus()), dp).concat(sub(expRadix, dp));
-			} else if (exp.charAt(0) == '+') {
-				exp = exp.substring(0);
-				ls = unsignedDigits(
-						new StringBuilder(Integer.toString(Integer.parseInt(exp, sigRadix), expRadix).toUpperCase()),
-						INTEGER, ls.concat(radixExponent(norm)).concat(prefixPlus()), dp).concat(sub(expRadix, dp));
-			} else {
-				ls = unsignedDigits(
-						new StringBuilder(Integer.toString(Integer.parseInt(exp, sigRadix), expRadix).toUpperCase()),
-						INTEGER, ls.concat(radixExponent(norm)).concat(prefixPlus()), dp).concat(sub(expRadix, dp));
+				sign = prefixMinus();
 			}
-		return ls;
+			tail = tail.setSibling(0, radixExponent(norm).setSibling(0,
+					unsignedDigits(Integer.toString(Integer.parseInt(exp, sigRadix), expRadix).toUpperCase(), INTEGER,
+							sign, dp, sub(expRadix, dp))));
+		}
+
+		if (sig.indexOf('.') >= 0)
+			return unsignedMantissa(sig, ls, dp, tail);
+		return unsignedDigits(sig, INTEGER, ls, dp, tail);
 	}
 
 	/*
@@ -1404,7 +1386,7 @@ public final class Digits {
 	 * Generates a number tree from the given {@code StringBuilder} that comprises of only alphanumeric (they are in a base other
 	 * than 10) and appends it to the given {@code LinkedSegment} argument.
 	 * <p>
-	 * This just the radix version of {@link #unsignedDigits(StringBuilder, int, LinkedSegment, DigitPunc)}.
+	 * This just the radix version of {@link #unsignedDigits(String, int, LinkedSegment, DigitPunc, LinkedSegment)}.
 	 * 
 	 * @param n  the value from which the tree will be generated.
 	 * @param t  the type of digits for each digit.
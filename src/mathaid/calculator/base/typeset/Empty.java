@@ -395,7 +395,7 @@ public final class Empty implements LinkedSegment {
 		p.set(p.size() - 1, p.get(p.size() - 1) + 1);
 
 		try {
-			a.append(f.format(this, pht, getType(), p));
+			f.format(this, pht, getType(), p, a);
 		} catch (IOException e) {
 		}
 
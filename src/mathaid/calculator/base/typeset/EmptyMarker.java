@@ -18,7 +18,7 @@ package mathaid.calculator.base.typeset;
  * @author Oruovo Anthony Etineakpopha
  * @email tonyoruovo@gmail.com
  */
-class EmptyMarker implements Marker {
+class EmptyMarker implements StreamingMarker {
 	/*
 	 * Date: 23 Nov 2023 -----------------------------------------------------------
 	 * Time created: 06:26:21 ---------------------------------------------------
@@ -45,4 +45,34 @@ class EmptyMarker implements Marker {
 	public String mark(Segment s, String f, int t, java.util.List<Integer> p) {
 		return f;
 	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:21:40 ---------------------------------------------------
+	 */
+	/**
+	 * Has no effect when invoked.
+	 * 
+	 * @param s can be <code>null</code>.
+	 * @param t any {@code int} value.
+	 * @param p can be <code>null</code>.
+	 * @param a not written to.
+	 * @return <code>null</code>.
+	 */
+	public CharSequence open(Segment s, int t, java.util.List<Integer> p, Appendable a) {
+		return null;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:22:13 ---------------------------------------------------
+	 */
+	/**
+	 * Returns <code>false</code> as no segment is marked.
+	 * 
+	 * @return <code>false</code>.
+	 */
+	public boolean marksPlain() {
+		return false;
+	}
 }
\ No newline at end of file
@@ -3,6 +3,7 @@
  */
 package mathaid.calculator.base.typeset;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 
@@ -20,7 +21,7 @@ import java.util.List;
  * @author Oruovo Anthony Etineakpopha
  * @email tonyoruovo@gmail.com
  */
-public class ErrorMarker implements Marker {
+public class ErrorMarker implements StreamingMarker {
 
 	/*
 	 * Date: 1 Sep 2022-----------------------------------------------------------
@@ -52,26 +53,42 @@ public class ErrorMarker implements Marker {
 	 * Most recent time created: 10:46:34--------------------------------------
 	 */
 	/**
-	 * Renders the error component on the given math if the specified segment has
+	 * Writes the opening of the error component if the specified segment has
 	 * error.
 	 * 
 	 * @param s        a valid {@code Segment} which is a reference to the owner of
-	 *                 the {@code math} to be formatted.
-	 * @param math     the value to be formatted. This is the object of this
-	 *                 formatting operation.
+	 *                 the math to be formatted.
 	 * @param type     any value. Not used by this method.
 	 * @param position the position of the current segment in the segment tree.
 	 *                 Please see {@link SegmentBuilder} for details on positional
 	 *                 indexes.
-	 * @return the math after formatting.
+	 * @param a        the {@code Appendable} to which the opening is written.
+	 * @return the closing of the error component or <code>null</code> if the
+	 *         segment has no error.
+	 * @throws IOException if {@code a} throws it.
 	 */
 	@Override
-	public String mark(Segment s, String math, int type, List<Integer> position) {
+	public CharSequence open(Segment s, int type, List<Integer> position, Appendable a) throws IOException {
 		if (s == null || (!s.hasError()) || position == null)
-			return math;
+			return null;
 		current = Collections.unmodifiableList(position);
 //		return String.format("\\cssId{%1$s}{\\bbox[red]{ %2$s }}", Formatter.ERROR, math);
-		return String.format("\\bbox[red]{ %2$s }", Formatter.ERROR, math);
+		a.append("\\bbox[red]{ ");
+		return " }";
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:16:45 ---------------------------------------------------
+	 */
+	/**
+	 * Returns <code>false</code> as only segments with an error are marked.
+	 * 
+	 * @return <code>false</code>.
+	 */
+	@Override
+	public boolean marksPlain() {
+		return false;
 	}
 
 	/*
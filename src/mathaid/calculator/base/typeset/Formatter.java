@@ -4,6 +4,7 @@
  */
 package mathaid.calculator.base.typeset;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.NavigableMap;
@@ -97,6 +98,30 @@ public interface Formatter {
 	 */
 	String format(Segment segment, String format, int type, List<Integer> position);
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:44:51 ---------------------------------------------------
+	 */
+	/**
+	 * Applies all {@code Marker}s to the input {@code format} and writes the
+	 * transformed code to the given {@code Appendable}. This writes the same code
+	 * that {@link #format(Segment, String, int, List)} returns, but an
+	 * implementation may write it piece by piece rather than building a new string
+	 * for every marker.
+	 * 
+	 * @param segment  a reference to the {@code Segment} that called this method.
+	 * @param format   the math code to be transformed
+	 * @param type     the type of the {@code segment} argument.
+	 * @param position the same position given to {@link Segment#format}
+	 * @param a        the {@code Appendable} to which the transformed code is
+	 *                 written.
+	 * @throws IOException if {@code a} throws it.
+	 */
+	default void format(Segment segment, CharSequence format, int type, List<Integer> position, Appendable a)
+			throws IOException {
+		a.append(format(segment, format.toString(), type, position));
+	}
+
 	/*
 	 * Date: 13 Nov 2023 -----------------------------------------------------------
 	 * Time created: 09:48:04 ---------------------------------------------------
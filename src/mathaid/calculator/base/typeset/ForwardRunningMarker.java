@@ -3,6 +3,7 @@
  */
 package mathaid.calculator.base.typeset;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -22,7 +23,7 @@ import java.util.List;
  * @author Oruovo Anthony Etineakpopha
  * @email tonyoruovo@gmail.com
  */
-public class ForwardRunningMarker implements Marker {
+public class ForwardRunningMarker implements StreamingMarker {
 
 	/*
 	 * Date: 24 Nov 2023 -----------------------------------------------------------
@@ -59,12 +60,7 @@ public class ForwardRunningMarker implements Marker {
 		 * <code>\cssId{cid}{\left\lfloorx\right.}</code>
 		 * </pre>
 		 */
-		PREPEND {
-			@Override
-			public String mark(String math, String caretId) {
-				return String.format("\\cssId{%1$s}{\\left\\lfloor %2$s \\right.}", caretId, math);
-			}
-		},
+		PREPEND("\\cssId{%s}{\\left\\lfloor ", " \\right.}"),
 		/**
 		 * Formats the math by setting the caret at any position within the segment. The
 		 * position itself will be dictated by the position of the segment with the
@@ -77,12 +73,7 @@ public class ForwardRunningMarker implements Marker {
 		 * <code>\cssId{cid}{\left|x\right.}</code>
 		 * </pre>
 		 */
-		INSERT {
-			@Override
-			public String mark(String math, String caretId) {
-				return String.format("\\cssId{%1$s}{\\left|%2$s\\right.}", caretId, math);
-			}
-		},
+		INSERT("\\cssId{%s}{\\left|", "\\right.}"),
 		/**
 		 * Formats the math by setting a thick caret that covers the current segment
 		 * with the focus.
@@ -94,12 +85,7 @@ public class ForwardRunningMarker implements Marker {
 		 * <code>\cssId{cid}{\bbox[black]{ x }}</code>
 		 * </pre>
 		 */
-		OVERWRITE {
-			@Override
-			public String mark(String math, String caretId) {
-				return String.format("\\cssId{%1$s}{\\bbox[black]{ %2$s }}", caretId, math);
-			}
-		},
+		OVERWRITE("\\cssId{%s}{\\bbox[black]{ ", " }}"),
 		/**
 		 * Formats the math by setting the caret only at the end of the segment.
 		 * <p>
@@ -110,12 +96,7 @@ public class ForwardRunningMarker implements Marker {
 		 * <code>\cssId{cid}{\left. x \right\rfloor}</code>
 		 * </pre>
 		 */
-		APPEND {
-			@Override
-			public String mark(String math, String caretId) {
-				return String.format("\\cssId{%1$s}{\\left. %2$s \\right\\rfloor}", caretId, math);
-			}
-		};
+		APPEND("\\cssId{%s}{\\left. ", " \\right\\rfloor}");
 
 		/*
 		 * Date: 24 Nov 2023 -----------------------------------------------------------
@@ -135,7 +116,62 @@ public class ForwardRunningMarker implements Marker {
 		 *                with the HTML DOM.
 		 * @return {@code math} after inserting the caret.
 		 */
-		public abstract String mark(String math, String caretId);
+		public String mark(String math, String caretId) {
+			return open(caretId) + math + close();
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:25:02 ---------------------------------------------------
+		 */
+		/**
+		 * Constructs an {@code InputMode} from the TeX written before and after the
+		 * math.
+		 * 
+		 * @param open  the TeX before the math, with a {@code %s} for the caret id.
+		 * @param close the TeX after the math.
+		 */
+		InputMode(String open, String close) {
+			this.open = open;
+			this.close = close;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:26:31 ---------------------------------------------------
+		 */
+		/**
+		 * Gets the part of the caret that is written before the math.
+		 * 
+		 * @param caretId the CSS id attribute used for uniquely identifying the caret
+		 *                with the HTML DOM.
+		 * @return the opening of the caret.
+		 */
+		public String open(String caretId) {
+			return String.format(open, caretId);
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:27:14 ---------------------------------------------------
+		 */
+		/**
+		 * Gets the part of the caret that is written after the math.
+		 * 
+		 * @return the closing of the caret.
+		 */
+		public String close() {
+			return close;
+		}
+
+		/**
+		 * The TeX written before the math.
+		 */
+		private final String open;
+		/**
+		 * The TeX written after the math.
+		 */
+		private final String close;
 	}
 
 	public static final String CARET_ID = "caret";
@@ -230,46 +266,48 @@ public class ForwardRunningMarker implements Marker {
 		return current;
 	}
 
-	/*
-	 * Date: 25 Nov 2023 -----------------------------------------------------------
-	 * Time created: 19:54:53 ---------------------------------------------------
-	 */
-	/**
-	 * Calls the input mode to format the given string.
-	 * 
-	 * @param math the string to be formatted.
-	 * @return the argument after formatting is done.
-	 */
-	private String getFormat(String math) {
-		return mode.mark(math, CARET_ID);
-	}
-
 	/*
 	 * Most Recent Date: 31 Aug 2022-----------------------------------------------
 	 * Most recent time created: 16:22:28--------------------------------------
 	 */
 	/**
-	 * Inserts the caret into the given {@code math} if the segment is focused and
-	 * an insertion has not been made.
+	 * Writes the opening of the caret if the segment is focused and an insertion
+	 * has not been made.
 	 * 
 	 * @param s        a valid {@code Segment} which is a reference to the owner of
-	 *                 the {@code math} to be formatted.
-	 * @param math     the value to be formatted. This is the object of this
-	 *                 formatting operation.
+	 *                 the math to be formatted.
 	 * @param type     any value. Not used by this method.
 	 * @param position the position of the current segment in the segment tree.
 	 *                 Please see {@link SegmentBuilder} for details on positional
 	 *                 indexes.
-	 * @return the math after formatting.
+	 * @param a        the {@code Appendable} to which the opening is written.
+	 * @return the closing of the caret or <code>null</code> if no caret was
+	 *         inserted.
+	 * @throws IOException if {@code a} throws it.
 	 */
 	@Override
-	public String mark(Segment s, String math, int type, List<Integer> position) {
+	public CharSequence open(Segment s, int type, List<Integer> position, Appendable a) throws IOException {
 		if (isMarked() || s == null || (!s.isFocused()) || position == null)
-			return math;
+			return null;
 //		if (s != null && !s.isFocused())
 //			return math;
 		current = Collections.unmodifiableList(position);
-		return getFormat(math);
+		a.append(mode.open(CARET_ID));
+		return mode.close();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:31:56 ---------------------------------------------------
+	 */
+	/**
+	 * Returns <code>false</code> as only the focused segment is marked.
+	 * 
+	 * @return <code>false</code>.
+	 */
+	@Override
+	public boolean marksPlain() {
+		return false;
 	}
 
 	/*
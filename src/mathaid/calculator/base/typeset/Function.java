@@ -7,6 +7,8 @@
  */
 package mathaid.calculator.base.typeset;
 
+import static mathaid.calculator.base.typeset.Segment.Type.INTEGER;
+
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
@@ -77,11 +79,12 @@ public final class Function extends AbstractSegment {
 	 * @param a {@inheritDoc}
 	 * @param f {@inheritDoc}
 	 * @param position {@inheritDoc}
+	 * @return {@inheritDoc}
 	 * @throws IndexOutOfBoundsException if the {@link List} argument is presented
 	 * in such a way that may cause the traversal to reference a {@code null} node.
 	 */
 	@Override
-	public void format(Appendable a, Formatter f, List<Integer> position) {
+	protected LinkedSegment formatNode(Appendable a, Formatter f, List<Integer> position) {
 		/* Update the current position of the cursor */
 		position.set(position.size() - 1, position.get(position.size() - 1) + 1);
 
@@ -106,11 +109,10 @@ public final class Function extends AbstractSegment {
 		}
 		sb.append(" \\right)");
 		try {
-			a.append(f.format(this, sb.toString(), getType(), position));
+			f.format(this, sb, getType(), position, a);
 		} catch (IOException e) {
 		}
-		if (hasSibling())
-			getSibling().format(a, f, position);
+		return getSibling();
 	}
 
 	/*
@@ -124,11 +126,12 @@ public final class Function extends AbstractSegment {
 	 * @param a {@inheritDoc}
 	 * @param l {@inheritDoc}
 	 * @param position {@inheritDoc}
+	 * @return {@inheritDoc}
 	 * @throws IndexOutOfBoundsException if the {@link List} argument is presented
 	 * in such a way that may cause the traversal to reference a {@code null} node.
 	 */
 	@Override
-	public void toString(Appendable a, Log l, List<Integer> position) {
+	protected LinkedSegment toStringNode(Appendable a, Log l, List<Integer> position) {
 		/* Update the current position of the cursor */
 		position.set(position.size() - 1, position.get(position.size() - 1) + 1);
 
@@ -143,7 +146,7 @@ public final class Function extends AbstractSegment {
 			position.remove(position.size() - 1);
 			position.remove(position.size() - 1);
 			if (degree) {
-				if (getChildren()[i] instanceof Digit)
+				if (DigitRun.isDigit(getChildren()[i]))
 					sb.append(" *Degree");
 			}
 			if (i < getChildren().length - 1)
@@ -158,8 +161,7 @@ public final class Function extends AbstractSegment {
 		} catch (FatalReadException e) {
 			throw new FatalParseException(e.getMessage(), e, position);
 		}
-		if (hasSibling())
-			getSibling().toString(a, l, position);
+		return getSibling();
 	}
 
 	/*
@@ -254,10 +256,9 @@ public final class Function extends AbstractSegment {
 	@Override
 	public LinkedSegment concat(LinkedSegment ls) {
 		if (!hasSibling()) {
-			if (ls instanceof Digit) {
-				Digit d = (Digit) ls;
-				return new Function(fname, sname, degree, defer, isFocused(), hasError(), d.toDigit(), getChildren(),
-						getSuperIndex(), getSubIndex());
+			if (DigitRun.isDigit(ls)) {
+				return new Function(fname, sname, degree, defer, isFocused(), hasError(), DigitRun.retype(ls, INTEGER),
+						getChildren(), getSuperIndex(), getSubIndex());
 			}
 			return new Function(fname, sname, degree, defer, isFocused(), hasError(), ls, getChildren(),
 					getSuperIndex(), getSubIndex());
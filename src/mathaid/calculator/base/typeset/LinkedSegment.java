@@ -553,11 +553,12 @@ public interface LinkedSegment extends Segment {
 	 *		System.out.println(l);// prints 3
 	 *	</code>
 	 *</pre>
-	 * <p>This method is analogous to {@link String#length}
+	 * <p>This method is analogous to {@link String#length}. The siblings are counted in a loop, so a long tree does not
+	 * exhaust the stack.
 	 * @return the number of horizontal (top-level) {@code LinkedSegment} nodes in this tree.
 	 */
 	default int length() {
-		return 1 + (hasSibling() ? getSibling().length() : 0);
+		return Traversal.length(this);
 	}
 
 	/*
@@ -626,18 +627,15 @@ public interface LinkedSegment extends Segment {
 	/**
 	 * Retrieves the {@code LinkedSegment} at the given index which will contain all {@code LinkedSegment}s that
 	 * are it's siblings along with any/all their corresponding children.
-	 * <p>This method is analogous to {@link String#substring(int)}
+	 * <p>This method is analogous to {@link String#substring(int)}. The siblings are walked in a loop, so a long tree does
+	 * not exhaust the stack.
 	 * @param fromIndex the index at which the {@code LinkedSegment} will be returned.
 	 * @return a new {@code LinkedSegment} tree which exists at the given index prior to this
 	 * method call.
 	 * @throws IndexOutOfBoundsException if no {@code LinkedSegment} at the specified index exists.
 	 */
 	default LinkedSegment subsegment(int fromIndex) throws IndexOutOfBoundsException {
-		if (fromIndex == 0)
-			return this;
-		else if (fromIndex > 0 && hasSibling())
-			return getSibling().subsegment(fromIndex - 1);
-		throw new IndexOutOfBoundsException();
+		return Traversal.subsegment(this, fromIndex);
 	}
 
 	/*
@@ -9,7 +9,6 @@ package mathaid.calculator.base.typeset;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
 import static mathaid.calculator.base.util.Utility.toFlatCase;
 
@@ -6987,21 +6986,27 @@ import static mathaid.calculator.base.util.Utility.toFlatCase;
 public final class NamedColour extends IntegerColour {
 	
 	/**
-	 * Mappings for common colours found on the world wide web.
+	 * Mappings of the (lower case) names of common colours found on the world wide
+	 * web to their opaque colour.
 	 * <p>
 	 * Please see the article <a href=
 	 * "https://en.wikipedia.org/wiki/List_of_colors_(alphabetical)">https://en.wikipedia.org/wiki/List_of_colors_(alphabetical)</a>
 	 * for details.
 	 */
-	private static Map<String, String> named = new HashMap<>();
+	private static final Map<String, Integer> codes;
 	/**
-	 * Stores the last searched name to prevent traversing the {@link #named}
-	 * multiple times, as the parent requires an integer, which when satisfied, this
-	 * value becomes assigned.
+	 * The reverse of {@link #codes}. Where several names share a colour, the
+	 * alphabetically first name is the one mapped.
 	 */
-	private static String $n = null;
+	private static final Map<Integer, String> colours;
+	/**
+	 * The named colours in a searchable tree for finding the closest named colour
+	 * to any colour.
+	 */
+	private static final ColourTree tree;
 
 	static {
+		final Map<String, String> named = new HashMap<>(2048);
 		named.put("absolute zero", "0048BA");
 		named.put("acid green", "B0BF1A");
 		named.put("aero", "00B9E8");
@@ -8159,6 +8164,17 @@ public final class NamedColour extends IntegerColour {
 		named.put("zaffre", "0014A8");
 		named.put("zebra white", "F5F5F5");
 		named.put("zinnwaldite", "2C1608");
+
+		final Map<String, Integer> byName = new HashMap<>(2048);
+		final Map<Integer, String> byColour = new HashMap<>(2048);
+		for (Map.Entry<String, String> entry : named.entrySet()) {
+			final Integer c = Integer.valueOf(entry.getValue(), 16);
+			byName.put(entry.getKey(), c);
+			byColour.merge(c, entry.getKey(), (x, y) -> x.compareTo(y) <= 0 ? x : y);
+		}
+		codes = Map.copyOf(byName);
+		colours = Map.copyOf(byColour);
+		tree = new ColourTree(colours.keySet().stream().mapToInt(Integer::intValue).toArray());
 	}
 
 	/*
@@ -8166,7 +8182,7 @@ public final class NamedColour extends IntegerColour {
 	 * Time created: 19:52:52 ---------------------------------------------------
 	 */
 	/**
-	 * Searches {@link #named} and gets the hex colour code mapped to the argument.
+	 * Searches {@link #codes} and gets the hex colour code mapped to the argument.
 	 * Will return {@code 255} as the default.
 	 * 
 	 * @param lowerCaseName the lower
@@ -8174,14 +8190,44 @@ public final class NamedColour extends IntegerColour {
 	 *         mapping exists.
 	 */
 	static int of(String lowerCaseName) {
-		try {
-			int i = Integer.parseInt(named.get(lowerCaseName), 16);
-			$n = lowerCaseName;
-			return i;
-		} catch (NullPointerException e) {
-			$n = "black";
-			return 0xFF;
-		}
+		return codes.getOrDefault(lowerCaseName, 0xFF);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:08:44 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the opaque colour of the given name, ignoring case.
+	 * 
+	 * @param name a supported name.
+	 * @return the opaque colour mapped to the argument.
+	 * @throws IllegalArgumentException if the argument is not a supported name.
+	 */
+	private static int valueOf(String name) throws IllegalArgumentException {
+		final Integer c = codes.get(name.toLowerCase());
+		if (c == null)
+			throw new IllegalArgumentException(name + " is not a valid name");
+		return c;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:11:20 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the named colour that looks closest to the given colour, as measured by
+	 * the distance between both in the CIE L*a*b* space. If the argument has a name,
+	 * then the colour of that name is returned.
+	 * 
+	 * @param opaque the opaque color i.e it does not have an alpha value in it,
+	 *               only the red, green and blue component are present.
+	 * @return the closest {@code NamedColour} to the argument.
+	 */
+	public static NamedColour nearest(int opaque) {
+		opaque &= 0xFF_FF_FF;
+		final String name = colours.get(opaque);
+		return new NamedColour(name != null ? name : colours.get(tree.nearest(opaque)));
 	}
 
 	/*
@@ -8197,15 +8243,7 @@ public final class NamedColour extends IntegerColour {
 	 *         mapping exists.
 	 */
 	private static String getIfCompatible(int opaque) {
-		Set<Map.Entry<String, String>> data = named.entrySet();
-		for (Map.Entry<String, String> entry : data) {
-			int current = Integer.valueOf(entry.getValue(), 16);
-			if (current == opaque) {
-				$n = entry.getKey();
-				return entry.getKey();
-			}
-		}
-		return "";
+		return colours.getOrDefault(opaque, "");
 	}
 
 	/*
@@ -8218,10 +8256,8 @@ public final class NamedColour extends IntegerColour {
 	 * @param c and supported name as a string.
 	 */
 	public NamedColour(String name) {
-		super((of(name.toLowerCase()) << 8) | 0xFF);
-		if (name.compareToIgnoreCase($n) != 0)
-			throw new IllegalArgumentException(name + " is not a valid name");
-		this.name = $n;
+		super((valueOf(name) << 8) | 0xFF);
+		this.name = name.toLowerCase();
 	}
 
 	/*
@@ -8268,9 +8304,10 @@ public final class NamedColour extends IntegerColour {
 	 */
 	@Override
 	public void setOpaqueColour(int c) {
-		if (getIfCompatible(c).length() > 0) {
+		final String name = getIfCompatible(c);
+		if (name.length() > 0) {
 			super.setOpaqueColour(c);
-			this.name = $n;
+			this.name = name;
 		}
 	}
 
@@ -8287,10 +8324,8 @@ public final class NamedColour extends IntegerColour {
 	 * @param name the colour name to be set.
 	 */
 	public void setName(String name) {
-		super.setColour((of(name.toLowerCase()) << 8) | 0xFF);
-		if (name.compareToIgnoreCase($n) != 0)
-			throw new IllegalArgumentException(name + " is not a valid name");
-		this.name = $n;
+		super.setColour((valueOf(name) << 8) | 0xFF);
+		this.name = name.toLowerCase();
 	}
 
 	/*
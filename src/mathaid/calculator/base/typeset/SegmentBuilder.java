@@ -187,6 +187,8 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @return the {@code LinkedSegment} that was being built.
 	 */
 	public LinkedSegment toSegment() {
+		if (head == null && (rope != null || end != null))
+			head = SegmentRope.toSegment(rope, end);
 		return head;
 	}
 
@@ -202,7 +204,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 */
 	public boolean isEmpty() {
 		try {
-			return head.length() == 0;
+			return length() == 0;
 		} catch (NullPointerException e) {
 			return false;
 		}
@@ -217,7 +219,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @return the number of {@code LinkedSegment} nodes in this builder.
 	 */
 	public int length() {
-		return head.length();
+		return rope != null ? rope.length() : end != null ? 0 : head.length();
 	}
 
 	/*
@@ -307,7 +309,18 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @throws IndexOutOfBoundsException if no {@code LinkedSegment} exists at the specified index.
 	 */
 	public LinkedSegment segmentAt(int index) throws IndexOutOfBoundsException {
-		return head.segmentAt(index);
+		if (rope == null && end == null)
+			return head.segmentAt(index);
+		final int n = length();
+		if (index >= n && end != null)
+			return end.segmentAt(index - n);
+		else if (index < 0 || index >= n)
+			throw new IndexOutOfBoundsException(index);
+		final int[] span = new int[2];
+		LinkedSegment s = rope.nodeAt(index, span);
+		if (index > span[0])
+			s = s.subsegment(index - span[0]);
+		return SegmentRope.link(s, 1, null);
 	}
 
 	/*
@@ -326,7 +339,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @throws IndexOutOfBoundsException if the location specified by the positional indices returns
 	 * a {@code null} value.
 	 */
-	private static LinkedSegment setError(LinkedSegment headToPermute, boolean err, List<Integer> indexes)
+	private static SegmentBuilder setError(SegmentBuilder headToPermute, boolean err, List<Integer> indexes)
 			throws IndexOutOfBoundsException {
 		int sibling = indexes.remove(0);
 		int descendant = -1;
@@ -349,11 +362,9 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		if (descendant < 0)
 			throw new IndexOutOfBoundsException("Negative descedant index found");
 
-		return new SegmentBuilder(headToPermute)
-				.replace(sibling,
-						headToPermute.segmentAt(sibling).setChild(descendant,
-								setError(headToPermute.subsegment(sibling).getChildren()[descendant], err, indexes)))
-				.toSegment();
+		final LinkedSegment s = headToPermute.segmentAt(sibling);
+		return headToPermute.replace(sibling, s.setChild(descendant,
+				setError(new SegmentBuilder(s.getChildren()[descendant]), err, indexes).toSegment()));
 	}
 
 	/*
@@ -372,8 +383,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		ArrayList<Integer> l = new ArrayList<>();
 		for (int i : index)
 			l.add(i);
-		head = setError(head, err, l);
-		return this;
+		return setError(this, err, l);
 	}
 
 	/*
@@ -389,8 +399,33 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * in this builder.
 	 */
 	public SegmentBuilder setError(boolean err, List<Integer> pos) throws IndexOutOfBoundsException {
-		head = setError(head, err, pos);
-		return this;
+		return setError(this, err, pos);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:52:18 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the error property of the top-level node at the given position. An {@link Empty} that ends this builder may be
+	 * targeted by the position after the last node.
+	 * @param index the horizontal position of the node.
+	 * @param e the value to be set.
+	 * @return {@code this} after the operation has been completed.
+	 * @throws IndexOutOfBoundsException if no node exists at the given position.
+	 */
+	private SegmentBuilder setError(int index, boolean e) throws IndexOutOfBoundsException {
+		load();
+		final int n = length();
+		if (index >= n && end != null) {
+			end = end.setError(index - n, e);
+			head = null;
+			return this;
+		} else if (index < 0 || index >= n)
+			throw new IndexOutOfBoundsException(index);
+		final int[] span = new int[2];
+		final LinkedSegment s = rope.nodeAt(index, span);
+		return splice(span[0], span[0] + span[1], SegmentRope.node(s.setError(index - span[0], e), span[1]));
 	}
 
 	/*
@@ -409,7 +444,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @throws IndexOutOfBoundsException if the location specified by the positional indices returns
 	 * a {@code null} value.
 	 */
-	private static LinkedSegment setFocus(LinkedSegment headToPermute, boolean f, List<Integer> indexes)
+	private static SegmentBuilder setFocus(SegmentBuilder headToPermute, boolean f, List<Integer> indexes)
 			throws IndexOutOfBoundsException {
 		int sibling = indexes.remove(0);
 		int descendant = -1;
@@ -432,11 +467,9 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		if (descendant < 0)
 			throw new IndexOutOfBoundsException("Negative descedant index found");
 
-		return new SegmentBuilder(headToPermute)
-				.replace(sibling,
-						headToPermute.segmentAt(sibling).setChild(descendant,
-								setFocus(headToPermute.subsegment(sibling).getChildren()[descendant], f, indexes)))
-				.toSegment();
+		final LinkedSegment s = headToPermute.segmentAt(sibling);
+		return headToPermute.replace(sibling, s.setChild(descendant,
+				setFocus(new SegmentBuilder(s.getChildren()[descendant]), f, indexes).toSegment()));
 	}
 
 	/*
@@ -455,8 +488,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		ArrayList<Integer> l = new ArrayList<>();
 		for (int i : index)
 			l.add(i);
-		head = setFocus(head, focus, l);
-		return this;
+		return setFocus(this, focus, l);
 	}
 
 	/*
@@ -472,8 +504,33 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * in this builder.
 	 */
 	public SegmentBuilder setFocus(boolean focus, List<Integer> pos) throws IndexOutOfBoundsException {
-		head = setFocus(head, focus, pos);
-		return this;
+		return setFocus(this, focus, pos);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:54:02 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the focus property of the top-level node at the given position. An {@link Empty} that ends this builder may be
+	 * targeted by the position after the last node.
+	 * @param index the horizontal position of the node.
+	 * @param f the value to be set.
+	 * @return {@code this} after the operation has been completed.
+	 * @throws IndexOutOfBoundsException if no node exists at the given position.
+	 */
+	private SegmentBuilder setFocus(int index, boolean f) throws IndexOutOfBoundsException {
+		load();
+		final int n = length();
+		if (index >= n && end != null) {
+			end = end.setFocus(index - n, f);
+			head = null;
+			return this;
+		} else if (index < 0 || index >= n)
+			throw new IndexOutOfBoundsException(index);
+		final int[] span = new int[2];
+		final LinkedSegment s = rope.nodeAt(index, span);
+		return splice(span[0], span[0] + span[1], SegmentRope.node(s.setFocus(index - span[0], f), span[1]));
 	}
 
 	/*
@@ -491,7 +548,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @throws IndexOutOfBoundsException if the location specified by the positional indices does not exist
 	 * in this builder.
 	 */
-	private static LinkedSegment delete(LinkedSegment headToPermute, List<Integer> indexes)
+	private static SegmentBuilder delete(SegmentBuilder headToPermute, List<Integer> indexes)
 			throws IndexOutOfBoundsException {
 		int sibling = indexes.remove(0);
 		int descendant = -1;
@@ -505,7 +562,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 
 		if (indexes.isEmpty()) {
 			try {
-				return new SegmentBuilder(headToPermute).delete(sibling).toSegment();
+				return headToPermute.delete(sibling);
 			} catch (IndexOutOfBoundsException e) {
 				throw new IndexOutOfBoundsException("insertion index not found");
 			}
@@ -514,11 +571,9 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		if (descendant < 0)
 			throw new IndexOutOfBoundsException("Negative descedant index found");
 
-		return new SegmentBuilder(headToPermute)
-				.replace(sibling,
-						headToPermute.segmentAt(sibling).setChild(descendant,
-								delete(headToPermute.subsegment(sibling).getChildren()[descendant], indexes)))
-				.toSegment();
+		final LinkedSegment s = headToPermute.segmentAt(sibling);
+		return headToPermute.replace(sibling, s.setChild(descendant,
+				delete(new SegmentBuilder(s.getChildren()[descendant]), indexes).toSegment()));
 	}
 
 	/*
@@ -539,18 +594,29 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * in this builder.
 	 */
 	private SegmentBuilder delete(int index) throws IndexOutOfBoundsException {
-		if (index == 0)
-			if (length() == 1)
-				head = new Empty();
-			else
-				head = head.getSibling();
-		else if (isEmpty())
+		load();
+		final int n = length();
+		if (index == n && n > 0 && end != null) {
+			/* the trailing empty node */
+			end = null;
+			head = null;
+			return this;
+		} else if (index < 0 || index >= n)
 			throw new IndexOutOfBoundsException(index);
-		else {
-			LinkedSegment segmentAtIndex = head.subsegment(index);
-			head = head.setSibling(index - 1, segmentAtIndex.getSibling());
-		}
-		return this;
+		else if (n == 1)
+			return reset(new Empty());
+		else if (index == 0)
+			return splice(0, 1, null);
+		final int[] span = new int[2];
+		final LinkedSegment previous = rope.nodeAt(index - 1, span);
+		/* Only a digit may retype the digits that become its siblings */
+		final int digits = DigitRun.isDigit(previous) ? rope.digits(index + 1) : 0;
+		if (digits == 0)
+			return splice(index, index + 1, null);
+		final boolean last = index + 1 + digits == n;
+		final LinkedSegment next = SegmentRope.toSegment(SegmentRope.take(SegmentRope.drop(rope, index + 1), digits),
+				last ? end : null);
+		return splice(span[0], index + 1 + digits, previous.setSibling(index - 1 - span[0], next), last);
 	}
 
 	/*
@@ -569,8 +635,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		ArrayList<Integer> l = new ArrayList<>();
 		for (int i : index)
 			l.add(i);
-		head = delete(head, l);
-		return this;
+		return delete(this, l);
 	}
 
 	/*
@@ -586,8 +651,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * in this builder.
 	 */
 	public SegmentBuilder delete(List<Integer> pos) throws IndexOutOfBoundsException {
-		head = delete(head, pos);
-		return this;
+		return delete(this, pos);
 	}
 
 	/*
@@ -599,8 +663,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @return an empty builder
 	 */
 	public SegmentBuilder deleteAll() {
-		head = new Empty();
-		return this;
+		return reset(new Empty());
 	}
 
 	/*
@@ -618,7 +681,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @throws IndexOutOfBoundsException if the location specified by the positional indices does not exist
 	 * in this builder.
 	 */
-	private static LinkedSegment insert(LinkedSegment headToPermute, List<Integer> indexes, LinkedSegment newSegment)
+	private static SegmentBuilder insert(SegmentBuilder headToPermute, List<Integer> indexes, LinkedSegment newSegment)
 			throws IndexOutOfBoundsException {
 		int sibling = indexes.remove(0);
 		int descendant = -1;
@@ -632,7 +695,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 
 		if (indexes.isEmpty()) {
 			try {
-				return new SegmentBuilder(headToPermute).insert(sibling, newSegment).toSegment();
+				return headToPermute.insert(sibling, newSegment);
 			} catch (IndexOutOfBoundsException e) {
 				throw new IndexOutOfBoundsException("insertion index not found");
 			}
@@ -641,11 +704,9 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		if (descendant < 0)
 			throw new IndexOutOfBoundsException("Negative descedant index found");
 
-		return new SegmentBuilder(headToPermute)
-				.replace(sibling,
-						headToPermute.segmentAt(sibling).setChild(descendant, insert(
-								headToPermute.subsegment(sibling).getChildren()[descendant], indexes, newSegment)))
-				.toSegment();
+		final LinkedSegment s = headToPermute.segmentAt(sibling);
+		return headToPermute.replace(sibling, s.setChild(descendant,
+				insert(new SegmentBuilder(s.getChildren()[descendant]), indexes, newSegment).toSegment()));
 	}
 
 	/*
@@ -668,18 +729,73 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * in this builder.
 	 */
 	private SegmentBuilder insert(int index, LinkedSegment s) throws IndexOutOfBoundsException {
-		if (index == length()) {
-			head = head.concat(Objects.requireNonNull(s, "Cannot insert a null value"));
-		} else if (index == 0) {
-			head = Objects.requireNonNull(s, "Cannot insert a null value").concat(head);
-		} else if ((!isEmpty()) && index < head.length()) {
-			LinkedSegment segmentAtIndex = head.subsegment(index);
-			head = head.setSibling(index - 1,
-					Objects.requireNonNull(s, "Cannot insert a null value").concat(segmentAtIndex));
-		}
+		final int n = length();
+		if (index == n)
+			return concat(Objects.requireNonNull(s, "Cannot insert a null value"));
+		else if (index == 0 || (n > 0 && index < n))
+			return precede(index, Objects.requireNonNull(s, "Cannot insert a null value"));
 		return this;
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:56:40 ---------------------------------------------------
+	 */
+	/**
+	 * Appends the given value the way {@link LinkedSegment#concat(LinkedSegment)} would have appended it to the tree of this
+	 * builder. Only the last node of this builder is copied, so that repeated appends take constant time each regardless of
+	 * the length of this builder.
+	 * @param s the value to be appended.
+	 * @return {@code this} after the operation has been completed.
+	 */
+	private SegmentBuilder concat(LinkedSegment s) {
+		load();
+		final int n = length();
+		if (end != null)// an Empty is replaced by whatever is concatenated to it
+			return splice(n, n, Objects.requireNonNull(s), true);
+		final int[] span = new int[2];
+		final LinkedSegment last = rope.nodeAt(n - 1, span);
+		return splice(span[0], n, SegmentRope.link(last, span[1], null).concat(s), true);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:59:15 ---------------------------------------------------
+	 */
+	/**
+	 * Inserts the given value before the top-level node at the given position, the way
+	 * {@code toSegment().setSibling(index - 1, s.concat(toSegment().subsegment(index)))} would have. Only the node before the
+	 * insertion point and the run of digits after it (which the concatenation may retype) are copied.
+	 * @param index the position of the node that will follow {@code s}. If it is {@code 0}, {@code s} is prepended.
+	 * @param s the value to be inserted.
+	 * @return {@code this} after the operation has been completed.
+	 */
+	private SegmentBuilder precede(int index, LinkedSegment s) {
+		load();
+		final int n = length();
+		if (n == 0)
+			return reset(s.concat(toSegment()));
+		LinkedSegment tail = s;
+		while (tail.hasSibling())
+			tail = tail.getSibling();
+		final boolean plain = DigitRun.isDigit(tail) || tail instanceof Empty;
+		if (!plain && !(tail instanceof AbstractSegment)) {
+			final LinkedSegment h = toSegment();
+			return reset(index == 0 ? s.concat(h) : h.setSibling(index - 1, s.concat(h.subsegment(index))));
+		}
+		final int[] span = new int[2];
+		final LinkedSegment previous = index == 0 ? null : rope.nodeAt(index - 1, span);
+		if (plain && !DigitRun.isDigit(previous))// neither the concatenation nor the new sibling retypes anything
+			return splice(index, index, s, false);
+		final int digits = rope.digits(index);
+		final boolean last = index + digits == n;
+		if (digits > 0)
+			s = s.concat(SegmentRope.toSegment(SegmentRope.take(SegmentRope.drop(rope, index), digits),
+					last ? end : null));
+		return splice(previous == null ? 0 : span[0], index + digits,
+				previous == null ? s : previous.setSibling(index - 1 - span[0], s), last);
+	}
+
 	/*
 	 * Date: 16 Nov 2023 -----------------------------------------------------------
 	 * Time created: 19:57:01 ---------------------------------------------------
@@ -697,22 +813,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		ArrayList<Integer> l = new ArrayList<>();
 		for (int i : index)
 			l.add(i);
-		head = insert(head, l, Objects.requireNonNull(seg, "Cannot insert a null value"));
-//		System.out.println(Utility.toCSV(l));
-//		Integer[] il = new Integer[l.size()];
-//		il = l.toArray(il);
-//		try {
-//			head = insert(head, l, Objects.requireNonNull(seg, "Cannot insert a null value"));
-//		} catch (NullPointerException e) {
-//			IndexOutOfBoundsException iob = new IndexOutOfBoundsException(
-//					new StringBuilder(e.getMessage())
-//					.append(Utility.toCSV(Arrays.asList(il)))
-//					.toString()
-//			);
-//			iob.initCause(e);
-//			throw iob;
-//		}
-		return this;
+		return insert(this, l, Objects.requireNonNull(seg, "Cannot insert a null value"));
 	}
 
 	/*
@@ -729,8 +830,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * in this builder.
 	 */
 	public SegmentBuilder insert(List<Integer> pos, LinkedSegment newSegment) throws IndexOutOfBoundsException {
-		head = insert(head, pos, newSegment);
-		return this;
+		return insert(this, pos, newSegment);
 	}
 
 	/*
@@ -818,7 +918,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @throws IndexOutOfBoundsException if the location specified by the positional indices does not exist
 	 * in this builder.
 	 */
-	private static LinkedSegment replace(LinkedSegment headToPermute, List<Integer> indexes, LinkedSegment newSegment)
+	private static SegmentBuilder replace(SegmentBuilder headToPermute, List<Integer> indexes, LinkedSegment newSegment)
 			throws IndexOutOfBoundsException {
 		int sibling = indexes.remove(0);
 		int descendant = -1;
@@ -832,7 +932,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 
 		if (indexes.isEmpty()) {
 			try {
-				return new SegmentBuilder(headToPermute).replace(sibling, newSegment).toSegment();
+				return headToPermute.replace(sibling, newSegment);
 			} catch (IndexOutOfBoundsException e) {
 				throw new IndexOutOfBoundsException("insertion index not found");
 			}
@@ -841,11 +941,9 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		if (descendant < 0)
 			throw new IndexOutOfBoundsException("Negative descedant index found");
 
-		return new SegmentBuilder(headToPermute)
-				.replace(sibling,
-						headToPermute.segmentAt(sibling).setChild(descendant, replace(
-								headToPermute.subsegment(sibling).getChildren()[descendant], indexes, newSegment)))
-				.toSegment();
+		final LinkedSegment s = headToPermute.segmentAt(sibling);
+		return headToPermute.replace(sibling, s.setChild(descendant,
+				replace(new SegmentBuilder(s.getChildren()[descendant]), indexes, newSegment).toSegment()));
 	}
 
 	/*
@@ -888,8 +986,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 		ArrayList<Integer> l = new ArrayList<>();
 		for (int i : index)
 			l.add(i);
-		head = replace(head, l, Objects.requireNonNull(seg, "Cannot replace with a null value"));
-		return this;
+		return replace(this, l, Objects.requireNonNull(seg, "Cannot replace with a null value"));
 	}
 
 	/*
@@ -906,8 +1003,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * in this builder.
 	 */
 	public SegmentBuilder replace(List<Integer> pos, LinkedSegment newSegment) throws IndexOutOfBoundsException {
-		head = replace(head, pos, newSegment);
-		return this;
+		return replace(this, pos, newSegment);
 	}
 
 	/*
@@ -992,8 +1088,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @return this same builder object after the appendage has been completed.
 	 */
 	public SegmentBuilder append(LinkedSegment s) {
-		head = s.getType() != Segment.Type.EMPTY ? head.concat(Objects.requireNonNull(s, "Cannot append to null")) : head;
-		return this;
+		return s.getType() != Segment.Type.EMPTY ? concat(Objects.requireNonNull(s, "Cannot append to null")) : this;
 	}
 
 	/*
@@ -1032,8 +1127,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 * @return this same builder object after the operation has been completed.
 	 */
 	public SegmentBuilder prepend(LinkedSegment s) {
-		head = Objects.requireNonNull(s, "Cannot prepend to null").concat(head);
-		return this;
+		return precede(0, Objects.requireNonNull(s, "Cannot prepend to null"));
 	}
 
 	/*
@@ -1116,18 +1210,83 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 */
 	public SegmentBuilder reverse() {
 		if (!isEmpty()) {
-			int l = length();
-			int i = l - 1;
-			// Brute force algorithm
-			LinkedSegment s = segmentAt(i);
-			while (--i >= 0) {
-				s = s.concat(segmentAt(i));
-			}
-			return new SegmentBuilder(s);
+			int i = length() - 1;
+			SegmentBuilder b = new SegmentBuilder(segmentAt(i));
+			while (--i >= 0)
+				b.concat(segmentAt(i));
+			return b;
+		}
+		return this;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:03:27 ---------------------------------------------------
+	 */
+	/**
+	 * Loads the tree of this builder into a rope, if it has not been loaded, so that it can be edited without copying it.
+	 * @throws NullPointerException if this builder was created with a {@code null} value.
+	 */
+	private void load() throws NullPointerException {
+		if (rope == null && end == null) {
+			rope = SegmentRope.of(head);
+			end = rope == null ? head : rope.terminal();
 		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:04:51 ---------------------------------------------------
+	 */
+	/**
+	 * Replaces the tree of this builder with the argument.
+	 * @param s the new tree.
+	 * @return {@code this}.
+	 */
+	private SegmentBuilder reset(LinkedSegment s) {
+		head = s;
+		rope = null;
+		end = null;
 		return this;
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:06:12 ---------------------------------------------------
+	 */
+	/**
+	 * Replaces the top-level nodes within the given range with the given rope.
+	 * @param from the position of the first node to be replaced.
+	 * @param to the position after the last node to be replaced.
+	 * @param r the replacement. May be {@code null}.
+	 * @return {@code this}.
+	 */
+	private SegmentBuilder splice(int from, int to, SegmentRope r) {
+		rope = SegmentRope.join(SegmentRope.join(SegmentRope.take(rope, from), r), SegmentRope.drop(rope, to));
+		head = null;
+		return this;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 14:07:33 ---------------------------------------------------
+	 */
+	/**
+	 * Replaces the top-level nodes within the given range with the positions of the given tree.
+	 * @param from the position of the first node to be replaced.
+	 * @param to the position after the last node to be replaced.
+	 * @param s the replacement.
+	 * @param last {@code true} if {@code s} ends the tree of this builder, in which case the {@code Empty} that ends
+	 * {@code s} (if any) becomes the end of this builder, otherwise it is discarded.
+	 * @return {@code this}.
+	 */
+	private SegmentBuilder splice(int from, int to, LinkedSegment s, boolean last) {
+		final SegmentRope r = SegmentRope.of(s);
+		if (last)
+			end = r == null ? s : r.terminal();
+		return splice(from, to, r);
+	}
+
 	/**
 	 * Field for the head of segment being built by this builder.
 	 * This value can be retrieved by {@code SegmentBuilder.segmentAt(0)}.
@@ -1136,6 +1295,18 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 */
 	private LinkedSegment head;
 
+	/**
+	 * The top-level nodes of this builder, loaded from {@link #head} on the first edit. {@code null} if this builder has not
+	 * been edited or it has no node.
+	 */
+	private SegmentRope rope;
+
+	/**
+	 * The {@link Empty} after the last node of {@link #rope}, which is the only node of a builder without nodes.
+	 * {@code null} if this builder has not been edited or its tree does not end with an {@code Empty}.
+	 */
+	private LinkedSegment end;
+
 	/*
 	 * Date: 16 Nov 2023 -----------------------------------------------------------
 	 * Time created: 20:49:09 ---------------------------------------------------
@@ -1146,6 +1317,7 @@ public class SegmentBuilder implements Iterable<LinkedSegment> {
 	 */
 	@Override
 	public Iterator<LinkedSegment> iterator() {
+		final LinkedSegment head = toSegment();
 		return new Iterator<>() {
 			private LinkedSegment current;
 
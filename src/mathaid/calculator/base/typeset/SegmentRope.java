@@ -0,0 +1,470 @@
+/**
+ *
+ */
+package mathaid.calculator.base.typeset;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 13:02:44 ---------------------------------------------------
+ * Package: mathaid.calculator.base.typeset ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: SegmentRope.java ------------------------------------------------------
+ * Class name: SegmentRope ------------------------------------------------
+ */
+/**
+ * An immutable, height balanced tree of pieces of {@code LinkedSegment} trees used by {@link SegmentBuilder} to hold its
+ * top-level nodes. Each leaf refers to a run of consecutive positions of some existing tree (the first {@link #length()}
+ * positions from the leaf's node) so that joining, splitting and looking up a position costs {@code O(log n)} and never
+ * copies a node. The pieces are only linked into a single tree by {@link #toSegment(SegmentRope, LinkedSegment)}, which
+ * reuses every piece whose original successor is still its successor.
+ * <p>
+ * A rope never changes the type of a node. Joining two ropes is a plain link between the last position of the first and
+ * the first position of the second, so any conversion that {@link LinkedSegment#concat(LinkedSegment)} or
+ * {@link LinkedSegment#setSibling(int, LinkedSegment)} makes at a join must have been made to the pieces before they were
+ * joined.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class SegmentRope {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:05:10 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a leaf.
+	 *
+	 * @param node    the first node of this leaf.
+	 * @param count   the number of positions from {@code node} held by this leaf.
+	 * @param next    the node at position {@code count} from {@code node} or {@code null} if the tree ends there.
+	 * @param aligned {@code true} if position {@code count} from {@code node} is the start of a node.
+	 */
+	private SegmentRope(LinkedSegment node, int count, LinkedSegment next, boolean aligned) {
+		this.node = node;
+		this.next = next;
+		this.aligned = aligned;
+		left = right = null;
+		length = count;
+		depth = 0;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:06:37 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a branch.
+	 *
+	 * @param left  the positions before {@code right}.
+	 * @param right the positions after {@code left}.
+	 */
+	private SegmentRope(SegmentRope left, SegmentRope right) {
+		this.left = left;
+		this.right = right;
+		node = next = null;
+		aligned = false;
+		length = left.length + right.length;
+		depth = 1 + Math.max(left.depth, right.depth);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:08:02 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a rope of all the positions of the given tree, cut into leaves of about {@value #CHUNK} positions each.
+	 *
+	 * @param s the tree to be held. It is not copied.
+	 * @return a rope of all the positions of {@code s} or {@code null} if {@code s} has no position (it is an {@link Empty}).
+	 * @throws NullPointerException if {@code s} is {@code null}.
+	 */
+	static SegmentRope of(LinkedSegment s) throws NullPointerException {
+		List<SegmentRope> leaves = new ArrayList<>();
+		LinkedSegment start = s;
+		int count = 0;
+		while (s != null && !(s instanceof Empty)) {
+			if (count >= CHUNK) {
+				leaves.add(new SegmentRope(start, count, s, true));
+				start = s;
+				count = 0;
+			}
+			count += Traversal.width(s);
+			s = s.getSibling();
+		}
+		if (count > 0)
+			leaves.add(new SegmentRope(start, count, s, true));
+		else if (start == null)
+			throw new NullPointerException();
+		return leaves.isEmpty() ? null : build(leaves, 0, leaves.size());
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:10:29 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a rope of the first positions of the given node alone.
+	 *
+	 * @param n     the node.
+	 * @param count the number of positions of {@code n} to be held.
+	 * @return a single leaf.
+	 */
+	static SegmentRope node(LinkedSegment n, int count) {
+		return count == Traversal.width(n) ? new SegmentRope(n, count, n.getSibling(), true)
+				: new SegmentRope(n, count, null, false);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:11:54 ---------------------------------------------------
+	 */
+	/**
+	 * Builds a balanced rope from the given leaves.
+	 *
+	 * @param leaves the leaves in order.
+	 * @param from   the index of the first leaf.
+	 * @param to     the index after the last leaf.
+	 * @return a rope whose depth is the binary logarithm of the number of leaves.
+	 */
+	private static SegmentRope build(List<SegmentRope> leaves, int from, int to) {
+		if (to - from == 1)
+			return leaves.get(from);
+		final int mid = (from + to) >>> 1;
+		return new SegmentRope(build(leaves, from, mid), build(leaves, mid, to));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:13:40 ---------------------------------------------------
+	 */
+	/**
+	 * Joins both ropes so that the positions of {@code b} follow those of {@code a}.
+	 *
+	 * @param a the first rope. May be {@code null}.
+	 * @param b the last rope. May be {@code null}.
+	 * @return a balanced rope of the positions of {@code a} and {@code b}.
+	 */
+	static SegmentRope join(SegmentRope a, SegmentRope b) {
+		if (a == null)
+			return b;
+		if (b == null)
+			return a;
+		if (a.depth > b.depth + 1)
+			return balance(a.left, join(a.right, b));
+		if (b.depth > a.depth + 1)
+			return balance(join(a, b.left), b.right);
+		return new SegmentRope(a, b);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:15:21 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a branch from the arguments, rotating them if their depths differ by more than one.
+	 *
+	 * @param l the left rope.
+	 * @param r the right rope.
+	 * @return a balanced branch.
+	 */
+	private static SegmentRope balance(SegmentRope l, SegmentRope r) {
+		if (l.depth > r.depth + 1) {
+			if (l.left.depth >= l.right.depth)
+				return new SegmentRope(l.left, new SegmentRope(l.right, r));
+			return new SegmentRope(new SegmentRope(l.left, l.right.left), new SegmentRope(l.right.right, r));
+		} else if (r.depth > l.depth + 1) {
+			if (r.right.depth >= r.left.depth)
+				return new SegmentRope(new SegmentRope(l, r.left), r.right);
+			return new SegmentRope(new SegmentRope(l, r.left.left), new SegmentRope(r.left.right, r.right));
+		}
+		return new SegmentRope(l, r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:17:08 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the first positions of the given rope.
+	 *
+	 * @param r the rope. May be {@code null}.
+	 * @param i the number of positions to keep.
+	 * @return a rope of the positions of {@code r} before {@code i} or {@code null} if there is none.
+	 */
+	static SegmentRope take(SegmentRope r, int i) {
+		if (r == null || i <= 0)
+			return null;
+		if (i >= r.length)
+			return r;
+		if (r.left == null) {
+			final int[] start = new int[1];
+			LinkedSegment n = r.walk(i, start);
+			return start[0] == i ? new SegmentRope(r.node, i, n, true) : new SegmentRope(r.node, i, null, false);
+		}
+		if (i <= r.left.length)
+			return take(r.left, i);
+		return join(r.left, take(r.right, i - r.left.length));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:19:45 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the last positions of the given rope.
+	 *
+	 * @param r the rope. May be {@code null}.
+	 * @param i the number of positions to skip.
+	 * @return a rope of the positions of {@code r} from {@code i} or {@code null} if there is none.
+	 */
+	static SegmentRope drop(SegmentRope r, int i) {
+		if (r == null || i <= 0)
+			return r;
+		if (i >= r.length)
+			return null;
+		if (r.left == null) {
+			final int[] start = new int[1];
+			LinkedSegment n = r.walk(i, start);
+			return new SegmentRope(start[0] == i ? n : n.subsegment(i - start[0]), r.length - i, r.next, r.aligned);
+		}
+		if (i >= r.left.length)
+			return drop(r.right, i - r.left.length);
+		return join(drop(r.left, i), r.right);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:21:30 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the node of the tree held by this rope that holds the given position.
+	 *
+	 * @param i    the position.
+	 * @param span an array of length 2 in which the position of the first digit of the returned node is stored at index
+	 *             {@code 0} and the number of positions of the returned node that are held by this rope at index {@code 1}.
+	 * @return the node at the given position along with its original siblings.
+	 * @throws IndexOutOfBoundsException if {@code i} is negative or not less than {@link #length()}.
+	 */
+	LinkedSegment nodeAt(int i, int[] span) throws IndexOutOfBoundsException {
+		if (i < 0 || i >= length)
+			throw new IndexOutOfBoundsException(i);
+		SegmentRope r = this;
+		int offset = 0;
+		while (r.left != null) {
+			if (i - offset < r.left.length)
+				r = r.left;
+			else {
+				offset += r.left.length;
+				r = r.right;
+			}
+		}
+		LinkedSegment n = r.walk(i - offset, span);
+		span[1] = Math.min(Traversal.width(n), r.length - span[0]);
+		span[0] += offset;
+		return n;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:23:52 ---------------------------------------------------
+	 */
+	/**
+	 * Walks the nodes of this leaf to the one holding the given position.
+	 *
+	 * @param i     the position within this leaf.
+	 * @param start an array whose first element is set to the position of the first digit of the returned node.
+	 * @return the node holding position {@code i}.
+	 */
+	private LinkedSegment walk(int i, int[] start) {
+		LinkedSegment n = node;
+		int p = 0;
+		for (int w = Traversal.width(n); p + w <= i; w = Traversal.width(n)) {
+			p += w;
+			n = n.getSibling();
+		}
+		start[0] = p;
+		return n;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:25:16 ---------------------------------------------------
+	 */
+	/**
+	 * Counts the consecutive positions held by {@link Digit} or {@link DigitRun} nodes from the given position.
+	 *
+	 * @param from the first position to be checked.
+	 * @return the number of digit positions from {@code from} up to the first non-digit node or the end of this rope.
+	 */
+	int digits(int from) {
+		if (left != null) {
+			if (from >= left.length)
+				return right.digits(from - left.length);
+			final int d = left.digits(from);
+			return d < left.length - from ? d : d + right.digits(0);
+		}
+		if (from >= length)
+			return 0;
+		final int[] start = new int[1];
+		LinkedSegment n = walk(from, start);
+		int p = start[0];
+		while (p < length && DigitRun.isDigit(n)) {
+			p += Traversal.width(n);
+			n = n.getSibling();
+		}
+		return Math.min(p, length) - from;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:27:03 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the node after the last position of this rope. For a rope made by {@link #of(LinkedSegment)} this is the
+	 * {@link Empty} which ended the tree or {@code null} if the tree had none.
+	 *
+	 * @return the successor of the last leaf.
+	 */
+	LinkedSegment terminal() {
+		SegmentRope r = this;
+		while (r.right != null)
+			r = r.right;
+		return r.next;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:28:48 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of top-level positions held by this rope.
+	 *
+	 * @return the number of positions in this rope.
+	 */
+	int length() {
+		return length;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:30:11 ---------------------------------------------------
+	 */
+	/**
+	 * Links the pieces of the given rope into a single tree, from the last to the first, so that no more than one copy is
+	 * made of any node. A leaf whose successor in its original tree is the tree built so far is returned as it is, hence an
+	 * unchanged suffix is shared with the tree from which it was taken.
+	 *
+	 * @param r   the rope. May be {@code null}.
+	 * @param end the node that follows the last position of {@code r}, such as an {@link Empty}. May be {@code null}.
+	 * @return a tree of all the positions of {@code r} followed by {@code end}.
+	 */
+	static LinkedSegment toSegment(SegmentRope r, LinkedSegment end) {
+		final Deque<SegmentRope> stack = new ArrayDeque<>();
+		LinkedSegment s = end;
+		while (r != null || !stack.isEmpty()) {
+			if (r != null) {
+				if (r.left == null) {
+					s = r.link(s);
+					r = null;
+				} else {
+					stack.push(r.left);
+					r = r.right;
+				}
+			} else
+				r = stack.pop();
+		}
+		return s;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:32:35 ---------------------------------------------------
+	 */
+	/**
+	 * Links the positions of this leaf to the given sibling.
+	 *
+	 * @param sibling the tree that follows this leaf.
+	 * @return the positions of this leaf followed by {@code sibling}.
+	 */
+	private LinkedSegment link(LinkedSegment sibling) {
+		if (aligned && sibling == next)
+			return node;
+		final List<LinkedSegment> nodes = new ArrayList<>();
+		LinkedSegment n = node;
+		int p = 0;
+		while (p < length) {
+			nodes.add(n);
+			p += Traversal.width(n);
+			n = n.getSibling();
+		}
+		n = nodes.get(nodes.size() - 1);
+		sibling = link(n, length - (p - Traversal.width(n)), sibling);
+		for (int i = nodes.size() - 2; i >= 0; i--) {
+			n = nodes.get(i);
+			sibling = link(n, Traversal.width(n), sibling);
+		}
+		return sibling;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:34:19 ---------------------------------------------------
+	 */
+	/**
+	 * Copies the first positions of the given node alone with the given sibling without converting the sibling, unlike
+	 * {@link LinkedSegment#setSibling(int, LinkedSegment)} which may retype a following digit.
+	 *
+	 * @param n       the node to be copied.
+	 * @param count   the number of positions of {@code n} to be copied.
+	 * @param sibling the sibling of the copy. May be {@code null}.
+	 * @return a copy of {@code n} whose sibling is {@code sibling}.
+	 */
+	static LinkedSegment link(LinkedSegment n, int count, LinkedSegment sibling) {
+		if (n instanceof DigitRun)
+			return ((DigitRun) n).prefix(count, sibling);
+		else if (n instanceof Digit)
+			return sibling == null ? n.setSibling(0, null) : n.setSibling(0, null).concat(sibling);
+		return n.setSibling(0, sibling);
+	}
+
+	/**
+	 * The number of positions a leaf made by {@link #of(LinkedSegment)} holds before a new one is started.
+	 */
+	static final int CHUNK = 32;
+
+	/**
+	 * The first node of a leaf or {@code null} for a branch.
+	 */
+	private final LinkedSegment node;
+
+	/**
+	 * The node after the last position of a leaf in the leaf's tree. Only meaningful when {@link #aligned} is {@code true}.
+	 */
+	private final LinkedSegment next;
+
+	/**
+	 * {@code true} if the last position of a leaf is the last position of its node.
+	 */
+	private final boolean aligned;
+
+	/**
+	 * The children of a branch or {@code null} for a leaf.
+	 */
+	private final SegmentRope left, right;
+
+	/**
+	 * The number of positions held.
+	 */
+	private final int length;
+
+	/**
+	 * The number of branches from this rope to its deepest leaf.
+	 */
+	private final int depth;
+}
@@ -0,0 +1,89 @@
+/**
+ *
+ */
+package mathaid.calculator.base.typeset;
+
+import java.io.IOException;
+import java.util.List;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 12:04:37 ---------------------------------------------------
+ * Package: mathaid.calculator.base.typeset ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: StreamingMarker.java ------------------------------------------------------
+ * Class name: StreamingMarker ------------------------------------------------
+ */
+/**
+ * A {@code Marker} that writes its mark straight into the output rather than returning a new wrapped {@code String}. Every
+ * mark made by the markers in this package is a TeX command that wraps the math, so a mark is split into the part written
+ * before the math (by {@link #open(Segment, int, List, Appendable)}) and the part written after it (which {@code open}
+ * returns).
+ * <p>
+ * This lets a {@link BasicFormatter} stream a whole segment tree into one {@code Appendable} without building a string per
+ * marker per node.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public interface StreamingMarker extends Marker {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:06:10 ---------------------------------------------------
+	 */
+	/**
+	 * Writes the opening part of this mark, if any, to the given {@code Appendable} and returns the closing part to be written
+	 * after the math.
+	 *
+	 * @param segment  the {@code Segment} which is being formatted. May be {@code null}.
+	 * @param type     the type of the math. It can be {@link Segment#getType()} or any one of the constants in the
+	 *                 {@code Segment} class.
+	 * @param position a {@code List} that represents the position (or cursor) object that count the nodes and siblings of a
+	 *                 {@code Segment}. May be {@code null}.
+	 * @param a        the {@code Appendable} to which the opening part is written.
+	 * @return the closing part of the mark or {@code null} if this marker leaves the math as it is.
+	 * @throws IOException if {@code a} throws it.
+	 */
+	CharSequence open(Segment segment, int type, List<Integer> position, Appendable a) throws IOException;
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:09:52 ---------------------------------------------------
+	 */
+	/**
+	 * Checks whether this marker marks segments that have neither the focus nor an error. A formatter whose markers all return
+	 * {@code false} here can append the math of such segments as it is, without calling any marker.
+	 *
+	 * @return {@code true} by default.
+	 */
+	default boolean marksPlain() {
+		return true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:11:18 ---------------------------------------------------
+	 */
+	/**
+	 * Wraps the argument the same way {@link #open(Segment, int, List, Appendable)} would have wrapped it in a stream.
+	 *
+	 * @param segment  {@inheritDoc}
+	 * @param format   {@inheritDoc}
+	 * @param type     {@inheritDoc}
+	 * @param position {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	default String mark(Segment segment, String format, int type, List<Integer> position) {
+		StringBuilder sb = new StringBuilder();
+		try {
+			CharSequence close = open(segment, type, position, sb);
+			if (close == null)
+				return format;
+			sb.append(format).append(close);
+		} catch (IOException e) {
+		}
+		return sb.toString();
+	}
+}
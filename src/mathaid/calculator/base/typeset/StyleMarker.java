@@ -3,6 +3,7 @@
  */
 package mathaid.calculator.base.typeset;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -55,7 +56,7 @@ import java.util.Set;
  * @author Oruovo Anthony Etineakpopha
  * @email tonyoruovo@gmail.com
  */
-public class StyleMarker implements Marker {
+public class StyleMarker implements StreamingMarker {
 
 	/*
 	 * Date: 23 Nov 2023 -----------------------------------------------------------
@@ -420,9 +421,10 @@ public class StyleMarker implements Marker {
 	 * Called by {@link #mark(Segment, String, int, List)} to apply all the
 	 * {@code styles} to the the {@code math} format.
 	 * <p>
-	 * It invokes {@link #useFontStyles(String, long)} to initially apply font
-	 * effect styling, then calls {@link #useRGBA(String, long)} to apply colour
-	 * styling before returning the results. Note that {@link FontStyle#NORMAL}
+	 * It invokes {@link #useFontStyles(StringBuilder, StringBuilder, long)} to
+	 * initially apply font effect styling, then calls
+	 * {@link #useRGBA(StringBuilder, StringBuilder, long)} to apply colour styling
+	 * before returning the results. Note that {@link FontStyle#NORMAL}
 	 * applies not font font effects.
 	 * 
 	 * @param math   the math to be styled
@@ -430,8 +432,35 @@ public class StyleMarker implements Marker {
 	 * @return {@code math} after applying the styles to it.
 	 */
 	private String style(String math, long styles) {
-		return useRGBA(useFontStyles(math, styles & fontStylesBitMask()),
-				(styles & colourBitMask()) >>> numOfFontStyles());
+		String[] w = wrap(styles);
+		return w[0] + math + w[1];
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:36:18 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the TeX that {@link #style(String, long)} writes before and after the
+	 * math for the given style bits. The result is computed once per distinct
+	 * style bits and reused afterwards, so that styling a long tree does not build
+	 * the colour code and font commands again for every node.
+	 * 
+	 * @param styles the style bits to apply.
+	 * @return an array whose first element is the TeX before the math and whose
+	 *         second element is the TeX after it.
+	 */
+	private String[] wrap(long styles) {
+		String[] w = wraps.get(styles);
+		if (w == null) {
+			StringBuilder open = new StringBuilder();
+			StringBuilder close = new StringBuilder();
+			useFontStyles(open, close, styles & fontStylesBitMask());
+			useRGBA(open, close, (styles & colourBitMask()) >>> numOfFontStyles());
+			w = new String[] { open.toString(), close.toString() };
+			wraps.put(styles, w);
+		}
+		return w;
 	}
 
 	/*
@@ -439,7 +468,7 @@ public class StyleMarker implements Marker {
 	 * Time created: 08:34:51 ---------------------------------------------------
 	 */
 	/**
-	 * Styles the given {@code math} using the provided font effect bits.
+	 * Wraps the TeX before and after the math with the provided font effect bits.
 	 * <p>
 	 * The specified font style argument is searched to find the effect settings by
 	 * circling through the bit indexes. When an index is in view, it is extracted
@@ -452,21 +481,20 @@ public class StyleMarker implements Marker {
 	 * {@link FontStyle#STRIKE_THROUGH} effect does not take any argument as it is
 	 * not 'canceling towards' any math.
 	 * 
-	 * @param math       the math to be styled
+	 * @param open       the TeX before the math. Each effect is inserted at the
+	 *                   front.
+	 * @param close      the TeX after the math. Each effect is appended at the
+	 *                   end.
 	 * @param fontStyles the font effect part of the total style bits.
-	 * @return {@code math} after styling is done, except when no style is
-	 *         specified, then it is returned 'as is'.
 	 */
-	private String useFontStyles(String math, long fontStyles) {
+	private void useFontStyles(StringBuilder open, StringBuilder close, long fontStyles) {
 		for (int i = 1; i < fontStylesBitMask(); i <<= 1) {
 			FontStyle fs = this.fs.getOrDefault(fontStyles & i, FontStyle.NORMAL);
-			if (!fs.getCommand().isEmpty())
-				if (fs == FontStyle.STRIKE_THROUGH)
-					math = String.format("%1$s{%2$s}{}", fs.getCommand(), math);
-				else
-					math = String.format("%1$s{%2$s}", fs.getCommand(), math);
+			if (!fs.getCommand().isEmpty()) {
+				open.insert(0, '{').insert(0, fs.getCommand());
+				close.append(fs == FontStyle.STRIKE_THROUGH ? "}{}" : "}");
+			}
 		}
-		return math;
 	}
 
 	/*
@@ -474,7 +502,7 @@ public class StyleMarker implements Marker {
 	 * Time created: 08:50:41 ---------------------------------------------------
 	 */
 	/**
-	 * Applies colour styling to the {@code math} argument.
+	 * Wraps the TeX before and after the math with colour styling.
 	 * <p>
 	 * The colour applied uses HTML's hex colour codes (such as {@code #ff0000ff}
 	 * for opaque red) and the codes themselves are always in the format
@@ -491,12 +519,13 @@ public class StyleMarker implements Marker {
 	 * Where {@code #XXXXXXXX} is the hex color code and {@code math} is the math to
 	 * be styled.
 	 * 
-	 * @param math the math to be styled.
-	 * @param rgba the colour data part of the total style bits.
-	 * @return {@code math} after coloring has been applied to it.
+	 * @param open  the TeX before the math. The colour is inserted at the front.
+	 * @param close the TeX after the math. The colour is closed at the end.
+	 * @param rgba  the colour data part of the total style bits.
 	 */
-	private String useRGBA(String math, long rgba) {
-		return String.format("\\style{color:%1$s;}{%2$s}", new IntegerColour((int) rgba).toString(), math);
+	private void useRGBA(StringBuilder open, StringBuilder close, long rgba) {
+		open.insert(0, String.format("\\style{color:%1$s;}{", new IntegerColour((int) rgba).toString()));
+		close.append('}');
 	}
 
 	/*
@@ -825,6 +854,28 @@ public class StyleMarker implements Marker {
 //		}
 	}
 
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:40:07 ---------------------------------------------------
+	 */
+	/**
+	 * Writes the colour data and font style (or defaults) that was registered to
+	 * {@code t} before the math, and returns what closes them.
+	 * 
+	 * @param s        can be <code>null</code>.
+	 * @param t        the {@code Segment} type that specifies the styling to be done.
+	 * @param position can be <code>null</code>.
+	 * @param a        the {@code Appendable} to which the opening is written.
+	 * @return the TeX to be written after the math.
+	 * @throws IOException if {@code a} throws it.
+	 */
+	@Override
+	public CharSequence open(Segment s, int t, List<Integer> position, Appendable a) throws IOException {
+		String[] w = wrap(getStyles(t));
+		a.append(w[0]);
+		return w[1];
+	}
+
 	/*
 	 * Date: 24 Nov 2023 -----------------------------------------------------------
 	 * Time created: 10:42:57 ---------------------------------------------------
@@ -855,4 +906,9 @@ public class StyleMarker implements Marker {
 	 * The set of supported {@code FonstStyle}.
 	 */
 	private final Map<Long, FontStyle> fs;
+
+	/**
+	 * The TeX written before and after the math, keyed by the style bits.
+	 */
+	private final Map<Long, String[]> wraps = new HashMap<>();
 }
\ No newline at end of file
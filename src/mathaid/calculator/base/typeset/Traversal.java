@@ -0,0 +1,155 @@
+/**
+ *
+ */
+package mathaid.calculator.base.typeset;
+
+import java.util.List;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 11:02:14 ---------------------------------------------------
+ * Package: mathaid.calculator.base.typeset ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: Traversal.java ------------------------------------------------------
+ * Class name: Traversal ------------------------------------------------
+ */
+/**
+ * Walks the siblings of a {@code LinkedSegment} tree with an explicit loop rather than one stack frame per node, so that
+ * long trees (such as large constants, big matrices or long rewrites) can be measured, sliced and rendered at a constant
+ * stack depth. Only the nesting of child nodes still uses the call stack.
+ * <p>
+ * Nodes that extend {@link AbstractSegment} render themselves one at a time through
+ * {@link AbstractSegment#formatNode(Appendable, Formatter, List)} and
+ * {@link AbstractSegment#toStringNode(Appendable, Log, List)}, each of which returns the next node to visit. Any other
+ * node is asked to render itself along with the rest of the tree.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class Traversal {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:03:40 ---------------------------------------------------
+	 */
+	/**
+	 * Privately constructed to prevent instantiation.
+	 */
+	private Traversal() {
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:04:22 ---------------------------------------------------
+	 */
+	/**
+	 * Formats the given node and all of its siblings in a single pass over the tree.
+	 *
+	 * @param s the first node to be formatted. May be {@code null}, in which case nothing is formatted.
+	 * @param a the {@code Appendable} which will build the LaTeX render string.
+	 * @param f give additional styling to the resulting LaTeX code.
+	 * @param p the position of the node before {@code s}.
+	 * @throws IndexOutOfBoundsException if the {@code List} argument is presented in such a way that may cause the traversal
+	 *                                   to reference a {@code null} node.
+	 */
+	static void format(LinkedSegment s, Appendable a, Formatter f, List<Integer> p) throws IndexOutOfBoundsException {
+		while (s != null) {
+			if (!(s instanceof AbstractSegment)) {
+				s.format(a, f, p);
+				return;
+			}
+			s = ((AbstractSegment) s).formatNode(a, f, p);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:06:09 ---------------------------------------------------
+	 */
+	/**
+	 * Appends the value of the given node and all of its siblings in a single pass over the tree.
+	 *
+	 * @param s the first node to be appended. May be {@code null}, in which case nothing is appended.
+	 * @param a the {@code Appendable} to which the value is appended.
+	 * @param l records any info, warning or error that occurs.
+	 * @param p the position of the node before {@code s}.
+	 * @throws IndexOutOfBoundsException if the {@code List} argument is presented in such a way that may cause the traversal
+	 *                                   to reference a {@code null} node.
+	 */
+	static void toString(LinkedSegment s, Appendable a, Log l, List<Integer> p) throws IndexOutOfBoundsException {
+		while (s != null) {
+			if (!(s instanceof AbstractSegment)) {
+				s.toString(a, l, p);
+				return;
+			}
+			s = ((AbstractSegment) s).toStringNode(a, l, p);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:08:47 ---------------------------------------------------
+	 */
+	/**
+	 * Counts the positions from the given node to the end of the tree, one per node, until it reaches a node that already knows
+	 * its own length (an {@link AbstractSegment}, which caches it, or an {@link Empty}).
+	 *
+	 * @param s the first node to be counted.
+	 * @return the number of top-level positions in the tree from {@code s}.
+	 */
+	static int length(LinkedSegment s) {
+		int n = 1;
+		for (s = s.getSibling(); s != null; s = s.getSibling()) {
+			if (s instanceof AbstractSegment || s instanceof Empty)
+				return n + s.length();
+			n++;
+		}
+		return n;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:11:30 ---------------------------------------------------
+	 */
+	/**
+	 * Walks the siblings of the given node to the one at the given position and returns it along with its siblings. When the
+	 * position falls inside a node that holds more than one position (such as a {@link DigitRun}), that node is asked for the
+	 * rest of the tree.
+	 *
+	 * @param s    the first node of the tree.
+	 * @param from the position of the first node of the returned tree.
+	 * @return the tree starting at {@code from}.
+	 * @throws IndexOutOfBoundsException if no node exists at the given position.
+	 */
+	static LinkedSegment subsegment(LinkedSegment s, int from) throws IndexOutOfBoundsException {
+		int i = from;
+		while (i > 0) {
+			final int w = width(s);
+			if (i < w)
+				return s.subsegment(i);
+			if (!s.hasSibling())
+				break;
+			i -= w;
+			s = s.getSibling();
+		}
+		if (i == 0)
+			return s;
+		throw new IndexOutOfBoundsException(from);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:14:02 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of top-level positions held by the given node alone, excluding its siblings.
+	 *
+	 * @param s the node to be measured.
+	 * @return {@code 1} for every node except the ones that cache a length covering several positions.
+	 */
+	static int width(LinkedSegment s) {
+		if (s instanceof AbstractSegment)
+			return s.length() - (s.hasSibling() ? s.getSibling().length() : 0);
+		return 1;
+	}
+}
@@ -0,0 +1,297 @@
+/**
+ *
+ */
+package mathaid.calculator.base.util;
+
+import static mathaid.Device.getProjectPath;
+import static mathaid.calculator.base.util.Utility.mc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 15:31:48 ---------------------------------------------------
+ * Package: mathaid.calculator.base.util ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: ConstantTable.java ------------------------------------------------------
+ * Class name: ConstantTable ------------------------------------------------
+ */
+/**
+ * A shared store of the values of mathematical constants (such as the ones computed in {@link Constants}), each kept at the
+ * highest precision that has been requested for it so far.
+ * <p>
+ * A constant is computed only when a precision greater than the one in store is requested, and then with a few guard digits
+ * so that a lower precision is served by rounding the stored value rather than by computing it again. At most one thread
+ * computes a given constant at any time; every other thread that needs it waits for that computation and uses its result.
+ * <p>
+ * The stored value is itself rounded, so rounding it again can give a different last digit than computing the constant to
+ * the lower precision when its digits beyond that precision are within one unit of a tie. Such a request is computed at its
+ * own precision on the calling thread and is not stored.
+ * <p>
+ * When the system property {@value #PERSIST_PROPERTY} is {@code true}, each computed value is also written to the directory
+ * named by {@link #DIRECTORY_PROPERTY}, and read back the first time the constant is requested, so that the digits are not
+ * computed again after a restart.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public final class ConstantTable {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:34:02 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.util ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: ConstantTable.java ------------------------------------------------------
+	 * Class name: Value ------------------------------------------------
+	 */
+	/**
+	 * An immutable value of a constant along with the precision it was computed to.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static final class Value {
+		/**
+		 * Constructs a {@code Value}.
+		 *
+		 * @param value     the value of the constant.
+		 * @param precision the number of significant digits {@code value} was computed to.
+		 */
+		Value(BigDecimal value, int precision) {
+			this.value = value;
+			this.precision = precision;
+		}
+
+		/**
+		 * The value of the constant.
+		 */
+		final BigDecimal value;
+		/**
+		 * The number of significant digits {@link #value} was computed to.
+		 */
+		final int precision;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:35:26 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.util ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: ConstantTable.java ------------------------------------------------------
+	 * Class name: Entry ------------------------------------------------
+	 */
+	/**
+	 * The state of a single constant. A thread computing the constant holds the lock of its entry.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static final class Entry {
+		/**
+		 * The value with the highest precision computed so far or {@code null} if none has been computed or loaded.
+		 */
+		volatile Value value;
+		/**
+		 * Set once the copy on disk (if any) has been read.
+		 */
+		boolean loaded;
+	}
+
+	/**
+	 * The system property which, when {@code true}, makes every computed constant to be written to disk and read back when it
+	 * is first requested.
+	 */
+	public static final String PERSIST_PROPERTY = "mathaid.constants.persist";
+	/**
+	 * The system property naming the directory in which the computed constants are kept. When absent, a directory named
+	 * {@code constants} in the project's {@code res} directory (alongside the digits of Khinchin's constant) is used.
+	 */
+	public static final String DIRECTORY_PROPERTY = "mathaid.constants.dir";
+	/**
+	 * The number of digits computed beyond the precision requested, so that the stored value can be rounded to a lower precision
+	 * instead of being computed again. See {@link #round(Value, int, IntFunction)} for when it is computed again anyway.
+	 */
+	private static final int GUARD = 5;
+	/**
+	 * Every constant that has been requested, by name.
+	 */
+	private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:37:40 ---------------------------------------------------
+	 */
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private ConstantTable() {
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:38:11 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the value of the constant with the given name to the given precision, computing it with the given function only if
+	 * it has not yet been computed to at least that precision.
+	 *
+	 * @param name      the name of the constant. It identifies the constant in memory and on disk, so every call for the same
+	 *                  constant must use the same name and function.
+	 * @param precision the number of significant digits of the result.
+	 * @param f         computes the constant to the number of significant digits given to it.
+	 * @return the constant rounded to {@code precision} significant digits.
+	 * @throws IllegalArgumentException if {@code precision} is not positive.
+	 */
+	public static BigDecimal get(String name, int precision, IntFunction<BigDecimal> f) throws IllegalArgumentException {
+		if (precision <= 0)
+			throw new IllegalArgumentException("Precision must be positive: " + precision);
+		final Entry e = ENTRIES.computeIfAbsent(name, n -> new Entry());
+		Value v = e.value;
+		if (v == null || v.precision < precision)
+			synchronized (e) {
+				if (!e.loaded) {
+					e.loaded = true;
+					final Value stored = load(name);
+					if (stored != null && (e.value == null || e.value.precision < stored.precision))
+						e.value = stored;
+				}
+				v = e.value;
+				if (v == null || v.precision < precision) {
+					final int p = precision + GUARD;
+					v = new Value(f.apply(p), p);
+					e.value = v;
+					store(name, v);
+				}
+			}
+		return round(v, precision, f);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:41:20 ---------------------------------------------------
+	 */
+	/**
+	 * Rounds the stored value to the given precision. The stored value is itself rounded, so if its digits beyond the given
+	 * precision are within one unit (in its last place) of half a unit in the last place of the result, rounding it again may
+	 * give a different last digit than rounding the exact value. In that case the constant is computed to the given precision
+	 * instead, and the result is not stored.
+	 *
+	 * @param v         the stored value.
+	 * @param precision the number of significant digits of the result, which is not greater than {@code v.precision}.
+	 * @param f         computes the constant to the number of significant digits given to it.
+	 * @return the constant rounded to {@code precision} significant digits.
+	 */
+	private static BigDecimal round(Value v, int precision, IntFunction<BigDecimal> f) {
+		if (v.precision == precision)
+			return v.value;
+		final int k = v.value.precision() - precision;
+		if (k > 0) {
+			final BigInteger unit = BigInteger.TEN.pow(k);
+			final BigInteger tail = v.value.unscaledValue().abs().mod(unit);
+			if (tail.subtract(unit.shiftRight(1)).abs().compareTo(BigInteger.ONE) <= 0)
+				return f.apply(precision).round(mc(precision));
+		}
+		return v.value.round(mc(precision));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:41:57 ---------------------------------------------------
+	 */
+	/**
+	 * Discards every constant held in memory. The constants on disk are kept.
+	 */
+	public static void clear() {
+		ENTRIES.clear();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:42:30 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the file in which the constant with the given name is kept.
+	 *
+	 * @param name the name of the constant.
+	 * @return the path of the file or {@code null} if constants are not written to disk.
+	 */
+	private static Path file(String name) {
+		if (!Boolean.getBoolean(PERSIST_PROPERTY))
+			return null;
+		final String dir = System.getProperty(DIRECTORY_PROPERTY);
+		final Path p = dir != null ? Paths.get(dir) : Paths.get(getProjectPath(), "res", "constants");
+		return p.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".properties");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:43:14 ---------------------------------------------------
+	 */
+	/**
+	 * Writes the given value to disk, replacing the previous one. The value is written to a temporary file which is then moved
+	 * in place, so a reader never sees a partially written value. A failure is printed but not thrown, since the value is still
+	 * in memory.
+	 *
+	 * @param name  the name of the constant.
+	 * @param value the value to be written.
+	 */
+	private static void store(String name, Value value) {
+		final Path f = file(name);
+		if (f == null)
+			return;
+		final Properties p = new Properties();
+		p.setProperty("precision", Integer.toString(value.precision));
+		p.setProperty("value", value.value.toString());
+		try {
+			Files.createDirectories(f.getParent());
+			final Path tmp = Files.createTempFile(f.getParent(), f.getFileName().toString(), ".tmp");
+			try (OutputStream out = Files.newOutputStream(tmp)) {
+				p.store(out, name);
+			}
+			try {
+				Files.move(tmp, f, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (IOException e) {
+				Files.move(tmp, f, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException | SecurityException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 15:44:05 ---------------------------------------------------
+	 */
+	/**
+	 * Reads the constant with the given name from disk.
+	 *
+	 * @param name the name of the constant.
+	 * @return the value as it was when it was written or {@code null} if there is no such value or it could not be read.
+	 */
+	private static Value load(String name) {
+		final Path f = file(name);
+		if (f == null || !Files.isRegularFile(f))
+			return null;
+		final Properties p = new Properties();
+		try (InputStream in = Files.newInputStream(f)) {
+			p.load(in);
+			final String value = p.getProperty("value");
+			return value == null ? null : new Value(new BigDecimal(value), Integer.parseInt(p.getProperty("precision", "0")));
+		} catch (IOException | NumberFormatException | SecurityException e) {
+			return null;
+		}
+	}
+}
@@ -3,14 +3,9 @@
  */
 package mathaid.calculator.base.util;
 
-import static java.util.Arrays.copyOfRange;
-import static mathaid.Device.getProjectPath;
 import static mathaid.calculator.base.util.Utility.*;
 import static mathaid.calculator.base.util.Arith.*;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
@@ -96,27 +91,6 @@ public class Constants {
 	 */
 	public static final BigDecimal HALF = new BigDecimal("0.5");
 
-	/**
-	 * Holds the euler-macheroni constant
-	 */
-	static BigDecimal em = null;
-	/**
-	 * Holds the Khinchin constant
-	 */
-	static BigDecimal kh = null;
-	/**
-	 * Holds the Mill's constant
-	 */
-	static BigDecimal mil = null;
-	/**
-	 * Holds the Catalan's constant
-	 */
-	static BigDecimal cat = null;
-	/**
-	 * Holds the Omega's constant
-	 */
-	static BigDecimal om = null;
-
 	/**
 	 * The real number that is closest to the definition of pi (Archimedes constant for the ratio of a circumference of a circle to
 	 * it's diameter) than any other number in mathaid. This definition has up to 2,000 digits in its mantissa.
@@ -631,12 +605,16 @@ public class Constants {
 	 * @param precision the max number of significant digits in the result.
 	 * @return e to the given precision.
 	 * @see Math#E
+	 * @implNote The digits are kept in the {@link ConstantTable}, so they are only computed when a greater precision than
+	 *           any before is requested.
 	 */
 	public static BigDecimal e(int precision) {
 //		precision = precision <= MathContext.DECIMAL64.getPrecision() ? MathContext.DECIMAL64.getPrecision()
 //				: precision;
-		Apfloat n = ApfloatMath.exp(new Apfloat(BigDecimal.ONE, precision));
-		return new BigDecimal(n.toString());
+		return ConstantTable.get("e", precision, p -> {
+			Apfloat n = ApfloatMath.exp(new Apfloat(BigDecimal.ONE, p));
+			return new BigDecimal(n.toString());
+		});
 //		MathContext p = precision <= MathContext.DECIMAL64.getPrecision() ? MathContext.DECIMAL64
 //				: mc(precision);
 //		Apfloat n = ApfloatMath.exp(new Apfloat(BigDecimal.ONE, p.getPrecision()));
@@ -653,12 +631,13 @@ public class Constants {
 	 * @param precision the max number of significant digits in the result.
 	 * @return pi to the given precision.
 	 * @see Math#PI
+	 * @implNote The digits are kept in the {@link ConstantTable}, so they are only computed when a greater precision than
+	 *           any before is requested.
 	 */
 	public static BigDecimal pi(int precision) {
 //		precision = precision <= MathContext.DECIMAL64.getPrecision() ? MathContext.DECIMAL64.getPrecision()
 //				: precision;
-		Apfloat n = ApfloatMath.pi(precision);
-		return new BigDecimal(n.toString());
+		return ConstantTable.get("pi", precision, p -> new BigDecimal(ApfloatMath.pi(p).toString()));
 //		MathContext p = precision <= MathContext.DECIMAL64.getPrecision() ? MathContext.DECIMAL64
 //				: mc(precision);
 //		Apfloat n = ApfloatMath.pi(p.getPrecision());
@@ -725,28 +704,11 @@ public class Constants {
 	 * 
 	 * @param precision the number of digits in the significand to be returned.
 	 * @return the mathematical constant &#x03B3; to the given precision.
-	 * @implNote Can return a significand with up to 20 million digits. This reads from a pre-constructed table. The initial call
-	 *           will be buffered so that consecutive calls will be in constant time.
+	 * @implNote Can return a significand with up to 20 million digits. This reads from a pre-constructed table, which is
+	 *           memory-mapped by a {@link DigitStore} on the first call. Each call only reads the digits it needs.
 	 */
 	public static BigDecimal em(int precision) {
-		if (em == null || Utility.numOfFractionalDigits(em) < precision) {
-			InputStream i;
-			precision += 2;
-			byte[] b = new byte[precision + 2];
-			int l = -1;
-			try {
-				i = new FileInputStream(getProjectPath() + "/res/em.txt");
-				b[0] = (byte) '0';
-				b[1] = (byte) '.';
-				l = i.read(b, 2, precision);
-				em = new BigDecimal(new String(b));
-			} catch (IOException e1) {
-				em = d("0.915965594177219", mc(precision));
-			} catch (NumberFormatException e1) {
-				em = new BigDecimal(new String(copyOfRange(b, 0, l)));
-			}
-		}
-		return em.round(mc(precision));
+		return fromTable("em", "0", "0.57721566490153286060651209008240243104215933593992", precision);
 	}
 
 	/*
@@ -865,28 +827,11 @@ public class Constants {
 	 * 
 	 * @param precision the number of digits in the significand to be returned.
 	 * @return Khinchin's constant to the given significant digits.
-	 * @implNote Can only return a significand with 110,000 digits. This reads from a pre-constructed table. The initial call will
-	 *           be buffered so that consecutive calls will be in constant time.
+	 * @implNote Can only return a significand with 110,000 digits. This reads from a pre-constructed table, which is
+	 *           memory-mapped by a {@link DigitStore} on the first call. Each call only reads the digits it needs.
 	 */
 	public static BigDecimal khinchin(int precision) {
-		if (kh == null || Utility.numOfFractionalDigits(kh) < precision) {
-			InputStream i;
-			precision += 2;
-			byte[] b = new byte[precision + 2];
-			int l = -1;
-			try {
-				i = new FileInputStream(getProjectPath() + "/res/kh.txt");
-				b[0] = (byte) '2';
-				b[1] = (byte) '.';
-				l = i.read(b, 2, precision);
-				kh = new BigDecimal(new String(b));
-			} catch (IOException e1) {
-				kh = d("2.685452001065306", mc(precision));
-			} catch (NumberFormatException e1) {
-				kh = new BigDecimal(new String(copyOfRange(b, 0, l)));
-			}
-		}
-		return kh.round(mc(precision));
+		return fromTable("kh", "2", "2.685452001065306", precision);
 	}
 
 	/*
@@ -973,24 +918,7 @@ public class Constants {
 	 * @return Mill's constant to the given significant digits.
 	 */
 	public static BigDecimal mills(int precision) {
-		if (mil == null || Utility.numOfFractionalDigits(mil) < precision) {
-			InputStream i;
-			precision += 2;
-			byte[] b = new byte[precision + 2];
-			int l = -1;
-			try {
-				i = new FileInputStream(getProjectPath() + "/res/mil.txt");
-				b[0] = (byte) '1';
-				b[1] = (byte) '.';
-				l = i.read(b, 2, precision);
-				mil = new BigDecimal(new String(b));
-			} catch (IOException e1) {
-				mil = d("1.30637788386308069046861449260260571", mc(precision));
-			} catch (NumberFormatException e1) {
-				mil = new BigDecimal(new String(copyOfRange(b, 0, l)));
-			}
-		}
-		return mil.round(mc(precision));
+		return fromTable("mil", "1", "1.30637788386308069046861449260260571", precision);
 	}
 
 	/*
@@ -1020,24 +948,7 @@ public class Constants {
 	 * @return Catalan's constant to the given significant digits.
 	 */
 	public static BigDecimal catalan(int precision) {
-		if (cat == null || Utility.numOfFractionalDigits(cat) < precision) {
-			InputStream i;
-			precision += 2;
-			byte[] b = new byte[precision + 2];
-			int l = -1;
-			try {
-				i = new FileInputStream(getProjectPath() + "/res/cat.txt");
-				b[0] = (byte) '0';
-				b[1] = (byte) '.';
-				l = i.read(b, 2, precision);
-				cat = new BigDecimal(new String(b));
-			} catch (IOException e1) {
-				cat = d("0.91596559417721901505460351493238411", mc(precision));
-			} catch (NumberFormatException e1) {
-				cat = new BigDecimal(new String(copyOfRange(b, 0, l)));
-			}
-		}
-		return cat.round(mc(precision));
+		return fromTable("cat", "0", "0.91596559417721901505460351493238411", precision);
 	}
 	
 	/*
@@ -1078,28 +989,29 @@ public class Constants {
 	 * 
 	 * @param precision the number of digits in the significand to be returned.
 	 * @return the Omega constant to the given significant digits.
-	 * @implNote Can return a significand with up to 1 million digits. This reads from a pre-constructed table. The initial call
-	 *           will be buffered so that consecutive calls will be in constant time.
+	 * @implNote Can return a significand with up to 1 million digits. This reads from a pre-constructed table, which is
+	 *           memory-mapped by a {@link DigitStore} on the first call. Each call only reads the digits it needs.
 	 */
 	public static BigDecimal omega(int precision) {
-		if (om == null || Utility.numOfFractionalDigits(om) < precision) {
-			InputStream i;
-			precision += 2;
-			byte[] b = new byte[precision + 2];
-			int l = -1;
-			try {
-				i = new FileInputStream(getProjectPath() + "/res/om.txt");
-				b[0] = (byte) '0';
-				b[1] = (byte) '.';
-				l = i.read(b, 2, precision);
-				om = new BigDecimal(new String(b));
-			} catch (IOException e1) {
-				om = d("0.56714329040978387299", mc(precision));
-			} catch (NumberFormatException e1) {
-				om = new BigDecimal(new String(copyOfRange(b, 0, l)));
-			}
-		}
-		return om.round(mc(precision));
+		return fromTable("om", "0", "0.56714329040978387299", precision);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:51:37 ---------------------------------------------------
+	 */
+	/**
+	 * Reads a constant from its pre-constructed table in the {@code res} directory.
+	 * 
+	 * @param name      the name of the table, such as {@code "kh"}.
+	 * @param integer   the digits of the integer part of the constant.
+	 * @param fallback  the value of the constant to a few digits, used when the table cannot be read.
+	 * @param precision the number of digits in the significand to be returned.
+	 * @return the constant to the given significant digits.
+	 */
+	private static BigDecimal fromTable(String name, String integer, String fallback, int precision) {
+		final DigitStore s = DigitStore.of(name, integer);
+		return s != null && s.length() > 0 ? s.value(precision) : d(fallback, mc(precision));
 	}
 
 	/*
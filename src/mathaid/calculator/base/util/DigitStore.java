@@ -0,0 +1,374 @@
+/**
+ *
+ */
+package mathaid.calculator.base.util;
+
+import static mathaid.Device.getProjectPath;
+import static mathaid.calculator.base.util.Utility.mc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 16:20:45 ---------------------------------------------------
+ * Package: mathaid.calculator.base.util ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: DigitStore.java ------------------------------------------------------
+ * Class name: DigitStore ------------------------------------------------
+ */
+/**
+ * A read-only, memory-mapped table of the fractional digits of a constant, such as the ones in the project's {@code res}
+ * directory.
+ * <p>
+ * A table is mapped once and never copied: {@link #digits(int, int)} returns a view of the mapped digits and
+ * {@link #value(int)} reads only the digits needed for the requested precision. The mapped buffer is only ever read with
+ * absolute indexes, so any number of threads may read a table at the same time without locking.
+ * <p>
+ * Two formats are read. A text table holds one ASCII digit per byte (any trailing whitespace is ignored). A packed table
+ * starts with the 4 bytes {@code BCD1} and the number of digits as a 4-byte big-endian {@code int}, followed by the digits
+ * packed two per byte (high nibble first), which is half the size of the text table. {@link #pack(Path, Path)} converts the
+ * former to the latter.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public final class DigitStore {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:24:10 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.util ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: DigitStore.java ------------------------------------------------------
+	 * Class name: View ------------------------------------------------
+	 */
+	/**
+	 * A range of the digits of a {@code DigitStore} which reads them from the mapped table as they are requested.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private final class View implements CharSequence {
+		/**
+		 * Constructs a {@code View}.
+		 *
+		 * @param from the index of the first digit (inclusive).
+		 * @param to   the index of the last digit (exclusive).
+		 */
+		View(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public int length() {
+			return to - from;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length())
+				throw new IndexOutOfBoundsException(index);
+			return digitAt(from + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start < 0 || start > end || end > length())
+				throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+			return new View(from + start, from + end);
+		}
+
+		@Override
+		public String toString() {
+			final char[] c = new char[length()];
+			copy(from, c, 0, c.length);
+			return new String(c);
+		}
+
+		/**
+		 * The index of the first digit (inclusive).
+		 */
+		private final int from;
+		/**
+		 * The index of the last digit (exclusive).
+		 */
+		private final int to;
+	}
+
+	/**
+	 * The first bytes of a packed table.
+	 */
+	private static final byte[] MAGIC = { 'B', 'C', 'D', '1' };
+	/**
+	 * The number of bytes before the digits of a packed table.
+	 */
+	private static final int HEADER = MAGIC.length + Integer.BYTES;
+	/**
+	 * Every table that has been opened with {@link #of(String, String)}, by name. Tables that do not exist are kept as
+	 * {@link #NONE}.
+	 */
+	private static final Map<String, DigitStore> STORES = new ConcurrentHashMap<>();
+	/**
+	 * Stands for a table that does not exist.
+	 */
+	private static final DigitStore NONE = new DigitStore(ByteBuffer.allocate(0), 0, 0, false, "0");
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:27:31 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code DigitStore}.
+	 *
+	 * @param buffer  the mapped table.
+	 * @param offset  the index of the first digit in {@code buffer}.
+	 * @param length  the number of digits.
+	 * @param packed  {@code true} if the digits are packed two per byte.
+	 * @param integer the integer part of the constant.
+	 */
+	private DigitStore(ByteBuffer buffer, int offset, int length, boolean packed, String integer) {
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+		this.packed = packed;
+		this.integer = integer;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:29:02 ---------------------------------------------------
+	 */
+	/**
+	 * Maps the table in the given file.
+	 *
+	 * @param file    the path of a text or packed table.
+	 * @param integer the digits of the integer part of the constant, such as {@code "2"} for Khinchin's constant.
+	 * @return the mapped table.
+	 * @throws IOException if the file cannot be read or a packed table is shorter than its header says.
+	 */
+	public static DigitStore open(Path file, String integer) throws IOException {
+		final ByteBuffer b;
+		try (FileChannel c = FileChannel.open(file, StandardOpenOption.READ)) {
+			b = c.map(FileChannel.MapMode.READ_ONLY, 0, c.size());
+		}
+		if (isPacked(b)) {
+			final int n = b.getInt(MAGIC.length);
+			if (n < 0 || HEADER + (n + 1L) / 2 > b.limit())
+				throw new IOException("Truncated digit table: " + file);
+			return new DigitStore(b, HEADER, n, true, integer);
+		}
+		int n = b.limit();
+		while (n > 0 && Character.isWhitespace(b.get(n - 1)))
+			n--;
+		return new DigitStore(b, 0, n, false, integer);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:31:45 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the table with the given name in the project's {@code res} directory, mapping it the first time it is requested.
+	 * The packed table ({@code name.bcd}) is preferred to the text table ({@code name.txt}).
+	 *
+	 * @param name    the name of the table without its extension, such as {@code "kh"}.
+	 * @param integer the digits of the integer part of the constant.
+	 * @return the mapped table or {@code null} if neither file exists or can be read.
+	 */
+	public static DigitStore of(String name, String integer) {
+		final DigitStore s = STORES.computeIfAbsent(name, n -> {
+			for (String ext : new String[] { ".bcd", ".txt" }) {
+				final Path p = Paths.get(getProjectPath(), "res", n + ext);
+				if (Files.isRegularFile(p))
+					try {
+						return open(p, integer);
+					} catch (IOException | SecurityException e) {
+					}
+			}
+			return NONE;
+		});
+		return s == NONE ? null : s;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:34:20 ---------------------------------------------------
+	 */
+	/**
+	 * Writes the given text table to the given file as a packed table. The table is written to a temporary file which is then
+	 * moved in place, so a reader never sees a partially written table.
+	 *
+	 * @param text   the path of a text table.
+	 * @param packed the path of the packed table to be written.
+	 * @throws IOException if either file cannot be accessed or the text table holds a character that is not a digit.
+	 */
+	public static void pack(Path text, Path packed) throws IOException {
+		final DigitStore s = open(text, "0");
+		final byte[] b = new byte[HEADER + (s.length + 1) / 2];
+		System.arraycopy(MAGIC, 0, b, 0, MAGIC.length);
+		ByteBuffer.wrap(b).putInt(MAGIC.length, s.length);
+		for (int i = 0; i < s.length; i++) {
+			final int d = s.digitAt(i) - '0';
+			if (d < 0 || d > 9)
+				throw new IOException("Not a digit at " + i + " in " + text);
+			b[HEADER + i / 2] |= (i & 1) == 0 ? d << 4 : d;
+		}
+		final Path dir = packed.toAbsolutePath().getParent();
+		Files.createDirectories(dir);
+		final Path tmp = Files.createTempFile(dir, packed.getFileName().toString(), ".tmp");
+		try (OutputStream out = Files.newOutputStream(tmp)) {
+			out.write(b);
+		}
+		try {
+			Files.move(tmp, packed, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			Files.move(tmp, packed, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:37:12 ---------------------------------------------------
+	 */
+	/**
+	 * Checks whether the given table starts with {@link #MAGIC}.
+	 *
+	 * @param b the mapped table.
+	 * @return {@code true} if {@code b} is a packed table.
+	 */
+	private static boolean isPacked(ByteBuffer b) {
+		if (b.limit() < HEADER)
+			return false;
+		for (int i = 0; i < MAGIC.length; i++)
+			if (b.get(i) != MAGIC[i])
+				return false;
+		return true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:38:40 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of fractional digits in this table.
+	 *
+	 * @return the number of digits that can be read.
+	 */
+	public int length() {
+		return length;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:39:15 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the fractional digit at the given index.
+	 *
+	 * @param index the index of the digit, where {@code 0} is the first digit after the decimal point.
+	 * @return the digit as a character from {@code '0'} to {@code '9'}.
+	 * @throws IndexOutOfBoundsException if the index is negative or not less than {@link #length()}.
+	 */
+	public char digitAt(int index) throws IndexOutOfBoundsException {
+		if (index < 0 || index >= length)
+			throw new IndexOutOfBoundsException(index);
+		if (!packed)
+			return (char) buffer.get(offset + index);
+		final int b = buffer.get(offset + index / 2);
+		return (char) ('0' + ((index & 1) == 0 ? (b >>> 4) & 0xF : b & 0xF));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:40:33 ---------------------------------------------------
+	 */
+	/**
+	 * Gets a view of the fractional digits in the given range. The digits are read from the mapped table as they are accessed
+	 * rather than copied.
+	 *
+	 * @param from the index of the first digit (inclusive).
+	 * @param to   the index of the last digit (exclusive).
+	 * @return the digits in the given range.
+	 * @throws IndexOutOfBoundsException if the range is not within {@code [0, length())}.
+	 */
+	public CharSequence digits(int from, int to) throws IndexOutOfBoundsException {
+		if (from < 0 || from > to || to > length)
+			throw new IndexOutOfBoundsException("from " + from + ", to " + to + ", length " + length);
+		return new View(from, to);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:42:01 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the constant to the given number of significant digits. Only the digits needed for that precision are read. If the
+	 * table holds fewer digits, then the value has all of them.
+	 *
+	 * @param precision the number of significant digits of the result.
+	 * @return the constant rounded to {@code precision} significant digits.
+	 */
+	public BigDecimal value(int precision) {
+		final int n = (int) Math.min(length, precision + 2L);
+		final char[] c = new char[integer.length() + 1 + n];
+		integer.getChars(0, integer.length(), c, 0);
+		c[integer.length()] = '.';
+		copy(0, c, integer.length() + 1, n);
+		return new BigDecimal(c).round(mc(precision));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:43:28 ---------------------------------------------------
+	 */
+	/**
+	 * Copies the given number of digits into the given array.
+	 *
+	 * @param from  the index of the first digit to be copied.
+	 * @param dst   the destination array.
+	 * @param at    the index in {@code dst} of the first copied digit.
+	 * @param count the number of digits to be copied.
+	 */
+	private void copy(int from, char[] dst, int at, int count) {
+		if (!packed) {
+			for (int i = 0; i < count; i++)
+				dst[at + i] = (char) buffer.get(offset + from + i);
+			return;
+		}
+		for (int i = 0; i < count; i++)
+			dst[at + i] = digitAt(from + i);
+	}
+
+	/**
+	 * The mapped table. It is only read with absolute indexes.
+	 */
+	private final ByteBuffer buffer;
+	/**
+	 * The index of the first digit in {@link #buffer}.
+	 */
+	private final int offset;
+	/**
+	 * The number of digits.
+	 */
+	private final int length;
+	/**
+	 * {@code true} if the digits are packed two per byte.
+	 */
+	private final boolean packed;
+	/**
+	 * The digits of the integer part of the constant.
+	 */
+	private final String integer;
+}
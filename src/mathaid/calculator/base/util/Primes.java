@@ -0,0 +1,580 @@
+/**
+ *
+ */
+package mathaid.calculator.base.util;
+
+import static java.math.BigInteger.ONE;
+import static java.math.BigInteger.TWO;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 18:41:09 ---------------------------------------------------
+ * Package: mathaid.calculator.base.util ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: Primes.java ------------------------------------------------------
+ * Class name: Primes ------------------------------------------------
+ */
+/**
+ * A shared source of small primes and primality tests.
+ * <p>
+ * The small primes are kept in a sieve of Eratosthenes that stores one bit per odd number and is extended one segment at a
+ * time whenever a larger prime is asked for, so that every caller shares the same primes instead of generating their own. The
+ * sieve can be written to a file with {@link #store(Path)} and memory-mapped back with {@link #load(Path)}, which avoids
+ * sieving again at start-up. If the system property {@value #FILE_PROPERTY} names an existing file, it is loaded when this
+ * class is initialised.
+ * <p>
+ * Values that are below the limit of the sieve are tested by looking up their bit. Larger values are tested with the
+ * Baillie-PSW test (a strong probable prime test to base 2 followed by a strong Lucas probable prime test), which is
+ * deterministic for every value below <code>2<sup>64</sup></code>. No composite is known to pass it above that either, but
+ * for such values {@value #EXTRA_ROUNDS} Miller-Rabin rounds with random bases are added instead of a large certainty, which
+ * bounds the cost of a test.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public final class Primes {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:43:37 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.util ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: Primes.java ------------------------------------------------------
+	 * Class name: Sieve ------------------------------------------------
+	 */
+	/**
+	 * An immutable snapshot of the sieve. Bit {@code i} is set if {@code 2i + 1} is composite.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static final class Sieve {
+		/**
+		 * Constructs a {@code Sieve}.
+		 *
+		 * @param bits  the composite flags of the odd numbers.
+		 * @param limit the exclusive upper bound of the numbers in {@code bits}.
+		 */
+		Sieve(LongBuffer bits, int limit) {
+			this.bits = bits;
+			this.limit = limit;
+		}
+
+		/**
+		 * Checks if the given odd number is composite.
+		 *
+		 * @param n an odd number below {@link #limit}.
+		 * @return {@code true} if {@code n} is composite.
+		 */
+		boolean isComposite(long n) {
+			int i = (int) (n >>> 1);
+			return (bits.get(i >>> 6) >>> i & 1) != 0;
+		}
+
+		/**
+		 * Gets the primes in this sieve, creating the array the first time.
+		 *
+		 * @return the primes below {@link #limit}.
+		 */
+		int[] primes() {
+			int[] p = primes;
+			if (p == null) {
+				int count = 1;
+				for (int n = 3; n < limit; n += 2)
+					if (!isComposite(n))
+						count++;
+				p = new int[count];
+				p[0] = 2;
+				for (int n = 3, j = 1; n < limit; n += 2)
+					if (!isComposite(n))
+						p[j++] = n;
+				primes = p;
+			}
+			return p;
+		}
+
+		/**
+		 * The composite flags.
+		 */
+		final LongBuffer bits;
+		/**
+		 * The exclusive upper bound.
+		 */
+		final int limit;
+		/**
+		 * The primes below {@link #limit}, created on demand.
+		 */
+		private volatile int[] primes;
+	}
+
+	/**
+	 * The system property naming a file from which the sieve is loaded at start-up.
+	 */
+	public static final String FILE_PROPERTY = "mathaid.primes.file";
+	/**
+	 * The limit of the sieve created at start-up when no file is loaded.
+	 */
+	public static final int DEFAULT_LIMIT = 1 << 20;
+	/**
+	 * The number of odd numbers in each segment of the sieve, which is the number of bits that fit in 32 KiB.
+	 */
+	private static final int SEGMENT = 1 << 18;
+	/**
+	 * The number of Miller-Rabin rounds added to the Baillie-PSW test for values with more than 64 bits.
+	 */
+	public static final int EXTRA_ROUNDS = 4;
+	/**
+	 * The first 4 bytes of a stored sieve, which are the ASCII characters {@code PRMS}.
+	 */
+	private static final int MAGIC = 0x50524D53;
+	/**
+	 * The size in bytes of the header of a stored sieve, which is the magic number followed by the limit.
+	 */
+	private static final int HEADER = 8;
+	/**
+	 * The odd primes by which every value is divided before the Baillie-PSW test.
+	 */
+	private static final int[] SMALL = { 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73, 79, 83,
+			89, 97 };
+	/**
+	 * The current sieve.
+	 */
+	private static volatile Sieve sieve;
+
+	static {
+		String file = System.getProperty(FILE_PROPERTY);
+		if (file != null && Files.isRegularFile(Paths.get(file)))
+			try {
+				load(Paths.get(file));
+			} catch (UncheckedIOException | IllegalArgumentException e) {
+				sieve = null;
+			}
+		if (sieve == null)
+			sieve = extend(new Sieve(LongBuffer.wrap(new long[] { 1L }), 3), DEFAULT_LIMIT);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:47:52 ---------------------------------------------------
+	 */
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private Primes() {
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:48:30 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the exclusive upper bound of the numbers currently in the sieve.
+	 *
+	 * @return the limit of the sieve.
+	 */
+	public static int getLimit() {
+		return sieve.limit;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:49:04 ---------------------------------------------------
+	 */
+	/**
+	 * Gets every prime below the given bound, extending the sieve if needed.
+	 *
+	 * @param bound the exclusive upper bound of the primes.
+	 * @return a new array of the primes below {@code bound} in ascending order.
+	 * @throws IllegalArgumentException if {@code bound} is negative.
+	 */
+	public static int[] primesBelow(int bound) {
+		if (bound < 0)
+			throw new IllegalArgumentException("bound: " + bound);
+		int[] p = ensure(bound).primes();
+		int i = Arrays.binarySearch(p, bound);
+		return Arrays.copyOf(p, i < 0 ? -i - 1 : i);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:31:47 ---------------------------------------------------
+	 */
+	/**
+	 * Gets every prime below the given bound as a read-only view of the shared primes, extending the sieve if needed. Unlike
+	 * {@link #primesBelow(int)} this does not copy the primes, so it is the cheaper choice for a caller that only iterates over
+	 * them once.
+	 *
+	 * @param bound the exclusive upper bound of the primes.
+	 * @return a read-only buffer whose remaining elements are the primes below {@code bound} in ascending order.
+	 * @throws IllegalArgumentException if {@code bound} is negative.
+	 */
+	public static IntBuffer primesView(int bound) {
+		if (bound < 0)
+			throw new IllegalArgumentException("bound: " + bound);
+		int[] p = ensure(bound).primes();
+		int i = Arrays.binarySearch(p, bound);
+		return IntBuffer.wrap(p, 0, i < 0 ? -i - 1 : i).asReadOnlyBuffer();
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:50:12 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the argument is prime. This is exact for every {@code long} value.
+	 *
+	 * @param n the value to be tested.
+	 * @return {@code true} if {@code n} is prime.
+	 */
+	public static boolean isPrime(long n) {
+		if (n < 2)
+			return false;
+		if ((n & 1) == 0)
+			return n == 2;
+		Sieve s = sieve;
+		if (n < s.limit)
+			return !s.isComposite(n);
+		for (int p : SMALL)
+			if (n % p == 0)
+				return false;
+		return bpsw(BigInteger.valueOf(n));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:51:00 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the argument is prime. This is exact below <code>2<sup>64</sup></code> and a probable prime test above it, as
+	 * described in the {@linkplain Primes class documentation}.
+	 *
+	 * @param n the value to be tested.
+	 * @return {@code true} if {@code n} is (probably) prime.
+	 */
+	public static boolean isPrime(BigInteger n) {
+		if (n.signum() <= 0)
+			return false;
+		if (n.bitLength() < 64)
+			return isPrime(n.longValue());
+		if (!n.testBit(0))
+			return false;
+		for (int p : SMALL)
+			if (n.mod(BigInteger.valueOf(p)).signum() == 0)
+				return false;
+		if (!bpsw(n))
+			return false;
+		if (n.bitLength() == 64)
+			return true;
+		ThreadLocalRandom rand = ThreadLocalRandom.current();
+		BigInteger max = n.subtract(TWO);
+		for (int i = 0; i < EXTRA_ROUNDS; i++) {
+			BigInteger a;
+			do
+				a = new BigInteger(n.bitLength(), rand);
+			while (a.compareTo(TWO) < 0 || a.compareTo(max) > 0);
+			if (!strongProbablePrime(n, a))
+				return false;
+		}
+		return true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:52:26 ---------------------------------------------------
+	 */
+	/**
+	 * Writes the current sieve to the given file so that it can later be restored with {@link #load(Path)}.
+	 *
+	 * @param file the file to be written, which is replaced if it exists.
+	 * @throws UncheckedIOException if the file cannot be written.
+	 */
+	public static void store(Path file) {
+		Sieve s = sieve;
+		int words = words(s.limit);
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = ch.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + 8L * words);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			buffer.putInt(MAGIC).putInt(s.limit);
+			LongBuffer out = buffer.asLongBuffer();
+			for (int i = 0; i < words; i++)
+				out.put(i, s.bits.get(i));
+			buffer.force();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:53:48 ---------------------------------------------------
+	 */
+	/**
+	 * Memory-maps a sieve that was written by {@link #store(Path)} and uses it if it is larger than the current one. The bits
+	 * are read directly from the mapped file, so no sieving is needed until a prime beyond it's limit is requested.
+	 *
+	 * @param file the file to be read.
+	 * @throws UncheckedIOException     if the file cannot be read.
+	 * @throws IllegalArgumentException if the file was not written by {@link #store(Path)}.
+	 */
+	public static void load(Path file) {
+		try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (ch.size() < HEADER)
+				throw new IllegalArgumentException("not a sieve: " + file);
+			MappedByteBuffer buffer = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			int limit = buffer.getInt(4);
+			if (buffer.getInt(0) != MAGIC || limit < 3 || ch.size() < HEADER + 8L * words(limit))
+				throw new IllegalArgumentException("not a sieve: " + file);
+			buffer.position(HEADER);
+			Sieve s = new Sieve(buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer(), limit);
+			synchronized (Primes.class) {
+				if (sieve == null || sieve.limit < limit)
+					sieve = s;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:55:20 ---------------------------------------------------
+	 */
+	/**
+	 * Gets a sieve whose limit is at least the given bound.
+	 *
+	 * @param bound the smallest acceptable limit.
+	 * @return the current sieve, extended if it was too small.
+	 */
+	private static Sieve ensure(int bound) {
+		Sieve s = sieve;
+		if (s.limit >= bound)
+			return s;
+		synchronized (Primes.class) {
+			if (sieve.limit < bound)
+				sieve = extend(sieve, bound);
+			return sieve;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:56:02 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a sieve that has the bits of the given one and sieves the odd numbers after it up to the given bound, one
+	 * segment at a time.
+	 *
+	 * @param old   the sieve to be extended.
+	 * @param bound the smallest limit of the new sieve.
+	 * @return the extended sieve.
+	 */
+	private static Sieve extend(Sieve old, int bound) {
+		long rounded = ((long) bound + 2L * SEGMENT - 1) / (2L * SEGMENT) * (2L * SEGMENT);
+		int limit = (int) Math.min(rounded, Integer.MAX_VALUE);
+		long[] bits = new long[words(limit)];
+		int oldWords = words(old.limit);
+		for (int i = 0; i < oldWords; i++)
+			bits[i] = old.bits.get(i);
+		/* the odd numbers from the start of the last partial word of the old sieve are sieved again */
+		long start = (long) (oldWords - 1) * 128 + 1;
+		if (start < 3) {
+			bits[0] = 1L;
+			start = 3;
+		}
+		int root = (int) Math.sqrt(limit) + 1;
+		boolean[] composite = new boolean[root + 1];
+		for (int p = 3; (long) p * p <= root; p += 2)
+			if (!composite[p])
+				for (int j = p * p; j <= root; j += 2 * p)
+					composite[j] = true;
+		for (long lo = start; lo < limit; lo += 2L * SEGMENT) {
+			long hi = Math.min(limit, lo + 2L * SEGMENT);
+			for (int p = 3; p <= root && (long) p * p < hi; p += 2) {
+				if (composite[p])
+					continue;
+				long m = Math.max((long) p * p, (lo + p - 1) / p * p);
+				if ((m & 1) == 0)
+					m += p;
+				for (; m < hi; m += 2L * p) {
+					int i = (int) (m >>> 1);
+					bits[i >>> 6] |= 1L << i;
+				}
+			}
+		}
+		return new Sieve(LongBuffer.wrap(bits), limit);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:58:15 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of {@code long} words needed for the odd numbers below the given limit.
+	 *
+	 * @param limit the exclusive upper bound.
+	 * @return the number of words.
+	 */
+	private static int words(int limit) {
+		return (int) (((limit >>> 1) + 63L) >>> 6);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 18:59:00 ---------------------------------------------------
+	 */
+	/**
+	 * Performs the Baillie-PSW test on an odd value that has no small factor.
+	 *
+	 * @param n an odd value greater than the largest of {@link #SMALL}.
+	 * @return {@code true} if {@code n} is a strong probable prime to base 2 and a strong Lucas probable prime.
+	 */
+	private static boolean bpsw(BigInteger n) {
+		if (!strongProbablePrime(n, TWO))
+			return false;
+		BigInteger r = n.sqrt();
+		if (r.multiply(r).equals(n))
+			return false;
+		/* Selfridge's method A: the first D in 5, -7, 9, -11, ... with (D/n) = -1 */
+		long d = 5;
+		while (true) {
+			int j = jacobi(BigInteger.valueOf(d).mod(n), n);
+			if (j == -1)
+				break;
+			if (j == 0 && BigInteger.valueOf(Math.abs(d)).compareTo(n) != 0)
+				return false;
+			d = d > 0 ? -(d + 2) : -(d - 2);
+		}
+		return strongLucasProbablePrime(n, d, (1 - d) / 4);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:00:31 ---------------------------------------------------
+	 */
+	/**
+	 * Performs a single Miller-Rabin round.
+	 *
+	 * @param n an odd value greater than 3.
+	 * @param a the base.
+	 * @return {@code true} if {@code n} is a strong probable prime to base {@code a}.
+	 */
+	private static boolean strongProbablePrime(BigInteger n, BigInteger a) {
+		BigInteger nm1 = n.subtract(ONE);
+		int s = nm1.getLowestSetBit();
+		BigInteger x = a.modPow(nm1.shiftRight(s), n);
+		if (x.equals(ONE) || x.equals(nm1))
+			return true;
+		for (int i = 1; i < s; i++) {
+			x = x.multiply(x).mod(n);
+			if (x.equals(nm1))
+				return true;
+			if (x.equals(ONE))
+				return false;
+		}
+		return false;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:01:47 ---------------------------------------------------
+	 */
+	/**
+	 * Performs the strong Lucas probable prime test with the parameters <code>P = 1</code>, {@code Q} and
+	 * <code>D = P<sup>2</sup> - 4Q</code>.
+	 *
+	 * @param n an odd value which is not a perfect square.
+	 * @param d the discriminant for which the Jacobi symbol {@code (D/n)} is -1.
+	 * @param q the parameter {@code Q}.
+	 * @return {@code true} if {@code n} is a strong Lucas probable prime.
+	 */
+	private static boolean strongLucasProbablePrime(BigInteger n, long d, long q) {
+		BigInteger np1 = n.add(ONE);
+		int s = np1.getLowestSetBit();
+		BigInteger k = np1.shiftRight(s);
+		BigInteger bd = BigInteger.valueOf(d).mod(n), bq = BigInteger.valueOf(q).mod(n);
+		BigInteger u = ONE, v = ONE, qk = bq;
+		for (int i = k.bitLength() - 2; i >= 0; i--) {
+			u = u.multiply(v).mod(n);
+			v = v.multiply(v).subtract(qk.shiftLeft(1)).mod(n);
+			qk = qk.multiply(qk).mod(n);
+			if (k.testBit(i)) {
+				BigInteger u1 = half(u.add(v), n);
+				v = half(bd.multiply(u).add(v), n);
+				u = u1;
+				qk = qk.multiply(bq).mod(n);
+			}
+		}
+		if (u.signum() == 0 || v.signum() == 0)
+			return true;
+		for (int r = 1; r < s; r++) {
+			v = v.multiply(v).subtract(qk.shiftLeft(1)).mod(n);
+			if (v.signum() == 0)
+				return true;
+			qk = qk.multiply(qk).mod(n);
+		}
+		return false;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:03:05 ---------------------------------------------------
+	 */
+	/**
+	 * Divides by 2 modulo an odd value.
+	 *
+	 * @param x the dividend.
+	 * @param n the odd modulus.
+	 * @return <code>x / 2 mod n</code>.
+	 */
+	private static BigInteger half(BigInteger x, BigInteger n) {
+		x = x.mod(n);
+		return (x.testBit(0) ? x.add(n) : x).shiftRight(1);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 19:03:49 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the Jacobi symbol {@code (a/n)}.
+	 *
+	 * @param a a non-negative value.
+	 * @param n a positive odd value.
+	 * @return 1, -1 or 0.
+	 */
+	private static int jacobi(BigInteger a, BigInteger n) {
+		int result = 1;
+		a = a.mod(n);
+		while (a.signum() != 0) {
+			int twos = a.getLowestSetBit();
+			a = a.shiftRight(twos);
+			int nm8 = n.intValue() & 7;
+			if ((twos & 1) != 0 && (nm8 == 3 || nm8 == 5))
+				result = -result;
+			if ((a.intValue() & 3) == 3 && (nm8 & 3) == 3)
+				result = -result;
+			BigInteger t = a;
+			a = n.mod(t);
+			n = t;
+		}
+		return n.equals(ONE) ? result : 0;
+	}
+
+}
@@ -33,6 +33,7 @@ import mathaid.calculator.base.Calculator;
 import mathaid.calculator.base.MathematicalException;
 import mathaid.calculator.base.util.Arith;
 import mathaid.calculator.base.util.Constants;
+import mathaid.calculator.base.util.Primes;
 import mathaid.calculator.base.util.Utility;
 import mathaid.spi.LoopConfiguration;
 
@@ -471,7 +472,7 @@ public class BigFraction implements Comparable<BigFraction>, java.io.Serializabl
 		 * denominator. This uses
 		 * 
 		 * <pre>
-		 * <code>f.getNumerator().isProbablePrime(100000) || f.getDenominator().isProbablePrime(100000)</code>
+		 * <code>Primes.isPrime(f.getNumerator()) || Primes.isPrime(f.getDenominator())</code>
 		 * </pre>
 		 * 
 		 * @param f a {@code BigFraction}
@@ -482,8 +483,7 @@ public class BigFraction implements Comparable<BigFraction>, java.io.Serializabl
 			if (f.numerator.compareTo(new BigInteger("9087263541")) < 0
 					|| f.denominator.compareTo(new BigInteger("9087263541")) < 0)
 				return false;
-			final int certainty = 100_000;
-			return f.numerator.isProbablePrime(certainty) || f.denominator.isProbablePrime(certainty);
+			return Primes.isPrime(f.numerator) || Primes.isPrime(f.denominator);
 		}
 
 		/*
@@ -2042,14 +2042,37 @@ public class BigFraction implements Comparable<BigFraction>, java.io.Serializabl
 	 * 
 	 * @return a {@code List} of {@code BigInteger}s which are probably prime
 	 *         factors of {@code this}.
+	 * @throws java.util.concurrent.CancellationException if the current thread is
+	 *                                                    interrupted.
 	 */
 	public List<BigInteger> factorize() {
+		return factorize(FactorEngine.Token.create());
+	}
+
+	/*
+	 * Date: 17 Oct 2026-----------------------------------------------------------
+	 * Time created: 18:20:14--------------------------------------------
+	 */
+	/**
+	 * Returns the factors of this value in the same form as {@link #factorize()},
+	 * using the default {@link FactorEngine} and polling the given token for
+	 * cancellation.
+	 * 
+	 * @param token the token that stops the factorisation when it is cancelled.
+	 * @return a {@code List} of {@code BigInteger}s which are probably prime
+	 *         factors of {@code this}.
+	 * @throws java.util.concurrent.CancellationException if {@code token} is
+	 *                                                    cancelled or the current
+	 *                                                    thread is interrupted.
+	 */
+	public List<BigInteger> factorize(FactorEngine.Token token) {
 		BigFraction f = abs();
+		FactorEngine engine = FactorEngine.getDefault();
 		if (isInteger())
-			return Factors.factors(f.numerator, 5);
+			return engine.factors(f.numerator, token);
 
-		List<BigInteger> num = Factors.factors(f.numerator, 5);
-		List<BigInteger> den = Factors.factors(f.denominator, 5);
+		List<BigInteger> num = engine.factors(f.numerator, token);
+		List<BigInteger> den = engine.factors(f.denominator, token);
 		List<BigInteger> fact = new ArrayList<>(num);
 		fact.add(null);// delimits the numerator factor(s) from the denominator factor(s)
 		fact.addAll(den);
@@ -16,6 +16,8 @@ import static mathaid.calculator.base.value.FloatAid.getAllOnes;
 import static mathaid.calculator.base.value.FloatAid.getTrailingZeros;
 import static mathaid.calculator.base.value.TC.fromDecimal;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -44,6 +46,12 @@ import mathaid.calculator.base.util.Constants;
  * used to create a {@link BinaryFP} object so as to get access to manipulation
  * of floating point values at bit level.
  * <p>
+ * The arithmetic of the IEEE754 8 bit, half, single, double and quadruple
+ * precisions (such as {@link FloatAid#IEEE754Single()}) is computed directly on
+ * the bit layouts by a {@code FPEngine} instead of with {@code BigDecimal}s,
+ * and is correctly rounded with the {@link #getRoundingMode() rounding mode} of
+ * the precision.
+ * <p>
  * Future support for rounding modes and setting arithmetic flag will be coming
  * soon
  * 
@@ -241,6 +249,7 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 		this.exponentLength = totalExponentBits;
 		this.significandLength = totalBitLength - totalExponentBits;
 		this.rm = rm;
+		this.engine = FPEngine.forPrecision(totalExponentBits, totalBitLength);
 	}
 
 	/*
@@ -1559,6 +1568,24 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 		return i;
 	}
 
+	/*
+	 * Date: 17 Oct 2026-----------------------------------------------------------
+	 * Time created: 23:58:10--------------------------------------------
+	 */
+	/**
+	 * Reads this precision from the given stream and selects its
+	 * {@link FPEngine} again, since the engine is not serialized. This also gives
+	 * an engine to a precision written before the engine was added.
+	 * 
+	 * @param in the stream to be read from
+	 * @throws IOException            if the stream cannot be read
+	 * @throws ClassNotFoundException if a class in the stream cannot be found
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		engine = FPEngine.forPrecision(exponentLength, exponentLength + significandLength);
+	}
+
 	/*
 	 * Date: 14 Nov 2022-----------------------------------------------------------
 	 * Time created: 03:24:44---------------------------------------------------
@@ -1587,6 +1614,17 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 	 */
 	private final RoundingMode rm;
 
+	/*
+	 * Date: 17 Oct 2026-----------------------------------------------------------
+	 * Time created: 13:40:55---------------------------------------------------
+	 */
+	/**
+	 * Field for the engine that computes the arithmetic of this precision on the
+	 * bit layouts, or {@code null} if it is computed with {@code BigDecimal}s. It
+	 * is not serialized but selected again when this precision is read.
+	 */
+	private transient FPEngine engine;
+
 	/*
 	 * Date: 14 Nov 2022-----------------------------------------------------------
 	 * Time created: 03:53:41---------------------------------------------------
@@ -2709,6 +2747,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				// normal number
 				if (!(this instanceof Serializable))
 					return doNormalAddition(f);
+				final BinaryFP r = compute(FPEngine.ADD, f);
+				if (r != null)
+					return r;
 				return new BinaryFP(toBigDecimal().add(f.toBigDecimal()), 0, 0);
 
 			} else if (c > 0)
@@ -2778,6 +2819,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 					BigInteger val = doNormalDivision(f);
 					return new BinaryFP(val, 0, 0);
 				}
+				final BinaryFP r = compute(FPEngine.DIVIDE, f);
+				if (r != null)
+					return r;
 				return new BinaryFP(
 						toBigDecimal().divide(f.toBigDecimal(), getMathContext(10, false, significandLength)), 0, 0);
 			} else if (c > 0)
@@ -2839,6 +2883,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				// normal number
 				if (!(this instanceof Serializable))
 					return doNormalMultiplication(f);
+				final BinaryFP r = compute(FPEngine.MULTIPLY, f);
+				if (r != null)
+					return r;
 				return new BinaryFP(
 						toBigDecimal().multiply(f.toBigDecimal(), getMathContext(10, false, significandLength)), 0, 0);
 			} else if (c > 0)
@@ -2908,6 +2955,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				return getNegativeZero();
 			else if (signum() < 0)
 				return getNaN();
+			final BinaryFP r = compute(FPEngine.SQRT, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.sqrt(toBigDecimal(), getMathContext(10, false, significandLength)), 0, 0);
 		}
 
@@ -2923,6 +2973,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 		public BinaryFP cbrt() {
 			if (isNaN() || isInfinite() || isNegativeZero() || signum() == 0)
 				return this;
+			final BinaryFP r = compute(FPEngine.CBRT, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.cbrt(toBigDecimal(), getMathContext(10, false, significandLength).getPrecision()),
 					0, 0);
 		}
@@ -2996,6 +3049,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 						return getPositiveInfinity();
 					return new BinaryFP(i(0), 0, 0);
 				}
+				final BinaryFP r = compute(FPEngine.POW, f);
+				if (r != null)
+					return r;
 				return new BinaryFP(
 						Arith.pow(toBigDecimal(), f.toBigDecimal(), getMathContext(10, false, significandLength)), 0,
 						0);
@@ -3020,6 +3076,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				return getNaN();
 			else if (isInfinite())
 				return signum() < 0 ? new BinaryFP(i(0), 0, 0) : getPositiveInfinity();
+			final BinaryFP r = compute(FPEngine.EXP, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.exp(toBigDecimal(), getMathContext(10, false, significandLength)), 0, 0);
 		}
 
@@ -3041,6 +3100,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				return getNegativeInfinity();
 			else if (signum() < 0)
 				return getNaN();
+			final BinaryFP r = compute(FPEngine.LOG, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.log(toBigDecimal(), getMC(10)), 0, 0);
 		}
 
@@ -3107,6 +3169,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				return getNaN();
 			else if (isInfinite())
 				return getNaN();
+			final BinaryFP r = compute(FPEngine.TAN, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.tan(toBigDecimal(), RAD, getMC(10)), 0, 0);
 		}
 
@@ -3126,6 +3191,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				BinaryFP ans = pi().divide(createFP("2"));
 				return signum() < 0 ? ans.negate() : ans;
 			}
+			final BinaryFP r = compute(FPEngine.ATAN, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.atan(toBigDecimal(), RAD, getMC(10)), 0, 0);
 		}
 
@@ -3182,6 +3250,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				return getNaN();
 			} else if (isNegativeZero() || signum() == 0)
 				return this;
+			final BinaryFP r = compute(FPEngine.SIN, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.sin(toBigDecimal(), RAD, getMC(10)), 0, 0);
 		}
 
@@ -3203,6 +3274,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				return getNegativeInfinity();
 			else if (signum() == 0 || isNegativeZero())
 				return this;
+			final BinaryFP r = compute(FPEngine.ASIN, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.asin(toBigDecimal(), RAD, getMC(10)), 0, 0);
 		}
 
@@ -3220,6 +3294,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				return getNaN();
 			else if (isNegativeZero() || signum() == 0)
 				return this;
+			final BinaryFP r = compute(FPEngine.COS, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.cos(toBigDecimal(), RAD, getMC(10)), 0, 0);
 		}
 
@@ -3237,6 +3314,9 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 				return getNaN();
 			else if (isNegativeZero() || signum() == 0)
 				return pi().divide(createFP("2"));
+			final BinaryFP r = compute(FPEngine.ACOS, null);
+			if (r != null)
+				return r;
 			return new BinaryFP(Arith.acos(toBigDecimal(), RAD, getMC(10)), 0, 0);
 		}
 
@@ -3667,6 +3747,29 @@ public class BinaryFPPrecision implements Comparable<BinaryFPPrecision>, Seriali
 					0);
 		}
 
+		/*
+		 * Date: 17 Oct 2026-----------------------------------------------------------
+		 * Time created: 13:42:10--------------------------------------------
+		 */
+		/**
+		 * Computes the given operation with the {@link FPEngine} of this precision,
+		 * which computes it directly on the bit layouts instead of with
+		 * {@code BigDecimal}s. This is only called after the special values of the
+		 * operation have been handled.
+		 * 
+		 * @param op the operation such as {@link FPEngine#ADD}
+		 * @param f  the second operand or {@code null} if the operation takes one
+		 *           operand
+		 * @return the result or {@code null} if this precision has no engine or the
+		 *         engine cannot compute the result
+		 */
+		private BinaryFP compute(int op, BinaryFP f) {
+			if (engine == null)
+				return null;
+			final BigInteger r = engine.apply(op, val, f == null ? null : f.val, rm);
+			return r == null ? null : new BinaryFP(r, 0, 0);
+		}
+
 		/*
 		 * Date: 16 Nov 2022-----------------------------------------------------------
 		 * Time created: 00:33:16--------------------------------------------
@@ -0,0 +1,309 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import static java.math.BigInteger.ONE;
+import static java.math.BigInteger.valueOf;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import mathaid.calculator.base.util.Primes;
+import mathaid.calculator.base.value.FactorEngine.Token;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 17:02:33 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: EllipticCurveMethod.java ------------------------------------------------------
+ * Class name: EllipticCurveMethod ------------------------------------------------
+ */
+/**
+ * Lenstra's elliptic curve method using Montgomery curves in projective {@code X:Z} coordinates with Suyama's
+ * parametrisation, a prime-by-prime first stage and the standard continuation as a second stage.
+ * <p>
+ * The curves are independent, so {@link #split(BigInteger, ForkJoinPool, Token)} runs them on every worker of a
+ * {@code ForkJoinPool} at once. The first stage bound starts small and is raised after a fixed number of curves, which makes
+ * small factors quick to find while still giving larger factors a chance.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class EllipticCurveMethod {
+
+	/**
+	 * The first stage bounds, in the order in which they are tried.
+	 */
+	private static final int[] B1 = { 2_000, 11_000, 50_000, 250_000, 1_000_000 };
+	/**
+	 * The number of curves run with the bound at the same index of {@link #B1}.
+	 */
+	private static final int[] CURVES = { 25, 90, 300, 700, 1_800 };
+	/**
+	 * The ratio of the second stage bound to the first.
+	 */
+	private static final int B2_RATIO = 25;
+	/**
+	 * Half the step of the second stage.
+	 */
+	private static final int D = 105;
+	/**
+	 * The primes up to the largest second stage bound that has been used, created on demand.
+	 */
+	private static volatile int[] primes = new int[0];
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:05:10 ---------------------------------------------------
+	 */
+	/**
+	 * Private constructor to prevent instantiation.
+	 */
+	private EllipticCurveMethod() {
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:05:41 ---------------------------------------------------
+	 */
+	/**
+	 * Runs curves on every worker of the given pool until one of them finds a factor, every curve of the schedule has been
+	 * run or the token is cancelled.
+	 *
+	 * @param n     an odd composite which is not a perfect power.
+	 * @param pool  the pool on which the curves are run.
+	 * @param token the token polled for cancellation.
+	 * @return a non-trivial factor of {@code n} or {@code n} if no curve found one.
+	 * @throws CancellationException if {@code token} is cancelled or the current thread is interrupted.
+	 */
+	static BigInteger split(BigInteger n, ForkJoinPool pool, Token token) {
+		final AtomicReference<BigInteger> found = new AtomicReference<>();
+		final AtomicBoolean stop = new AtomicBoolean();
+		final AtomicInteger curves = new AtomicInteger();
+		final int workers = Math.max(1, pool.getParallelism());
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+		for (int i = 0; i < workers; i++)
+			tasks.add(pool.submit(() -> {
+				ThreadLocalRandom rand = ThreadLocalRandom.current();
+				while (!stop.get() && found.get() == null && !token.isCancelled()) {
+					int level = level(curves.getAndIncrement());
+					if (level < 0)
+						return;
+					BigInteger d = curve(n, valueOf(rand.nextInt(6, Integer.MAX_VALUE)), B1[level], stop, found, token);
+					if (d != null)
+						found.compareAndSet(null, d);
+				}
+			}));
+		try {
+			for (ForkJoinTask<?> t : tasks)
+				t.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("factorisation cancelled");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new IllegalStateException(e.getCause());
+		} finally {
+			stop.set(true);
+		}
+		BigInteger d = found.get();
+		if (d == null)
+			token.check();
+		return d == null ? n : d;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:08:20 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the index into {@link #B1} of the given curve.
+	 *
+	 * @param curve the number of curves run before this one.
+	 * @return the index of the first stage bound of the curve or -1 if the schedule has been exhausted.
+	 */
+	private static int level(int curve) {
+		for (int i = 0; i < CURVES.length; i++) {
+			if (curve < CURVES[i])
+				return i;
+			curve -= CURVES[i];
+		}
+		return -1;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:09:02 ---------------------------------------------------
+	 */
+	/**
+	 * Runs both stages of a single curve.
+	 *
+	 * @param n     the value to be split.
+	 * @param sigma Suyama's parameter, which determines the curve and it's starting point.
+	 * @param b1    the first stage bound.
+	 * @param stop  set when the search has been abandoned.
+	 * @param found set when another curve has found a factor.
+	 * @param token the token polled for cancellation.
+	 * @return a non-trivial factor of {@code n} or {@code null} if this curve did not find one.
+	 */
+	static BigInteger curve(BigInteger n, BigInteger sigma, int b1, AtomicBoolean stop, AtomicReference<BigInteger> found,
+			Token token) {
+		final int b2 = b1 * B2_RATIO;
+		final int[] p = primes(b2);
+
+		BigInteger u = sigma.multiply(sigma).subtract(valueOf(5)).mod(n);
+		BigInteger v = sigma.shiftLeft(2).mod(n);
+		BigInteger u3 = u.pow(3).mod(n);
+		BigInteger den = u3.multiply(v).shiftLeft(4).mod(n);
+		BigInteger g = den.gcd(n);
+		if (!g.equals(ONE))
+			return g.equals(n) ? null : g;
+		BigInteger a24 = v.subtract(u).pow(3).multiply(u.multiply(valueOf(3)).add(v)).multiply(den.modInverse(n)).mod(n);
+		BigInteger[] q = { u3, v.pow(3).mod(n) };
+
+		/* stage 1 */
+		for (int i = 0; i < p.length && p[i] <= b1; i++) {
+			if ((i & 0x3ff) == 0 && (stop.get() || found.get() != null || token.isCancelled()))
+				return null;
+			long pk = p[i];
+			while (pk * p[i] <= b1)
+				pk *= p[i];
+			q = multiply(valueOf(pk), q, a24, n);
+		}
+		g = q[1].gcd(n);
+		if (g.equals(n))
+			return null;
+		if (!g.equals(ONE))
+			return g;
+
+		/* stage 2 */
+		BigInteger[][] beta = new BigInteger[D + 1][];
+		beta[1] = dbl(q, a24, n);
+		beta[2] = dbl(beta[1], a24, n);
+		for (int d = 3; d <= D; d++)
+			beta[d] = add(beta[d - 1], beta[1], beta[d - 2], n);
+		int r = b1 | 1;
+		BigInteger[] rq = multiply(valueOf(r), q, a24, n);
+		BigInteger[] tq = multiply(valueOf(r - 2 * D), q, a24, n);
+		BigInteger acc = ONE;
+		int i = 0;
+		while (i < p.length && p[i] <= r)
+			i++;
+		for (int steps = 0; r < b2; r += 2 * D, steps++) {
+			if ((steps & 0xff) == 0 && (stop.get() || found.get() != null || token.isCancelled()))
+				return null;
+			for (; i < p.length && p[i] <= r + 2 * D; i++) {
+				BigInteger[] b = beta[(p[i] - r) >> 1];
+				acc = acc.multiply(rq[0].multiply(b[1]).subtract(b[0].multiply(rq[1]))).mod(n);
+			}
+			BigInteger[] next = add(rq, beta[D], tq, n);
+			tq = rq;
+			rq = next;
+		}
+		g = acc.gcd(n);
+		return g.equals(ONE) || g.equals(n) ? null : g;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:12:47 ---------------------------------------------------
+	 */
+	/**
+	 * Multiplies a point by a positive integer using the Montgomery ladder.
+	 *
+	 * @param k   the positive multiplier.
+	 * @param p   the point as <code>{X, Z}</code>.
+	 * @param a24 the curve constant <code>(A + 2) / 4</code>.
+	 * @param n   the modulus.
+	 * @return <code>[k]p</code>.
+	 */
+	private static BigInteger[] multiply(BigInteger k, BigInteger[] p, BigInteger a24, BigInteger n) {
+		if (k.equals(ONE))
+			return p;
+		BigInteger[] r0 = p, r1 = dbl(p, a24, n);
+		for (int i = k.bitLength() - 2; i >= 0; i--)
+			if (k.testBit(i)) {
+				r0 = add(r1, r0, p, n);
+				r1 = dbl(r1, a24, n);
+			} else {
+				r1 = add(r0, r1, p, n);
+				r0 = dbl(r0, a24, n);
+			}
+		return r0;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:13:50 ---------------------------------------------------
+	 */
+	/**
+	 * Doubles a point.
+	 *
+	 * @param p   the point as <code>{X, Z}</code>.
+	 * @param a24 the curve constant <code>(A + 2) / 4</code>.
+	 * @param n   the modulus.
+	 * @return <code>[2]p</code>.
+	 */
+	private static BigInteger[] dbl(BigInteger[] p, BigInteger a24, BigInteger n) {
+		BigInteger s = p[0].add(p[1]);
+		BigInteger d = p[0].subtract(p[1]);
+		BigInteger t1 = s.multiply(s).mod(n);
+		BigInteger t2 = d.multiply(d).mod(n);
+		BigInteger t3 = t1.subtract(t2);
+		return new BigInteger[] { t1.multiply(t2).mod(n), t3.multiply(t2.add(a24.multiply(t3))).mod(n) };
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:14:38 ---------------------------------------------------
+	 */
+	/**
+	 * Adds two points whose difference is known.
+	 *
+	 * @param p    the first point as <code>{X, Z}</code>.
+	 * @param q    the second point.
+	 * @param diff the point <code>p - q</code>.
+	 * @param n    the modulus.
+	 * @return <code>p + q</code>.
+	 */
+	private static BigInteger[] add(BigInteger[] p, BigInteger[] q, BigInteger[] diff, BigInteger n) {
+		BigInteger u = p[0].subtract(p[1]).multiply(q[0].add(q[1]));
+		BigInteger v = p[0].add(p[1]).multiply(q[0].subtract(q[1]));
+		BigInteger s = u.add(v), d = u.subtract(v);
+		return new BigInteger[] { diff[1].multiply(s.multiply(s).mod(n)).mod(n), diff[0].multiply(d.multiply(d).mod(n)).mod(n) };
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:15:30 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the primes up to (and possibly beyond) the given bound, sieving them if no earlier call needed as many.
+	 *
+	 * @param bound the inclusive bound.
+	 * @return an array of primes in ascending order whose last element is at least {@code bound}.
+	 */
+	private static int[] primes(int bound) {
+		int[] p = primes;
+		if (p.length == 0 || p[p.length - 1] < bound) {
+			synchronized (EllipticCurveMethod.class) {
+				p = primes;
+				if (p.length == 0 || p[p.length - 1] < bound)
+					primes = p = Primes.primesBelow(bound + 2 * D + 1);
+			}
+		}
+		return p;
+	}
+}
@@ -64,6 +64,9 @@ public class Ex {
 		return new Comparator<BigInteger>() {
 			@Override
 			public int compare(BigInteger x, BigInteger y) {
+				final int c = LongBits.compare(LongBits.EXCESS_K, bound, x, y);
+				if (c != LongBits.NONE)
+					return c;
 				BigInteger[] r = { x, i(0), };
 				fromDecimal(bound, r);
 				x = r[0];
@@ -99,7 +102,8 @@ public class Ex {
 	 * @see Comparator#compare
 	 */
 	public static int compare(BigInteger x, BigInteger y, int bound) {
-		return getComparator(bound).compare(x, y);
+		final int c = LongBits.compare(LongBits.EXCESS_K, bound, x, y);
+		return c != LongBits.NONE ? c : getComparator(bound).compare(x, y);
 	}
 
 	/*
@@ -123,6 +127,8 @@ public class Ex {
 	public static void fromDecimal(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.fromDecimal(LongBits.EXCESS_K, bound, r))
+			return;
 		BigInteger bias = FloatAid.getTrailingZeros(bound - 1);
 		r[0] = r[0].add(bias).abs();
 
@@ -426,7 +432,8 @@ public class Ex {
 	public static void shiftLeft(int shift, int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sl(shift, bound, r);
+		if (!LongBits.shiftLeft(LongBits.EXCESS_K, shift, bound, r))
+			sl(shift, bound, r);
 	}
 
 	/*
@@ -471,7 +478,8 @@ public class Ex {
 	public static void shiftRight(int shift, int bound, boolean arithmetic, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sr(shift, bound, arithmetic, r);
+		if (!LongBits.shiftRight(LongBits.EXCESS_K, shift, bound, arithmetic, r))
+			sr(shift, bound, arithmetic, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -513,7 +521,8 @@ public class Ex {
 	public static void circularShiftLeft(int shift, int bound, boolean carry, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csl(shift, bound, carry, r);
+		if (!LongBits.circularShiftLeft(LongBits.EXCESS_K, shift, bound, carry, r))
+			csl(shift, bound, carry, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -556,7 +565,8 @@ public class Ex {
 			throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csr(shift, bound, carry, r);
+		if (!LongBits.circularShiftRight(LongBits.EXCESS_K, shift, bound, carry, r))
+			csr(shift, bound, carry, r);
 	}
 
 	/*
@@ -577,6 +587,8 @@ public class Ex {
 	public static void abs(int bound, BigInteger[] r) {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.abs(LongBits.EXCESS_K, bound, r))
+			return;
 		MT.fromEx(bound, r);
 		r[0] = r[0].abs();
 		fromDecimal(bound, r);
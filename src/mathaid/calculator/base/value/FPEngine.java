@@ -0,0 +1,251 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 11:02:37 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: FPEngine.java ------------------------------------------------------
+ * Class name: FPEngine ------------------------------------------------
+ */
+/**
+ * Computes the results of the arithmetic and elementary functions of a {@link BinaryFPPrecision.BinaryFP} directly on its bit
+ * layout, for the precisions where this can be done without {@code BigDecimal}s.
+ * <p>
+ * An engine is selected by {@link #forPrecision(int, int)} when a {@code BinaryFPPrecision} is created and is kept by it. A
+ * {@code BinaryFP} handles the special values (NaN, infinities and signed zeros) of each operation itself and only asks the
+ * engine for the result of finite operands. The engine then returns the bit layout of the result, or {@code null} if it does
+ * not support the operation, in which case the {@code BinaryFP} computes the result with {@code BigDecimal}s as before.
+ * <p>
+ * Addition, multiplication, division and square root are correctly rounded with the {@code RoundingMode} of the precision.
+ * The other operations are computed with {@code StrictMath}, whose results may be 1 ulp from the exact result, and are then
+ * rounded to the precision; a double precision result of one of them is not rounded again, so the rounding mode is ignored.
+ * <p>
+ * The rounding modes have the same meaning as they do for {@code BigDecimal}, except that {@link RoundingMode#UNNECESSARY}
+ * truncates (as the {@code BinaryFPPrecision} has always done) instead of throwing. A result that is too large for the precision
+ * becomes infinity if it is rounded away from zero and the largest finite value if it is rounded towards zero.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+abstract class FPEngine {
+
+	/**
+	 * The operation {@code x + y}.
+	 */
+	static final int ADD = 0;
+	/**
+	 * The operation {@code x * y}.
+	 */
+	static final int MULTIPLY = 1;
+	/**
+	 * The operation {@code x / y}.
+	 */
+	static final int DIVIDE = 2;
+	/**
+	 * The operation <code>&radic;x</code>.
+	 */
+	static final int SQRT = 3;
+	/**
+	 * The operation <code>&#8731;x</code>.
+	 */
+	static final int CBRT = 4;
+	/**
+	 * The operation <code>x<sup>y</sup></code>.
+	 */
+	static final int POW = 5;
+	/**
+	 * The operation <code>e<sup>x</sup></code>.
+	 */
+	static final int EXP = 6;
+	/**
+	 * The natural logarithm of {@code x}.
+	 */
+	static final int LOG = 7;
+	/**
+	 * The sine of {@code x} radians.
+	 */
+	static final int SIN = 8;
+	/**
+	 * The cosine of {@code x} radians.
+	 */
+	static final int COS = 9;
+	/**
+	 * The tangent of {@code x} radians.
+	 */
+	static final int TAN = 10;
+	/**
+	 * The arc sine of {@code x} in radians.
+	 */
+	static final int ASIN = 11;
+	/**
+	 * The arc cosine of {@code x} in radians.
+	 */
+	static final int ACOS = 12;
+	/**
+	 * The arc tangent of {@code x} in radians.
+	 */
+	static final int ATAN = 13;
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:06:50 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the engine for the given precision.
+	 * <ul>
+	 * <li>IEEE754 single and double precisions are computed with {@code float} and {@code double} operations.</li>
+	 * <li>The 8 bit, IEEE754 half and quadruple precisions are computed by a software floating point on pairs of {@code long}s.</li>
+	 * </ul>
+	 *
+	 * @param exponentBits the number of bits in the exponent.
+	 * @param bitLength    the total number of bits.
+	 * @return the engine for the precision or {@code null} if it has none.
+	 */
+	static FPEngine forPrecision(int exponentBits, int bitLength) {
+		if (exponentBits == 8 && bitLength == Integer.SIZE)
+			return HardwareFP.SINGLE;
+		else if (exponentBits == 11 && bitLength == Long.SIZE)
+			return HardwareFP.DOUBLE;
+		else if (exponentBits == 4 && bitLength == Byte.SIZE)
+			return SoftFP.BIT8;
+		else if (exponentBits == 5 && bitLength == Short.SIZE)
+			return SoftFP.HALF;
+		else if (exponentBits == 15 && bitLength == Long.SIZE * 2)
+			return SoftFP.QUADRUPLE;
+		return null;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:10:14 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the given operation.
+	 *
+	 * @param op the operation such as {@link #ADD}.
+	 * @param x  the bit layout of the first operand, which is finite.
+	 * @param y  the bit layout of the second operand, which is finite, or {@code null} if the operation takes one operand.
+	 * @param rm the rounding mode.
+	 * @return the bit layout of the result or {@code null} if this engine cannot compute it.
+	 */
+	abstract BigInteger apply(int op, BigInteger x, BigInteger y, RoundingMode rm);
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:12:41 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the given elementary function with {@code StrictMath}.
+	 *
+	 * @param op the operation such as {@link #SIN}.
+	 * @param x  the first operand.
+	 * @param y  the second operand, which is only used by {@link #POW}.
+	 * @return the result, which is {@code NaN} if the operation is not an elementary function.
+	 */
+	static double function(int op, double x, double y) {
+		switch (op) {
+		case CBRT:
+			return StrictMath.cbrt(x);
+		case POW:
+			return StrictMath.pow(x, y);
+		case EXP:
+			return StrictMath.exp(x);
+		case LOG:
+			return StrictMath.log(x);
+		case SIN:
+			return StrictMath.sin(x);
+		case COS:
+			return StrictMath.cos(x);
+		case TAN:
+			return StrictMath.tan(x);
+		case ASIN:
+			return StrictMath.asin(x);
+		case ACOS:
+			return StrictMath.acos(x);
+		case ATAN:
+			return StrictMath.atan(x);
+		default:
+			return Double.NaN;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:15:26 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if a value that lies strictly between two consecutive representable values is rounded to the one with the greater
+	 * magnitude.
+	 *
+	 * @param rm     the rounding mode.
+	 * @param neg    {@code true} if the value is negative.
+	 * @param half   the comparison of the part that is rounded off with half the distance between the two values, which is
+	 *               negative, zero or positive as the part is less than, equal to or greater than half.
+	 * @param oddLow {@code true} if the representable value with the lesser magnitude is odd.
+	 * @return {@code true} if the value rounds away from zero.
+	 */
+	static boolean roundsUp(RoundingMode rm, boolean neg, int half, boolean oddLow) {
+		switch (rm) {
+		case UP:
+			return true;
+		case CEILING:
+			return !neg;
+		case FLOOR:
+			return neg;
+		case HALF_UP:
+			return half >= 0;
+		case HALF_DOWN:
+			return half > 0;
+		case HALF_EVEN:
+			return half > 0 || (half == 0 && oddLow);
+		case DOWN:
+		case UNNECESSARY:
+		default:
+			return false;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:19:03 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if a result that is too large for the precision becomes infinity rather than the largest finite value.
+	 *
+	 * @param rm  the rounding mode.
+	 * @param neg {@code true} if the result is negative.
+	 * @return {@code true} if the result overflows to infinity.
+	 */
+	static boolean overflowsToInfinity(RoundingMode rm, boolean neg) {
+		return roundsUp(rm, neg, 1, false);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:25:12 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the given unsigned 128 bit number as a {@code BigInteger}.
+	 *
+	 * @param hi the high bits.
+	 * @param lo the low bits.
+	 * @return the number as a {@code BigInteger}.
+	 */
+	static BigInteger unsigned(long hi, long lo) {
+		if (hi == 0 && lo >= 0)
+			return BigInteger.valueOf(lo);
+		final byte[] b = new byte[16];
+		for (int i = 0; i < 8; i++) {
+			b[7 - i] = (byte) (hi >>> (i << 3));
+			b[15 - i] = (byte) (lo >>> (i << 3));
+		}
+		return new BigInteger(1, b);
+	}
+}
@@ -0,0 +1,588 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import static java.math.BigInteger.ONE;
+import static java.math.BigInteger.TWO;
+import static java.math.BigInteger.valueOf;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+import mathaid.calculator.base.util.Primes;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 16:20:04 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: FactorEngine.java ------------------------------------------------------
+ * Class name: FactorEngine ------------------------------------------------
+ */
+/**
+ * Factorises non-negative integers by choosing an {@link Algorithm} from the bit length of each composite that it needs to
+ * split.
+ * <p>
+ * Small primes are always removed by trial division first. Every cofactor that remains is tested for primality and for being a
+ * perfect power, and is otherwise split by the algorithm returned by {@link Algorithm#forBitLength(int)}:
+ * <ul>
+ * <li>{@link Algorithm#TRIAL_DIVISION} for values up to {@value #TRIAL_BITS} bits.</li>
+ * <li>{@link Algorithm#BRENT_RHO} for values up to {@value #RHO_BITS} bits.</li>
+ * <li>{@link Algorithm#SIQS}, the self-initialising quadratic sieve, for values of about 20 to 100 decimal digits.</li>
+ * <li>{@link Algorithm#ECM}, the elliptic curve method with curves run in parallel on a {@code ForkJoinPool}, for anything
+ * larger.</li>
+ * </ul>
+ * The two factors of every split are factorised recursively, so the algorithm may change as the values become smaller.
+ * <p>
+ * Because a large factorisation can run for a long time, every call takes a {@link Token} which is polled by all the
+ * algorithms. A token may be cancelled from another thread or created with a deadline, and the factorisation also stops if the
+ * calling thread is interrupted. In all these cases a {@code CancellationException} is thrown.
+ * <p>
+ * The complete factorisations of large composites are kept in a small least-recently-used cache, so that a value that is
+ * factorised repeatedly (such as the numerator of a result shown in several details) is only split once.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public final class FactorEngine {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:22:40 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.value ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: FactorEngine.java ------------------------------------------------------
+	 * Class name: Algorithm ------------------------------------------------
+	 */
+	/**
+	 * The methods used by a {@code FactorEngine} to split a composite into two non-trivial factors.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	public static enum Algorithm {
+		/**
+		 * Division by every odd number up to the square root.
+		 */
+		TRIAL_DIVISION {
+			@Override
+			BigInteger split(FactorEngine engine, BigInteger n, Token token) {
+				long v = n.longValueExact();
+				for (long d = 3; d <= v / d; d += 2) {
+					if ((d & 0xffff) == 1)
+						token.check();
+					if (v % d == 0)
+						return BigInteger.valueOf(d);
+				}
+				return n;
+			}
+		},
+		/**
+		 * Brent's variant of Pollard's rho method.
+		 */
+		BRENT_RHO {
+			@Override
+			BigInteger split(FactorEngine engine, BigInteger n, Token token) {
+				return brentRho(n, token);
+			}
+		},
+		/**
+		 * The self-initialising quadratic sieve.
+		 */
+		SIQS {
+			@Override
+			BigInteger split(FactorEngine engine, BigInteger n, Token token) {
+				return new QuadraticSieve(n, token).split();
+			}
+		},
+		/**
+		 * Lenstra's elliptic curve method, with curves run in parallel.
+		 */
+		ECM {
+			@Override
+			BigInteger split(FactorEngine engine, BigInteger n, Token token) {
+				return EllipticCurveMethod.split(n, engine.pool, token);
+			}
+		};
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 16:25:18 ---------------------------------------------------
+		 */
+		/**
+		 * Splits the given odd composite which is neither a prime nor a perfect power.
+		 *
+		 * @param engine the engine that is calling this method.
+		 * @param n      the value to be split.
+		 * @param token  the token that is polled for cancellation.
+		 * @return a non-trivial factor of {@code n}, or {@code n} itself if no factor was found.
+		 * @throws CancellationException if {@code token} is cancelled.
+		 */
+		abstract BigInteger split(FactorEngine engine, BigInteger n, Token token);
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 16:26:44 ---------------------------------------------------
+		 */
+		/**
+		 * Chooses the algorithm that is expected to be the fastest for a composite of the given size.
+		 *
+		 * @param bits the bit length of the composite.
+		 * @return the algorithm with which a composite of {@code bits} bits is split.
+		 */
+		public static Algorithm forBitLength(int bits) {
+			if (bits <= TRIAL_BITS)
+				return TRIAL_DIVISION;
+			if (bits <= RHO_BITS)
+				return BRENT_RHO;
+			if (bits <= SIQS_BITS)
+				return SIQS;
+			return ECM;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:28:02 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.value ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: FactorEngine.java ------------------------------------------------------
+	 * Class name: Token ------------------------------------------------
+	 */
+	/**
+	 * A cancellation token with an optional deadline. A token is cancelled once {@link #cancel()} has been called or once it's
+	 * deadline has passed. {@link #check()} also treats an interrupt of the current thread as a cancellation, so that a
+	 * factorisation run as a cancellable task stops when the task is cancelled.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	public static final class Token {
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 16:29:15 ---------------------------------------------------
+		 */
+		/**
+		 * Creates a token that has no deadline and is only cancelled by {@link #cancel()} or an interrupt.
+		 *
+		 * @return a new token with no deadline.
+		 */
+		public static Token create() {
+			return new Token(Long.MAX_VALUE);
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 16:29:48 ---------------------------------------------------
+		 */
+		/**
+		 * Creates a token that is cancelled once the given number of milliseconds has elapsed.
+		 *
+		 * @param millis the time allowed, in milliseconds, from now.
+		 * @return a new token with a deadline.
+		 */
+		public static Token within(long millis) {
+			return new Token(System.nanoTime() + Math.max(0, millis) * 1_000_000L);
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 16:30:21 ---------------------------------------------------
+		 */
+		/**
+		 * Constructs a {@code Token} with the given deadline.
+		 *
+		 * @param deadline the value of {@link System#nanoTime()} after which this token is cancelled, or {@code Long.MAX_VALUE}
+		 *                 for no deadline.
+		 */
+		private Token(long deadline) {
+			this.deadline = deadline;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 16:30:57 ---------------------------------------------------
+		 */
+		/**
+		 * Cancels this token. Any factorisation polling this token will throw a {@code CancellationException}.
+		 */
+		public void cancel() {
+			cancelled = true;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 16:31:30 ---------------------------------------------------
+		 */
+		/**
+		 * Checks if this token has been cancelled or if it's deadline has passed. The interrupt status of the current thread is
+		 * not consulted.
+		 *
+		 * @return {@code true} if this token is cancelled.
+		 */
+		public boolean isCancelled() {
+			if (cancelled)
+				return true;
+			if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0)
+				cancelled = true;
+			return cancelled;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 16:32:06 ---------------------------------------------------
+		 */
+		/**
+		 * Throws if this token is cancelled or the current thread has been interrupted.
+		 *
+		 * @throws CancellationException if this token is cancelled or the current thread is interrupted.
+		 */
+		public void check() {
+			if (isCancelled() || Thread.currentThread().isInterrupted())
+				throw new CancellationException("factorisation cancelled");
+		}
+
+		/**
+		 * The deadline in {@link System#nanoTime()} units.
+		 */
+		private final long deadline;
+		/**
+		 * Set when this token is cancelled.
+		 */
+		private volatile boolean cancelled;
+	}
+
+	/**
+	 * The largest bit length for which {@link Algorithm#TRIAL_DIVISION} is chosen.
+	 */
+	static final int TRIAL_BITS = 40;
+	/**
+	 * The largest bit length for which {@link Algorithm#BRENT_RHO} is chosen.
+	 */
+	static final int RHO_BITS = 64;
+	/**
+	 * The largest bit length (about 100 decimal digits) for which {@link Algorithm#SIQS} is chosen.
+	 */
+	static final int SIQS_BITS = 333;
+	/**
+	 * The primes below this value are removed by trial division before any other algorithm is tried.
+	 */
+	private static final int SMALL_PRIME_BOUND = 1 << 12;
+	/**
+	 * The most times that {@link Algorithm#ECM} runs it's whole schedule of curves on a composite before the composite is given
+	 * up on.
+	 */
+	static final int ECM_RUNS = 3;
+	/**
+	 * Composites smaller than this bit length are never cached.
+	 */
+	private static final int CACHE_BITS = 64;
+	/**
+	 * The default number of cached factorisations.
+	 */
+	public static final int DEFAULT_CACHE_CAPACITY = 64;
+	/**
+	 * The primes below {@link #SMALL_PRIME_BOUND}.
+	 */
+	private static final int[] SMALL_PRIMES = Primes.primesBelow(SMALL_PRIME_BOUND);
+	/**
+	 * The engine returned by {@link #getDefault()}.
+	 */
+	private static final FactorEngine DEFAULT = new FactorEngine(ForkJoinPool.commonPool(), DEFAULT_CACHE_CAPACITY);
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:34:11 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the shared engine which runs it's elliptic curves on the common {@code ForkJoinPool}.
+	 *
+	 * @return the default engine.
+	 */
+	public static FactorEngine getDefault() {
+		return DEFAULT;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:35:02 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code FactorEngine} that runs the curves of the elliptic curve method on the given pool and caches up to the
+	 * given number of factorisations.
+	 *
+	 * @param pool          the pool used by {@link Algorithm#ECM}.
+	 * @param cacheCapacity the maximum number of cached factorisations. A value of 0 disables the cache.
+	 * @throws IllegalArgumentException if {@code cacheCapacity < 0}.
+	 */
+	public FactorEngine(ForkJoinPool pool, int cacheCapacity) {
+		if (cacheCapacity < 0)
+			throw new IllegalArgumentException("cacheCapacity: " + cacheCapacity);
+		this.pool = pool;
+		this.cacheCapacity = cacheCapacity;
+		cache = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<BigInteger, List<BigInteger>> eldest) {
+				return size() > FactorEngine.this.cacheCapacity;
+			}
+		};
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:36:40 ---------------------------------------------------
+	 */
+	/**
+	 * Factorises the argument with no deadline. This is the same as {@code factors(n, Token.create())}.
+	 *
+	 * @param n a non-negative value.
+	 * @return the prime factors of {@code n} in ascending order, each repeated as many times as it divides {@code n}.
+	 * @throws CancellationException if the current thread is interrupted.
+	 */
+	public List<BigInteger> factors(BigInteger n) {
+		return factors(n, Token.create());
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:37:25 ---------------------------------------------------
+	 */
+	/**
+	 * Factorises the argument into it's prime factors. If {@code n} is 0 or 1, then a list containing only {@code n} is
+	 * returned.
+	 *
+	 * @param n     a non-negative value.
+	 * @param token the token polled for cancellation.
+	 * @return an unmodifiable list of the prime factors of {@code n} in ascending order, each repeated as many times as it divides
+	 *         {@code n}. A composite that {@link Algorithm#ECM} fails to split in {@value #ECM_RUNS} runs of it's whole schedule
+	 *         is added to the list as it is, and such a factorisation is not cached.
+	 * @throws IllegalArgumentException if {@code n} is negative.
+	 * @throws CancellationException    if {@code token} is cancelled or the current thread is interrupted before the
+	 *                                  factorisation completes.
+	 */
+	public List<BigInteger> factors(BigInteger n, Token token) {
+		if (n.signum() < 0)
+			throw new IllegalArgumentException("negative: " + n);
+		if (n.compareTo(ONE) <= 0)
+			return Collections.unmodifiableList(Arrays.asList(n));
+		List<BigInteger> cached = cached(n);
+		if (cached != null)
+			return cached;
+		List<BigInteger> dump = new ArrayList<>();
+		BigInteger m = removeSmallPrimes(n, dump);
+		boolean complete = m.compareTo(ONE) <= 0 || factor(m, dump, token);
+		Collections.sort(dump);
+		List<BigInteger> l = Collections.unmodifiableList(dump);
+		if (complete && n.bitLength() > CACHE_BITS && cacheCapacity > 0)
+			synchronized (cache) {
+				cache.put(n, l);
+			}
+		return l;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:39:00 ---------------------------------------------------
+	 */
+	/**
+	 * Removes every factorisation from the cache of this engine.
+	 */
+	public void clearCache() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:39:31 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the cached factorisation of the argument.
+	 *
+	 * @param n the value whose factors are to be retrieved.
+	 * @return the cached factors of {@code n} or {@code null} if it is not cached.
+	 */
+	private List<BigInteger> cached(BigInteger n) {
+		if (n.bitLength() <= CACHE_BITS || cacheCapacity == 0)
+			return null;
+		synchronized (cache) {
+			return cache.get(n);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:40:15 ---------------------------------------------------
+	 */
+	/**
+	 * Adds the prime factors of the argument to the given list. The argument must be greater than 1 and have no factor below
+	 * {@link #SMALL_PRIME_BOUND}.
+	 *
+	 * @param n     the value to be factorised.
+	 * @param dump  the list to which the prime factors are added.
+	 * @param token the token polled for cancellation.
+	 * @return {@code false} if a composite that could not be split was added to {@code dump}, otherwise {@code true}.
+	 */
+	private boolean factor(BigInteger n, List<BigInteger> dump, Token token) {
+		token.check();
+		if (Primes.isPrime(n)) {
+			dump.add(n);
+			return true;
+		}
+		List<BigInteger> cached = cached(n);
+		if (cached != null) {
+			dump.addAll(cached);
+			return true;
+		}
+		for (int k = 2; k <= n.bitLength() / 12; k++) {
+			BigInteger r = root(n, k);
+			if (r.pow(k).equals(n)) {
+				List<BigInteger> l = new ArrayList<>();
+				boolean complete = factor(r, l, token);
+				for (int i = 0; i < k; i++)
+					dump.addAll(l);
+				return complete;
+			}
+		}
+		Algorithm a = Algorithm.forBitLength(n.bitLength());
+		BigInteger d = a.split(this, n, token);
+		/* fall back on the elliptic curve method if the chosen algorithm failed, giving up after a few runs of it */
+		for (int i = a == Algorithm.ECM ? 1 : 0; (d.equals(n) || d.equals(ONE)) && i < ECM_RUNS; i++)
+			d = Algorithm.ECM.split(this, n, token);
+		if (d.equals(n) || d.equals(ONE)) {
+			dump.add(n);
+			return false;
+		}
+		boolean complete = factor(d, dump, token);
+		return factor(n.divide(d), dump, token) && complete;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:42:03 ---------------------------------------------------
+	 */
+	/**
+	 * Divides out every prime below {@link #SMALL_PRIME_BOUND} from the argument.
+	 *
+	 * @param n    the value to be divided.
+	 * @param dump the list to which the small prime factors are added.
+	 * @return the cofactor of {@code n} which has no factor below {@link #SMALL_PRIME_BOUND}.
+	 */
+	private static BigInteger removeSmallPrimes(BigInteger n, List<BigInteger> dump) {
+		int twos = n.getLowestSetBit();
+		for (int i = 0; i < twos; i++)
+			dump.add(TWO);
+		n = n.shiftRight(twos);
+		for (int i = 1; i < SMALL_PRIMES.length; i++) {
+			int p = SMALL_PRIMES[i];
+			if ((long) p * p > n.doubleValue())
+				break;
+			BigInteger bp = null;
+			while (n.mod(valueOf(p)).signum() == 0) {
+				if (bp == null)
+					bp = valueOf(p);
+				dump.add(bp);
+				n = n.divide(bp);
+			}
+		}
+		/* a cofactor below the square of the bound has no factor below the bound and so is prime */
+		if (n.compareTo(ONE) > 0 && n.bitLength() <= 24) {
+			dump.add(n);
+			return ONE;
+		}
+		return n;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:43:37 ---------------------------------------------------
+	 */
+	/**
+	 * Finds a factor of the argument using Brent's improvement of Pollard's rho method, with the products of differences
+	 * accumulated so that a gcd is computed once every {@code m} steps.
+	 *
+	 * @param n     an odd composite.
+	 * @param token the token polled for cancellation.
+	 * @return a non-trivial factor of {@code n}.
+	 */
+	static BigInteger brentRho(BigInteger n, Token token) {
+		ThreadLocalRandom rand = ThreadLocalRandom.current();
+		final int m = 128;
+		while (true) {
+			BigInteger y = new BigInteger(n.bitLength(), rand).mod(n);
+			BigInteger c = new BigInteger(n.bitLength(), rand).mod(n.subtract(ONE)).add(ONE);
+			BigInteger g = ONE, q = ONE, x = y, ys = y;
+			for (long r = 1; g.equals(ONE); r <<= 1) {
+				token.check();
+				x = y;
+				for (long i = 0; i < r; i++)
+					y = y.multiply(y).add(c).mod(n);
+				for (long k = 0; k < r && g.equals(ONE); k += m) {
+					ys = y;
+					for (long i = 0; i < Math.min(m, r - k); i++) {
+						y = y.multiply(y).add(c).mod(n);
+						q = q.multiply(x.subtract(y).abs()).mod(n);
+					}
+					g = q.gcd(n);
+				}
+			}
+			if (g.equals(n))
+				do {
+					ys = ys.multiply(ys).add(c).mod(n);
+					g = x.subtract(ys).abs().gcd(n);
+				} while (g.equals(ONE));
+			if (!g.equals(n))
+				return g;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 16:45:20 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the integer {@code k}th root of the argument rounded down using Newton's method.
+	 *
+	 * @param n a positive value.
+	 * @param k the index of the root, which is at least 2.
+	 * @return the largest integer {@code r} such that <code>r<sup>k</sup> &le; n</code>.
+	 */
+	static BigInteger root(BigInteger n, int k) {
+		if (k == 2)
+			return n.sqrt();
+		BigInteger km1 = valueOf(k - 1), bk = valueOf(k);
+		BigInteger x = ONE.shiftLeft(n.bitLength() / k + 1);
+		while (true) {
+			BigInteger y = km1.multiply(x).add(n.divide(x.pow(k - 1))).divide(bk);
+			if (y.compareTo(x) >= 0)
+				return x;
+			x = y;
+		}
+	}
+
+	/**
+	 * The pool on which elliptic curves are run.
+	 */
+	private final ForkJoinPool pool;
+	/**
+	 * The maximum size of {@link #cache}.
+	 */
+	private final int cacheCapacity;
+	/**
+	 * The cached factorisations in access order.
+	 */
+	private final LinkedHashMap<BigInteger, List<BigInteger>> cache;
+}
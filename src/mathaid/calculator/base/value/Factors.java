@@ -9,6 +9,7 @@ import static java.math.BigInteger.ZERO;
 import static java.math.BigInteger.valueOf;
 
 import java.math.BigInteger;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -16,6 +17,7 @@ import java.util.List;
 import java.util.Random;
 
 import mathaid.calculator.base.util.Arith;
+import mathaid.calculator.base.util.Primes;
 
 /*
  * Date: 25 Oct 2020----------------------------------------------------------- 
@@ -46,12 +48,6 @@ final class Factors {
 	 */
 	private static final BigInteger M_1 = valueOf(-1);
 
-	/**
-	 * int constant for calculating the correctness of
-	 * {@code BigInteger.isProbablePrime(int)}
-	 */
-	private static final int CERTAINTY = 1_000_000;
-
 	/*
 	 * Date: 24 Jul 2021-----------------------------------------------------------
 	 * Time created: 10:02:35---------------------------------------------------
@@ -127,16 +123,24 @@ final class Factors {
 	 *         the input number
 	 */
 	static List<BigInteger> trialDivision(BigInteger n) {
-		if (n.isProbablePrime(CERTAINTY))
+		if (Primes.isPrime(n))
 			return Arrays.asList(n);
 
 		final List<BigInteger> dump = new ArrayList<>();
-		BigInteger factor = TWO;
-		while (n.remainder(TWO).signum() == 0) {
-			dump.add(TWO);
-			n = n.divide(TWO);
+		BigInteger factor;
+		/* divide by the primes of the shared sieve first, then by every odd number after them */
+		final int limit = Primes.getLimit();
+		final IntBuffer primes = Primes.primesView(limit);
+		while (primes.hasRemaining()) {
+			factor = valueOf(primes.get());
+			if (factor.pow(2).compareTo(n) > 0)
+				break;
+			while (n.remainder(factor).signum() == 0) {
+				dump.add(factor);
+				n = n.divide(factor);
+			}
 		}
-		factor = THREE;
+		factor = valueOf(limit | 1);
 		while (factor.pow(2).compareTo(n) <= 0) {
 			if (n.remainder(factor).signum() == 0) {
 				dump.add(factor);
@@ -167,7 +171,7 @@ final class Factors {
 	 */
 	static List<BigInteger> trialDivision(final BigInteger n, final List<BigInteger> dump, BigInteger[] objects,
 			boolean[] b) {
-		if (n.isProbablePrime(CERTAINTY)) {
+		if (Primes.isPrime(n)) {
 			dump.add(n);
 			return dump;
 		}
@@ -221,7 +225,7 @@ final class Factors {
 	 */
 	private static BigInteger trialDiv(BigInteger n, BigInteger[] objects, boolean[] b) {
 
-		if (n.isProbablePrime(CERTAINTY))
+		if (Primes.isPrime(n))
 			return n;
 
 		/*
@@ -269,7 +273,7 @@ final class Factors {
 	private static BigInteger pollardRho(BigInteger n, Random rand) {
 		if (n.remainder(TWO).signum() == 0)
 			return TWO;
-		else if (n.isProbablePrime(CERTAINTY))
+		else if (Primes.isPrime(n))
 			return n;
 		BigInteger x, y, c, g;
 		x = new BigInteger(n.bitLength(), rand).add(ONE);
@@ -299,7 +303,7 @@ final class Factors {
 	 * @return a list of prime factors of n
 	 */
 	private static List<BigInteger> pFactors(BigInteger n, List<BigInteger> dump) {
-		if (n.isProbablePrime(CERTAINTY)) {
+		if (Primes.isPrime(n)) {
 			dump.add(n);
 			return dump;
 		}
@@ -335,7 +339,7 @@ final class Factors {
 	static BigInteger brentRho(BigInteger n, Random rand) {
 		if (n.remainder(TWO).signum() == 0)
 			return TWO;
-		else if (n.isProbablePrime(CERTAINTY))
+		else if (Primes.isPrime(n))
 			return n;
 		BigInteger y = new BigInteger(n.bitLength(), rand).add(ONE), c = new BigInteger(n.bitLength(), rand).add(ONE),
 				m = new BigInteger(n.bitLength(), rand).add(ONE), g = ONE, r = g, q = g, ys = g, x = g;
@@ -387,7 +391,7 @@ final class Factors {
 	 */
 	static List<BigInteger> bFactors(BigInteger n, List<BigInteger> dump) {
 
-		if (n.isProbablePrime(CERTAINTY)) {
+		if (Primes.isPrime(n)) {
 			dump.add(n);
 			return dump;
 		}
@@ -413,7 +417,7 @@ final class Factors {
 	 * @return a prime factor of n
 	 */
 	static BigInteger fermat(BigInteger n) {
-		if (n.isProbablePrime(CERTAINTY))
+		if (Primes.isPrime(n))
 			return n;
 //		BigInteger a, bsq;
 //		long i = 1;
@@ -461,7 +465,7 @@ final class Factors {
 	 */
 	static List<BigInteger> fermat(BigInteger n, List<BigInteger> dump) {
 
-		if (n.isProbablePrime(CERTAINTY)) {
+		if (Primes.isPrime(n)) {
 			dump.add(n);
 			return dump;
 		}
@@ -0,0 +1,326 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 12:52:06 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: HardwareFP.java ------------------------------------------------------
+ * Class name: HardwareFP ------------------------------------------------
+ */
+/**
+ * Computes IEEE754 single and double precision values with {@code float} and {@code double} operations.
+ * <p>
+ * The hardware only rounds to nearest with ties to even, so the other rounding modes are emulated from the error of the
+ * rounded result, which is exact when computed by {@link Math#fma(double, double, double)} (or by the sum of the errors of an
+ * addition), unless the result is very small or very large. A single precision result is computed as a {@code double}
+ * together with the sign of its error and then rounded to a {@code float}. A double precision result whose error cannot be
+ * computed exactly is computed by {@link SoftFP#DOUBLE} instead.
+ * <p>
+ * The elementary functions are computed with {@code StrictMath}, whose {@code double} results are within 1 ulp of the exact
+ * result. The rounding mode is applied to them when they are rounded to a {@code float} but is not applied to a double
+ * precision result.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class HardwareFP extends FPEngine {
+
+	/**
+	 * The engine for {@link FloatAid#IEEE754Single()}.
+	 */
+	static final HardwareFP SINGLE = new HardwareFP(false);
+	/**
+	 * The engine for {@link FloatAid#IEEE754Double()}.
+	 */
+	static final HardwareFP DOUBLE = new HardwareFP(true);
+
+	/**
+	 * The least exponent of an operand or quotient for which the error of a {@code double} product, quotient or square root can
+	 * be computed exactly and is not a tie between subnormal values.
+	 */
+	private static final int MIN_EXACT_EXPONENT = -960;
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:55:31 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a {@code HardwareFP}.
+	 *
+	 * @param isDouble {@code true} for double precision and {@code false} for single precision.
+	 */
+	private HardwareFP(boolean isDouble) {
+		this.isDouble = isDouble;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:56:48 ---------------------------------------------------
+	 */
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	BigInteger apply(int op, BigInteger x, BigInteger y, RoundingMode rm) {
+		if (isDouble) {
+			final double a = Double.longBitsToDouble(x.longValue());
+			final double b = y == null ? 0 : Double.longBitsToDouble(y.longValue());
+			if (!Double.isFinite(a) || !Double.isFinite(b))
+				return null;
+			return applyDouble(op, a, b, x, y, rm);
+		}
+		final float a = Float.intBitsToFloat(x.intValue());
+		final float b = y == null ? 0 : Float.intBitsToFloat(y.intValue());
+		if (!Float.isFinite(a) || !Float.isFinite(b))
+			return null;
+		return applyFloat(op, a, b, rm);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:01:12 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the given operation in single precision.
+	 *
+	 * @param op the operation.
+	 * @param a  the first operand.
+	 * @param b  the second operand.
+	 * @param rm the rounding mode.
+	 * @return the bit layout of the result or {@code null} if it cannot be computed.
+	 */
+	private static BigInteger applyFloat(int op, float a, float b, RoundingMode rm) {
+		/*
+		 * Products of floats are exact as doubles, and the errors of the other operations are exact because the exponents of floats
+		 * are far from the limits of a double.
+		 */
+		final double r;
+		int error = 0;
+		switch (op) {
+		case ADD:
+			r = (double) a + b;
+			error = (int) Math.signum(sumError(a, b, r));
+			if (r == 0 && error == 0)
+				return floatBits(zeroSum(a, b, rm));
+			break;
+		case MULTIPLY:
+			r = (double) a * b;
+			break;
+		case DIVIDE:
+			if (b == 0)
+				return null;
+			r = (double) a / b;
+			error = (int) (Math.signum(Math.fma(-r, b, a)) * Math.signum(b));
+			break;
+		case SQRT:
+			if (a < 0)
+				return null;
+			r = Math.sqrt(a);
+			error = (int) Math.signum(Math.fma(-r, r, a));
+			break;
+		default:
+			r = function(op, a, b);
+			if (!Double.isFinite(r))
+				return null;
+		}
+		return floatBits(toFloat(r, error, rm));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:08:40 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the given operation in double precision.
+	 *
+	 * @param op the operation.
+	 * @param a  the first operand.
+	 * @param b  the second operand.
+	 * @param x  the bit layout of the first operand.
+	 * @param y  the bit layout of the second operand.
+	 * @param rm the rounding mode.
+	 * @return the bit layout of the result or {@code null} if it cannot be computed.
+	 */
+	private static BigInteger applyDouble(int op, double a, double b, BigInteger x, BigInteger y, RoundingMode rm) {
+		final double r;
+		/*
+		 * The exact result minus r, or its sign where the division and square root do not have ties
+		 */
+		final double error;
+		switch (op) {
+		case ADD:
+			r = a + b;
+			if (rm == RoundingMode.HALF_EVEN)
+				return doubleBits(r);
+			else if (r == 0)
+				return doubleBits(zeroSum(a, b, rm));
+			else if (Math.max(Math.getExponent(a), Math.getExponent(b)) == Double.MAX_EXPONENT)
+				return SoftFP.DOUBLE.apply(op, x, y, rm);
+			error = sumError(a, b, r);
+			break;
+		case MULTIPLY:
+			r = a * b;
+			if (rm == RoundingMode.HALF_EVEN)
+				return doubleBits(r);
+			else if (r == 0 || Math.getExponent(a) + Math.getExponent(b) < MIN_EXACT_EXPONENT)
+				return SoftFP.DOUBLE.apply(op, x, y, rm);
+			error = Math.fma(a, b, -r);
+			break;
+		case DIVIDE:
+			if (b == 0)
+				return null;
+			r = a / b;
+			if (rm == RoundingMode.HALF_EVEN)
+				return doubleBits(r);
+			else if (r == 0 || Math.getExponent(a) < MIN_EXACT_EXPONENT || Math.getExponent(b) < Double.MIN_EXPONENT
+					|| Math.getExponent(r) < MIN_EXACT_EXPONENT)
+				return SoftFP.DOUBLE.apply(op, x, y, rm);
+			error = Math.signum(Math.fma(-r, b, a)) * Math.signum(b);
+			break;
+		case SQRT:
+			if (a < 0)
+				return null;
+			r = Math.sqrt(a);
+			if (rm == RoundingMode.HALF_EVEN || a == 0)
+				return doubleBits(r);
+			else if (Math.getExponent(a) < MIN_EXACT_EXPONENT)
+				return SoftFP.DOUBLE.apply(op, x, y, rm);
+			error = Math.signum(Math.fma(-r, r, a));
+			break;
+		default:
+			r = function(op, a, b);
+			return Double.isFinite(r) ? doubleBits(r) : null;
+		}
+		if (Double.isInfinite(r))
+			return SoftFP.DOUBLE.apply(op, x, y, rm);
+		else if (error == 0)
+			return doubleBits(r);
+		/*
+		 * r is the representable value nearest to the exact result, which lies between r and the next value in the direction of the
+		 * error
+		 */
+		final double next = error > 0 ? Math.nextUp(r) : Math.nextDown(r);
+		final boolean nextIsGreater = Math.abs(next) > Math.abs(r);
+		final double lesser = nextIsGreater ? r : next, greater = nextIsGreater ? next : r;
+		final int half = op == ADD || op == MULTIPLY ? Double.compare(2 * Math.abs(error), Math.abs(next - r)) : -1;
+		final boolean up = roundsUp(rm, r < 0, half == 0 ? 0 : nextIsGreater ? -1 : 1,
+				(Double.doubleToRawLongBits(lesser) & 1) != 0);
+		return doubleBits(up ? greater : lesser);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:17:25 ---------------------------------------------------
+	 */
+	/**
+	 * Rounds a {@code double} to a {@code float} with the given rounding mode.
+	 *
+	 * @param r     the {@code double} nearest to the exact value.
+	 * @param error the sign of the exact value minus {@code r}.
+	 * @param rm    the rounding mode.
+	 * @return the rounded value.
+	 */
+	private static float toFloat(double r, int error, RoundingMode rm) {
+		final float f = (float) r;
+		if (f == r && error == 0)
+			return f;
+		/*
+		 * The float that (float) r rounded to is one of the 2 floats around the exact value. The other is found by stepping away from
+		 * or towards zero.
+		 */
+		final boolean exact = f == r;
+		final boolean fIsLesser = exact ? error * Math.signum(r) > 0 : Math.abs(f) < Math.abs(r);
+		final float lesser, greater;
+		if (fIsLesser) {
+			lesser = f;
+			greater = r > 0 ? Math.nextUp(f) : Math.nextDown(f);
+		} else {
+			greater = f;
+			lesser = Float.isInfinite(f) ? Math.copySign(Float.MAX_VALUE, f) : r > 0 ? Math.nextDown(f) : Math.nextUp(f);
+		}
+		final int half;
+		if (exact)
+			half = fIsLesser ? -1 : 1;
+		else {
+			final double g = Float.isInfinite(greater) ? Math.copySign(0x1p128, r) : greater;
+			final int c = Double.compare(Math.abs(r), Math.abs(((double) lesser + g) / 2));
+			half = c != 0 ? c : error * (int) Math.signum(r);
+		}
+		return roundsUp(rm, r < 0, half, (Float.floatToRawIntBits(lesser) & 1) != 0) ? greater : lesser;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:24:58 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the error of {@code a + b} exactly, provided that {@code r - a} does not overflow.
+	 *
+	 * @param a the first operand.
+	 * @param b the second operand.
+	 * @param r {@code a + b} rounded to nearest.
+	 * @return the exact sum minus {@code r}.
+	 */
+	private static double sumError(double a, double b, double r) {
+		final double b1 = r - a;
+		return (a - (r - b1)) + (b - b1);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:26:30 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the zero that is the exact sum of 2 operands, which is negative if both operands are negative or if it is rounded
+	 * towards negative infinity.
+	 *
+	 * @param a  the first operand.
+	 * @param b  the second operand.
+	 * @param rm the rounding mode.
+	 * @return the signed zero.
+	 */
+	private static double zeroSum(double a, double b, RoundingMode rm) {
+		final boolean negA = Double.doubleToRawLongBits(a) < 0, negB = Double.doubleToRawLongBits(b) < 0;
+		return negA == negB ? a + b : rm == RoundingMode.FLOOR ? -0.0 : 0.0;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:29:11 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the bit layout of a {@code float}.
+	 *
+	 * @param f the value.
+	 * @return the bit layout as an unsigned {@code BigInteger}.
+	 */
+	private static BigInteger floatBits(double f) {
+		return BigInteger.valueOf(Float.floatToRawIntBits((float) f) & 0xffff_ffffL);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 13:30:02 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the bit layout of a {@code double}.
+	 *
+	 * @param d the value.
+	 * @return the bit layout as an unsigned {@code BigInteger}.
+	 */
+	private static BigInteger doubleBits(double d) {
+		return unsigned(0, Double.doubleToRawLongBits(d));
+	}
+
+	/**
+	 * Field for the precision, which is {@code true} for double and {@code false} for single.
+	 */
+	private final boolean isDouble;
+}
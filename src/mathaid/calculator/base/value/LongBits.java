@@ -0,0 +1,856 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import static mathaid.calculator.base.util.Utility.i;
+
+import java.math.BigInteger;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 09:14:26 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: LongBits.java ------------------------------------------------------
+ * Class name: LongBits ------------------------------------------------
+ */
+/**
+ * Static methods that do the work of {@link TC}, {@link OC}, {@link SMR}, {@link US}, {@link NB}, {@link Ex} and {@link MT} on
+ * primitive {@code long}s for bounds of 64 bits or less, which are the bounds of {@code byte}, {@code short}, {@code int} and
+ * {@code long}.
+ * <p>
+ * A value is held as a sign and a 64-bit unsigned magnitude, so that every value a bound of 64 bits can give, and every decimal
+ * value that fits in 64 bits, is held without loss. The carry (which is the second element of the {@code BigInteger[]} that the
+ * other classes use) is only written back if an operation sets it, just as the {@code BigInteger} methods do.
+ * <p>
+ * Each method returns {@code false} and leaves the array untouched if the bound is not from 4 to 64, if an operand or an
+ * intermediate result does not fit in 64 bits (an explicit overflow check is made for each arithmetic step), or if the
+ * {@code BigInteger} method would have thrown an exception. The caller must then do the operation with {@code BigInteger}s,
+ * which is also the only path for the 128 and 256 bit {@link BitLength}s. This means that the results of both paths are always
+ * identical, including the irregular results for negative shifts and the carry, as the methods here follow the
+ * {@code BigInteger} methods step by step.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class LongBits {
+
+	/**
+	 * The representation used by {@link TC}.
+	 */
+	static final int TWOS_COMPLEMENT = 0;
+	/**
+	 * The representation used by {@link OC}.
+	 */
+	static final int ONES_COMPLEMENT = 1;
+	/**
+	 * The representation used by {@link SMR}.
+	 */
+	static final int SIGNED_MAGNITUDE = 2;
+	/**
+	 * The representation used by {@link US}.
+	 */
+	static final int UNSIGNED = 3;
+	/**
+	 * The representation used by {@link NB}.
+	 */
+	static final int NEGABINARY = 4;
+	/**
+	 * The representation used by {@link Ex}.
+	 */
+	static final int EXCESS_K = 5;
+
+	/**
+	 * The arithmetic operation {@code x + y}.
+	 */
+	static final int ADD = 0;
+	/**
+	 * The arithmetic operation {@code x - y}.
+	 */
+	static final int SUBTRACT = 1;
+	/**
+	 * The arithmetic operation {@code x * y}.
+	 */
+	static final int MULTIPLY = 2;
+	/**
+	 * The arithmetic operation {@code x / y}.
+	 */
+	static final int DIVIDE = 3;
+	/**
+	 * The arithmetic operation {@code x % y}.
+	 */
+	static final int REMAINDER = 4;
+	/**
+	 * The bitwise operation {@code x & y}.
+	 */
+	static final int AND = 5;
+	/**
+	 * The bitwise operation {@code x | y}.
+	 */
+	static final int OR = 6;
+	/**
+	 * The bitwise operation {@code x ^ y}.
+	 */
+	static final int XOR = 7;
+	/**
+	 * The bitwise operation {@code ~(x ^ y)}.
+	 */
+	static final int NAND = 8;
+
+	/**
+	 * The value returned by {@link #compare(int, int, BigInteger, BigInteger)} when the comparison cannot be done on {@code long}s.
+	 */
+	static final int NONE = Integer.MIN_VALUE;
+
+	/**
+	 * The largest bound supported.
+	 */
+	static final int MAX_BOUND = Long.SIZE;
+	/**
+	 * <code>2<sup>64</sup></code>, which is added to a magnitude that has it's most significant bit set to get it's unsigned value.
+	 */
+	private static final BigInteger TWO_64 = BigInteger.ONE.shiftLeft(Long.SIZE);
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:20:12 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code LongBits} that holds the value {@code 0}.
+	 *
+	 * @param x the {@code BigInteger} this was loaded from.
+	 */
+	private LongBits(BigInteger x) {
+		this.x = x;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:21:37 ---------------------------------------------------
+	 */
+	/**
+	 * Gets a {@code LongBits} that holds the given value.
+	 *
+	 * @param bound the bound of the operation.
+	 * @param x     the value.
+	 * @return a {@code LongBits} that holds {@code x} or {@code null} if either the bound is not supported or {@code x} does not
+	 *         fit in 64 bits.
+	 */
+	private static LongBits of(int bound, BigInteger x) {
+		if (bound < 4 || bound > MAX_BOUND)
+			return null;
+		final int l = x.bitLength();
+		if (l > Long.SIZE)
+			return null;
+		final LongBits n = new LongBits(x);
+		final long v = x.longValue();
+		if (l < Long.SIZE) {
+			n.neg = v < 0;
+			n.m = n.neg ? -v : v;
+		} else if (x.signum() > 0)
+			n.m = v;
+		else if (v == 0) // -2^64
+			return null;
+		else {
+			n.neg = true;
+			n.m = -v;
+		}
+		n.neg0 = n.neg;
+		n.m0 = n.m;
+		return n;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:25:02 ---------------------------------------------------
+	 */
+	/**
+	 * Stores the value, and the carry if it was set, in the given array. The {@code BigInteger} this was loaded from is stored if
+	 * the value did not change, so that no object is created.
+	 *
+	 * @param r the array where the first element is the value and the second is the carry.
+	 * @return {@code true}.
+	 */
+	private boolean store(BigInteger[] r) {
+		r[0] = neg == neg0 && m == m0 ? x : value();
+		if (carrySet)
+			r[1] = carry ? i(1) : i(0);
+		return true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:26:40 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the value as a {@code BigInteger}.
+	 *
+	 * @return the value.
+	 */
+	private BigInteger value() {
+		final BigInteger v = m >= 0 ? i(m) : i(m).add(TWO_64);
+		return neg ? v.negate() : v;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:28:55 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of the {@code fromDecimal} method of the class of the given representation on the first element of the
+	 * array.
+	 *
+	 * @param rep   the representation such as {@link #TWOS_COMPLEMENT}.
+	 * @param bound the bit length.
+	 * @param r     the array where the first element is the value and the second is the carry.
+	 * @return {@code true} if the result was stored in {@code r} or else {@code false}.
+	 */
+	static boolean fromDecimal(int rep, int bound, BigInteger[] r) {
+		final LongBits n = of(bound, r[0]);
+		return n != null && n.fromDecimal(rep, bound) && n.store(r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:30:18 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of the {@code MT.fromXXX} method for the given representation on the first element of the array.
+	 *
+	 * @param rep   the representation such as {@link #TWOS_COMPLEMENT}.
+	 * @param bound the bit length.
+	 * @param r     the array where the first element is the value and the second is the carry.
+	 * @return {@code true} if the result was stored in {@code r} or else {@code false}.
+	 */
+	static boolean toDecimal(int rep, int bound, BigInteger[] r) {
+		final LongBits n = of(bound, r[0]);
+		return n != null && n.toDecimal(rep, bound) && n.store(r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:31:44 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of the {@code abs} method of the class of the given representation on the first element of the array. This
+	 * does not support {@link #UNSIGNED}.
+	 *
+	 * @param rep   the representation such as {@link #TWOS_COMPLEMENT}.
+	 * @param bound the bit length.
+	 * @param r     the array where the first element is the value and the second is the carry.
+	 * @return {@code true} if the result was stored in {@code r} or else {@code false}.
+	 */
+	static boolean abs(int rep, int bound, BigInteger[] r) {
+		final LongBits n = of(bound, r[0]);
+		if (n == null || !n.toDecimal(rep, bound))
+			return false;
+		n.neg = false;
+		return n.fromDecimal(rep, bound) && n.store(r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:33:09 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of {@link TC#not(int, BigInteger[])}.
+	 *
+	 * @param bound the bit length.
+	 * @param r     the array where the first element is the value and the second is the carry.
+	 * @return {@code true} if the result was stored in {@code r} or else {@code false}.
+	 */
+	static boolean not(int bound, BigInteger[] r) {
+		final LongBits n = of(bound, r[0]);
+		if (n == null || !n.fromDecimal(TWOS_COMPLEMENT, bound))
+			return false;
+		final long ones = ones(bound);
+		if (Long.compareUnsigned(n.m, ones) <= 0)
+			n.m = ones - n.m;
+		else {
+			n.m -= ones;
+			n.neg = true;
+		}
+		return n.store(r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:35:21 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of the 2's complement arithmetic and bitwise methods such as {@link TC#add(int, BigInteger[])}, where the first
+	 * and second elements of the array are the operands.
+	 *
+	 * @param op    the operation such as {@link #ADD}.
+	 * @param bound the bit length.
+	 * @param r     the array where the first two elements are the operands.
+	 * @return {@code true} if the result was stored in {@code r} or else {@code false}.
+	 */
+	static boolean apply(int op, int bound, BigInteger[] r) {
+		final LongBits n = of(bound, r[0]);
+		if (n == null || r[0].bitLength() >= Long.SIZE || r[1].bitLength() >= Long.SIZE)
+			return false;
+		final long x = r[0].longValue();
+		final long y = r[1].longValue();
+		final long z;
+		switch (op) {
+		case ADD:
+			z = x + y;
+			if (((x ^ z) & (y ^ z)) < 0)
+				return false;
+			break;
+		case SUBTRACT:
+			z = x - y;
+			if (((x ^ y) & (x ^ z)) < 0)
+				return false;
+			break;
+		case MULTIPLY:
+			z = x * y;
+			if (Math.multiplyHigh(x, y) != (z >> (Long.SIZE - 1)))
+				return false;
+			break;
+		case DIVIDE:
+		case REMAINDER:
+			if (y == 0 || (x == Long.MIN_VALUE && y == -1))
+				return false;
+			z = op == DIVIDE ? x / y : x % y;
+			break;
+		case AND:
+			z = x & y;
+			break;
+		case OR:
+			z = x | y;
+			break;
+		case XOR:
+			z = x ^ y;
+			break;
+		case NAND:
+			z = ~(x ^ y);
+			break;
+		default:
+			return false;
+		}
+		n.neg = z < 0;
+		n.m = n.neg ? -z : z;
+		return n.fromDecimal(TWOS_COMPLEMENT, bound) && n.store(r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:38:47 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of the {@code shiftLeft} method of the class of the given representation.
+	 *
+	 * @param rep   the representation such as {@link #TWOS_COMPLEMENT}.
+	 * @param shift the shift distance.
+	 * @param bound the bit length.
+	 * @param r     the array where the first element is the value and the second is the carry.
+	 * @return {@code true} if the result was stored in {@code r} or else {@code false}.
+	 */
+	static boolean shiftLeft(int rep, int shift, int bound, BigInteger[] r) {
+		final LongBits n = of(bound, r[0]);
+		return n != null && n.sl(rep, shift, bound) && n.store(r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:39:30 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of the {@code shiftRight} method of the class of the given representation.
+	 *
+	 * @param rep        the representation such as {@link #TWOS_COMPLEMENT}.
+	 * @param shift      the shift distance.
+	 * @param bound      the bit length.
+	 * @param arithmetic {@code true} for an arithmetic shift.
+	 * @param r          the array where the first element is the value and the second is the carry.
+	 * @return {@code true} if the result was stored in {@code r} or else {@code false}.
+	 */
+	static boolean shiftRight(int rep, int shift, int bound, boolean arithmetic, BigInteger[] r) {
+		final LongBits n = of(bound, r[0]);
+		return n != null && n.sr(rep, shift, bound, arithmetic) && n.store(r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:40:16 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of the {@code circularShiftLeft} method of the class of the given representation.
+	 *
+	 * @param rep   the representation such as {@link #TWOS_COMPLEMENT}.
+	 * @param shift the shift distance.
+	 * @param bound the bit length.
+	 * @param carry {@code true} if the carry is rotated along with the value.
+	 * @param r     the array where the first element is the value and the second is the carry.
+	 * @return {@code true} if the result was stored in {@code r} or else {@code false}.
+	 */
+	static boolean circularShiftLeft(int rep, int shift, int bound, boolean carry, BigInteger[] r) {
+		final LongBits n = of(bound, r[0]);
+		if (n == null)
+			return false;
+		if (carry)
+			n.carry = r[1].testBit(0);
+		return n.csl(rep, shift, bound, carry) && n.store(r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:41:05 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of the {@code circularShiftRight} method of the class of the given representation.
+	 *
+	 * @param rep   the representation such as {@link #TWOS_COMPLEMENT}.
+	 * @param shift the shift distance.
+	 * @param bound the bit length.
+	 * @param carry {@code true} if the carry is rotated along with the value.
+	 * @param r     the array where the first element is the value and the second is the carry.
+	 * @return {@code true} if the result was stored in {@code r} or else {@code false}.
+	 */
+	static boolean circularShiftRight(int rep, int shift, int bound, boolean carry, BigInteger[] r) {
+		final LongBits n = of(bound, r[0]);
+		if (n == null)
+			return false;
+		if (carry)
+			n.carry = r[1].testBit(0);
+		return n.csr(rep, shift, bound, carry) && n.store(r);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:42:33 ---------------------------------------------------
+	 */
+	/**
+	 * Does the work of the {@code compare} method of the class of the given representation without creating a
+	 * {@code Comparator}. Like the {@code Comparator}s of all the classes, both operands are read back with
+	 * {@link MT#fromTC(int, BigInteger[])} after they have been converted to the given representation.
+	 *
+	 * @param rep   the representation such as {@link #TWOS_COMPLEMENT}.
+	 * @param bound the bit length.
+	 * @param x     the first operand in decimal.
+	 * @param y     the second operand in decimal.
+	 * @return -1, 0 or 1 as {@code x} is less than, equal to or greater than {@code y} or else {@link #NONE} if the comparison
+	 *         cannot be done on {@code long}s.
+	 */
+	static int compare(int rep, int bound, BigInteger x, BigInteger y) {
+		final LongBits a = of(bound, x);
+		final LongBits b = of(bound, y);
+		if (a == null || b == null || !a.fromDecimal(rep, bound) || !a.toDecimal(TWOS_COMPLEMENT, bound)
+				|| !b.fromDecimal(rep, bound) || !b.toDecimal(TWOS_COMPLEMENT, bound))
+			return NONE;
+		if (a.neg != b.neg)
+			return a.neg ? -1 : 1;
+		return a.neg ? Long.compareUnsigned(b.m, a.m) : Long.compareUnsigned(a.m, b.m);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:45:10 ---------------------------------------------------
+	 */
+	/**
+	 * Converts the value from decimal to the given representation.
+	 *
+	 * @param rep the representation.
+	 * @param b   the bit length.
+	 * @return {@code false} if the conversion cannot be done on {@code long}s.
+	 */
+	private boolean fromDecimal(int rep, int b) {
+		switch (rep) {
+		case TWOS_COMPLEMENT:
+			if (m == 0 || !neg) {
+				truncate(b);
+				return true;
+			}
+			neg = false;
+			truncate(b);
+			if (m != 0)
+				m = ones(b) - m + 1;
+			else if (b == MAX_BOUND)
+				return false;
+			else
+				m = 1L << b;
+			return true;
+		case ONES_COMPLEMENT:
+			if (m == 0 || !neg) {
+				truncate(b);
+				return true;
+			}
+			if (Long.compareUnsigned(m, ones(b)) > 0)
+				return false;
+			m = ones(b) - m;
+			neg = false;
+			return true;
+		case SIGNED_MAGNITUDE:
+			if (neg) {
+				neg = false;
+				if (bitLength(m) < b) {
+					m |= 1L << (b - 1);
+					return true;
+				}
+			}
+			truncate(b);
+			return true;
+		case UNSIGNED:
+			if (neg) {
+				neg = false;
+				m = 0;
+				return true;
+			}
+			return fromDecimal(TWOS_COMPLEMENT, b);
+		case NEGABINARY: {
+			if (!isLong())
+				return false;
+			final long x = neg ? -m : m;
+			final long mask = mask(b);
+			final long s = mask + x;
+			if (((x ^ s) & (mask ^ s)) < 0)
+				return false;
+			final long v = s ^ mask;
+			m = v < 0 ? -v : v;
+			neg = false;
+			truncate(b);
+			return true;
+		}
+		case EXCESS_K: {
+			if (!isLong())
+				return false;
+			final long x = neg ? -m : m;
+			neg = false;
+			if (b == MAX_BOUND) {
+				m = x ^ Long.MIN_VALUE;
+				return true;
+			}
+			final long bias = 1L << (b - 1);
+			final long s = x + bias;
+			if (((x ^ s) & (bias ^ s)) < 0)
+				return false;
+			m = s < 0 ? -s : s;
+			truncate(b);
+			return true;
+		}
+		default:
+			return false;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 09:52:48 ---------------------------------------------------
+	 */
+	/**
+	 * Converts the value from the given representation to decimal.
+	 *
+	 * @param rep the representation.
+	 * @param b   the bit length.
+	 * @return {@code false} if the conversion cannot be done on {@code long}s.
+	 */
+	private boolean toDecimal(int rep, int b) {
+		if (rep == UNSIGNED) {
+			if (!neg) {
+				truncate(b);
+				return true;
+			}
+			return bitLength(m - 1) <= b;
+		}
+		if (neg || bitLength(m) > b) {
+			if (!fromDecimal(rep, b))
+				return false;
+			return toDecimal(rep == TWOS_COMPLEMENT ? EXCESS_K : rep, b);
+		}
+		final boolean isNeg = bitLength(m) == b;
+		switch (rep) {
+		case TWOS_COMPLEMENT:
+			if (isNeg) {
+				m = ones(b) - (m - 1);
+				neg = true;
+			}
+			return true;
+		case ONES_COMPLEMENT:
+			if (isNeg) {
+				m = ones(b) - m;
+				neg = m != 0;
+			}
+			return true;
+		case SIGNED_MAGNITUDE:
+			if (isNeg) {
+				m ^= 1L << (b - 1);
+				neg = m != 0;
+			}
+			return true;
+		case NEGABINARY: {
+			final long mask = mask(b);
+			final long t = mask ^ m;
+			neg = Long.compareUnsigned(t, mask) < 0;
+			m = neg ? mask - t : t - mask;
+			return true;
+		}
+		case EXCESS_K: {
+			final long x = b == MAX_BOUND ? m ^ Long.MIN_VALUE : m - (1L << (b - 1));
+			neg = x < 0;
+			m = neg ? -x : x;
+			return true;
+		}
+		default:
+			return false;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:01:19 ---------------------------------------------------
+	 */
+	/**
+	 * Shifts the value to the left as {@code TC.sl} does.
+	 *
+	 * @param rep the representation.
+	 * @param s   the shift distance.
+	 * @param b   the bit length.
+	 * @return {@code false} if the shift cannot be done on {@code long}s.
+	 */
+	private boolean sl(int rep, int s, int b) {
+		if (Math.abs(s) > b)
+			s %= b;
+		if (s < 0 || !fromDecimal(rep, b))
+			return false;
+		if (m == 0 || s % b == 0)
+			return true;
+		if (bitLength(m) + s > b) {
+			m = (m << s) & ones(b);
+			setCarry(false);
+		} else
+			m <<= s;
+		return true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:04:51 ---------------------------------------------------
+	 */
+	/**
+	 * Shifts the value to the right as {@code TC.sr} does.
+	 *
+	 * @param rep the representation.
+	 * @param s   the shift distance.
+	 * @param b   the bit length.
+	 * @param a   {@code true} for an arithmetic shift.
+	 * @return {@code false} if the shift cannot be done on {@code long}s.
+	 */
+	private boolean sr(int rep, int s, int b, boolean a) {
+		if (Math.abs(s) > b)
+			s %= b;
+		if (s < 0 || !fromDecimal(rep, b))
+			return false;
+		if (m == 0 || s % b == 0)
+			return true;
+		final boolean isNeg = ((m >>> (b - 1)) & 1) != 0;
+		m >>>= s;
+		final int l = bitLength(m);
+		if (isNeg && a && l < b)
+			switch (rep) {
+			case TWOS_COMPLEMENT:
+			case ONES_COMPLEMENT:
+				m |= ones(b) & ~ones(l);
+				break;
+			case SIGNED_MAGNITUDE:
+				m |= 1L << (b - 1);
+				break;
+			default:
+			}
+		// Ex.sr sets and then clears the most significant bit, so it's value does not change
+		return true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:09:33 ---------------------------------------------------
+	 */
+	/**
+	 * Rotates the value to the left as {@code TC.csl} does.
+	 *
+	 * @param rep the representation.
+	 * @param s   the rotation distance.
+	 * @param b   the bit length.
+	 * @param c   {@code true} if the carry is rotated along with the value.
+	 * @return {@code false} if the rotation cannot be done on {@code long}s.
+	 */
+	private boolean csl(int rep, int s, int b, boolean c) {
+		if (s < 0 || !fromDecimal(rep, b))
+			return false;
+		if (s > b)
+			return csl(rep, s % b, b, c);
+		if (c) {
+			if (b >= MAX_BOUND)
+				return false;
+			setCarry(((m >>> (b - s)) & 1) != 0);
+			if (!csl(rep, s, b + 1, false))
+				return false;
+			m >>>= 1;
+			return csl(rep, 0, b, false);
+		}
+		if (m == 0 || bitLength(m) + s <= b) {
+			m <<= s;
+			return true;
+		}
+		m = ((s >= Long.SIZE ? 0 : m << s) & ones(b)) | (m >>> (b - s));
+		setCarry(b < MAX_BOUND && (m >>> b) != 0);
+		return true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:15:02 ---------------------------------------------------
+	 */
+	/**
+	 * Rotates the value to the right as {@code TC.csr} does.
+	 *
+	 * @param rep the representation.
+	 * @param s   the rotation distance.
+	 * @param b   the bit length.
+	 * @param c   {@code true} if the carry is rotated along with the value.
+	 * @return {@code false} if the rotation cannot be done on {@code long}s.
+	 */
+	private boolean csr(int rep, int s, int b, boolean c) {
+		if (s < 0 || !fromDecimal(rep, b))
+			return false;
+		if (s > b)
+			return csr(rep, s % b, b, c);
+		if (c) {
+			if (b >= MAX_BOUND || bitLength(m) >= Long.SIZE)
+				return false;
+			m = (m << 1) | (carry ? 1 : 0);
+			if (!csr(rep, s, b + 1, false))
+				return false;
+			m >>>= 1;
+			setCarry((m & 1) != 0);
+			return csr(rep, 0, b, false);
+		}
+		final long n = s >= Long.SIZE ? 0 : m >>> s;
+		if (bitLength(n) < b) {
+			final long low = m & ones(s);
+			m = (b - s >= Long.SIZE ? 0 : low << (b - s)) | n;
+		} else
+			m = n;
+		return true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:19:40 ---------------------------------------------------
+	 */
+	/**
+	 * Clears the bits above the given bound of a non-negative value, setting the carry to 0 if any bit was cleared.
+	 *
+	 * @param b the bit length.
+	 */
+	private void truncate(int b) {
+		if (bitLength(m) > b) {
+			m &= ones(b);
+			setCarry(false);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:20:26 ---------------------------------------------------
+	 */
+	/**
+	 * Sets the carry.
+	 *
+	 * @param c the new carry.
+	 */
+	private void setCarry(boolean c) {
+		carry = c;
+		carrySet = true;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:21:08 ---------------------------------------------------
+	 */
+	/**
+	 * Checks if the value is within the range of a {@code long}.
+	 *
+	 * @return {@code true} if the value is from {@link Long#MIN_VALUE} to {@link Long#MAX_VALUE}.
+	 */
+	private boolean isLong() {
+		return neg ? Long.compareUnsigned(m, Long.MIN_VALUE) <= 0 : m >= 0;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:22:15 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the number of bits in an unsigned value.
+	 *
+	 * @param x the unsigned value.
+	 * @return the index of the highest set bit plus 1.
+	 */
+	private static int bitLength(long x) {
+		return Long.SIZE - Long.numberOfLeadingZeros(x);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:22:59 ---------------------------------------------------
+	 */
+	/**
+	 * Gets an unsigned value with the given number of low bits set.
+	 *
+	 * @param n the number of bits from 0 to 64.
+	 * @return <code>2<sup>n</sup> - 1</code>.
+	 */
+	private static long ones(int n) {
+		return n >= Long.SIZE ? -1L : (1L << n) - 1;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 10:23:41 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the mask used by {@link NB} and {@link MT#fromNB(int, BigInteger[])} for the given bound, which is the hexadecimal
+	 * digit A repeated once for the first 4 bits and once more each time the bit count is doubled below the bound.
+	 *
+	 * @param b the bit length.
+	 * @return the negabinary mask.
+	 */
+	private static long mask(int b) {
+		long mask = 0xA;
+		for (int i = 4; i < b; i += i)
+			mask = (mask << 4) | 0xA;
+		return mask;
+	}
+
+	/**
+	 * The {@code BigInteger} this was loaded from.
+	 */
+	private final BigInteger x;
+	/**
+	 * The sign of {@link #x}.
+	 */
+	private boolean neg0;
+	/**
+	 * The magnitude of {@link #x}.
+	 */
+	private long m0;
+	/**
+	 * {@code true} if the value is negative.
+	 */
+	private boolean neg;
+	/**
+	 * The unsigned magnitude of the value.
+	 */
+	private long m;
+	/**
+	 * The carry.
+	 */
+	private boolean carry;
+	/**
+	 * {@code true} if the carry was set by the operation.
+	 */
+	private boolean carrySet;
+}
@@ -63,6 +63,8 @@ public class MT {
 	public static void fromSMR(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.toDecimal(LongBits.SIGNED_MAGNITUDE, bound, r))
+			return;
 		if (r[0].signum() < 0 || r[0].bitLength() > bound) {
 			SMR.fromDecimal(bound, r);
 			fromSMR(bound, r);
@@ -94,6 +96,8 @@ public class MT {
 	public static void fromOC(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.toDecimal(LongBits.ONES_COMPLEMENT, bound, r))
+			return;
 		if (r[0].signum() < 0 || r[0].bitLength() > bound) {
 			OC.fromDecimal(bound, r);
 			fromOC(bound, r);
@@ -124,6 +128,8 @@ public class MT {
 	public static void fromTC(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.toDecimal(LongBits.TWOS_COMPLEMENT, bound, r))
+			return;
 		if (r[0].signum() < 0 || r[0].bitLength() > bound) {
 			TC.fromDecimal(bound, r);
 			fromEx(bound, r);
@@ -157,6 +163,8 @@ public class MT {
 	public static void fromEx(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.toDecimal(LongBits.EXCESS_K, bound, r))
+			return;
 		if (r[0].signum() < 0 || r[0].bitLength() > bound) {
 			Ex.fromDecimal(bound, r);
 			fromEx(bound, r);
@@ -183,6 +191,8 @@ public class MT {
 	public static void fromNB(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.toDecimal(LongBits.NEGABINARY, bound, r))
+			return;
 		if (r[0].signum() < 0 || r[0].bitLength() > bound) {
 			NB.fromDecimal(bound, r);
 			fromNB(bound, r);
@@ -212,6 +222,8 @@ public class MT {
 	public static void fromUS(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			return;
+		if (LongBits.toDecimal(LongBits.UNSIGNED, bound, r))
+			return;
 		if (r[0].bitLength() > bound) {
 			r[0] = clearMSB(r[0], r[0].bitLength() - bound);
 			r[1] = r[0].shiftRight(bound).testBit(0) ? i(1) : i(0);
@@ -61,6 +61,9 @@ public class NB {
 		return new Comparator<BigInteger>() {
 			@Override
 			public int compare(BigInteger x, BigInteger y) {
+				final int c = LongBits.compare(LongBits.NEGABINARY, bound, x, y);
+				if (c != LongBits.NONE)
+					return c;
 				BigInteger[] r = { x, i(0), };
 				fromDecimal(bound, r);
 				x = r[0];
@@ -96,7 +99,8 @@ public class NB {
 	 * @see Comparator#compare
 	 */
 	public static int compare(BigInteger x, BigInteger y, int bound) {
-		return getComparator(bound).compare(x, y);
+		final int c = LongBits.compare(LongBits.NEGABINARY, bound, x, y);
+		return c != LongBits.NONE ? c : getComparator(bound).compare(x, y);
 	}
 
 	/*
@@ -119,6 +123,8 @@ public class NB {
 	public static void fromDecimal(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.fromDecimal(LongBits.NEGABINARY, bound, r))
+			return;
 		final String a = "A";
 		final StringBuffer temp = new StringBuffer(a);
 		for (int i = 4; i < bound; i += i)
@@ -422,7 +428,8 @@ public class NB {
 	public static void shiftLeft(int shift, int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sl(shift, bound, r);
+		if (!LongBits.shiftLeft(LongBits.NEGABINARY, shift, bound, r))
+			sl(shift, bound, r);
 	}
 
 	/*
@@ -464,7 +471,8 @@ public class NB {
 	public static void shiftRight(int shift, int bound, boolean arithmetic, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sr(shift, bound, arithmetic, r);
+		if (!LongBits.shiftRight(LongBits.NEGABINARY, shift, bound, arithmetic, r))
+			sr(shift, bound, arithmetic, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -505,7 +513,8 @@ public class NB {
 	public static void circularShiftLeft(int shift, int bound, boolean carry, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csl(shift, bound, carry, r);
+		if (!LongBits.circularShiftLeft(LongBits.NEGABINARY, shift, bound, carry, r))
+			csl(shift, bound, carry, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -546,7 +555,8 @@ public class NB {
 	public static void circularShiftRight(int shift, int bound, boolean carry, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csr(shift, bound, carry, r);
+		if (!LongBits.circularShiftRight(LongBits.NEGABINARY, shift, bound, carry, r))
+			csr(shift, bound, carry, r);
 	}
 
 	/*
@@ -565,6 +575,8 @@ public class NB {
 	public static void abs(int bound, BigInteger[] r) {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.abs(LongBits.NEGABINARY, bound, r))
+			return;
 		MT.fromNB(bound, r);
 		r[0] = r[0].abs();
 		fromDecimal(bound, r);
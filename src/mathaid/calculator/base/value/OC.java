@@ -60,6 +60,9 @@ public class OC {
 		return new Comparator<BigInteger>() {
 			@Override
 			public int compare(BigInteger x, BigInteger y) {
+				final int c = LongBits.compare(LongBits.ONES_COMPLEMENT, bound, x, y);
+				if (c != LongBits.NONE)
+					return c;
 				BigInteger[] r = { x, i(0), };
 				fromDecimal(bound, r);
 				x = r[0];
@@ -95,7 +98,8 @@ public class OC {
 	 * @see Comparator#compare
 	 */
 	public static int compare(BigInteger x, BigInteger y, int bound) {
-		return getComparator(bound).compare(x, y);
+		final int c = LongBits.compare(LongBits.ONES_COMPLEMENT, bound, x, y);
+		return c != LongBits.NONE ? c : getComparator(bound).compare(x, y);
 	}
 
 	/*
@@ -119,6 +123,8 @@ public class OC {
 	public static void fromDecimal(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.fromDecimal(LongBits.ONES_COMPLEMENT, bound, r))
+			return;
 		int s = r[0].signum();
 		if (s == 0)
 			return;
@@ -437,7 +443,8 @@ public class OC {
 	public static void shiftLeft(int shift, int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sl(shift, bound, r);
+		if (!LongBits.shiftLeft(LongBits.ONES_COMPLEMENT, shift, bound, r))
+			sl(shift, bound, r);
 	}
 
 	/*
@@ -479,7 +486,8 @@ public class OC {
 	public static void shiftRight(int shift, int bound, boolean arithmetic, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sr(shift, bound, arithmetic, r);
+		if (!LongBits.shiftRight(LongBits.ONES_COMPLEMENT, shift, bound, arithmetic, r))
+			sr(shift, bound, arithmetic, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -520,7 +528,8 @@ public class OC {
 	public static void circularShiftLeft(int shift, int bound, boolean carry, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csl(shift, bound, carry, r);
+		if (!LongBits.circularShiftLeft(LongBits.ONES_COMPLEMENT, shift, bound, carry, r))
+			csl(shift, bound, carry, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -562,7 +571,8 @@ public class OC {
 			throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csr(shift, bound, carry, r);
+		if (!LongBits.circularShiftRight(LongBits.ONES_COMPLEMENT, shift, bound, carry, r))
+			csr(shift, bound, carry, r);
 	}
 
 	/*
@@ -583,6 +593,8 @@ public class OC {
 	public static void abs(int bound, BigInteger[] r) {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.abs(LongBits.ONES_COMPLEMENT, bound, r))
+			return;
 		MT.fromOC(bound, r);
 		r[0] = r[0].abs();
 		fromDecimal(bound, r);
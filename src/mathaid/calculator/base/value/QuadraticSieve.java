@@ -0,0 +1,702 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import static java.math.BigInteger.ONE;
+import static java.math.BigInteger.valueOf;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import mathaid.calculator.base.util.Primes;
+import mathaid.calculator.base.value.FactorEngine.Token;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 17:31:08 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: QuadraticSieve.java ------------------------------------------------------
+ * Class name: QuadraticSieve ------------------------------------------------
+ */
+/**
+ * The self-initialising quadratic sieve (SIQS) with the single large prime variation.
+ * <p>
+ * A multiplier {@code k} is first chosen with the Knuth-Schroeppel function. Relations are then collected by sieving the
+ * polynomials <code>g(x) = ((ax + b)<sup>2</sup> - kn) / a</code> over <code>[-M, M)</code>, where {@code a} is a product of
+ * primes from the factor base and each {@code a} yields <code>2<sup>s-1</sup></code> values of {@code b} that are switched
+ * between in a Gray code order, so that the roots of the next polynomial are found with a single subtraction per prime.
+ * Values of {@code g(x)} that factor over the factor base except for a single prime below a bound are kept, and two of them
+ * with the same large prime are combined into a full relation.
+ * <p>
+ * Once there are more relations than primes in the factor base, the exponent vectors are reduced modulo 2 by removing
+ * singletons and then by Gaussian elimination, and every dependency found is tried until one gives a non-trivial factor.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class QuadraticSieve {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:33:26 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.value ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: QuadraticSieve.java ------------------------------------------------------
+	 * Class name: Relation ------------------------------------------------
+	 */
+	/**
+	 * A congruence <code>v<sup>2</sup> &equiv; L<sup>2</sup> &prod; p<sub>i</sub> (mod n)</code>, where every
+	 * <code>p<sub>i</sub></code> is in the factor base.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static final class Relation {
+		/**
+		 * Constructs a {@code Relation}.
+		 *
+		 * @param v       the value that is squared.
+		 * @param factors the indexes of the primes of the factor base, each repeated as many times as it divides.
+		 * @param large   the large prime whose square is part of the product, or 1.
+		 */
+		Relation(BigInteger v, int[] factors, long large) {
+			this.v = v;
+			this.factors = factors;
+			this.large = large;
+		}
+
+		/**
+		 * The value that is squared.
+		 */
+		final BigInteger v;
+		/**
+		 * The indexes into the factor base.
+		 */
+		final int[] factors;
+		/**
+		 * The large prime or 1.
+		 */
+		final long large;
+	}
+
+	/**
+	 * The parameters for each size, as {decimal digits of kn, size of the factor base, half the length of the sieve interval}.
+	 */
+	private static final int[][] PARAMETERS = {
+			{ 24, 100, 8_192 },
+			{ 30, 200, 16_384 },
+			{ 40, 400, 32_768 },
+			{ 50, 1_000, 65_536 },
+			{ 60, 2_000, 65_536 },
+			{ 70, 4_000, 98_304 },
+			{ 80, 7_000, 131_072 },
+			{ 90, 11_000, 196_608 },
+			{ Integer.MAX_VALUE, 16_000, 262_144 } };
+	/**
+	 * The squarefree multipliers tried by the Knuth-Schroeppel function.
+	 */
+	private static final int[] MULTIPLIERS = { 1, 3, 5, 7, 11, 13, 15, 17, 19, 21, 23, 29, 31, 33, 35, 37, 39, 41, 43, 47,
+			51, 53, 55, 57, 59, 61, 65, 67, 69, 71, 73 };
+	/**
+	 * Primes below this value are not sieved.
+	 */
+	private static final int SMALL_PRIME = 30;
+	/**
+	 * The number of relations collected beyond the size of the factor base.
+	 */
+	private static final int EXTRA_RELATIONS = 32;
+	/**
+	 * The ratio of the largest permissible large prime to the largest prime in the factor base.
+	 */
+	private static final int LARGE_PRIME_RATIO = 64;
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:36:12 ---------------------------------------------------
+	 */
+	/**
+	 * Constructs a {@code QuadraticSieve} for the given value.
+	 *
+	 * @param n     an odd composite which is not a perfect power and has no factor below the primes in the factor base.
+	 * @param token the token polled for cancellation.
+	 */
+	QuadraticSieve(BigInteger n, Token token) {
+		this.n = n;
+		this.token = token;
+		int digits = n.toString().length();
+		int[] row = PARAMETERS[PARAMETERS.length - 1];
+		for (int[] r : PARAMETERS)
+			if (digits <= r[0]) {
+				row = r;
+				break;
+			}
+		baseSize = row[1];
+		m = row[2];
+		kn = n.multiply(valueOf(multiplier()));
+		primes = new int[baseSize];
+		roots = new int[baseSize];
+		logs = new byte[baseSize];
+		random = new Random(n.hashCode());
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:38:04 ---------------------------------------------------
+	 */
+	/**
+	 * Chooses the multiplier that maximises the Knuth-Schroeppel function.
+	 *
+	 * @return the multiplier of {@code n}.
+	 */
+	private int multiplier() {
+		int[] small = Primes.primesBelow(1_000);
+		int best = 1;
+		double bestScore = Double.NEGATIVE_INFINITY;
+		for (int k : MULTIPLIERS) {
+			BigInteger kn = n.multiply(valueOf(k));
+			double score = -0.5 * Math.log(k);
+			int mod8 = kn.mod(valueOf(8)).intValue();
+			score += (mod8 == 1 ? 2 : mod8 == 5 ? 1 : 0.5) * Math.log(2);
+			for (int i = 1; i < small.length; i++) {
+				int p = small[i];
+				if (k % p == 0)
+					score += Math.log(p) / p;
+				else if (legendre(kn.mod(valueOf(p)).intValue(), p) == 1)
+					score += 2 * Math.log(p) / (p - 1);
+			}
+			if (score > bestScore) {
+				bestScore = score;
+				best = k;
+			}
+		}
+		return best;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:40:17 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the sieve.
+	 *
+	 * @return a non-trivial factor of {@code n} or {@code n} if none was found.
+	 * @throws java.util.concurrent.CancellationException if the token is cancelled.
+	 */
+	BigInteger split() {
+		BigInteger d = createFactorBase();
+		if (d != null)
+			return d;
+		List<Relation> relations = new ArrayList<>(baseSize + EXTRA_RELATIONS);
+		Map<Long, Relation> partials = new HashMap<>();
+		Set<BigInteger> usedA = new HashSet<>();
+		final long largeBound = Math.min((long) primes[baseSize - 1] * LARGE_PRIME_RATIO,
+				(long) primes[baseSize - 1] * primes[baseSize - 1] - 1);
+		final int threshold = (int) Math.round(Math.log(m) / Math.log(2) + (kn.bitLength() - 1) / 2.0
+				- 2.2 * Math.log(primes[baseSize - 1]) / Math.log(2));
+		final byte[] sieve = new byte[2 * m];
+		final int[] root1 = new int[baseSize], root2 = new int[baseSize];
+
+		while (relations.size() < baseSize + EXTRA_RELATIONS) {
+			token.check();
+			int[] q = chooseA(usedA);
+			BigInteger a = ONE;
+			for (int i : q)
+				a = a.multiply(valueOf(primes[i]));
+			final int s = q.length;
+			BigInteger[] bl = new BigInteger[s];
+			BigInteger b = BigInteger.ZERO;
+			for (int l = 0; l < s; l++) {
+				int p = primes[q[l]];
+				BigInteger aq = a.divide(valueOf(p));
+				long gamma = (long) roots[q[l]] * inverse(aq.mod(valueOf(p)).intValue(), p) % p;
+				if (gamma > p / 2)
+					gamma = p - gamma;
+				bl[l] = aq.multiply(valueOf(gamma));
+				b = b.add(bl[l]);
+			}
+			int[][] bainv2 = new int[s][baseSize];
+			boolean[] skip = new boolean[baseSize];
+			for (int i : q)
+				skip[i] = true;
+			for (int i = 1; i < baseSize; i++) {
+				int p = primes[i];
+				if (skip[i] || p < SMALL_PRIME || roots[i] == 0) {
+					skip[i] = true;
+					continue;
+				}
+				int ainv = inverse(a.mod(valueOf(p)).intValue(), p);
+				for (int l = 0; l < s; l++)
+					bainv2[l][i] = (int) (2L * bl[l].mod(valueOf(p)).intValue() * ainv % p);
+				int bm = b.mod(valueOf(p)).intValue();
+				int mm = m % p;
+				root1[i] = (int) (((long) ainv * ((roots[i] - bm + p) % p) + mm) % p);
+				root2[i] = (int) (((long) ainv * ((p - roots[i] - bm + p) % p) + mm) % p);
+			}
+			for (int poly = 0; poly < 1 << (s - 1); poly++) {
+				if (poly > 0) {
+					int l = Integer.numberOfTrailingZeros(poly) + 1;
+					boolean negative = ((poly ^ (poly >> 1)) >> (l - 1) & 1) != 0;
+					b = negative ? b.subtract(bl[l].shiftLeft(1)) : b.add(bl[l].shiftLeft(1));
+					for (int i = 1; i < baseSize; i++) {
+						if (skip[i])
+							continue;
+						int p = primes[i], delta = negative ? bainv2[l][i] : p - bainv2[l][i];
+						root1[i] = (root1[i] + delta) % p;
+						root2[i] = (root2[i] + delta) % p;
+					}
+				}
+				BigInteger c = b.multiply(b).subtract(kn).divide(a);
+				Arrays.fill(sieve, (byte) 0);
+				for (int i = 1; i < baseSize; i++) {
+					if (skip[i])
+						continue;
+					int p = primes[i];
+					byte lg = logs[i];
+					for (int j = root1[i]; j < sieve.length; j += p)
+						sieve[j] += lg;
+					if (root2[i] != root1[i])
+						for (int j = root2[i]; j < sieve.length; j += p)
+							sieve[j] += lg;
+				}
+				for (int j = 0; j < sieve.length; j++) {
+					if ((sieve[j] & 0xff) < threshold)
+						continue;
+					BigInteger x = valueOf(j - m);
+					BigInteger g = a.multiply(x).add(b.shiftLeft(1)).multiply(x).add(c);
+					int[] f = new int[64 + s];
+					int count = 0;
+					if (g.signum() < 0) {
+						f[count++] = 0;
+						g = g.negate();
+					}
+					if (g.signum() == 0)
+						continue;
+					for (int i : q)
+						f[count++] = i;
+					int twos = g.getLowestSetBit();
+					for (int t = 0; t < twos; t++) {
+						if (count == f.length)
+							f = Arrays.copyOf(f, count * 2);
+						f[count++] = 1;
+					}
+					g = g.shiftRight(twos);
+					for (int i = 2; i < baseSize && !g.equals(ONE); i++) {
+						int p = primes[i];
+						/* only the sieved primes have roots with which the division can be skipped */
+						if (!skip[i]) {
+							int r = j % p;
+							if (r != root1[i] && r != root2[i])
+								continue;
+						}
+						BigInteger bp = valueOf(p);
+						BigInteger[] qr = g.divideAndRemainder(bp);
+						while (qr[1].signum() == 0) {
+							if (count == f.length)
+								f = Arrays.copyOf(f, count * 2);
+							f[count++] = i;
+							g = qr[0];
+							qr = g.divideAndRemainder(bp);
+						}
+					}
+					BigInteger v = a.multiply(x).add(b);
+					if (g.equals(ONE))
+						relations.add(new Relation(v, Arrays.copyOf(f, count), 1));
+					else if (g.bitLength() < 63 && g.longValue() <= largeBound) {
+						long large = g.longValue();
+						Relation other = partials.remove(large);
+						if (other == null)
+							partials.put(large, new Relation(v, Arrays.copyOf(f, count), large));
+						else {
+							int[] both = Arrays.copyOf(f, count + other.factors.length);
+							System.arraycopy(other.factors, 0, both, count, other.factors.length);
+							relations.add(new Relation(v.multiply(other.v).mod(n), both, large));
+						}
+					}
+				}
+				token.check();
+				if (relations.size() >= baseSize + EXTRA_RELATIONS)
+					break;
+			}
+		}
+		return solve(relations);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:46:55 ---------------------------------------------------
+	 */
+	/**
+	 * Fills the factor base with -1, 2 and the odd primes modulo which {@code kn} is a quadratic residue, together with the
+	 * square roots of {@code kn} modulo each prime and their base 2 logarithms.
+	 *
+	 * @return a factor of {@code n} if one of the primes tested divides it, otherwise {@code null}.
+	 */
+	private BigInteger createFactorBase() {
+		primes[0] = -1;
+		primes[1] = 2;
+		int count = 2;
+		int bound = Math.max(1_000, baseSize * 30);
+		int[] candidates = Primes.primesBelow(bound);
+		for (int c = 1; count < baseSize; c++) {
+			if (c == candidates.length) {
+				bound *= 2;
+				candidates = Primes.primesBelow(bound);
+			}
+			int p = candidates[c];
+			int r = kn.mod(valueOf(p)).intValue();
+			if (r == 0) {
+				if (n.mod(valueOf(p)).signum() == 0)
+					return valueOf(p);
+				primes[count] = p;
+				roots[count] = 0;
+			} else if (legendre(r, p) == 1) {
+				primes[count] = p;
+				roots[count] = sqrtMod(r, p);
+			} else
+				continue;
+			logs[count] = (byte) Math.round(Math.log(p) / Math.log(2));
+			count++;
+		}
+		return null;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:49:30 ---------------------------------------------------
+	 */
+	/**
+	 * Chooses a set of factor base primes whose product is close to <code>&radic;(2kn) / M</code> and has not been used before.
+	 *
+	 * @param used the values of {@code a} that have already been used. The product of the returned primes is added to it.
+	 * @return the indexes of the chosen primes in the factor base.
+	 */
+	private int[] chooseA(Set<BigInteger> used) {
+		final double target = kn.shiftLeft(1).sqrt().doubleValue() / m;
+		final double logTarget = Math.log(target);
+		int lo = Math.max(2, baseSize / 4), hi = Math.max(lo + 2, baseSize / 2);
+		while (lo > 2 && primes[lo] >= target)
+			lo /= 2;
+		int[] best = null;
+		double bestError = Double.POSITIVE_INFINITY;
+		for (int attempt = 0; attempt < 30 || best == null; attempt++) {
+			List<Integer> chosen = new ArrayList<>();
+			double log = 0;
+			for (int tries = 0; log + Math.log(primes[hi - 1]) < logTarget && tries < 4 * (hi - lo); tries++) {
+				int i = lo + random.nextInt(hi - lo);
+				if (roots[i] == 0 || chosen.contains(i))
+					continue;
+				chosen.add(i);
+				log += Math.log(primes[i]);
+			}
+			double want = Math.exp(logTarget - log);
+			int last = -1;
+			double lastError = Double.POSITIVE_INFINITY;
+			for (int i = 2; i < baseSize; i++) {
+				if (roots[i] == 0 || chosen.contains(i))
+					continue;
+				double e = Math.abs(Math.log(primes[i] / want));
+				if (e < lastError) {
+					lastError = e;
+					last = i;
+				}
+			}
+			if (last < 0)
+				continue;
+			chosen.add(last);
+			BigInteger a = ONE;
+			for (int i : chosen)
+				a = a.multiply(valueOf(primes[i]));
+			if (used.contains(a))
+				continue;
+			if (lastError < bestError) {
+				bestError = lastError;
+				best = chosen.stream().mapToInt(Integer::intValue).toArray();
+			}
+		}
+		BigInteger a = ONE;
+		for (int i : best)
+			a = a.multiply(valueOf(primes[i]));
+		used.add(a);
+		return best;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:52:41 ---------------------------------------------------
+	 */
+	/**
+	 * Finds the dependencies between the exponent vectors of the relations and tries each one.
+	 *
+	 * @param relations the full relations.
+	 * @return a non-trivial factor of {@code n} or {@code n} if no dependency gives one.
+	 */
+	private BigInteger solve(List<Relation> relations) {
+		/* remove the relations that have a prime to an odd power which no other relation has */
+		int[] weight = new int[baseSize];
+		List<long[]> rows = new ArrayList<>();
+		for (Relation r : relations)
+			rows.add(parity(r));
+		boolean[] removed = new boolean[relations.size()];
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			Arrays.fill(weight, 0);
+			for (int i = 0; i < rows.size(); i++)
+				if (!removed[i])
+					for (int c = 0; c < baseSize; c++)
+						if ((rows.get(i)[c >> 6] >>> c & 1) != 0)
+							weight[c]++;
+			for (int i = 0; i < rows.size(); i++) {
+				if (removed[i])
+					continue;
+				for (int c = 0; c < baseSize; c++)
+					if ((rows.get(i)[c >> 6] >>> c & 1) != 0 && weight[c] == 1) {
+						removed[i] = true;
+						changed = true;
+						break;
+					}
+			}
+		}
+		List<Integer> kept = new ArrayList<>();
+		for (int i = 0; i < rows.size(); i++)
+			if (!removed[i])
+				kept.add(i);
+		final int size = kept.size();
+		final int words = (size + 63) >> 6;
+		long[][] matrix = new long[size][];
+		long[][] history = new long[size][words];
+		for (int i = 0; i < size; i++) {
+			matrix[i] = rows.get(kept.get(i));
+			history[i][i >> 6] |= 1L << i;
+		}
+		boolean[] pivot = new boolean[size];
+		for (int c = 0; c < baseSize; c++) {
+			int p = -1;
+			for (int i = 0; i < size; i++)
+				if (!pivot[i] && (matrix[i][c >> 6] >>> c & 1) != 0) {
+					p = i;
+					break;
+				}
+			if (p < 0)
+				continue;
+			pivot[p] = true;
+			for (int i = 0; i < size; i++)
+				if (i != p && (matrix[i][c >> 6] >>> c & 1) != 0) {
+					xor(matrix[i], matrix[p]);
+					xor(history[i], history[p]);
+				}
+			if ((c & 0x3f) == 0)
+				token.check();
+		}
+		for (int i = 0; i < size; i++) {
+			if (pivot[i])
+				continue;
+			BigInteger x = ONE, y = ONE;
+			int[] exponents = new int[baseSize];
+			for (int j = 0; j < size; j++)
+				if ((history[i][j >> 6] >>> j & 1) != 0) {
+					Relation r = relations.get(kept.get(j));
+					x = x.multiply(r.v).mod(n);
+					y = y.multiply(valueOf(r.large)).mod(n);
+					for (int f : r.factors)
+						exponents[f]++;
+				}
+			for (int f = 1; f < baseSize; f++)
+				if (exponents[f] > 0)
+					y = y.multiply(valueOf(primes[f]).modPow(valueOf(exponents[f] / 2), n)).mod(n);
+			BigInteger g = x.subtract(y).gcd(n);
+			if (!g.equals(ONE) && !g.equals(n))
+				return g;
+		}
+		return n;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:55:08 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the exponent vector modulo 2 of the given relation.
+	 *
+	 * @param r the relation.
+	 * @return a bit vector with one bit for each prime of the factor base.
+	 */
+	private long[] parity(Relation r) {
+		long[] row = new long[(baseSize + 63) >> 6];
+		for (int f : r.factors)
+			row[f >> 6] ^= 1L << f;
+		return row;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:55:40 ---------------------------------------------------
+	 */
+	/**
+	 * Adds the second vector to the first modulo 2.
+	 *
+	 * @param to   the vector that is modified.
+	 * @param from the vector that is added.
+	 */
+	private static void xor(long[] to, long[] from) {
+		for (int i = 0; i < to.length; i++)
+			to[i] ^= from[i];
+	}
+
+	/**
+	 * Checks if the given array contains the given value.
+	 *
+	 * @param a the array.
+	 * @param v the value.
+	 * @return {@code true} if {@code v} is an element of {@code a}.
+	 */
+	private static boolean contains(int[] a, int v) {
+		for (int i : a)
+			if (i == v)
+				return true;
+		return false;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:56:50 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the Legendre symbol of {@code a} modulo the odd prime {@code p}.
+	 *
+	 * @param a a value in <code>[0, p)</code>.
+	 * @param p an odd prime.
+	 * @return 1, -1 or 0.
+	 */
+	private static int legendre(int a, int p) {
+		long r = powMod(a, (p - 1) / 2, p);
+		return r == p - 1 ? -1 : (int) r;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:57:22 ---------------------------------------------------
+	 */
+	/**
+	 * Computes a square root of a quadratic residue modulo an odd prime using the Tonelli-Shanks algorithm.
+	 *
+	 * @param a a quadratic residue modulo {@code p}.
+	 * @param p an odd prime.
+	 * @return {@code r} such that <code>r<sup>2</sup> &equiv; a (mod p)</code>.
+	 */
+	private static int sqrtMod(int a, int p) {
+		if (p % 4 == 3)
+			return (int) powMod(a, (p + 1) / 4, p);
+		int q = p - 1, s = 0;
+		while ((q & 1) == 0) {
+			q >>= 1;
+			s++;
+		}
+		int z = 2;
+		while (legendre(z, p) != -1)
+			z++;
+		long c = powMod(z, q, p), r = powMod(a, (q + 1) / 2, p), t = powMod(a, q, p);
+		int mm = s;
+		while (t != 1) {
+			int i = 0;
+			long tt = t;
+			while (tt != 1) {
+				tt = tt * tt % p;
+				i++;
+			}
+			long b = c;
+			for (int j = 0; j < mm - i - 1; j++)
+				b = b * b % p;
+			r = r * b % p;
+			c = b * b % p;
+			t = t * c % p;
+			mm = i;
+		}
+		return (int) r;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:58:31 ---------------------------------------------------
+	 */
+	/**
+	 * Computes <code>b<sup>e</sup> mod p</code>.
+	 *
+	 * @param b the base.
+	 * @param e the non-negative exponent.
+	 * @param p the modulus, which is below <code>2<sup>31</sup></code>.
+	 * @return the modular power.
+	 */
+	private static long powMod(long b, long e, int p) {
+		long r = 1;
+		b %= p;
+		while (e > 0) {
+			if ((e & 1) != 0)
+				r = r * b % p;
+			b = b * b % p;
+			e >>= 1;
+		}
+		return r;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 17:59:04 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the inverse of {@code a} modulo the prime {@code p}.
+	 *
+	 * @param a a value that is not a multiple of {@code p}.
+	 * @param p a prime.
+	 * @return <code>a<sup>-1</sup> mod p</code>.
+	 */
+	private static int inverse(int a, int p) {
+		return (int) powMod(a, p - 2, p);
+	}
+
+	/**
+	 * The value to be split.
+	 */
+	private final BigInteger n;
+	/**
+	 * {@link #n} times the multiplier.
+	 */
+	private final BigInteger kn;
+	/**
+	 * The token polled for cancellation.
+	 */
+	private final Token token;
+	/**
+	 * The number of elements in the factor base.
+	 */
+	private final int baseSize;
+	/**
+	 * Half the length of the sieve interval.
+	 */
+	private final int m;
+	/**
+	 * The factor base, starting with -1 and 2.
+	 */
+	private final int[] primes;
+	/**
+	 * The square roots of {@link #kn} modulo each prime in the factor base, or 0 if the prime divides it.
+	 */
+	private final int[] roots;
+	/**
+	 * The rounded base 2 logarithms of the primes in the factor base.
+	 */
+	private final byte[] logs;
+	/**
+	 * Chooses the primes of {@code a}.
+	 */
+	private final Random random;
+}
@@ -60,6 +60,9 @@ public class SMR {
 		return new Comparator<BigInteger>() {
 			@Override
 			public int compare(BigInteger x, BigInteger y) {
+				final int c = LongBits.compare(LongBits.SIGNED_MAGNITUDE, bound, x, y);
+				if (c != LongBits.NONE)
+					return c;
 				BigInteger[] r = { x, i(0), };
 				fromDecimal(bound, r);
 				x = r[0];
@@ -95,7 +98,8 @@ public class SMR {
 	 * @see Comparator#compare
 	 */
 	public static int compare(BigInteger x, BigInteger y, int bound) {
-		return getComparator(bound).compare(x, y);
+		final int c = LongBits.compare(LongBits.SIGNED_MAGNITUDE, bound, x, y);
+		return c != LongBits.NONE ? c : getComparator(bound).compare(x, y);
 	}
 
 	/*
@@ -119,6 +123,8 @@ public class SMR {
 	public static void fromDecimal(int bound, BigInteger[] r) {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.fromDecimal(LongBits.SIGNED_MAGNITUDE, bound, r))
+			return;
 		if (r[0].signum() < 0) {
 			r[0] = r[0].abs();
 
@@ -478,7 +484,8 @@ public class SMR {
 	public static void shiftLeft(int shift, int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sl(shift, bound, r);
+		if (!LongBits.shiftLeft(LongBits.SIGNED_MAGNITUDE, shift, bound, r))
+			sl(shift, bound, r);
 	}
 
 	/*
@@ -520,7 +527,8 @@ public class SMR {
 	public static void shiftRight(int shift, int bound, boolean arithmetic, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sr(shift, bound, arithmetic, r);
+		if (!LongBits.shiftRight(LongBits.SIGNED_MAGNITUDE, shift, bound, arithmetic, r))
+			sr(shift, bound, arithmetic, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -561,7 +569,8 @@ public class SMR {
 	public static void circularShiftLeft(int shift, int bound, boolean carry, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csl(shift, bound, carry, r);
+		if (!LongBits.circularShiftLeft(LongBits.SIGNED_MAGNITUDE, shift, bound, carry, r))
+			csl(shift, bound, carry, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -603,7 +612,8 @@ public class SMR {
 			throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csr(shift, bound, carry, r);
+		if (!LongBits.circularShiftRight(LongBits.SIGNED_MAGNITUDE, shift, bound, carry, r))
+			csr(shift, bound, carry, r);
 	}
 
 	/*
@@ -624,6 +634,8 @@ public class SMR {
 	public static void abs(int bound, BigInteger[] r) {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.abs(LongBits.SIGNED_MAGNITUDE, bound, r))
+			return;
 		MT.fromSMR(bound, r);
 		r[0] = r[0].abs();
 		fromDecimal(bound, r);
@@ -0,0 +1,655 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 11:24:18 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: SoftFP.java ------------------------------------------------------
+ * Class name: SoftFP ------------------------------------------------
+ */
+/**
+ * A software floating point for binary precisions of up to 128 bits, which keeps each significand in a pair of {@code long}s.
+ * <p>
+ * Addition, multiplication, division and square root are computed exactly and then rounded once, so that the results are the
+ * correctly rounded results that IEEE754 requires. The elementary functions are computed with {@code StrictMath} for the
+ * precisions whose values are all {@code double}s and are left to the {@code BigDecimal}s of the
+ * {@link BinaryFPPrecision.BinaryFP} for the others.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+final class SoftFP extends FPEngine {
+
+	/**
+	 * The engine for {@link FloatAid#IEEE754Bit8()}.
+	 */
+	static final SoftFP BIT8 = new SoftFP(4, 4);
+	/**
+	 * The engine for {@link FloatAid#IEEE754Half()}.
+	 */
+	static final SoftFP HALF = new SoftFP(5, 11);
+	/**
+	 * The engine for {@link FloatAid#IEEE754Double()}, which {@link HardwareFP} uses for the results it cannot round with
+	 * {@code double}s.
+	 */
+	static final SoftFP DOUBLE = new SoftFP(11, 53);
+	/**
+	 * The engine for {@link FloatAid#IEEE754Quadruple()}.
+	 */
+	static final SoftFP QUADRUPLE = new SoftFP(15, 113);
+
+	/**
+	 * The number of bits that the significands are widened to before they are added, which leaves room for the carry and for
+	 * the bits of the smaller operand that are shifted out.
+	 */
+	private static final int ADDEND_BITS = 125;
+	/**
+	 * The number of bits that the significands are widened to before they are divided.
+	 */
+	private static final int DIVISOR_BITS = 114;
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:26:40 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a {@code SoftFP} for the given precision.
+	 *
+	 * @param exponentBits    the number of bits in the exponent.
+	 * @param significandBits the number of bits in the significand, including the implicit bit.
+	 */
+	private SoftFP(int exponentBits, int significandBits) {
+		this.exponentBits = exponentBits;
+		this.significandBits = significandBits;
+		maxExponent = (1 << (exponentBits - 1)) - 1;
+		minExponent = 2 - maxExponent - significandBits;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:28:02 ---------------------------------------------------
+	 */
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	BigInteger apply(int op, BigInteger x, BigInteger y, RoundingMode rm) {
+		final Unpacked a = unpack(x);
+		final Unpacked b = y == null ? null : unpack(y);
+		if (a == null || (y != null && b == null))
+			return null;
+		switch (op) {
+		case ADD:
+			return add(a, b, rm);
+		case MULTIPLY:
+			return multiply(a, b, rm);
+		case DIVIDE:
+			return b.isZero() ? null : divide(a, b, rm);
+		case SQRT:
+			return a.neg && !a.isZero() ? null : sqrt(a, rm);
+		default:
+			return function(op, a, b, rm);
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:31:15 ---------------------------------------------------
+	 */
+	/**
+	 * Computes {@code a + b}.
+	 *
+	 * @param a  the first operand.
+	 * @param b  the second operand.
+	 * @param rm the rounding mode.
+	 * @return the bit layout of the sum.
+	 */
+	private BigInteger add(Unpacked a, Unpacked b, RoundingMode rm) {
+		if (a.isZero() && b.isZero())
+			return pack(a.neg == b.neg ? a.neg : rm == RoundingMode.FLOOR, 0, 0, 0);
+		else if (a.isZero())
+			return round(b, false, rm);
+		else if (b.isZero())
+			return round(a, false, rm);
+		a.shiftLeft(ADDEND_BITS - a.bitLength());
+		b.shiftLeft(ADDEND_BITS - b.bitLength());
+		if (a.exp < b.exp) {
+			final Unpacked t = a;
+			a = b;
+			b = t;
+		}
+		/*
+		 * The bits shifted out of b are jammed into its last bit, which is far below the rounding bit of the sum
+		 */
+		if (b.shiftRight(a.exp - b.exp))
+			b.lo |= 1;
+		if (a.neg == b.neg)
+			a.add(b);
+		else {
+			if (a.compareMagnitude(b) < 0) {
+				final Unpacked t = a;
+				a = b;
+				b = t;
+			}
+			a.subtract(b);
+			if (a.isZero())
+				return pack(rm == RoundingMode.FLOOR, 0, 0, 0);
+		}
+		return round(a, false, rm);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:36:47 ---------------------------------------------------
+	 */
+	/**
+	 * Computes {@code a * b}.
+	 *
+	 * @param a  the first operand.
+	 * @param b  the second operand.
+	 * @param rm the rounding mode.
+	 * @return the bit layout of the product.
+	 */
+	private BigInteger multiply(Unpacked a, Unpacked b, RoundingMode rm) {
+		final boolean neg = a.neg ^ b.neg;
+		if (a.isZero() || b.isZero())
+			return pack(neg, 0, 0, 0);
+		final long[] w = new long[4];
+		multiplyAdd(w, 0, a.lo, b.lo);
+		multiplyAdd(w, 1, a.lo, b.hi);
+		multiplyAdd(w, 1, a.hi, b.lo);
+		multiplyAdd(w, 2, a.hi, b.hi);
+		final int n = w[3] != 0 ? 256 - Long.numberOfLeadingZeros(w[3])
+				: w[2] != 0 ? 192 - Long.numberOfLeadingZeros(w[2]) : 0;
+		final int shift = Math.max(n - ADDEND_BITS, 0);
+		final int limb = shift >>> 6, bit = shift & 63;
+		boolean sticky = (w[limb] & mask(bit)) != 0;
+		for (int i = 0; i < limb; i++)
+			sticky |= w[i] != 0;
+		final long lo = bit == 0 ? w[limb] : w[limb] >>> bit | w[limb + 1] << (64 - bit);
+		final long hi = bit == 0 ? w[limb + 1] : w[limb + 1] >>> bit | (limb + 2 < w.length ? w[limb + 2] << (64 - bit) : 0);
+		return round(new Unpacked(neg, a.exp + b.exp + shift, hi, lo), sticky, rm);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:43:09 ---------------------------------------------------
+	 */
+	/**
+	 * Computes {@code a / b} by long division, one bit of the quotient at a time.
+	 *
+	 * @param a  the dividend.
+	 * @param b  the divisor, which is not zero.
+	 * @param rm the rounding mode.
+	 * @return the bit layout of the quotient.
+	 */
+	private BigInteger divide(Unpacked a, Unpacked b, RoundingMode rm) {
+		final boolean neg = a.neg ^ b.neg;
+		if (a.isZero())
+			return pack(neg, 0, 0, 0);
+		a.shiftLeft(DIVISOR_BITS - a.bitLength());
+		b.shiftLeft(DIVISOR_BITS - b.bitLength());
+		if (a.compareMagnitude(b) < 0)
+			a.shiftLeft(1);
+		/*
+		 * The quotient has 2 more bits than the significand, so that it always has a rounding bit. The remainder is the sticky
+		 * bit.
+		 */
+		final int bits = significandBits + 2;
+		long rh = a.hi, rl = a.lo, qh = 0, ql = 0;
+		for (int i = 0; i < bits; i++) {
+			qh = qh << 1 | ql >>> 63;
+			ql <<= 1;
+			if (compare(rh, rl, b.hi, b.lo) >= 0) {
+				rh -= b.hi + (Long.compareUnsigned(rl, b.lo) < 0 ? 1 : 0);
+				rl -= b.lo;
+				ql |= 1;
+			}
+			rh = rh << 1 | rl >>> 63;
+			rl <<= 1;
+		}
+		return round(new Unpacked(neg, a.exp - b.exp - bits + 1, qh, ql), (rh | rl) != 0, rm);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:49:33 ---------------------------------------------------
+	 */
+	/**
+	 * Computes the square root of {@code a} digit by digit, taking two bits of the radicand for each bit of the root.
+	 *
+	 * @param a  the radicand, which is not negative.
+	 * @param rm the rounding mode.
+	 * @return the bit layout of the square root.
+	 */
+	private BigInteger sqrt(Unpacked a, RoundingMode rm) {
+		if (a.isZero())
+			return pack(a.neg, 0, 0, 0);
+		if ((a.exp & 1) != 0)
+			a.shiftLeft(1);
+		/*
+		 * The radicand is scaled by an even power of 2 so that it has twice as many bits as the root, which has 2 more bits than
+		 * the significand.
+		 */
+		final int bits = significandBits + 2;
+		final int scale = (2 * bits - a.bitLength()) & ~1;
+		long rh = 0, rl = 0, sh = 0, sl = 0;
+		for (int i = 2 * bits - 1; i > 0; i -= 2) {
+			final int pair = (a.testBit(i - scale) ? 2 : 0) | (a.testBit(i - 1 - scale) ? 1 : 0);
+			rh = rh << 2 | rl >>> 62;
+			rl = rl << 2 | pair;
+			final long th = sh << 2 | sl >>> 62, tl = sl << 2 | 1;
+			sh = sh << 1 | sl >>> 63;
+			sl <<= 1;
+			if (compare(rh, rl, th, tl) >= 0) {
+				rh -= th + (Long.compareUnsigned(rl, tl) < 0 ? 1 : 0);
+				rl -= tl;
+				sl |= 1;
+			}
+		}
+		return round(new Unpacked(false, (a.exp - scale) / 2, sh, sl), (rh | rl) != 0, rm);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 11:55:20 ---------------------------------------------------
+	 */
+	/**
+	 * Computes an elementary function with {@code StrictMath} and rounds the result to this precision.
+	 *
+	 * @param op the operation.
+	 * @param a  the first operand.
+	 * @param b  the second operand or {@code null}.
+	 * @param rm the rounding mode.
+	 * @return the bit layout of the result or {@code null} if the values of this precision are not all {@code double}s or the
+	 *         result is not finite.
+	 */
+	private BigInteger function(int op, Unpacked a, Unpacked b, RoundingMode rm) {
+		if (significandBits > 53 || exponentBits > 11)
+			return null;
+		final double r = function(op, a.doubleValue(), b == null ? 0 : b.doubleValue());
+		if (Double.isNaN(r) || Double.isInfinite(r))
+			return null;
+		final long bits = Double.doubleToRawLongBits(r);
+		final int e = (int) (bits >>> 52) & 0x7ff;
+		final long m = bits & mask(52);
+		return round(new Unpacked(bits < 0, e == 0 ? -1074 : e - 1075, 0, e == 0 ? m : m | 1L << 52), false, rm);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:01:44 ---------------------------------------------------
+	 */
+	/**
+	 * Rounds the given value to this precision.
+	 *
+	 * @param v      the value, which is changed by this method.
+	 * @param sticky {@code true} if the exact value is a little greater in magnitude than {@code v}.
+	 * @param rm     the rounding mode.
+	 * @return the bit layout of the rounded value.
+	 */
+	private BigInteger round(Unpacked v, boolean sticky, RoundingMode rm) {
+		final int n = v.bitLength();
+		boolean half = false;
+		if (n == 0)
+			v.exp = minExponent;
+		else {
+			final int lsb = Math.max(v.exp + n - significandBits, minExponent);
+			if (lsb > v.exp) {
+				sticky |= v.shiftRight(lsb - v.exp - 1);
+				half = (v.lo & 1) != 0;
+				v.shiftRight(1);
+			} else
+				v.shiftLeft(v.exp - lsb);
+		}
+		if ((half || sticky) && roundsUp(rm, v.neg, half ? sticky ? 1 : 0 : -1, (v.lo & 1) != 0)) {
+			if (++v.lo == 0)
+				v.hi++;
+			if (v.bitLength() > significandBits)
+				v.shiftRight(1);
+		}
+		final int f = significandBits - 1;
+		if (v.bitLength() < significandBits)
+			return pack(v.neg, 0, v.hi, v.lo);
+		final int e = v.exp + f;
+		if (e > maxExponent)
+			return overflowsToInfinity(rm, v.neg) ? pack(v.neg, mask(exponentBits), 0, 0)
+					: pack(v.neg, mask(exponentBits) - 1, f > 64 ? mask(f - 64) : 0, mask(f));
+		return pack(v.neg, e + maxExponent, f > 64 ? v.hi & mask(f - 64) : 0, f < 64 ? v.lo & mask(f) : v.lo);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:08:31 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the sign, exponent and significand of the given bit layout.
+	 *
+	 * @param x the bit layout.
+	 * @return the unpacked value or {@code null} if it is not finite.
+	 */
+	private Unpacked unpack(BigInteger x) {
+		final long hi = x.bitLength() > Long.SIZE ? x.shiftRight(Long.SIZE).longValue() : 0, lo = x.longValue();
+		final int f = significandBits - 1;
+		final long fields = (f < 64 ? lo >>> f | (f == 0 ? 0 : hi << (64 - f)) : hi >>> (f - 64)) & mask(exponentBits + 1);
+		final long biased = fields & mask(exponentBits);
+		if (biased == mask(exponentBits))
+			return null;
+		final boolean neg = (fields >>> exponentBits) != 0;
+		long mh = f > 64 ? hi & mask(f - 64) : 0, ml = f < 64 ? lo & mask(f) : lo;
+		if (biased != 0) {
+			if (f < 64)
+				ml |= 1L << f;
+			else
+				mh |= 1L << (f - 64);
+		}
+		return new Unpacked(neg, minExponent + (int) Math.max(biased - 1, 0), mh, ml);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:13:56 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the bit layout of the given fields.
+	 *
+	 * @param neg    the sign.
+	 * @param biased the biased exponent.
+	 * @param fh     the high bits of the fraction without the implicit bit.
+	 * @param fl     the low bits of the fraction.
+	 * @return the bit layout.
+	 */
+	private BigInteger pack(boolean neg, long biased, long fh, long fl) {
+		final long fields = biased | (neg ? 1L << exponentBits : 0);
+		final int f = significandBits - 1;
+		if (f < 64)
+			return unsigned(fh | fields >>> (64 - f), fl | fields << f);
+		return unsigned(fh | fields << (f - 64), fl);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:17:20 ---------------------------------------------------
+	 */
+	/**
+	 * Adds the 128 bit product of {@code x} and {@code y} to the given number whose 64 bit digits are in little endian order.
+	 *
+	 * @param w the number to which the product is added.
+	 * @param i the index of the digit at which the product is added.
+	 * @param x an unsigned factor.
+	 * @param y an unsigned factor.
+	 */
+	private static void multiplyAdd(long[] w, int i, long x, long y) {
+		final long lo = x * y;
+		long carry = Math.multiplyHigh(x, y) + (x >> 63 & y) + (y >> 63 & x);
+		long s = w[i] + lo;
+		carry += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+		w[i] = s;
+		for (int j = i + 1; carry != 0 && j < w.length; j++) {
+			s = w[j] + carry;
+			carry = Long.compareUnsigned(s, carry) < 0 ? 1 : 0;
+			w[j] = s;
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:21:05 ---------------------------------------------------
+	 */
+	/**
+	 * Compares two unsigned 128 bit numbers.
+	 *
+	 * @param ah the high bits of the first number.
+	 * @param al the low bits of the first number.
+	 * @param bh the high bits of the second number.
+	 * @param bl the low bits of the second number.
+	 * @return a negative number, zero or a positive number as the first number is less than, equal to or greater than the second.
+	 */
+	private static int compare(long ah, long al, long bh, long bl) {
+		final int c = Long.compareUnsigned(ah, bh);
+		return c != 0 ? c : Long.compareUnsigned(al, bl);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:23:38 ---------------------------------------------------
+	 */
+	/**
+	 * Gets a mask of the given number of low bits.
+	 *
+	 * @param n the number of bits.
+	 * @return a {@code long} whose {@code n} lowest bits are set.
+	 */
+	private static long mask(int n) {
+		return n >= 64 ? -1L : (1L << n) - 1;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 12:28:47 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.value ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: SoftFP.java ------------------------------------------------------
+	 * Class name: Unpacked ------------------------------------------------
+	 */
+	/**
+	 * A value whose magnitude is <code>(hi &times; 2<sup>64</sup> + lo) &times; 2<sup>exp</sup></code>, where {@code hi} and
+	 * {@code lo} are unsigned.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static final class Unpacked {
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:30:02 ---------------------------------------------------
+		 */
+		/**
+		 * Creates an {@code Unpacked} with the given fields.
+		 *
+		 * @param neg the sign.
+		 * @param exp the exponent of the last bit of the significand.
+		 * @param hi  the high bits of the significand.
+		 * @param lo  the low bits of the significand.
+		 */
+		Unpacked(boolean neg, int exp, long hi, long lo) {
+			this.neg = neg;
+			this.exp = exp;
+			this.hi = hi;
+			this.lo = lo;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:31:40 ---------------------------------------------------
+		 */
+		/**
+		 * Checks if the significand is zero.
+		 *
+		 * @return {@code true} if this value is zero.
+		 */
+		boolean isZero() {
+			return (hi | lo) == 0;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:32:18 ---------------------------------------------------
+		 */
+		/**
+		 * Gets the number of bits in the significand.
+		 *
+		 * @return the bit length of the significand.
+		 */
+		int bitLength() {
+			return hi != 0 ? 128 - Long.numberOfLeadingZeros(hi) : 64 - Long.numberOfLeadingZeros(lo);
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:33:05 ---------------------------------------------------
+		 */
+		/**
+		 * Checks if the given bit of the significand is set.
+		 *
+		 * @param n the index of the bit, which may be negative.
+		 * @return {@code true} if the bit is set.
+		 */
+		boolean testBit(int n) {
+			return n >= 0 && n < 128 && ((n < 64 ? lo >>> n : hi >>> (n - 64)) & 1) != 0;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:34:27 ---------------------------------------------------
+		 */
+		/**
+		 * Shifts the significand left without changing the value.
+		 *
+		 * @param n the number of bits, which must not shift out a set bit.
+		 */
+		void shiftLeft(int n) {
+			if (n == 0)
+				return;
+			else if (n < 64) {
+				hi = hi << n | lo >>> (64 - n);
+				lo <<= n;
+			} else {
+				hi = lo << (n - 64);
+				lo = 0;
+			}
+			exp -= n;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:36:50 ---------------------------------------------------
+		 */
+		/**
+		 * Shifts the significand right, keeping the value up to the bits that are shifted out.
+		 *
+		 * @param n the number of bits.
+		 * @return {@code true} if a set bit was shifted out.
+		 */
+		boolean shiftRight(int n) {
+			if (n <= 0)
+				return false;
+			final boolean lost;
+			if (n < 64) {
+				lost = (lo & mask(n)) != 0;
+				lo = lo >>> n | hi << (64 - n);
+				hi >>>= n;
+			} else if (n < 128) {
+				lost = lo != 0 || (hi & mask(n - 64)) != 0;
+				lo = hi >>> (n - 64);
+				hi = 0;
+			} else {
+				lost = !isZero();
+				lo = hi = 0;
+			}
+			exp += n;
+			return lost;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:39:14 ---------------------------------------------------
+		 */
+		/**
+		 * Adds the significand of the given value, which has the same exponent, to this one.
+		 *
+		 * @param v the value to be added.
+		 */
+		void add(Unpacked v) {
+			final long s = lo + v.lo;
+			hi += v.hi + (Long.compareUnsigned(s, lo) < 0 ? 1 : 0);
+			lo = s;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:40:31 ---------------------------------------------------
+		 */
+		/**
+		 * Subtracts the significand of the given value, which has the same exponent and a lesser magnitude, from this one.
+		 *
+		 * @param v the value to be subtracted.
+		 */
+		void subtract(Unpacked v) {
+			hi -= v.hi + (Long.compareUnsigned(lo, v.lo) < 0 ? 1 : 0);
+			lo -= v.lo;
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:41:48 ---------------------------------------------------
+		 */
+		/**
+		 * Compares the significand of this value with the significand of the given value.
+		 *
+		 * @param v the value to be compared.
+		 * @return a negative number, zero or a positive number as this significand is less than, equal to or greater than the
+		 *         other.
+		 */
+		int compareMagnitude(Unpacked v) {
+			return compare(hi, lo, v.hi, v.lo);
+		}
+
+		/*
+		 * Date: 17 Oct 2026 -----------------------------------------------------------
+		 * Time created: 12:43:15 ---------------------------------------------------
+		 */
+		/**
+		 * Gets this value as a {@code double}, which is exact for significands of up to 53 bits and exponents in the range of a
+		 * {@code double}.
+		 *
+		 * @return this value as a {@code double}.
+		 */
+		double doubleValue() {
+			final double d = Math.scalb((double) lo, exp);
+			return neg ? -d : d;
+		}
+
+		/**
+		 * Field for the sign.
+		 */
+		boolean neg;
+		/**
+		 * Field for the exponent of the last bit of the significand.
+		 */
+		int exp;
+		/**
+		 * Field for the high 64 bits of the significand.
+		 */
+		long hi;
+		/**
+		 * Field for the low 64 bits of the significand.
+		 */
+		long lo;
+	}
+
+	/**
+	 * Field for the number of bits in the exponent.
+	 */
+	private final int exponentBits;
+	/**
+	 * Field for the number of bits in the significand, including the implicit bit.
+	 */
+	private final int significandBits;
+	/**
+	 * Field for the exponent of the greatest finite value.
+	 */
+	private final int maxExponent;
+	/**
+	 * Field for the exponent of the last bit of the significand of a subnormal value.
+	 */
+	private final int minExponent;
+}
@@ -23,7 +23,9 @@ import java.util.Comparator;
  * that behave exactly like their native counterparts therefore can be used to simulate values such as {@code byte} (bound to
  * 8-bits), {@code short} (bound to 16-bits), {@code int} (bound to 32-bits), {@code long} (bound to 64-bits) and also create
  * dyadic bounds such as 128, 256 and so on. <p>Unless otherwise stated, all values to be operated on are in decimal format and
- * must be non-null. The results are all in 2's complement format.
+ * must be non-null. The results are all in 2's complement format. <p>Bounds of 64 bits or less are computed on primitive
+ * {@code long}s by {@code LongBits}, which gives the same results as the {@code BigInteger} computations used for the larger
+ * bounds.
  * 
  * @author Oruovo Anthony Etineakpopha
  * 
@@ -58,6 +60,9 @@ public class TC {
 		return new Comparator<BigInteger>() {
 			@Override
 			public int compare(BigInteger x, BigInteger y) {
+				final int c = LongBits.compare(LongBits.TWOS_COMPLEMENT, bound, x, y);
+				if (c != LongBits.NONE)
+					return c;
 				BigInteger[] r = { x, i(0), };
 				fromDecimal(bound, r);
 				x = r[0];
@@ -93,7 +98,8 @@ public class TC {
 	 * @see Comparator#compare
 	 */
 	public static int compare(BigInteger x, BigInteger y, int bound) {
-		return getComparator(bound).compare(x, y);
+		final int c = LongBits.compare(LongBits.TWOS_COMPLEMENT, bound, x, y);
+		return c != LongBits.NONE ? c : getComparator(bound).compare(x, y);
 	}
 
 	/*
@@ -117,6 +123,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4} or if the operation would result in a negative value.
 	 */
 	public static void add(int bound, BigInteger[] r) {// this includes the carry bit
+		if (LongBits.apply(LongBits.ADD, bound, r))
+			return;
 		r[0] = r[0].add(r[1]);
 		fromDecimal(bound, r);
 	}
@@ -142,6 +150,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4} or if the operation would result in a negative value.
 	 */
 	public static void subtract(int bound, BigInteger[] r) {// this includes the carry bit
+		if (LongBits.apply(LongBits.SUBTRACT, bound, r))
+			return;
 		r[0] = r[0].subtract(r[1]);
 		fromDecimal(bound, r);
 	}
@@ -167,6 +177,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4} or if the operation would result in a negative value.
 	 */
 	public static void multiply(int bound, BigInteger[] r) {// this includes the carry bit
+		if (LongBits.apply(LongBits.MULTIPLY, bound, r))
+			return;
 		r[0] = r[0].multiply(r[1]);
 		fromDecimal(bound, r);
 	}
@@ -192,6 +204,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4} or if the operation would result in a negative value.
 	 */
 	public static void divide(int bound, BigInteger[] r) {// this includes the carry bit
+		if (LongBits.apply(LongBits.DIVIDE, bound, r))
+			return;
 		r[0] = r[0].divide(r[1]);
 		fromDecimal(bound, r);
 	}
@@ -217,6 +231,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4} or if the operation would result in a negative value.
 	 */
 	public static void xor(int bound, BigInteger[] r) {// this includes the carry bit
+		if (LongBits.apply(LongBits.XOR, bound, r))
+			return;
 		r[0] = r[0].xor(r[1]);
 		fromDecimal(bound, r);
 	}
@@ -242,6 +258,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4} or if the operation would result in a negative value.
 	 */
 	public static void or(int bound, BigInteger[] r) {// this includes the carry bit
+		if (LongBits.apply(LongBits.OR, bound, r))
+			return;
 		r[0] = r[0].or(r[1]);
 		fromDecimal(bound, r);
 	}
@@ -267,6 +285,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4} or if the operation would result in a negative value.
 	 */
 	public static void and(int bound, BigInteger[] r) {// this includes the carry bit
+		if (LongBits.apply(LongBits.AND, bound, r))
+			return;
 		r[0] = r[0].and(r[1]);
 		fromDecimal(bound, r);
 	}
@@ -292,6 +312,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4} or if the operation would result in a negative value.
 	 */
 	public static void nand(int bound, BigInteger[] r) {// this includes the carry bit
+		if (LongBits.apply(LongBits.NAND, bound, r))
+			return;
 		r[0] = r[0].xor(r[1]).not();
 		//		not(bound, r);
 		fromDecimal(bound, r);
@@ -360,6 +382,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4} or if the operation would result in a negative value.
 	 */
 	public static void rem(int bound, BigInteger[] r) {//this includes the carry bit
+		if (LongBits.apply(LongBits.REMAINDER, bound, r))
+			return;
 		r[0] = r[0].remainder(r[1]);
 		fromDecimal(bound, r);
 	}
@@ -707,7 +731,8 @@ public class TC {
 	public static void shiftLeft(int shift, int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sl(shift, bound, r);
+		if (!LongBits.shiftLeft(LongBits.TWOS_COMPLEMENT, shift, bound, r))
+			sl(shift, bound, r);
 	}
 
 	/*
@@ -749,7 +774,8 @@ public class TC {
 	public static void shiftRight(int shift, int bound, boolean arithmetic, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		sr(shift, bound, arithmetic, r);
+		if (!LongBits.shiftRight(LongBits.TWOS_COMPLEMENT, shift, bound, arithmetic, r))
+			sr(shift, bound, arithmetic, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -790,7 +816,8 @@ public class TC {
 	public static void circularShiftLeft(int shift, int bound, boolean carry, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csl(shift, bound, carry, r);
+		if (!LongBits.circularShiftLeft(LongBits.TWOS_COMPLEMENT, shift, bound, carry, r))
+			csl(shift, bound, carry, r);
 	}
 
 	// The behaviour of this method when shift is negative is undefined
@@ -832,7 +859,8 @@ public class TC {
 			throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		csr(shift, bound, carry, r);
+		if (!LongBits.circularShiftRight(LongBits.TWOS_COMPLEMENT, shift, bound, carry, r))
+			csr(shift, bound, carry, r);
 	}
 
 	/*
@@ -854,6 +882,8 @@ public class TC {
 	 * @throws ArithmeticException if {@code bound < 4}.
 	 */
 	public static void not(int bound, BigInteger[] r) throws ArithmeticException {
+		if (LongBits.not(bound, r))
+			return;
 
 		// prevent signed values and truncate oversized lengths
 		fromDecimal(bound, r);
@@ -968,7 +998,8 @@ public class TC {
 	public static void fromDecimal(int bound, BigInteger[] r) throws ArithmeticException {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
-		fd(bound, r);
+		if (!LongBits.fromDecimal(LongBits.TWOS_COMPLEMENT, bound, r))
+			fd(bound, r);
 	}
 
 	/*
@@ -989,6 +1020,8 @@ public class TC {
 	public static void abs(int bound, BigInteger[] r) {
 		if (bound < 4)
 			throw new ArithmeticException("bound is less than 4");
+		if (LongBits.abs(LongBits.TWOS_COMPLEMENT, bound, r))
+			return;
 		MT.fromTC(bound, r);
 		r[0] = r[0].abs();
 		fromDecimal(bound, r);
@@ -0,0 +1,308 @@
+/**
+ *
+ */
+package mathaid.calculator.base.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+
+import mathaid.calculator.base.converter.Currencies.MediumOfExchange;
+import mathaid.calculator.base.converter.Currencies.Website;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 20:41:15 ---------------------------------------------------
+ * Package: mathaid.calculator.base.converter ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: RateCacheTest.java ------------------------------------------------------
+ * Class name: RateCacheTest ------------------------------------------------
+ */
+/**
+ * Checks the {@link RateCache} against a local HTTP server that stands in for a rate site, so that it runs without an internet
+ * connection and can count the requests that reach the site.
+ * <p>
+ * The stand-in serves a table of {@code code=rate} lines for each base currency, where every rate is the number of requests
+ * served so far, so a fetched table shows which request produced it. The checks are:
+ * <ul>
+ * <li>a table is fetched once and then read from memory,</li>
+ * <li>concurrent misses of the same table share one request,</li>
+ * <li>the copy on disk is returned when a fetch fails,</li>
+ * <li>an expired table is returned at once and replaced in the background.</li>
+ * </ul>
+ * The repository has no test framework, so this is a plain program that exits with a non-zero status when a check fails. The
+ * time-to-live and the directory of the cache are set by this program before the cache is loaded.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class RateCacheTest {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:43:02 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.converter ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: RateCacheTest.java ------------------------------------------------------
+	 * Class name: StandIn ------------------------------------------------
+	 */
+	/**
+	 * A {@code Website} whose rate tables are fetched from the local server, using the base currency as the key.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static final class StandIn extends Website {
+
+		/**
+		 * Constructs a {@code StandIn} for the server at the given url.
+		 *
+		 * @param url the url of the server, to which the key is appended.
+		 */
+		StandIn(String url) {
+			super(url, Collections.emptyList());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param from {@inheritDoc}
+		 * @param x    {@inheritDoc}
+		 * @param to   {@inheritDoc}
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public BigDecimal convert(MediumOfExchange from, BigDecimal x, MediumOfExchange to) {
+			Map<String, BigDecimal> rates = getRates(from.getIsoCode());
+			return rates == null ? null : x.multiply(rates.get(to.getIsoCode()), DEF);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param key {@inheritDoc}
+		 * @return {@inheritDoc}
+		 * @throws IOException {@inheritDoc}
+		 */
+		@Override
+		protected Map<String, BigDecimal> fetchRates(String key) throws IOException {
+			HttpURLConnection c = (HttpURLConnection) new URL(getUrl() + key).openConnection();
+			try (InputStream in = c.getInputStream()) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				in.transferTo(out);
+				Map<String, BigDecimal> rates = new HashMap<>();
+				for (String line : out.toString(StandardCharsets.UTF_8.name()).split("\n"))
+					if (!line.isEmpty())
+						rates.put(line.substring(0, line.indexOf('=')), new BigDecimal(line.substring(line.indexOf('=') + 1)));
+				return rates;
+			} finally {
+				c.disconnect();
+			}
+		}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:45:30 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the checks.
+	 *
+	 * @param args ignored.
+	 * @throws Exception if the server can not be started or a check fails.
+	 */
+	public static void main(String[] args) throws Exception {
+		Path dir = Files.createTempDirectory("rates");
+		System.setProperty(RateCache.DIRECTORY_PROPERTY, dir.toString());
+		System.setProperty(RateCache.TTL_PROPERTY, Long.toString(TTL));
+
+		HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/rates/", exchange -> {
+			int n = requests.incrementAndGet();
+			try {
+				Thread.sleep(DELAY);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = ("EUR=" + n + "\nGBP=" + n + "\n").getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(failing ? 500 : 200, failing ? -1 : body.length);
+			if (!failing)
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			exchange.close();
+		});
+		server.start();
+		try {
+			Website site = new StandIn("http://127.0.0.1:" + server.getAddress().getPort() + "/rates/");
+			servesFromMemory(site);
+			sharesConcurrentFetches(site);
+			fallsBackOnDisk(site);
+			refreshesExpiredTables(site);
+		} finally {
+			server.stop(0);
+			((ExecutorService) server.getExecutor()).shutdownNow();
+		}
+		System.out.println("all checks passed");
+		System.exit(0);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:48:11 ---------------------------------------------------
+	 */
+	/**
+	 * Checks that a table is fetched once and then read from memory.
+	 *
+	 * @param site the stand-in site.
+	 */
+	private static void servesFromMemory(Website site) {
+		int before = requests.get();
+		Map<String, BigDecimal> first = RateCache.get(site, "USD");
+		Map<String, BigDecimal> second = RateCache.get(site, "USD");
+		check(first != null && first.equals(second), "the same table is returned " + first + " " + second);
+		check(requests.get() - before == 1, "one request for two reads, got " + (requests.get() - before));
+		System.out.println("served from memory: ok");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:49:40 ---------------------------------------------------
+	 */
+	/**
+	 * Checks that concurrent misses of the same table share a single request.
+	 *
+	 * @param site the stand-in site.
+	 * @throws Exception if a reader fails.
+	 */
+	private static void sharesConcurrentFetches(Website site) throws Exception {
+		int before = requests.get();
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Map<String, BigDecimal>>> results = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++)
+			results.add(pool.submit(() -> {
+				start.await();
+				return RateCache.get(site, "NGN");
+			}));
+		start.countDown();
+		Map<String, BigDecimal> first = results.get(0).get();
+		for (Future<Map<String, BigDecimal>> f : results)
+			check(first != null && first.equals(f.get()), "every reader gets the same table");
+		pool.shutdown();
+		check(requests.get() - before == 1, "one request for " + THREADS + " readers, got " + (requests.get() - before));
+		System.out.println("shared concurrent fetches: ok");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:51:05 ---------------------------------------------------
+	 */
+	/**
+	 * Checks that the table on disk is returned when it is not in memory and the site fails, and that {@code null} is returned
+	 * when there is no such table on disk either.
+	 *
+	 * @param site the stand-in site.
+	 */
+	private static void fallsBackOnDisk(Website site) {
+		Map<String, BigDecimal> fetched = RateCache.get(site, "USD");
+		RateCache.clear();
+		failing = true;
+		try {
+			Map<String, BigDecimal> loaded = RateCache.get(site, "USD");
+			check(fetched.equals(loaded), "the table on disk is returned " + fetched + " " + loaded);
+			check(RateCache.get(site, "JPY") == null, "a table that was never fetched is null");
+		} finally {
+			failing = false;
+		}
+		RateCache.clear();
+		System.out.println("fell back on disk: ok");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:52:48 ---------------------------------------------------
+	 */
+	/**
+	 * Checks that an expired table is returned without waiting for the site and is replaced by a table fetched in the
+	 * background.
+	 *
+	 * @param site the stand-in site.
+	 * @throws InterruptedException if the thread is interrupted while waiting for the table to expire.
+	 */
+	private static void refreshesExpiredTables(Website site) throws InterruptedException {
+		Map<String, BigDecimal> first = RateCache.get(site, "CHF");
+		Thread.sleep(TTL * 2);
+		long start = System.nanoTime();
+		Map<String, BigDecimal> stale = RateCache.get(site, "CHF");
+		long waited = (System.nanoTime() - start) / 1_000_000;
+		check(first.equals(stale), "the expired table is returned " + first + " " + stale);
+		check(waited < DELAY, "the expired table is returned without waiting, waited " + waited + " ms");
+		Map<String, BigDecimal> fresh = stale;
+		for (int i = 0; i < 50 && fresh.equals(stale); i++) {
+			Thread.sleep(DELAY);
+			fresh = RateCache.get(site, "CHF");
+		}
+		check(!fresh.equals(stale), "the expired table is replaced in the background");
+		System.out.println("refreshed expired tables: ok");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 20:54:10 ---------------------------------------------------
+	 */
+	/**
+	 * Fails the test with the given message if the condition is false.
+	 *
+	 * @param condition the condition that must hold.
+	 * @param message   the description of the check.
+	 */
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			System.err.println("FAILED: " + message);
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * The time-to-live of the cache in milliseconds.
+	 */
+	private static final long TTL = 300;
+	/**
+	 * The time in milliseconds that the stand-in takes to answer a request.
+	 */
+	private static final long DELAY = 100;
+	/**
+	 * The number of concurrent readers.
+	 */
+	private static final int THREADS = 8;
+	/**
+	 * The number of requests that have reached the stand-in.
+	 */
+	private static final AtomicInteger requests = new AtomicInteger();
+	/**
+	 * {@code true} if the stand-in answers every request with an error.
+	 */
+	private static volatile boolean failing;
+}
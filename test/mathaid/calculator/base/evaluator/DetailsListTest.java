@@ -0,0 +1,174 @@
+/**
+ *
+ */
+package mathaid.calculator.base.evaluator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import mathaid.MomentString;
+import mathaid.calculator.base.evaluator.parser.expression.EvaluatableExpression.ExpressionParams;
+import mathaid.calculator.base.typeset.LinkedSegment;
+import mathaid.calculator.base.typeset.Segments;
+
+/*
+ * Date: 18 Oct 2026 -----------------------------------------------------------
+ * Time created: 03:02:44 ---------------------------------------------------
+ * Package: mathaid.calculator.base.evaluator ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: DetailsListTest.java ------------------------------------------------------
+ * Class name: DetailsListTest ------------------------------------------------
+ */
+/**
+ * Checks the deferred details of a {@link DetailsList}. The checks are:
+ * <ul>
+ * <li>{@link DetailsList#getLazyDetails()} lists the details that were put as well as the deferred ones,</li>
+ * <li>a deferred detail is not computed until it is read, and then only once,</li>
+ * <li>a computed deferred detail is put into the details and sent to the listener once,</li>
+ * <li>a deferred detail that throws is computed again on the next read,</li>
+ * <li>a deferred detail of a previous source is not put into the details of the current one,</li>
+ * <li>the reads are counted and the most read detail is computed as soon as it is deferred.</li>
+ * </ul>
+ * The repository has no test framework, so this is a plain program that exits with a non-zero status when a check fails.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class DetailsListTest {
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 03:04:10 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the checks.
+	 *
+	 * @param args ignored.
+	 * @throws InterruptedException if interrupted while waiting for a prefetched detail.
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		final Details d = new Details();
+		final List<String> heard = new CopyOnWriteArrayList<>();
+		d.setListener((k, v) -> heard.add(k.string));
+		d.setPrefetchCount(0);
+		d.setSource(VALUE);
+
+		final AtomicInteger calls = new AtomicInteger();
+		d.getLastDetails().put(new MomentString("Expression"), VALUE);
+		d.defer(new MomentString("Egyptian fraction"), () -> {
+			calls.incrementAndGet();
+			return VALUE;
+		});
+		NavigableMap<MomentString, Supplier<LinkedSegment>> lazy = d.getLazyDetails();
+		check(lazy.size() == 2, "the lazy view has " + lazy.size() + " details instead of 2");
+		check(calls.get() == 0, "a deferred detail was computed before it was read");
+		final Supplier<LinkedSegment> egyptian = find(lazy, "Egyptian fraction");
+		check(egyptian.get() == VALUE && egyptian.get() == VALUE, "a deferred detail returned the wrong value");
+		check(calls.get() == 1, "a deferred detail was computed " + calls.get() + " times instead of once");
+		check(d.getLastDetails().size() == 2, "a computed deferred detail was not put into the details");
+		check(heard.size() == 1 && heard.get(0).equals("Egyptian fraction"),
+				"the listener heard " + heard + " instead of [Egyptian fraction]");
+		check(find(lazy, "Expression").get() == VALUE, "a detail that was put returned the wrong value");
+
+		final AtomicInteger attempts = new AtomicInteger();
+		d.defer(new MomentString("Continued fraction"), () -> {
+			if (attempts.incrementAndGet() == 1)
+				throw new ArithmeticException();
+			return VALUE;
+		});
+		final Supplier<LinkedSegment> continued = find(d.getLazyDetails(), "Continued fraction");
+		check(continued.get() == null, "a deferred detail that threw did not return null");
+		check(continued.get() == VALUE && attempts.get() == 2, "a deferred detail that threw was not computed again");
+
+		d.defer(new MomentString("Prime factor(s)"), () -> VALUE);
+		final Supplier<LinkedSegment> stale = find(d.getLazyDetails(), "Prime factor(s)");
+		d.setSource(VALUE);
+		check(d.getLazyDetails().isEmpty(), "the deferred details were not cleared with the source");
+		check(stale.get() == VALUE, "a deferred detail of a previous source returned the wrong value");
+		check(d.getLastDetails().isEmpty(), "a deferred detail of a previous source was put into the details");
+
+		final Map<String, Long> reads = DetailsList.getReadCounts();
+		check(reads.get("Egyptian fraction") == 2 && reads.get("Expression") == 1,
+				"the read counts are " + reads + " instead of 2 Egyptian fraction and 1 Expression reads");
+
+		d.setPrefetchCount(1);
+		final AtomicInteger prefetched = new AtomicInteger();
+		d.defer(new MomentString("Egyptian fraction"), () -> {
+			prefetched.incrementAndGet();
+			return VALUE;
+		});
+		d.defer(new MomentString("Period"), () -> {
+			prefetched.addAndGet(10);
+			return VALUE;
+		});
+		for (int i = 0; i < 100 && d.getLastDetails().isEmpty(); i++)
+			Thread.sleep(20);
+		Thread.sleep(100);
+		check(prefetched.get() == 1, "the prefetched details were " + prefetched.get() + " instead of the most read one");
+		check(d.getLastDetails().size() == 1, "the prefetched detail was not put into the details");
+
+		System.out.println("all checks passed");
+	}
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 03:10:52 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the supplier of the detail with the given heading.
+	 *
+	 * @param lazy the lazy view of the details.
+	 * @param name the heading of the detail.
+	 * @return the supplier of the detail.
+	 */
+	private static Supplier<LinkedSegment> find(NavigableMap<MomentString, Supplier<LinkedSegment>> lazy, String name) {
+		for (Map.Entry<MomentString, Supplier<LinkedSegment>> e : lazy.entrySet())
+			if (e.getKey().string.equals(name))
+				return e.getValue();
+		check(false, "the lazy view has no " + name);
+		return null;
+	}
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 03:12:05 ---------------------------------------------------
+	 */
+	/**
+	 * Exits with a non-zero status and the given message if the condition is not met.
+	 *
+	 * @param condition the condition to be checked.
+	 * @param message   the message printed if it is not met.
+	 */
+	private static void check(boolean condition, String message) {
+		if (!condition) {
+			System.err.println("FAILED: " + message);
+			System.exit(1);
+		}
+	}
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 03:05:30 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.evaluator ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: DetailsListTest.java ------------------------------------------------------
+	 * Class name: Details ------------------------------------------------
+	 */
+	/**
+	 * A {@code DetailsList} whose details are put and deferred by the checks.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static class Details extends DetailsList<ExpressionParams> {
+	}
+
+	/**
+	 * The value of every detail.
+	 */
+	private static final LinkedSegment VALUE = Segments.constant("x", "x");
+}
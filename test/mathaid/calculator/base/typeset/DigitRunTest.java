@@ -0,0 +1,101 @@
+/**
+ *
+ */
+package mathaid.calculator.base.typeset;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import mathaid.calculator.base.value.BigFraction;
+
+/*
+ * Date: 18 Oct 2026 -----------------------------------------------------------
+ * Time created: 00:41:12 ---------------------------------------------------
+ * Package: mathaid.calculator.base.typeset ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: DigitRunTest.java ------------------------------------------------------
+ * Class name: DigitRunTest ------------------------------------------------
+ */
+/**
+ * Checks that inserting a {@link Digit} before a {@link DigitRun} changes the type of every digit after it, as it did when
+ * every digit was a {@code Digit} node.
+ * <p>
+ * Each check inserts a digit into a number tree and compares the type of every node and the expression of the tree with the
+ * ones given by the all-{@code Digit} trees that came before {@code DigitRun}. Those values are written out here, since the
+ * old trees can no longer be built.
+ * <p>
+ * The repository has no test framework, so this is a plain program that exits with a non-zero status when a check fails.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class DigitRunTest {
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 00:43:30 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the checks.
+	 *
+	 * @param args ignored.
+	 */
+	public static void main(String[] args) {
+		final DigitPunc dp = new DigitPunc();
+
+		/* an integer inserted before the rest of a mantissa turns it into integer digits */
+		check("-1.930E+13, integer at 4", Digits.toSegment(new BigDecimal("-1.930E+13"), 1, dp), Digits.integer('7', dp), 4,
+				"18 10 12 14 10 10 2a", "-1.973e13");
+		check("2.37405727, integer at 4", Digits.toSegment(new BigDecimal("2.37405727"), 1, dp), Digits.integer('7', dp), 4,
+				"10 12 14 14 10 10 10 10 10 10 10 2a", "2.377405727e0");
+
+		/* a digit inserted before the recurring digits turns them into digits of its own type */
+		final int[] recurring = { Segment.Type.ARC, Segment.Type.DOT, Segment.Type.DOT_ALL, Segment.Type.DOT_BAR,
+				Segment.Type.ELLIPSIS, Segment.Type.PARENTHESISED, Segment.Type.VINCULUM };
+		for (int t : recurring) {
+			check("23719/9990 (" + t + "), integer at 3", Digits.toSegment(new BigFraction("23719/9990"), t, 0, dp),
+					Digits.integer('7', dp), 3, "10 12 14 10 10 10 10", "2.37742");
+			check("23719/9990 (" + t + "), mantissa at 3", Digits.toSegment(new BigFraction("23719/9990"), t, 0, dp),
+					Digits.mantissa('7', dp), 3, "10 12 14 14 14 14 14", "2.37742");
+		}
+
+		if (failures > 0) {
+			System.err.println(failures + " checks failed");
+			System.exit(1);
+		}
+		System.out.println("all checks passed");
+	}
+
+	/*
+	 * Date: 18 Oct 2026 -----------------------------------------------------------
+	 * Time created: 00:46:05 ---------------------------------------------------
+	 */
+	/**
+	 * Inserts a digit into the given tree and compares the result with the expected types and expression.
+	 *
+	 * @param name       the description of the check.
+	 * @param s          the number tree.
+	 * @param digit      the digit to be inserted.
+	 * @param index      the index at which the digit is inserted.
+	 * @param types      the expected type of every node, in hexadecimal and separated by spaces.
+	 * @param expression the expected expression of the tree.
+	 */
+	private static void check(String name, LinkedSegment s, Digit digit, int index, String types, String expression) {
+		final SegmentBuilder b = new SegmentBuilder(s).insert(digit, index);
+		final StringBuilder t = new StringBuilder();
+		for (int i = 0; i < b.length(); i++)
+			t.append(i == 0 ? "" : " ").append(Integer.toHexString(b.segmentAt(i).getType()));
+		final StringBuilder e = new StringBuilder();
+		b.toSegment().toString(e, null, new ArrayList<>(Arrays.asList(-1)));
+		if (!t.toString().equals(types) || !e.toString().equals(expression)) {
+			failures++;
+			System.err.println("FAILED: " + name + ": expected " + types + " " + expression + ", got " + t + " " + e);
+		}
+	}
+
+	/**
+	 * The number of failed checks.
+	 */
+	private static int failures;
+}
@@ -0,0 +1,590 @@
+/**
+ *
+ */
+package mathaid.calculator.base.value;
+
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.Random;
+
+/*
+ * Date: 17 Oct 2026 -----------------------------------------------------------
+ * Time created: 23:10:05 ---------------------------------------------------
+ * Package: mathaid.calculator.base.value ------------------------------------------------
+ * Project: CalculatorProject ------------------------------------------------
+ * File: FPEngineTest.java ------------------------------------------------------
+ * Class name: FPEngineTest ------------------------------------------------
+ */
+/**
+ * Checks the addition, multiplication, division and square root of the {@link FPEngine}s against an oracle that computes the
+ * exact result with {@code BigInteger}s and rounds it once.
+ * <p>
+ * The checks are:
+ * <ul>
+ * <li>every pair of finite 8 bit values, in every rounding mode, with {@link SoftFP#BIT8},</li>
+ * <li>random pairs of half, single, double and quadruple values, in every rounding mode, with the engine of each precision
+ * and with {@link SoftFP#DOUBLE}. The values are weighted towards zeros, subnormals, values near overflow, values near one and
+ * pairs whose exponents are close, so that cancellations, ties and overflows are common,</li>
+ * <li>random pairs of {@code float}s and {@code double}s through the {@link BinaryFPPrecision.BinaryFP} API, whose results in
+ * {@link RoundingMode#HALF_EVEN} must have the same bits as the results of Java's arithmetic.</li>
+ * </ul>
+ * The elementary functions are not checked, since they are computed with {@code StrictMath} and are not correctly rounded.
+ * <p>
+ * The repository has no test framework, so this is a plain program that exits with a non-zero status when a check fails. Run
+ * it with the optional arguments {@code [pairs] [seed]}.
+ *
+ * @author Oruovo Anthony Etineakpopha
+ * @email tonyoruovo@gmail.com
+ */
+public class FPEngineTest {
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:12:40 ---------------------------------------------------
+	 * Package: mathaid.calculator.base.value ------------------------------------------------
+	 * Project: CalculatorProject ------------------------------------------------
+	 * File: FPEngineTest.java ------------------------------------------------------
+	 * Class name: Oracle ------------------------------------------------
+	 */
+	/**
+	 * Computes the correctly rounded result of an operation on the bit layouts of a binary precision. The exact result is kept
+	 * as a fraction of {@code BigInteger}s and rounded once, which is slow but simple enough to be checked by hand.
+	 *
+	 * @author Oruovo Anthony Etineakpopha
+	 * @email tonyoruovo@gmail.com
+	 */
+	private static final class Oracle {
+
+		/**
+		 * Constructs an {@code Oracle} for the given precision.
+		 *
+		 * @param exponentBits    the number of bits in the exponent field.
+		 * @param significandBits the number of bits in the significand, including the implicit bit.
+		 */
+		Oracle(int exponentBits, int significandBits) {
+			e = exponentBits;
+			p = significandBits;
+			bias = (1 << (e - 1)) - 1;
+			minExponent = 2 - bias - p;
+		}
+
+		/**
+		 * Computes the given operation.
+		 *
+		 * @param op the operation such as {@link FPEngine#ADD}.
+		 * @param x  the first operand, which is finite.
+		 * @param y  the second operand, which is finite, or {@code null}.
+		 * @param rm the rounding mode.
+		 * @return the bit layout of the result, or {@code null} if it is NaN or infinite because of a division by zero.
+		 */
+		BigInteger apply(int op, BigInteger x, BigInteger y, RoundingMode rm) {
+			switch (op) {
+			case FPEngine.ADD: {
+				final int ex = exponent(x), ey = exponent(y), em = Math.min(ex, ey);
+				BigInteger a = significand(x).shiftLeft(ex - em), b = significand(y).shiftLeft(ey - em);
+				if (isNegative(x))
+					a = a.negate();
+				if (isNegative(y))
+					b = b.negate();
+				final BigInteger s = a.add(b);
+				if (s.signum() != 0)
+					return round(s.signum() < 0, s.abs(), BigInteger.ONE, em, rm);
+				if (a.signum() == 0 && b.signum() == 0 && isNegative(x) == isNegative(y))
+					return layout(isNegative(x), 0, BigInteger.ZERO);
+				return layout(rm == RoundingMode.FLOOR, 0, BigInteger.ZERO);
+			}
+			case FPEngine.MULTIPLY: {
+				final boolean neg = isNegative(x) ^ isNegative(y);
+				final BigInteger m = significand(x).multiply(significand(y));
+				return m.signum() == 0 ? layout(neg, 0, BigInteger.ZERO)
+						: round(neg, m, BigInteger.ONE, exponent(x) + exponent(y), rm);
+			}
+			case FPEngine.DIVIDE: {
+				final boolean neg = isNegative(x) ^ isNegative(y);
+				if (significand(y).signum() == 0)
+					return null;
+				return significand(x).signum() == 0 ? layout(neg, 0, BigInteger.ZERO)
+						: round(neg, significand(x), significand(y), exponent(x) - exponent(y), rm);
+			}
+			default:
+				if (significand(x).signum() == 0)
+					return x;
+				return isNegative(x) ? null : sqrt(x, rm);
+			}
+		}
+
+		/**
+		 * Computes the square root of the given positive value. The root is computed on an integer scaled so that it has at
+		 * least as many bits as the result, and the remainder tells whether it is exact or lies above the halfway point.
+		 *
+		 * @param x  the operand.
+		 * @param rm the rounding mode.
+		 * @return the bit layout of the result.
+		 */
+		private BigInteger sqrt(BigInteger x, RoundingMode rm) {
+			BigInteger m = significand(x);
+			int k = exponent(x);
+			final int q = Math.max(Math.floorDiv(m.bitLength() - 1 + k, 2) - (p - 1), minExponent);
+			/* x = m * 2^k = (m * 2^(k - 2q)) * 2^(2q), so the root is sqrt(m * 2^(k - 2q)) * 2^q */
+			k -= 2 * q;
+			if (k < 0 && (k & 1) != 0) {
+				m = m.shiftLeft(1);
+				k--;
+			}
+			BigInteger a = m, scale = BigInteger.ONE;
+			if (k >= 0)
+				a = m.shiftLeft(k);
+			else
+				scale = BigInteger.ONE.shiftLeft(-k);
+			/* floor(sqrt(a / scale)), where scale is a power of 4 */
+			final BigInteger i = a.sqrt().shiftRight((scale.bitLength() - 1) / 2);
+			final BigInteger square = i.multiply(i).multiply(scale);
+			final BigInteger twice = i.shiftLeft(1).add(BigInteger.ONE);
+			final int half = a.shiftLeft(2).compareTo(twice.multiply(twice).multiply(scale));
+			return encode(false, roundsUp(rm, false, half, !square.equals(a), i.testBit(0)) ? i.add(BigInteger.ONE) : i, q, rm);
+		}
+
+		/**
+		 * Rounds {@code (a / b) * 2^k} to this precision.
+		 *
+		 * @param neg {@code true} if the value is negative.
+		 * @param a   the positive numerator.
+		 * @param b   the positive denominator.
+		 * @param k   the exponent.
+		 * @param rm  the rounding mode.
+		 * @return the bit layout of the rounded value.
+		 */
+		private BigInteger round(boolean neg, BigInteger a, BigInteger b, int k, RoundingMode rm) {
+			int l = a.bitLength() - b.bitLength();
+			if (l >= 0 ? a.compareTo(b.shiftLeft(l)) < 0 : a.shiftLeft(-l).compareTo(b) < 0)
+				l--;
+			final int q = Math.max(l + k - (p - 1), minExponent);
+			BigInteger num = a, den = b;
+			if (k >= q)
+				num = a.shiftLeft(k - q);
+			else
+				den = b.shiftLeft(q - k);
+			final BigInteger[] qr = num.divideAndRemainder(den);
+			final int half = qr[1].shiftLeft(1).compareTo(den);
+			final boolean up = roundsUp(rm, neg, half, qr[1].signum() != 0, qr[0].testBit(0));
+			return encode(neg, up ? qr[0].add(BigInteger.ONE) : qr[0], q, rm);
+		}
+
+		/**
+		 * Checks whether a value is rounded away from zero. This is written out again here, rather than taken from
+		 * {@code FPEngine}, so that the oracle does not share the code it checks.
+		 *
+		 * @param rm      the rounding mode.
+		 * @param neg     {@code true} if the value is negative.
+		 * @param half    the comparison of the discarded part with half a unit in the last place.
+		 * @param inexact {@code true} if the discarded part is not zero.
+		 * @param odd     {@code true} if the truncated value is odd.
+		 * @return {@code true} if the truncated value is to be incremented.
+		 */
+		private static boolean roundsUp(RoundingMode rm, boolean neg, int half, boolean inexact, boolean odd) {
+			if (!inexact)
+				return false;
+			switch (rm) {
+			case UP:
+				return true;
+			case CEILING:
+				return !neg;
+			case FLOOR:
+				return neg;
+			case HALF_UP:
+				return half >= 0;
+			case HALF_DOWN:
+				return half > 0;
+			case HALF_EVEN:
+				return half > 0 || half == 0 && odd;
+			default:
+				return false;
+			}
+		}
+
+		/**
+		 * Encodes {@code i * 2^q}, where {@code i} has at most one bit more than this precision.
+		 *
+		 * @param neg {@code true} if the value is negative.
+		 * @param i   the rounded significand.
+		 * @param q   the exponent of its last bit.
+		 * @param rm  the rounding mode, which decides the result of an overflow.
+		 * @return the bit layout of the value.
+		 */
+		private BigInteger encode(boolean neg, BigInteger i, int q, RoundingMode rm) {
+			if (i.bitLength() > p) {
+				i = i.shiftRight(1);
+				q++;
+			}
+			if (i.bitLength() < p)
+				return layout(neg, 0, i);
+			if (q + p - 1 <= bias)
+				return layout(neg, q + p - 1 + bias, i.clearBit(p - 1));
+			if (FPEngine.overflowsToInfinity(rm, neg))
+				return layout(neg, (1 << e) - 1, BigInteger.ZERO);
+			return layout(neg, (1 << e) - 2, BigInteger.ONE.shiftLeft(p - 1).subtract(BigInteger.ONE));
+		}
+
+		/**
+		 * Creates a bit layout from its fields.
+		 *
+		 * @param neg      the sign.
+		 * @param biased   the biased exponent.
+		 * @param fraction the stored significand bits.
+		 * @return the bit layout.
+		 */
+		BigInteger layout(boolean neg, int biased, BigInteger fraction) {
+			final BigInteger r = BigInteger.valueOf(biased).shiftLeft(p - 1).or(fraction);
+			return neg ? r.setBit(e + p - 1) : r;
+		}
+
+		/**
+		 * Checks whether the given layout is negative.
+		 *
+		 * @param x the bit layout.
+		 * @return {@code true} if the sign bit is set.
+		 */
+		boolean isNegative(BigInteger x) {
+			return x.testBit(e + p - 1);
+		}
+
+		/**
+		 * Gets the biased exponent of the given layout.
+		 *
+		 * @param x the bit layout.
+		 * @return the exponent field.
+		 */
+		int biased(BigInteger x) {
+			return x.shiftRight(p - 1).intValue() & ((1 << e) - 1);
+		}
+
+		/**
+		 * Gets the significand of the given layout, including the implicit bit.
+		 *
+		 * @param x the bit layout.
+		 * @return the significand as an integer.
+		 */
+		private BigInteger significand(BigInteger x) {
+			final BigInteger f = x.and(BigInteger.ONE.shiftLeft(p - 1).subtract(BigInteger.ONE));
+			return biased(x) == 0 ? f : f.setBit(p - 1);
+		}
+
+		/**
+		 * Gets the exponent of the last bit of the significand of the given layout.
+		 *
+		 * @param x the bit layout.
+		 * @return the exponent.
+		 */
+		private int exponent(BigInteger x) {
+			return biased(x) == 0 ? minExponent : minExponent + biased(x) - 1;
+		}
+
+		/**
+		 * The number of bits in the exponent field.
+		 */
+		final int e;
+		/**
+		 * The number of bits in the significand, including the implicit bit.
+		 */
+		final int p;
+		/**
+		 * The exponent bias.
+		 */
+		private final int bias;
+		/**
+		 * The exponent of the last bit of the smallest subnormal value.
+		 */
+		private final int minExponent;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:25:18 ---------------------------------------------------
+	 */
+	/**
+	 * Runs the checks.
+	 *
+	 * @param args the number of random pairs for each precision and the seed, both of which are optional.
+	 */
+	public static void main(String[] args) {
+		final int pairs = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+		final Random rand = new Random(args.length > 1 ? Long.parseLong(args[1]) : 1L);
+
+		final Oracle bit8 = new Oracle(4, 4);
+		for (int i = 0; i < 256; i++)
+			for (int j = 0; j < 256; j++) {
+				final BigInteger x = BigInteger.valueOf(i), y = BigInteger.valueOf(j);
+				if (bit8.biased(x) != 15 && bit8.biased(y) != 15)
+					checkAll("8 bit", SoftFP.BIT8, bit8, x, y);
+			}
+		report("8 bit, every pair");
+
+		random("half", SoftFP.HALF, new Oracle(5, 11), pairs, rand);
+		random("single", HardwareFP.SINGLE, new Oracle(8, 24), pairs, rand);
+		random("double", HardwareFP.DOUBLE, new Oracle(11, 53), pairs, rand);
+		random("soft double", SoftFP.DOUBLE, new Oracle(11, 53), pairs, rand);
+		random("quadruple", SoftFP.QUADRUPLE, new Oracle(15, 113), pairs / 4, rand);
+		nativeArithmetic(pairs, rand);
+
+		if (failures > 0) {
+			System.err.println(failures + " checks failed");
+			System.exit(1);
+		}
+		System.out.println("all checks passed");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:27:02 ---------------------------------------------------
+	 */
+	/**
+	 * Checks the given engine on random pairs of values, about a quarter of which have exponents that differ by at most the
+	 * length of the significand.
+	 *
+	 * @param name   the name of the precision.
+	 * @param engine the engine.
+	 * @param o      the oracle of the precision.
+	 * @param pairs  the number of pairs.
+	 * @param rand   the source of randomness.
+	 */
+	private static void random(String name, FPEngine engine, Oracle o, int pairs, Random rand) {
+		for (int i = 0; i < pairs; i++) {
+			final BigInteger x = value(o, rand);
+			BigInteger y = value(o, rand);
+			if (rand.nextInt(4) == 0) {
+				final int biased = Math.max(0, Math.min((1 << o.e) - 2, o.biased(x) - rand.nextInt(o.p + 3)));
+				y = o.layout(rand.nextBoolean(), biased, new BigInteger(o.p - 1, rand));
+			}
+			checkAll(name, engine, o, x, y);
+		}
+		report(name + ", " + pairs + " random pairs");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:29:45 ---------------------------------------------------
+	 */
+	/**
+	 * Creates a random finite value of the given precision.
+	 *
+	 * @param o    the oracle of the precision.
+	 * @param rand the source of randomness.
+	 * @return the bit layout of the value.
+	 */
+	private static BigInteger value(Oracle o, Random rand) {
+		final int max = (1 << o.e) - 2, bias = (1 << (o.e - 1)) - 1;
+		final int biased;
+		switch (rand.nextInt(5)) {
+		case 0:
+			biased = 0;
+			break;
+		case 1:
+			biased = max - rand.nextInt(3);
+			break;
+		case 2:
+			biased = 1 + rand.nextInt(3);
+			break;
+		case 3:
+			biased = bias - 3 + rand.nextInt(7);
+			break;
+		default:
+			biased = 1 + rand.nextInt(max);
+		}
+		final BigInteger all = BigInteger.ONE.shiftLeft(o.p - 1).subtract(BigInteger.ONE);
+		final BigInteger fraction;
+		switch (rand.nextInt(4)) {
+		case 0:
+			fraction = BigInteger.valueOf(rand.nextInt(8)).and(all);
+			break;
+		case 1:
+			fraction = all.subtract(BigInteger.valueOf(rand.nextInt(4)));
+			break;
+		default:
+			fraction = new BigInteger(o.p - 1, rand);
+		}
+		return o.layout(rand.nextBoolean(), biased, fraction);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:31:10 ---------------------------------------------------
+	 */
+	/**
+	 * Checks the four correctly rounded operations of the given engine on the given operands in every rounding mode.
+	 *
+	 * @param name   the name of the precision.
+	 * @param engine the engine.
+	 * @param o      the oracle of the precision.
+	 * @param x      the first operand.
+	 * @param y      the second operand.
+	 */
+	private static void checkAll(String name, FPEngine engine, Oracle o, BigInteger x, BigInteger y) {
+		for (RoundingMode rm : RoundingMode.values())
+			for (int op = FPEngine.ADD; op <= FPEngine.SQRT; op++) {
+				final BigInteger z = op == FPEngine.SQRT ? null : y;
+				final BigInteger expected = o.apply(op, x, z, rm);
+				final BigInteger actual = engine.apply(op, x, z, rm);
+				checks++;
+				if (!Objects.equals(expected, actual))
+					fail(name + " " + OPS[op] + " " + rm + " x=" + hex(x) + " y=" + hex(z) + " expected=" + hex(expected)
+							+ " actual=" + hex(actual));
+			}
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:34:26 ---------------------------------------------------
+	 */
+	/**
+	 * Checks that single and double precision arithmetic through the {@code BinaryFP} API gives the same bits as Java's
+	 * {@code float} and {@code double} arithmetic.
+	 *
+	 * @param pairs the number of pairs.
+	 * @param rand  the source of randomness.
+	 */
+	private static void nativeArithmetic(int pairs, Random rand) {
+		final BinaryFPPrecision d = FloatAid.IEEE754Double(RoundingMode.HALF_EVEN);
+		final BinaryFPPrecision s = FloatAid.IEEE754Single(RoundingMode.HALF_EVEN);
+		for (int i = 0; i < pairs; i++) {
+			double x = Double.longBitsToDouble(rand.nextLong()), y = Double.longBitsToDouble(rand.nextLong());
+			if (rand.nextBoolean()) {
+				x = rand.nextGaussian() * 100;
+				y = rand.nextGaussian();
+			}
+			if (!Double.isFinite(x) || !Double.isFinite(y) || x == 0 || y == 0)
+				continue;
+			final BinaryFPPrecision.BinaryFP dx = d.fromBitLayout(unsigned(Double.doubleToRawLongBits(x)));
+			final BinaryFPPrecision.BinaryFP dy = d.fromBitLayout(unsigned(Double.doubleToRawLongBits(y)));
+			checkNative("double add", x + y, dx.add(dy));
+			checkNative("double multiply", x * y, dx.multiply(dy));
+			checkNative("double divide", x / y, dx.divide(dy));
+			checkNative("double sqrt", Math.sqrt(Math.abs(x)), dx.abs().sqrt());
+
+			final float fx = (float) x, fy = (float) y;
+			if (!Float.isFinite(fx) || !Float.isFinite(fy) || fx == 0 || fy == 0)
+				continue;
+			final BinaryFPPrecision.BinaryFP sx = s.fromBitLayout(BigInteger.valueOf(Float.floatToRawIntBits(fx) & 0xffffffffL));
+			final BinaryFPPrecision.BinaryFP sy = s.fromBitLayout(BigInteger.valueOf(Float.floatToRawIntBits(fy) & 0xffffffffL));
+			checkNative("single add", fx + fy, sx.add(sy));
+			checkNative("single multiply", fx * fy, sx.multiply(sy));
+			checkNative("single divide", fx / fy, sx.divide(sy));
+			checkNative("single sqrt", (float) Math.sqrt(Math.abs(fx)), sx.abs().sqrt());
+		}
+		report("float and double through BinaryFP, " + pairs + " random pairs");
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:37:50 ---------------------------------------------------
+	 */
+	/**
+	 * Checks that a double precision result has the bits of the given {@code double}.
+	 *
+	 * @param name     the name of the operation.
+	 * @param expected the result of Java's arithmetic.
+	 * @param actual   the result of the {@code BinaryFP}.
+	 */
+	private static void checkNative(String name, double expected, BinaryFPPrecision.BinaryFP actual) {
+		if (!Double.isFinite(expected))
+			return;
+		checks++;
+		final BigInteger bits = unsigned(Double.doubleToRawLongBits(expected));
+		if (!bits.equals(actual.toBigInteger()))
+			fail(name + " expected=" + hex(bits) + " actual=" + hex(actual.toBigInteger()));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:38:35 ---------------------------------------------------
+	 */
+	/**
+	 * Checks that a single precision result has the bits of the given {@code float}.
+	 *
+	 * @param name     the name of the operation.
+	 * @param expected the result of Java's arithmetic.
+	 * @param actual   the result of the {@code BinaryFP}.
+	 */
+	private static void checkNative(String name, float expected, BinaryFPPrecision.BinaryFP actual) {
+		if (!Float.isFinite(expected))
+			return;
+		checks++;
+		final BigInteger bits = BigInteger.valueOf(Float.floatToRawIntBits(expected) & 0xffffffffL);
+		if (!bits.equals(actual.toBigInteger()))
+			fail(name + " expected=" + hex(bits) + " actual=" + hex(actual.toBigInteger()));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:40:02 ---------------------------------------------------
+	 */
+	/**
+	 * Prints the number of checks made since the last report and how many of them failed.
+	 *
+	 * @param name the name of the checks.
+	 */
+	private static void report(String name) {
+		System.out.println(name + ": " + checks + " checks, " + (failures - reported) + " failed");
+		checks = 0;
+		reported = failures;
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:40:48 ---------------------------------------------------
+	 */
+	/**
+	 * Records a failed check and prints the first few.
+	 *
+	 * @param message the description of the check.
+	 */
+	private static void fail(String message) {
+		if (failures++ < 20)
+			System.err.println("FAILED: " + message);
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:41:30 ---------------------------------------------------
+	 */
+	/**
+	 * Gets the bits of the given {@code long} as a non-negative {@code BigInteger}.
+	 *
+	 * @param bits the bits.
+	 * @return the unsigned value of {@code bits}.
+	 */
+	private static BigInteger unsigned(long bits) {
+		return new BigInteger(Long.toUnsignedString(bits));
+	}
+
+	/*
+	 * Date: 17 Oct 2026 -----------------------------------------------------------
+	 * Time created: 23:42:03 ---------------------------------------------------
+	 */
+	/**
+	 * Formats a bit layout in hexadecimal.
+	 *
+	 * @param x the bit layout or {@code null}.
+	 * @return the hexadecimal digits or {@code "null"}.
+	 */
+	private static String hex(BigInteger x) {
+		return x == null ? "null" : x.toString(16);
+	}
+
+	/**
+	 * The names of the checked operations, by their number in {@link FPEngine}.
+	 */
+	private static final String[] OPS = { "add", "multiply", "divide", "sqrt" };
+	/**
+	 * The number of checks made since the last report.
+	 */
+	private static long checks;
+	/**
+	 * The number of failed checks.
+	 */
+	private static long failures;
+	/**
+	 * The number of failed checks at the last report.
+	 */
+	private static long reported;
+}